@@ -0,0 +1,58 @@
+package com.example.dms2.api.cache;
+
+import com.example.dms2.api.dto.ApiResponse;
+import com.example.dms2.api.dto.response.UserDTO;
+import feign.MethodMetadata;
+import feign.Response;
+import feign.codec.Decoder;
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.List;
+
+/**
+ * 解码成功响应后写入 {@link UserSnapshotCache}，供降级时返回
+ *
+ * <p>只记录 {@code getUserById} 与 {@code getUsersByIds} 的成功结果（code 为 200）。
+ *
+ * @author DMS2 Team
+ * @since 1.0.0
+ */
+public class SnapshotCachingDecoder implements Decoder {
+
+  private final Decoder delegate;
+  private final UserSnapshotCache snapshotCache;
+
+  public SnapshotCachingDecoder(Decoder delegate, UserSnapshotCache snapshotCache) {
+    this.delegate = delegate;
+    this.snapshotCache = snapshotCache;
+  }
+
+  @Override
+  public Object decode(Response response, Type type) throws IOException {
+    Object decoded = delegate.decode(response, type);
+    if (decoded instanceof ApiResponse<?> apiResponse
+        && apiResponse.getCode() != null
+        && apiResponse.getCode() == 200
+        && apiResponse.getData() != null) {
+      record(methodName(response), apiResponse.getData());
+    }
+    return decoded;
+  }
+
+  @SuppressWarnings("unchecked")
+  private void record(String method, Object data) {
+    if ("getUserById".equals(method) && data instanceof UserDTO user) {
+      snapshotCache.putUser(user);
+    } else if ("getUsersByIds".equals(method) && data instanceof List<?>) {
+      snapshotCache.putUsers((List<UserDTO>) data);
+    }
+  }
+
+  private static String methodName(Response response) {
+    if (response.request() == null || response.request().requestTemplate() == null) {
+      return null;
+    }
+    MethodMetadata metadata = response.request().requestTemplate().methodMetadata();
+    return metadata == null || metadata.method() == null ? null : metadata.method().getName();
+  }
+}
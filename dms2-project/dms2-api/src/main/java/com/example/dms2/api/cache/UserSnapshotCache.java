@@ -0,0 +1,156 @@
+package com.example.dms2.api.cache;
+
+import com.example.dms2.api.dto.response.UserDTO;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * 用户快照缓存 保存 Feign 调用最近一次成功返回的用户，服务不可用时由降级返回（标记为 stale）
+ *
+ * <p>单查与批量查询的结果按用户 ID 存放，各自使用独立的 TTL；容量按估算的内存占用限制。
+ *
+ * @author DMS2 Team
+ * @since 1.0.0
+ */
+public class UserSnapshotCache {
+
+  /** 单个条目除字符串内容之外的估算开销（对象头、Long键、节点、时间字段等） */
+  private static final int ENTRY_OVERHEAD_BYTES = 256;
+
+  private final Cache<Long, Snapshot> cache;
+  private final long userTtlNanos;
+  private final long batchTtlNanos;
+  private final LongAdder served = new LongAdder();
+  private final LongAdder missed = new LongAdder();
+
+  /**
+   * @param maxSize 估算内存上限
+   * @param userTtl 单查结果的保留时间
+   * @param batchTtl 批量查询结果的保留时间
+   */
+  public UserSnapshotCache(DataSize maxSize, Duration userTtl, Duration batchTtl) {
+    this.userTtlNanos = userTtl.toNanos();
+    this.batchTtlNanos = batchTtl.toNanos();
+    this.cache =
+        Caffeine.newBuilder()
+            .maximumWeight(maxSize.toBytes())
+            .weigher((Long id, Snapshot snapshot) -> weigh(snapshot.user()))
+            .expireAfter(new SnapshotExpiry())
+            .recordStats()
+            .build();
+  }
+
+  /** 记录单查成功的结果 */
+  public void putUser(UserDTO user) {
+    if (user != null && user.getId() != null) {
+      cache.put(user.getId(), new Snapshot(user, userTtlNanos));
+    }
+  }
+
+  /** 记录批量查询成功的结果 */
+  public void putUsers(List<UserDTO> users) {
+    if (users == null) {
+      return;
+    }
+    for (UserDTO user : users) {
+      if (user != null && user.getId() != null) {
+        cache.put(user.getId(), new Snapshot(user, batchTtlNanos));
+      }
+    }
+  }
+
+  /**
+   * 降级时读取单个用户
+   *
+   * @param id 用户 ID
+   * @return 最近一次成功返回的用户，已过期或不存在时为空
+   */
+  public Optional<UserDTO> serveUser(Long id) {
+    Snapshot snapshot = id == null ? null : cache.getIfPresent(id);
+    count(snapshot != null);
+    return Optional.ofNullable(snapshot).map(Snapshot::user);
+  }
+
+  /**
+   * 降级时读取批量用户
+   *
+   * @param ids 用户 ID 列表
+   * @return 缓存中存在的用户（按请求顺序），可能只是部分
+   */
+  public List<UserDTO> serveUsers(List<Long> ids) {
+    List<UserDTO> users =
+        ids == null
+            ? List.of()
+            : ids.stream()
+                .filter(Objects::nonNull)
+                .map(cache::getIfPresent)
+                .filter(Objects::nonNull)
+                .map(Snapshot::user)
+                .toList();
+    count(!users.isEmpty());
+    return users;
+  }
+
+  /** 降级时命中缓存、返回过期数据的次数 */
+  public long servedCount() {
+    return served.sum();
+  }
+
+  /** 降级时缓存未命中的次数 */
+  public long missedCount() {
+    return missed.sum();
+  }
+
+  /** 底层 Caffeine 缓存（用于导出指标） */
+  public Cache<Long, ?> nativeCache() {
+    return cache;
+  }
+
+  private void count(boolean hit) {
+    (hit ? served : missed).increment();
+  }
+
+  private static int weigh(UserDTO user) {
+    return ENTRY_OVERHEAD_BYTES
+        + 2
+            * (length(user.getUsername())
+                + length(user.getEmail())
+                + length(user.getPhone())
+                + length(user.getRealName()));
+  }
+
+  private static int length(String value) {
+    return value == null ? 0 : value.length();
+  }
+
+  /** 缓存条目，携带写入来源对应的 TTL */
+  private record Snapshot(UserDTO user, long ttlNanos) {}
+
+  /** 按条目自身的 TTL 过期，读取不延长有效期 */
+  private static final class SnapshotExpiry implements Expiry<Long, Snapshot> {
+
+    @Override
+    public long expireAfterCreate(Long id, Snapshot snapshot, long currentTime) {
+      return snapshot.ttlNanos();
+    }
+
+    @Override
+    public long expireAfterUpdate(
+        Long id, Snapshot snapshot, long currentTime, long currentDuration) {
+      return snapshot.ttlNanos();
+    }
+
+    @Override
+    public long expireAfterRead(
+        Long id, Snapshot snapshot, long currentTime, long currentDuration) {
+      return currentDuration;
+    }
+  }
+}
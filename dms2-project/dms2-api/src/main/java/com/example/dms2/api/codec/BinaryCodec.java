@@ -0,0 +1,63 @@
+package com.example.dms2.api.codec;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.springframework.http.MediaType;
+
+/**
+ * 服务间二进制编解码约定
+ *
+ * <p>内部调用可通过内容协商选择 {@code application/cbor}，浏览器等外部调用方仍使用 JSON。服务端消息转换器与 Feign 编解码器共用此处的 {@link
+ * ObjectMapper} 配置，保证两端格式一致。
+ *
+ * <p>{@code LocalDateTime} 以数值数组编码（如 {@code [2024,1,1,12,0,0]}），避免 ISO 字符串的格式化与解析开销。
+ *
+ * @author DMS2 Team
+ * @since 1.0.0
+ */
+public final class BinaryCodec {
+
+  /** 二进制媒体类型 */
+  public static final MediaType MEDIA_TYPE = MediaType.APPLICATION_CBOR;
+
+  /** 二进制媒体类型字符串 */
+  public static final String MEDIA_TYPE_VALUE = MediaType.APPLICATION_CBOR_VALUE;
+
+  private static final ObjectMapper OBJECT_MAPPER =
+      CBORMapper.builder()
+          .addModule(new JavaTimeModule())
+          .enable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+          .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+          .build();
+
+  private BinaryCodec() {}
+
+  /**
+   * 共享的 CBOR ObjectMapper（线程安全，请勿修改配置）
+   *
+   * @return ObjectMapper
+   */
+  public static ObjectMapper objectMapper() {
+    return OBJECT_MAPPER;
+  }
+
+  /**
+   * 判断媒体类型是否为二进制格式
+   *
+   * @param contentType Content-Type 头
+   * @return 是否为 CBOR
+   */
+  public static boolean isBinary(String contentType) {
+    if (contentType == null || contentType.isBlank()) {
+      return false;
+    }
+    try {
+      return MEDIA_TYPE.isCompatibleWith(MediaType.parseMediaType(contentType));
+    } catch (IllegalArgumentException e) {
+      return false;
+    }
+  }
+}
@@ -0,0 +1,48 @@
+package com.example.dms2.api.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import feign.Response;
+import feign.Util;
+import feign.codec.Decoder;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Type;
+import java.util.Collection;
+import org.springframework.http.HttpHeaders;
+
+/**
+ * Feign 响应解码器 按响应的 Content-Type 选择格式
+ *
+ * <p>CBOR 响应由 {@link BinaryCodec} 解码，其余响应交给默认解码器，因此服务端未启用二进制格式时仍可回退到 JSON。
+ *
+ * @author DMS2 Team
+ * @since 1.0.0
+ */
+public class BinaryDecoder implements Decoder {
+
+  private final ObjectMapper objectMapper = BinaryCodec.objectMapper();
+  private final Decoder delegate;
+
+  public BinaryDecoder(Decoder delegate) {
+    this.delegate = delegate;
+  }
+
+  @Override
+  public Object decode(Response response, Type type) throws IOException {
+    if (!isBinary(response)) {
+      return delegate.decode(response, type);
+    }
+    if (response.body() == null) {
+      return Util.emptyValueOf(type);
+    }
+    try (InputStream body = response.body().asInputStream()) {
+      return objectMapper.readValue(body, objectMapper.constructType(type));
+    }
+  }
+
+  private static boolean isBinary(Response response) {
+    // Feign 的响应头大小写不敏感
+    Collection<String> contentTypes = response.headers().get(HttpHeaders.CONTENT_TYPE);
+    return contentTypes != null && contentTypes.stream().anyMatch(BinaryCodec::isBinary);
+  }
+}
@@ -0,0 +1,37 @@
+package com.example.dms2.api.codec;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import feign.RequestTemplate;
+import feign.codec.EncodeException;
+import feign.codec.Encoder;
+import java.lang.reflect.Type;
+import java.util.List;
+import org.springframework.http.HttpHeaders;
+
+/**
+ * Feign 二进制请求体编码器 以 CBOR 编码请求体
+ *
+ * @author DMS2 Team
+ * @since 1.0.0
+ */
+public class BinaryEncoder implements Encoder {
+
+  private final ObjectMapper objectMapper = BinaryCodec.objectMapper();
+
+  @Override
+  public void encode(Object object, Type bodyType, RequestTemplate template) {
+    if (object == null) {
+      return;
+    }
+    try {
+      byte[] body =
+          objectMapper.writerFor(objectMapper.constructType(bodyType)).writeValueAsBytes(object);
+      template.header(HttpHeaders.CONTENT_TYPE, List.of());
+      template.header(HttpHeaders.CONTENT_TYPE, BinaryCodec.MEDIA_TYPE_VALUE);
+      template.body(body, null);
+    } catch (JsonProcessingException e) {
+      throw new EncodeException("CBOR编码失败: " + e.getMessage(), e);
+    }
+  }
+}
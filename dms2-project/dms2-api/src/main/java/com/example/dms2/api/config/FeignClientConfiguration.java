@@ -1,11 +1,30 @@
 package com.example.dms2.api.config;
 
+import com.example.dms2.api.cache.SnapshotCachingDecoder;
+import com.example.dms2.api.cache.UserSnapshotCache;
+import com.example.dms2.api.codec.BinaryCodec;
+import com.example.dms2.api.codec.BinaryDecoder;
+import com.example.dms2.api.codec.BinaryEncoder;
+import com.example.dms2.api.support.Deadline;
 import feign.Logger;
 import feign.Request;
 import feign.RequestInterceptor;
+import feign.codec.Decoder;
+import feign.codec.Encoder;
+import feign.optionals.OptionalDecoder;
 import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.ObjectFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.http.HttpMessageConverters;
+import org.springframework.cloud.openfeign.support.HttpMessageConverterCustomizer;
+import org.springframework.cloud.openfeign.support.ResponseEntityDecoder;
+import org.springframework.cloud.openfeign.support.SpringDecoder;
+import org.springframework.cloud.openfeign.support.SpringEncoder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 
 /**
  * Feign Client配置类
@@ -16,6 +35,14 @@ import org.springframework.context.annotation.Configuration;
 @Configuration
 public class FeignClientConfiguration {
 
+  /** 二进制编码（CBOR）时的 Accept 头，服务端不支持时回退到 JSON */
+  private static final String BINARY_ACCEPT =
+      BinaryCodec.MEDIA_TYPE_VALUE + ", " + MediaType.APPLICATION_JSON_VALUE + ";q=0.9";
+
+  /** 请求编码格式：json（默认）或 cbor（内部调用可选） */
+  @Value("${dms2.feign.codec:json}")
+  private String codec;
+
   /**
    * Feign日志级别配置 NONE: 无日志 BASIC: 基本日志（请求方法、URL、响应状态码、执行时间） HEADERS: 包含请求头和响应头 FULL:
    * 完整日志（请求头、请求体、响应头、响应体）
@@ -37,22 +64,53 @@ public class FeignClientConfiguration {
         );
   }
 
+  /** Feign编码器 dms2.feign.codec=cbor 时以二进制编码请求体，否则使用默认的 JSON 编码 */
+  @Bean
+  public Encoder feignEncoder(ObjectFactory<HttpMessageConverters> messageConverters) {
+    return isBinaryCodec() ? new BinaryEncoder() : new SpringEncoder(messageConverters);
+  }
+
+  /** Feign解码器 按响应 Content-Type 解码，CBOR 与 JSON 响应均可处理；成功的用户查询结果写入快照缓存 */
+  @Bean
+  public Decoder feignDecoder(
+      ObjectFactory<HttpMessageConverters> messageConverters,
+      ObjectProvider<HttpMessageConverterCustomizer> customizers,
+      ObjectProvider<UserSnapshotCache> snapshotCache) {
+    Decoder decoder =
+        new OptionalDecoder(
+            new ResponseEntityDecoder(
+                new BinaryDecoder(new SpringDecoder(messageConverters, customizers))));
+    UserSnapshotCache cache = snapshotCache.getIfAvailable();
+    return cache == null ? decoder : new SnapshotCachingDecoder(decoder, cache);
+  }
+
   /** Feign请求拦截器 可用于添加认证头、请求ID等 */
   @Bean
   public RequestInterceptor feignRequestInterceptor() {
+    String accept = isBinaryCodec() ? BINARY_ACCEPT : MediaType.APPLICATION_JSON_VALUE;
     return template -> {
       // 添加请求ID（用于链路追踪）
       String requestId = java.util.UUID.randomUUID().toString();
       template.header("X-Request-Id", requestId);
 
+      // 透传截止时间（剩余毫秒数）
+      Deadline deadline = Deadline.current();
+      if (deadline != null) {
+        template.header(Deadline.HEADER, String.valueOf(Math.max(0, deadline.remainingMillis())));
+      }
+
       // 添加认证头（示例：Bearer Token）
       // String token = getToken();
       // if (token != null) {
       //     template.header("Authorization", "Bearer " + token);
       // }
 
-      // 添加其他公共请求头
-      template.header("Content-Type", "application/json");
+      // 内容协商：Content-Type 由编码器按实际格式设置
+      template.header(HttpHeaders.ACCEPT, accept);
     };
   }
+
+  private boolean isBinaryCodec() {
+    return "cbor".equalsIgnoreCase(codec);
+  }
 }
@@ -0,0 +1,68 @@
+package com.example.dms2.api.config;
+
+import com.example.dms2.api.dto.ApiResponse;
+import com.example.dms2.api.feign.UserAsyncFeignClient;
+import com.example.dms2.api.support.HedgedExecutor;
+import com.example.dms2.api.support.HedgingCapability;
+import com.example.dms2.api.support.HedgingPolicy;
+import com.example.dms2.api.support.RetryBudget;
+import feign.Capability;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Feign 幂等读操作的对冲与重试配置 {@code UserAsyncFeignClient} 与同步的 {@code UserFeignClient} 共用同一执行器、重试预算与耗时统计
+ *
+ * @author DMS2 Team
+ * @since 1.0.0
+ */
+@Configuration
+public class FeignHedgingConfiguration {
+
+  /** 重试预算：每个正常请求存入的令牌数、每秒补充数及上限 */
+  @Bean
+  public RetryBudget feignRetryBudget(
+      @Value("${dms2.feign.retry-budget.ratio:0.1}") double ratio,
+      @Value("${dms2.feign.retry-budget.min-per-second:10}") int minPerSecond,
+      @Value("${dms2.feign.retry-budget.max-tokens:100}") int maxTokens) {
+    return new RetryBudget(ratio, minPerSecond, maxTokens);
+  }
+
+  /** 对冲执行器：延迟取近期耗时的分位数，并限制在上下限之间 */
+  @Bean(destroyMethod = "shutdown")
+  public HedgedExecutor feignHedgedExecutor(
+      RetryBudget feignRetryBudget,
+      @Value("${dms2.feign.hedge.enabled:true}") boolean enabled,
+      @Value("${dms2.feign.hedge.max-attempts:2}") int maxAttempts,
+      @Value("${dms2.feign.hedge.percentile:0.95}") double percentile,
+      @Value("${dms2.feign.hedge.min-samples:20}") int minSamples,
+      @Value("${dms2.feign.hedge.initial-delay:100ms}") Duration initialDelay,
+      @Value("${dms2.feign.hedge.min-delay:5ms}") Duration minDelay,
+      @Value("${dms2.feign.hedge.max-delay:1s}") Duration maxDelay,
+      @Value("${dms2.feign.hedge.timeout:3s}") Duration timeout) {
+    HedgingPolicy policy =
+        new HedgingPolicy(
+            enabled,
+            maxAttempts,
+            percentile,
+            minSamples,
+            initialDelay,
+            minDelay,
+            maxDelay,
+            timeout);
+    return new HedgedExecutor(policy, feignRetryBudget);
+  }
+
+  /** 同步客户端的对冲：Feign 客户端创建时应用容器中的 {@link Capability} */
+  @Bean(destroyMethod = "shutdown")
+  public HedgingCapability feignHedgingCapability(HedgedExecutor feignHedgedExecutor) {
+    return new HedgingCapability(
+        feignHedgedExecutor,
+        UserAsyncFeignClient.IDEMPOTENT_OPERATIONS,
+        response ->
+            response instanceof ApiResponse<?> apiResponse
+                && UserAsyncFeignClient.isRetryable(apiResponse));
+  }
+}
@@ -0,0 +1,135 @@
+package com.example.dms2.api.config;
+
+import com.example.dms2.api.http.DeadlineInterceptor;
+import com.example.dms2.api.http.GzipRequestInterceptor;
+import com.example.dms2.api.http.RouteLimitInterceptor;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.okhttp3.OkHttpConnectionPoolMetrics;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import okhttp3.ConnectionPool;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Feign HTTP 客户端配置 使用 OkHttp 连接池替代默认的 HttpURLConnection
+ *
+ * <p>需开启 {@code spring.cloud.openfeign.okhttp.enabled=true}，Spring Cloud OpenFeign 会将此处的
+ * OkHttpClient 包装为带负载均衡的 Feign Client。与 {@link FeignClientConfiguration} 分开声明，避免在每个 Feign Client
+ * 的子上下文中重复创建连接池。
+ *
+ * <ul>
+ *   <li>连接复用：空闲连接超过 keep-alive 时间后被清理，该时间应小于服务端的 keep-alive 超时，避免复用已被服务端关闭的连接
+ *   <li>单路由并发上限：见 {@link RouteLimitInterceptor}
+ *   <li>截止时间：请求携带截止时间时按剩余时间收紧超时，见 {@link DeadlineInterceptor}
+ *   <li>HTTP/2：HTTPS 下通过 ALPN 自动协商；明文 HTTP 可选 h2c（需服务端开启 {@code server.http2.enabled}）
+ *   <li>压缩：响应体 gzip 由 OkHttp 自动协商解压，请求体超过阈值时 gzip 压缩
+ * </ul>
+ *
+ * @author DMS2 Team
+ * @since 1.0.0
+ */
+@Configuration
+@ConditionalOnProperty("spring.cloud.openfeign.okhttp.enabled")
+public class FeignHttpClientConfiguration {
+
+  /** 连接池最大空闲连接数 */
+  @Value("${dms2.feign.http.max-idle-connections:50}")
+  private int maxIdleConnections;
+
+  /** 空闲连接保活时间，超过后被清理 */
+  @Value("${dms2.feign.http.keep-alive:30s}")
+  private Duration keepAlive;
+
+  /** 单路由最大并发请求数 */
+  @Value("${dms2.feign.http.max-per-route:64}")
+  private int maxPerRoute;
+
+  /** 等待单路由名额的最长时间 */
+  @Value("${dms2.feign.http.route-acquire-timeout:1s}")
+  private Duration routeAcquireTimeout;
+
+  /** 协议：auto（HTTPS 协商 HTTP/2，否则 HTTP/1.1）、h2c（明文 HTTP/2，需服务端支持）或 http1 */
+  @Value("${dms2.feign.http.protocol:auto}")
+  private String protocol;
+
+  /** 请求体压缩阈值，小于 0 表示不压缩 */
+  @Value("${dms2.feign.http.compression-threshold:2KB}")
+  private DataSize compressionThreshold;
+
+  @Bean(destroyMethod = "evictAll")
+  public ConnectionPool feignConnectionPool() {
+    return new ConnectionPool(maxIdleConnections, keepAlive.toMillis(), TimeUnit.MILLISECONDS);
+  }
+
+  @Bean
+  public RouteLimitInterceptor feignRouteLimitInterceptor() {
+    return new RouteLimitInterceptor(maxPerRoute, routeAcquireTimeout);
+  }
+
+  /** 超时由 Feign 的 Request.Options 按请求设置，此处不重复配置 */
+  @Bean
+  public OkHttpClient feignOkHttpClient(
+      ConnectionPool feignConnectionPool, RouteLimitInterceptor feignRouteLimitInterceptor) {
+    OkHttpClient.Builder builder =
+        new OkHttpClient.Builder()
+            .connectionPool(feignConnectionPool)
+            .protocols(protocols())
+            .retryOnConnectionFailure(true)
+            .addInterceptor(feignRouteLimitInterceptor)
+            .addInterceptor(new DeadlineInterceptor());
+    if (compressionThreshold.toBytes() >= 0) {
+      builder.addInterceptor(new GzipRequestInterceptor(compressionThreshold.toBytes()));
+    }
+    return builder.build();
+  }
+
+  private List<Protocol> protocols() {
+    return switch (protocol.toLowerCase()) {
+      case "h2c" -> List.of(Protocol.H2_PRIOR_KNOWLEDGE);
+      case "http1" -> List.of(Protocol.HTTP_1_1);
+      default -> List.of(Protocol.HTTP_2, Protocol.HTTP_1_1);
+    };
+  }
+
+  /** 连接池指标（feign.okhttp.pool.*）：连接数、空闲连接数、单路由进行中与被拒绝的请求 */
+  @Configuration
+  @ConditionalOnClass(name = "io.micrometer.core.instrument.MeterRegistry")
+  static class MetricsConfiguration {
+
+    @Bean
+    public MeterBinder feignConnectionPoolMetrics(
+        ConnectionPool feignConnectionPool,
+        RouteLimitInterceptor feignRouteLimitInterceptor,
+        @Value("${dms2.feign.http.max-idle-connections:50}") int maxIdleConnections) {
+      OkHttpConnectionPoolMetrics poolMetrics =
+          new OkHttpConnectionPoolMetrics(
+              feignConnectionPool, "feign.okhttp.pool", Tags.empty(), maxIdleConnections);
+      return registry -> {
+        poolMetrics.bindTo(registry);
+        Gauge.builder(
+                "feign.okhttp.route.in.flight",
+                feignRouteLimitInterceptor,
+                RouteLimitInterceptor::inFlight)
+            .description("各路由进行中的请求数之和")
+            .register(registry);
+        FunctionCounter.builder(
+                "feign.okhttp.route.rejected",
+                feignRouteLimitInterceptor,
+                RouteLimitInterceptor::rejectedCount)
+            .description("等待路由名额超时被拒绝的请求数")
+            .register(registry);
+      };
+    }
+  }
+}
@@ -0,0 +1,56 @@
+package com.example.dms2.api.config;
+
+import com.example.dms2.api.cache.UserSnapshotCache;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * 用户快照缓存配置 Feign 调用成功时写入，服务不可用时由 {@code UserFeignClientFallback} 返回缓存数据
+ *
+ * @author DMS2 Team
+ * @since 1.0.0
+ */
+@Configuration
+@ConditionalOnProperty(
+    value = "dms2.feign.stale-cache.enabled",
+    havingValue = "true",
+    matchIfMissing = true)
+public class FeignSnapshotCacheConfiguration {
+
+  @Bean
+  public UserSnapshotCache userSnapshotCache(
+      @Value("${dms2.feign.stale-cache.max-size:16MB}") DataSize maxSize,
+      @Value("${dms2.feign.stale-cache.ttl.get-user-by-id:10m}") Duration userTtl,
+      @Value("${dms2.feign.stale-cache.ttl.get-users-by-ids:5m}") Duration batchTtl) {
+    return new UserSnapshotCache(maxSize, userTtl, batchTtl);
+  }
+
+  /** 缓存指标（cache.* name=userSnapshot）及降级命中/未命中次数（feign.stale.*） */
+  @Configuration
+  @ConditionalOnClass(name = "io.micrometer.core.instrument.MeterRegistry")
+  static class MetricsConfiguration {
+
+    @Bean
+    public MeterBinder userSnapshotCacheMetrics(UserSnapshotCache userSnapshotCache) {
+      return registry -> {
+        CaffeineCacheMetrics.monitor(registry, userSnapshotCache.nativeCache(), "userSnapshot");
+        FunctionCounter.builder(
+                "feign.stale.served", userSnapshotCache, UserSnapshotCache::servedCount)
+            .description("降级时返回缓存数据的次数")
+            .register(registry);
+        FunctionCounter.builder(
+                "feign.stale.missed", userSnapshotCache, UserSnapshotCache::missedCount)
+            .description("降级时缓存未命中的次数")
+            .register(registry);
+      };
+    }
+  }
+}
@@ -0,0 +1,17 @@
+package com.example.dms2.api.config;
+
+import com.example.dms2.api.loadbalancer.LatencyAwareLoadBalancerConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cloud.loadbalancer.annotation.LoadBalancerClients;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 负载均衡策略选择 {@code dms2.loadbalancer.strategy=latency-aware} 时所有服务改用延迟感知负载均衡，否则保持默认的轮询
+ *
+ * @author DMS2 Team
+ * @since 1.0.0
+ */
+@Configuration
+@ConditionalOnProperty(name = "dms2.loadbalancer.strategy", havingValue = "latency-aware")
+@LoadBalancerClients(defaultConfiguration = LatencyAwareLoadBalancerConfiguration.class)
+public class LoadBalancerStrategyConfiguration {}
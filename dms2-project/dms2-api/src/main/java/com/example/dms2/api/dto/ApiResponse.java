@@ -1,5 +1,6 @@
 package com.example.dms2.api.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -29,6 +30,10 @@ public class ApiResponse<T> {
   @Schema(description = "响应数据")
   private T data;
 
+  @Schema(description = "是否为服务不可用时返回的缓存数据（可能已过期），正常响应不返回此字段")
+  @JsonInclude(JsonInclude.Include.NON_NULL)
+  private Boolean stale;
+
   /** 成功响应（带数据） */
   public static <T> ApiResponse<T> success(T data) {
     return ApiResponse.<T>builder().code(200).message("操作成功").data(data).build();
@@ -44,6 +49,16 @@ public class ApiResponse<T> {
     return ApiResponse.<T>builder().code(200).message(message).data(data).build();
   }
 
+  /** 缓存数据响应（服务不可用时由降级返回最近一次成功的结果） */
+  public static <T> ApiResponse<T> stale(T data) {
+    return ApiResponse.<T>builder()
+        .code(200)
+        .message("服务暂不可用，返回缓存数据")
+        .data(data)
+        .stale(true)
+        .build();
+  }
+
   /** 失败响应 */
   public static <T> ApiResponse<T> error(Integer code, String message) {
     return ApiResponse.<T>builder().code(code).message(message).build();
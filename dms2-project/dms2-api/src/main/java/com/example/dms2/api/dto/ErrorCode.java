@@ -23,6 +23,7 @@ public enum ErrorCode {
   NOT_FOUND(404, "资源不存在"),
   METHOD_NOT_ALLOWED(405, "请求方法不支持"),
   VALIDATION_ERROR(422, "参数校验失败"),
+  TOO_MANY_REQUESTS(429, "请求过于频繁，请稍后重试"),
 
   // 服务端错误 (5xx)
   INTERNAL_SERVER_ERROR(500, "服务器内部错误"),
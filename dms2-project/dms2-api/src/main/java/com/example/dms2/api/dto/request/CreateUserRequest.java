@@ -1,16 +1,15 @@
 package com.example.dms2.api.dto.request;
 
+import com.example.dms2.api.validation.UserRules;
+import com.example.dms2.api.validation.ValidCreateUser;
 import io.swagger.v3.oas.annotations.media.Schema;
-import jakarta.validation.constraints.Email;
-import jakarta.validation.constraints.NotBlank;
-import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
 /**
- * 创建用户请求DTO
+ * 创建用户请求DTO 字段规则见 {@link UserRules}，由类级别的 {@link ValidCreateUser} 一次校验
  *
  * @author DMS2 Team
  * @since 1.0.0
@@ -20,22 +19,26 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 @AllArgsConstructor
 @Schema(description = "创建用户请求")
+@ValidCreateUser
 public class CreateUserRequest {
 
-  @Schema(description = "用户名", example = "alice", requiredMode = Schema.RequiredMode.REQUIRED)
-  @NotBlank(message = "用户名不能为空")
-  @Size(min = 2, max = 50, message = "用户名长度必须在2-50之间")
+  @Schema(
+      description = "用户名",
+      example = "alice",
+      requiredMode = Schema.RequiredMode.REQUIRED,
+      minLength = UserRules.USERNAME_MIN_LENGTH,
+      maxLength = UserRules.USERNAME_MAX_LENGTH)
   private String username;
 
   @Schema(
       description = "邮箱",
       example = "alice@example.com",
-      requiredMode = Schema.RequiredMode.REQUIRED)
-  @NotBlank(message = "邮箱不能为空")
-  @Email(message = "邮箱格式不正确")
+      requiredMode = Schema.RequiredMode.REQUIRED,
+      format = "email",
+      maxLength = UserRules.EMAIL_MAX_LENGTH)
   private String email;
 
-  @Schema(description = "手机号", example = "13800138000")
+  @Schema(description = "手机号", example = "13800138000", maxLength = UserRules.PHONE_MAX_LENGTH)
   private String phone;
 
   @Schema(description = "真实姓名", example = "Alice")
@@ -1,5 +1,6 @@
 package com.example.dms2.api.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonFormat;
 import io.swagger.v3.oas.annotations.media.Schema;
 import java.time.LocalDateTime;
 import lombok.AllArgsConstructor;
@@ -10,6 +11,8 @@ import lombok.NoArgsConstructor;
 /**
  * 用户DTO
  *
+ * <p>ID 由 Snowflake 分配时超过 2^53，JSON 中以字符串表示，避免 JavaScript 等以双精度解析数字的客户端丢失精度；反序列化同时接受字符串与数字。
+ *
  * @author DMS2 Team
  * @since 1.0.0
  */
@@ -20,7 +23,8 @@ import lombok.NoArgsConstructor;
 @Schema(description = "用户信息")
 public class UserDTO {
 
-  @Schema(description = "用户ID", example = "1")
+  @Schema(description = "用户ID（字符串形式的 64 位整数）", type = "string", example = "1")
+  @JsonFormat(shape = JsonFormat.Shape.STRING)
   private Long id;
 
   @Schema(description = "用户名", example = "alice")
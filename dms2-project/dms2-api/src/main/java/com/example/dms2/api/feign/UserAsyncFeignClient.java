@@ -0,0 +1,258 @@
+package com.example.dms2.api.feign;
+
+import com.example.dms2.api.dto.ApiResponse;
+import com.example.dms2.api.dto.ErrorCode;
+import com.example.dms2.api.dto.PageRequest;
+import com.example.dms2.api.dto.PageResponse;
+import com.example.dms2.api.dto.request.CreateUserRequest;
+import com.example.dms2.api.dto.response.UserDTO;
+import com.example.dms2.api.support.Deadline;
+import com.example.dms2.api.support.HedgedExecutor;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 用户Feign Client异步版本 返回 {@link CompletableFuture}，供调用方并发扇出
+ *
+ * <p>同一 JVM 内并发的 {@link #getUserById(Long)} 调用在合并窗口内被合并为一次 {@code POST /api/users/batch}，结果按 ID
+ * 拆分回各调用方；相同 ID 只请求一次。窗口内只有一个 ID 时仍走单查接口。批量结果中不存在的 ID 返回 {@link
+ * ErrorCode#USER_NOT_FOUND}，批量调用失败时窗口内所有调用以相同的错误结束。
+ *
+ * <p>批量降级返回快照缓存的部分命中（stale）时，命中的 ID 同样标记为 stale，未命中的 ID 返回 {@link ErrorCode#FEIGN_CALL_ERROR}。
+ *
+ * <p>幂等读操作（单查、按用户名或邮箱查询、批量查询、分页查询）经 {@link HedgedExecutor} 执行：按近期 p95 耗时发送对冲请求，失败时在重试预算内重试，并携带截止时间。
+ *
+ * @author DMS2 Team
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+public class UserAsyncFeignClient implements DisposableBean {
+
+  /** 幂等读操作（方法名），同步客户端按同一集合对冲 */
+  public static final Set<String> IDEMPOTENT_OPERATIONS =
+      Set.of("getUserById", "getUserByUsername", "getUserByEmail", "getUsersByIds", "queryUsers");
+
+  private final UserFeignClient userFeignClient;
+  private final HedgedExecutor hedgedExecutor;
+  private final long windowNanos;
+  private final int maxBatchSize;
+  private final ExecutorService executor;
+  private final ScheduledExecutorService scheduler;
+
+  private final Object lock = new Object();
+  private Map<Long, CompletableFuture<ApiResponse<UserDTO>>> pending = new LinkedHashMap<>();
+  private ScheduledFuture<?> flushTask;
+
+  public UserAsyncFeignClient(
+      UserFeignClient userFeignClient,
+      HedgedExecutor hedgedExecutor,
+      @Value("${dms2.feign.batch.window:5ms}") Duration window,
+      @Value("${dms2.feign.batch.max-size:100}") int maxBatchSize,
+      @Value("${dms2.feign.async.pool-size:16}") int poolSize) {
+    this.userFeignClient = userFeignClient;
+    this.hedgedExecutor = hedgedExecutor;
+    this.windowNanos = window.toNanos();
+    this.maxBatchSize = maxBatchSize;
+    this.executor = Executors.newFixedThreadPool(poolSize, daemonThreads("user-feign-async-"));
+    this.scheduler = Executors.newSingleThreadScheduledExecutor(daemonThreads("user-feign-batch-"));
+  }
+
+  /** 根据ID查询用户（合并为批量请求） */
+  public CompletableFuture<ApiResponse<UserDTO>> getUserById(Long id) {
+    if (windowNanos <= 0 || maxBatchSize <= 1) {
+      return hedged("getUserById", () -> userFeignClient.getUserById(id));
+    }
+    CompletableFuture<ApiResponse<UserDTO>> future;
+    Map<Long, CompletableFuture<ApiResponse<UserDTO>>> full = null;
+    synchronized (lock) {
+      future = pending.computeIfAbsent(id, key -> new CompletableFuture<>());
+      if (pending.size() >= maxBatchSize) {
+        full = drain();
+      } else if (flushTask == null) {
+        flushTask = scheduler.schedule(this::flush, windowNanos, TimeUnit.NANOSECONDS);
+      }
+    }
+    if (full != null) {
+      dispatch(full);
+    }
+    // 相同 ID 的调用方共享一次请求，各自拿到独立的 Future，取消互不影响
+    return future.copy();
+  }
+
+  /** 根据用户名查询用户 */
+  public CompletableFuture<ApiResponse<UserDTO>> getUserByUsername(String username) {
+    return hedged("getUserByUsername", () -> userFeignClient.getUserByUsername(username));
+  }
+
+  /** 根据邮箱查询用户 */
+  public CompletableFuture<ApiResponse<UserDTO>> getUserByEmail(String email) {
+    return hedged("getUserByEmail", () -> userFeignClient.getUserByEmail(email));
+  }
+
+  /** 创建用户 */
+  public CompletableFuture<ApiResponse<UserDTO>> createUser(CreateUserRequest request) {
+    return async(() -> userFeignClient.createUser(request));
+  }
+
+  /** 批量查询用户 */
+  public CompletableFuture<ApiResponse<List<UserDTO>>> getUsersByIds(List<Long> ids) {
+    return hedged("getUsersByIds", () -> userFeignClient.getUsersByIds(ids));
+  }
+
+  /** 分页查询用户 */
+  public CompletableFuture<ApiResponse<PageResponse<UserDTO>>> queryUsers(PageRequest pageRequest) {
+    return hedged("queryUsers", () -> userFeignClient.queryUsers(pageRequest));
+  }
+
+  /** 删除用户 */
+  public CompletableFuture<ApiResponse<Void>> deleteUser(Long id) {
+    return async(() -> userFeignClient.deleteUser(id));
+  }
+
+  @Override
+  public void destroy() {
+    flush();
+    scheduler.shutdown();
+    executor.shutdown();
+  }
+
+  private void flush() {
+    Map<Long, CompletableFuture<ApiResponse<UserDTO>>> batch;
+    synchronized (lock) {
+      batch = drain();
+    }
+    if (!batch.isEmpty()) {
+      dispatch(batch);
+    }
+  }
+
+  /** 取出当前窗口内的请求并重置窗口，需持有锁 */
+  private Map<Long, CompletableFuture<ApiResponse<UserDTO>>> drain() {
+    Map<Long, CompletableFuture<ApiResponse<UserDTO>>> batch = pending;
+    pending = new LinkedHashMap<>();
+    if (flushTask != null) {
+      flushTask.cancel(false);
+      flushTask = null;
+    }
+    return batch;
+  }
+
+  private void dispatch(Map<Long, CompletableFuture<ApiResponse<UserDTO>>> batch) {
+    if (batch.size() == 1) {
+      Map.Entry<Long, CompletableFuture<ApiResponse<UserDTO>>> single =
+          batch.entrySet().iterator().next();
+      hedged("getUserById", () -> userFeignClient.getUserById(single.getKey()))
+          .whenComplete(
+              (response, error) -> {
+                if (error != null) {
+                  single.getValue().completeExceptionally(error);
+                } else {
+                  single.getValue().complete(response);
+                }
+              });
+      return;
+    }
+    List<Long> ids = new ArrayList<>(batch.keySet());
+    log.debug("合并查询用户: size={}", ids.size());
+    hedged("getUsersByIds", () -> userFeignClient.getUsersByIds(ids))
+        .whenComplete(
+            (response, error) -> {
+              if (error != null) {
+                batch.values().forEach(future -> future.completeExceptionally(error));
+              } else {
+                split(batch, response);
+              }
+            });
+  }
+
+  private static void split(
+      Map<Long, CompletableFuture<ApiResponse<UserDTO>>> batch,
+      ApiResponse<List<UserDTO>> response) {
+    if (response == null || response.getCode() == null || response.getCode() != 200) {
+      ApiResponse<UserDTO> error =
+          response == null
+              ? ApiResponse.error(ErrorCode.FEIGN_CALL_ERROR)
+              : ApiResponse.error(response.getCode(), response.getMessage());
+      batch.values().forEach(future -> future.complete(error));
+      return;
+    }
+    Map<Long, UserDTO> users =
+        response.getData() == null
+            ? Map.of()
+            : response.getData().stream()
+                .collect(Collectors.toMap(UserDTO::getId, Function.identity(), (a, b) -> a));
+    // stale 为降级时快照缓存中的部分命中，未命中的 ID 不能断定用户不存在
+    boolean stale = Boolean.TRUE.equals(response.getStale());
+    batch.forEach(
+        (id, future) -> {
+          UserDTO user = users.get(id);
+          if (user != null) {
+            future.complete(stale ? ApiResponse.stale(user) : ApiResponse.success(user));
+          } else if (stale) {
+            future.complete(ApiResponse.error(ErrorCode.FEIGN_CALL_ERROR));
+          } else {
+            future.complete(
+                ApiResponse.error(ErrorCode.USER_NOT_FOUND.getCode(), "用户不存在: id=" + id));
+          }
+        });
+  }
+
+  /** 非幂等操作：只发送一次，沿用调用方线程上的截止时间 */
+  private <T> CompletableFuture<T> async(Supplier<T> call) {
+    Deadline deadline = Deadline.current();
+    return CompletableFuture.supplyAsync(
+        () -> deadline == null ? call.get() : deadline.call(call), executor);
+  }
+
+  /** 幂等读操作：对冲、预算内重试、截止时间 */
+  private <T> CompletableFuture<ApiResponse<T>> hedged(
+      String operation, Supplier<ApiResponse<T>> call) {
+    return hedgedExecutor.submit(operation, call, UserAsyncFeignClient::isRetryable, executor);
+  }
+
+  /**
+   * 降级响应（含快照缓存返回的 stale 数据）或服务端 5xx 视为可重试的失败
+   *
+   * <p>stale 数据仅在所有请求都未取得新鲜结果时才作为最终结果返回。
+   */
+  public static boolean isRetryable(ApiResponse<?> response) {
+    if (response == null
+        || response.getCode() == null
+        || Boolean.TRUE.equals(response.getStale())) {
+      return true;
+    }
+    int code = response.getCode();
+    return code == ErrorCode.FEIGN_CALL_ERROR.getCode()
+        || code == ErrorCode.SERVICE_UNAVAILABLE.getCode()
+        || code == ErrorCode.GATEWAY_TIMEOUT.getCode();
+  }
+
+  private static ThreadFactory daemonThreads(String prefix) {
+    AtomicInteger sequence = new AtomicInteger();
+    return runnable -> {
+      Thread thread = new Thread(runnable, prefix + sequence.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    };
+  }
+}
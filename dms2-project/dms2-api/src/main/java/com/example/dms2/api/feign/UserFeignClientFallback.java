@@ -1,5 +1,6 @@
 package com.example.dms2.api.feign;
 
+import com.example.dms2.api.cache.UserSnapshotCache;
 import com.example.dms2.api.dto.ApiResponse;
 import com.example.dms2.api.dto.ErrorCode;
 import com.example.dms2.api.dto.PageRequest;
@@ -7,12 +8,17 @@ import com.example.dms2.api.dto.PageResponse;
 import com.example.dms2.api.dto.request.CreateUserRequest;
 import com.example.dms2.api.dto.response.UserDTO;
 import java.util.List;
+import java.util.Optional;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.stereotype.Component;
 
 /**
  * 用户Feign Client降级实现 当服务调用失败时执行
  *
+ * <p>查询类方法优先返回 {@link UserSnapshotCache} 中最近一次成功的结果（{@code stale=true}），使服务短暂不可用时调用方仍能拿到数据；缓存未命中时返回
+ * {@link ErrorCode#FEIGN_CALL_ERROR}。经对冲执行器调用时 stale 数据视为可重试，仅在重试用尽后作为最终结果返回。
+ *
  * @author DMS2 Team
  * @since 1.0.0
  */
@@ -20,12 +26,37 @@ import org.springframework.stereotype.Component;
 @Component
 public class UserFeignClientFallback implements UserFeignClient {
 
+  private final UserSnapshotCache snapshotCache;
+
+  public UserFeignClientFallback(ObjectProvider<UserSnapshotCache> snapshotCache) {
+    this.snapshotCache = snapshotCache.getIfAvailable();
+  }
+
   @Override
   public ApiResponse<UserDTO> getUserById(Long id) {
+    if (snapshotCache != null) {
+      Optional<UserDTO> user = snapshotCache.serveUser(id);
+      if (user.isPresent()) {
+        log.warn("Feign调用失败，返回缓存数据: getUserById, id={}", id);
+        return ApiResponse.stale(user.get());
+      }
+    }
     log.error("Feign调用失败: getUserById, id={}", id);
     return ApiResponse.error(ErrorCode.FEIGN_CALL_ERROR);
   }
 
+  @Override
+  public ApiResponse<UserDTO> getUserByUsername(String username) {
+    log.error("Feign调用失败: getUserByUsername, username={}", username);
+    return ApiResponse.error(ErrorCode.FEIGN_CALL_ERROR);
+  }
+
+  @Override
+  public ApiResponse<UserDTO> getUserByEmail(String email) {
+    log.error("Feign调用失败: getUserByEmail, email={}", email);
+    return ApiResponse.error(ErrorCode.FEIGN_CALL_ERROR);
+  }
+
   @Override
   public ApiResponse<UserDTO> createUser(CreateUserRequest request) {
     log.error("Feign调用失败: createUser, request={}", request);
@@ -34,6 +65,13 @@ public class UserFeignClientFallback implements UserFeignClient {
 
   @Override
   public ApiResponse<List<UserDTO>> getUsersByIds(List<Long> ids) {
+    if (snapshotCache != null) {
+      List<UserDTO> users = snapshotCache.serveUsers(ids);
+      if (!users.isEmpty()) {
+        log.warn("Feign调用失败，返回缓存数据: getUsersByIds, hit={}/{}", users.size(), ids.size());
+        return ApiResponse.stale(users);
+      }
+    }
     log.error("Feign调用失败: getUsersByIds, ids={}", ids);
     return ApiResponse.error(ErrorCode.FEIGN_CALL_ERROR);
   }
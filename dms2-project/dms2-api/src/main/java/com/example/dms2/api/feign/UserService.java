@@ -28,6 +28,14 @@ public interface UserService {
   @GetMapping("/{id}")
   ApiResponse<UserDTO> getUserById(@PathVariable("id") Long id);
 
+  @Operation(summary = "根据用户名查询用户")
+  @GetMapping("/by-username/{username}")
+  ApiResponse<UserDTO> getUserByUsername(@PathVariable("username") String username);
+
+  @Operation(summary = "根据邮箱查询用户")
+  @GetMapping("/by-email/{email}")
+  ApiResponse<UserDTO> getUserByEmail(@PathVariable("email") String email);
+
   @Operation(summary = "创建用户")
   @PostMapping
   ApiResponse<UserDTO> createUser(@Valid @RequestBody CreateUserRequest request);
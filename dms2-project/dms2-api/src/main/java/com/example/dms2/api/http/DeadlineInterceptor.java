@@ -0,0 +1,41 @@
+package com.example.dms2.api.http;
+
+import com.example.dms2.api.support.Deadline;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.concurrent.TimeUnit;
+import okhttp3.Interceptor;
+import okhttp3.Response;
+
+/**
+ * 按截止时间收紧单次请求的超时
+ *
+ * <p>请求携带 {@link Deadline#HEADER} 时，连接、读、写超时均不超过剩余时间；已截止的请求不再发送。
+ *
+ * @author DMS2 Team
+ * @since 1.0.0
+ */
+public class DeadlineInterceptor implements Interceptor {
+
+  @Override
+  public Response intercept(Chain chain) throws IOException {
+    Deadline deadline = Deadline.fromHeader(chain.request().header(Deadline.HEADER));
+    if (deadline == null) {
+      return chain.proceed(chain.request());
+    }
+    long remaining = deadline.remainingMillis();
+    if (remaining <= 0) {
+      throw new InterruptedIOException("调用已超过截止时间: " + chain.request().url());
+    }
+    return chain
+        .withConnectTimeout(timeout(chain.connectTimeoutMillis(), remaining), TimeUnit.MILLISECONDS)
+        .withReadTimeout(timeout(chain.readTimeoutMillis(), remaining), TimeUnit.MILLISECONDS)
+        .withWriteTimeout(timeout(chain.writeTimeoutMillis(), remaining), TimeUnit.MILLISECONDS)
+        .proceed(chain.request());
+  }
+
+  /** 0 表示不限时 */
+  private static int timeout(int current, long remaining) {
+    return (int) (current == 0 ? remaining : Math.min(current, remaining));
+  }
+}
@@ -0,0 +1,129 @@
+package com.example.dms2.api.http;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import okhttp3.HttpUrl;
+import okhttp3.Interceptor;
+import okhttp3.MediaType;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import okio.BufferedSource;
+import okio.ForwardingSource;
+import okio.Okio;
+
+/**
+ * 按路由（scheme://host:port）限制并发请求数
+ *
+ * <p>OkHttp 的 {@code Dispatcher.maxRequestsPerHost} 只约束异步调用，Feign 使用同步调用，因此在拦截器中按路由限流，
+ * 等效于连接池的单路由上限：HTTP/1.1 下每个进行中的请求（直到响应体关闭）占用一个连接。等待超时后抛出 {@link IOException}，由 Feign 按调用失败处理（触发降级）。
+ *
+ * @author DMS2 Team
+ * @since 1.0.0
+ */
+public class RouteLimitInterceptor implements Interceptor {
+
+  private final int maxPerRoute;
+  private final long acquireTimeoutMillis;
+  private final Map<String, Semaphore> routes = new ConcurrentHashMap<>();
+  private final LongAdder rejected = new LongAdder();
+
+  /**
+   * @param maxPerRoute 单路由最大并发请求数
+   * @param acquireTimeout 等待空闲名额的最长时间
+   */
+  public RouteLimitInterceptor(int maxPerRoute, Duration acquireTimeout) {
+    this.maxPerRoute = maxPerRoute;
+    this.acquireTimeoutMillis = acquireTimeout.toMillis();
+  }
+
+  @Override
+  public Response intercept(Chain chain) throws IOException {
+    String route = route(chain.request().url());
+    Semaphore permits = routes.computeIfAbsent(route, key -> new Semaphore(maxPerRoute));
+    try {
+      if (!permits.tryAcquire(acquireTimeoutMillis, TimeUnit.MILLISECONDS)) {
+        rejected.increment();
+        throw new IOException("路由并发已满: route=" + route + ", max=" + maxPerRoute);
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("等待路由名额时被中断: route=" + route);
+    }
+    Response response;
+    try {
+      response = chain.proceed(chain.request());
+    } catch (IOException | RuntimeException e) {
+      permits.release();
+      throw e;
+    }
+    ResponseBody body = response.body();
+    if (body == null) {
+      permits.release();
+      return response;
+    }
+    // 连接在响应体读完（关闭）之前仍被占用，名额随响应体关闭归还
+    return response.newBuilder().body(new ReleasingResponseBody(body, permits)).build();
+  }
+
+  /** 所有路由当前进行中的请求数 */
+  public int inFlight() {
+    return routes.values().stream().mapToInt(s -> maxPerRoute - s.availablePermits()).sum();
+  }
+
+  /** 因等待超时被拒绝的请求总数 */
+  public long rejectedCount() {
+    return rejected.sum();
+  }
+
+  private static String route(HttpUrl url) {
+    return url.scheme() + "://" + url.host() + ":" + url.port();
+  }
+
+  /** 关闭时归还路由名额的响应体（只归还一次） */
+  private static final class ReleasingResponseBody extends ResponseBody {
+
+    private final ResponseBody delegate;
+    private final BufferedSource source;
+
+    ReleasingResponseBody(ResponseBody delegate, Semaphore permits) {
+      this.delegate = delegate;
+      AtomicBoolean released = new AtomicBoolean();
+      this.source =
+          Okio.buffer(
+              new ForwardingSource(delegate.source()) {
+                @Override
+                public void close() throws IOException {
+                  try {
+                    super.close();
+                  } finally {
+                    if (released.compareAndSet(false, true)) {
+                      permits.release();
+                    }
+                  }
+                }
+              });
+    }
+
+    @Override
+    public MediaType contentType() {
+      return delegate.contentType();
+    }
+
+    @Override
+    public long contentLength() {
+      return delegate.contentLength();
+    }
+
+    @Override
+    public BufferedSource source() {
+      return source;
+    }
+  }
+}
@@ -0,0 +1,63 @@
+package com.example.dms2.api.loadbalancer;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 单个实例的负载统计：峰值敏感的 EWMA 耗时与进行中的请求数
+ *
+ * @author DMS2 Team
+ * @since 1.0.0
+ */
+final class InstanceStats {
+
+  private final long firstSeenNanos;
+  private final AtomicInteger outstanding = new AtomicInteger();
+
+  /** EWMA 耗时（纳秒），尚无样本时为 -1 */
+  private double ewmaNanos = -1;
+
+  private long lastUpdateNanos;
+
+  InstanceStats(long nowNanos) {
+    this.firstSeenNanos = nowNanos;
+    this.lastUpdateNanos = nowNanos;
+  }
+
+  void start() {
+    outstanding.incrementAndGet();
+  }
+
+  /**
+   * 记录一次请求结束
+   *
+   * <p>样本高于当前值时直接取样本（对 GC 停顿等突发变慢立即反应），否则按时间衰减向样本靠拢。
+   */
+  synchronized void complete(long latencyNanos, long nowNanos, long decayNanos) {
+    outstanding.updateAndGet(n -> Math.max(0, n - 1));
+    if (ewmaNanos < 0 || latencyNanos > ewmaNanos) {
+      ewmaNanos = latencyNanos;
+    } else {
+      double elapsed = Math.max(0, nowNanos - lastUpdateNanos);
+      double alpha = 1 - Math.exp(-elapsed / decayNanos);
+      ewmaNanos += alpha * (latencyNanos - ewmaNanos);
+    }
+    lastUpdateNanos = nowNanos;
+  }
+
+  /** 放弃的请求（未实际发送）只归还进行中计数 */
+  void discard() {
+    outstanding.updateAndGet(n -> Math.max(0, n - 1));
+  }
+
+  synchronized double ewmaNanos() {
+    return ewmaNanos;
+  }
+
+  int outstanding() {
+    return outstanding.get();
+  }
+
+  long firstSeenNanos() {
+    return firstSeenNanos;
+  }
+}
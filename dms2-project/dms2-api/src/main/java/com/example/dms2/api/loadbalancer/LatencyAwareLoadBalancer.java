@@ -0,0 +1,268 @@
+package com.example.dms2.api.loadbalancer;
+
+import com.example.dms2.api.support.TriedInstances;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.CompletionContext;
+import org.springframework.cloud.client.loadbalancer.DefaultResponse;
+import org.springframework.cloud.client.loadbalancer.EmptyResponse;
+import org.springframework.cloud.client.loadbalancer.LoadBalancerLifecycle;
+import org.springframework.cloud.client.loadbalancer.Request;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.client.loadbalancer.ResponseData;
+import org.springframework.cloud.client.loadbalancer.TimedRequestContext;
+import org.springframework.cloud.loadbalancer.core.NoopServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.core.ReactorServiceInstanceLoadBalancer;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import reactor.core.publisher.Mono;
+
+/**
+ * 延迟感知负载均衡器 在随机抽取的两个实例中选择负载代价较低的一个（power of two choices）
+ *
+ * <p>代价 = EWMA 耗时 × (进行中请求数 + 1) / 预热权重。EWMA 对变慢立即反应、对变快按时间衰减，GC 停顿或过载的实例很快被少分流量；新注册的实例在预热期内权重从
+ * {@value #MIN_WEIGHT} 线性增长到 1，避免冷启动时被大量请求压垮。失败或 5xx 的请求按惩罚耗时记录。
+ *
+ * <p>对冲请求与重试（当前线程绑定了 {@link TriedInstances}）只在本次调用尚未选用过的实例中选择，全部选用过时退回完整列表。
+ *
+ * <p>同时实现 {@link LoadBalancerLifecycle}，由负载均衡客户端在请求开始与结束时回调以更新统计。
+ *
+ * @author DMS2 Team
+ * @since 1.0.0
+ */
+@Slf4j
+public class LatencyAwareLoadBalancer
+    implements ReactorServiceInstanceLoadBalancer,
+        LoadBalancerLifecycle<Object, Object, ServiceInstance> {
+
+  /** 预热起始权重 */
+  static final double MIN_WEIGHT = 0.1;
+
+  private final String serviceId;
+  private final ObjectProvider<ServiceInstanceListSupplier> supplierProvider;
+  private final long decayNanos;
+  private final long slowStartNanos;
+  private final long failurePenaltyNanos;
+  private final LongSupplier clock;
+  private final Map<String, InstanceStats> stats = new ConcurrentHashMap<>();
+
+  public LatencyAwareLoadBalancer(
+      String serviceId,
+      ObjectProvider<ServiceInstanceListSupplier> supplierProvider,
+      Duration decay,
+      Duration slowStart,
+      Duration failurePenalty) {
+    this(serviceId, supplierProvider, decay, slowStart, failurePenalty, System::nanoTime);
+  }
+
+  /** 指定时钟（纳秒），用于模拟测试 */
+  public LatencyAwareLoadBalancer(
+      String serviceId,
+      ObjectProvider<ServiceInstanceListSupplier> supplierProvider,
+      Duration decay,
+      Duration slowStart,
+      Duration failurePenalty,
+      LongSupplier clock) {
+    this.serviceId = serviceId;
+    this.supplierProvider = supplierProvider;
+    this.decayNanos = Math.max(1, decay.toNanos());
+    this.slowStartNanos = slowStart.toNanos();
+    this.failurePenaltyNanos = failurePenalty.toNanos();
+    this.clock = clock;
+  }
+
+  @Override
+  public Mono<Response<ServiceInstance>> choose(Request request) {
+    ServiceInstanceListSupplier supplier =
+        supplierProvider.getIfAvailable(NoopServiceInstanceListSupplier::new);
+    // 在调用线程上取得，实例列表可能在其他线程上发布
+    TriedInstances tried = TriedInstances.current();
+    return supplier.get(request).next().map(instances -> response(instances, tried));
+  }
+
+  private Response<ServiceInstance> response(
+      List<ServiceInstance> instances, TriedInstances tried) {
+    ServiceInstance chosen = select(instances, tried);
+    if (chosen == null) {
+      log.warn("没有可用的服务实例: serviceId={}", serviceId);
+      return new EmptyResponse();
+    }
+    return new DefaultResponse(chosen);
+  }
+
+  /** 去掉本次调用已选用过的实例，全部选用过时返回原列表 */
+  private static List<ServiceInstance> untried(
+      List<ServiceInstance> instances, TriedInstances tried) {
+    if (tried == null) {
+      return instances;
+    }
+    List<ServiceInstance> untried =
+        instances.stream().filter(instance -> !tried.contains(key(instance))).toList();
+    return untried.isEmpty() ? instances : untried;
+  }
+
+  /**
+   * 从实例列表中选择一个实例
+   *
+   * @param instances 可用实例
+   * @return 选中的实例，列表为空时返回 null
+   */
+  public ServiceInstance select(List<ServiceInstance> instances) {
+    return select(instances, null);
+  }
+
+  /**
+   * 为对冲请求或重试选择实例 优先选择本次调用尚未选用过的实例，并记录所选实例
+   *
+   * @param instances 可用实例
+   * @param tried 本次调用已选用的实例，为 null 时不排除
+   * @return 选中的实例，列表为空时返回 null
+   */
+  public ServiceInstance select(List<ServiceInstance> instances, TriedInstances tried) {
+    if (instances == null || instances.isEmpty()) {
+      return null;
+    }
+    prune(instances);
+    ServiceInstance chosen = choose(untried(instances, tried));
+    if (tried != null) {
+      tried.add(key(chosen));
+    }
+    return chosen;
+  }
+
+  /** power of two choices */
+  private ServiceInstance choose(List<ServiceInstance> instances) {
+    long now = clock.getAsLong();
+    if (instances.size() == 1) {
+      return instances.get(0);
+    }
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    int i = random.nextInt(instances.size());
+    int j = random.nextInt(instances.size() - 1);
+    if (j >= i) {
+      j++;
+    }
+    ServiceInstance a = instances.get(i);
+    ServiceInstance b = instances.get(j);
+    double defaultLatency = meanLatency();
+    return cost(a, now, defaultLatency) <= cost(b, now, defaultLatency) ? a : b;
+  }
+
+  /** 请求发出 */
+  public void onRequestStart(ServiceInstance instance) {
+    statsOf(instance, clock.getAsLong()).start();
+  }
+
+  /**
+   * 请求结束
+   *
+   * @param instance 实例
+   * @param latencyNanos 耗时
+   * @param success 是否成功（失败按惩罚耗时记录）
+   */
+  public void onRequestComplete(ServiceInstance instance, long latencyNanos, boolean success) {
+    long now = clock.getAsLong();
+    long sample = success ? latencyNanos : Math.max(latencyNanos, failurePenaltyNanos);
+    statsOf(instance, now).complete(sample, now, decayNanos);
+  }
+
+  @Override
+  public boolean supports(Class requestContextClass, Class responseClass, Class serverTypeClass) {
+    return ServiceInstance.class.isAssignableFrom(serverTypeClass);
+  }
+
+  @Override
+  public void onStart(Request<Object> request) {
+    // 选择实例前无需处理
+  }
+
+  @Override
+  public void onStartRequest(Request<Object> request, Response<ServiceInstance> lbResponse) {
+    if (request.getContext() instanceof TimedRequestContext timed) {
+      timed.setRequestStartTime(clock.getAsLong());
+    }
+    if (lbResponse != null && lbResponse.hasServer()) {
+      onRequestStart(lbResponse.getServer());
+    }
+  }
+
+  @Override
+  public void onComplete(CompletionContext<Object, ServiceInstance, Object> completionContext) {
+    Response<ServiceInstance> lbResponse = completionContext.getLoadBalancerResponse();
+    if (lbResponse == null || !lbResponse.hasServer()) {
+      return;
+    }
+    ServiceInstance instance = lbResponse.getServer();
+    if (completionContext.status() == CompletionContext.Status.DISCARD) {
+      statsOf(instance, clock.getAsLong()).discard();
+      return;
+    }
+    long start = clock.getAsLong();
+    Object context = completionContext.getLoadBalancerRequest().getContext();
+    if (context instanceof TimedRequestContext timed && timed.getRequestStartTime() > 0) {
+      start = timed.getRequestStartTime();
+    }
+    boolean success =
+        completionContext.status() == CompletionContext.Status.SUCCESS
+            && !isServerError(completionContext.getClientResponse());
+    onRequestComplete(instance, clock.getAsLong() - start, success);
+  }
+
+  private double cost(ServiceInstance instance, long now, double defaultLatency) {
+    InstanceStats s = statsOf(instance, now);
+    double latency = s.ewmaNanos() < 0 ? defaultLatency : s.ewmaNanos();
+    return (latency + 1) * (s.outstanding() + 1) / weight(s, now);
+  }
+
+  /** 预热权重：从 MIN_WEIGHT 线性增长到 1 */
+  private double weight(InstanceStats s, long now) {
+    if (slowStartNanos <= 0) {
+      return 1;
+    }
+    double progress = (double) (now - s.firstSeenNanos()) / slowStartNanos;
+    return Math.max(MIN_WEIGHT, Math.min(1, progress));
+  }
+
+  /** 已有样本实例的平均耗时，用作无样本实例的估计值 */
+  private double meanLatency() {
+    return stats.values().stream()
+        .mapToDouble(InstanceStats::ewmaNanos)
+        .filter(v -> v >= 0)
+        .average()
+        .orElse(0);
+  }
+
+  private InstanceStats statsOf(ServiceInstance instance, long now) {
+    return stats.computeIfAbsent(key(instance), k -> new InstanceStats(now));
+  }
+
+  /** 移除已下线实例的统计 */
+  private void prune(List<ServiceInstance> instances) {
+    if (stats.size() <= instances.size()) {
+      return;
+    }
+    Set<String> live =
+        instances.stream().map(LatencyAwareLoadBalancer::key).collect(Collectors.toSet());
+    stats.keySet().retainAll(live);
+  }
+
+  private static boolean isServerError(Object clientResponse) {
+    return clientResponse instanceof ResponseData data
+        && data.getHttpStatus() != null
+        && data.getHttpStatus().is5xxServerError();
+  }
+
+  private static String key(ServiceInstance instance) {
+    return instance.getInstanceId() != null
+        ? instance.getInstanceId()
+        : instance.getHost() + ":" + instance.getPort();
+  }
+}
@@ -0,0 +1,38 @@
+package com.example.dms2.api.loadbalancer;
+
+import java.time.Duration;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.loadbalancer.core.ReactorLoadBalancer;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.support.LoadBalancerClientFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.env.Environment;
+
+/**
+ * 延迟感知负载均衡的客户端配置 在每个服务的负载均衡子上下文中创建 {@link LatencyAwareLoadBalancer}
+ *
+ * <p>不标注 {@code @Configuration}，避免被组件扫描注册到主上下文，由 {@code @LoadBalancerClients(defaultConfiguration =
+ * ...)} 引用。
+ *
+ * @author DMS2 Team
+ * @since 1.0.0
+ */
+public class LatencyAwareLoadBalancerConfiguration {
+
+  @Bean
+  public ReactorLoadBalancer<ServiceInstance> latencyAwareLoadBalancer(
+      Environment environment, LoadBalancerClientFactory loadBalancerClientFactory) {
+    String serviceId = environment.getProperty(LoadBalancerClientFactory.PROPERTY_NAME);
+    return new LatencyAwareLoadBalancer(
+        serviceId,
+        loadBalancerClientFactory.getLazyProvider(serviceId, ServiceInstanceListSupplier.class),
+        environment.getProperty(
+            "dms2.loadbalancer.latency-aware.decay", Duration.class, Duration.ofSeconds(10)),
+        environment.getProperty(
+            "dms2.loadbalancer.latency-aware.slow-start", Duration.class, Duration.ofSeconds(30)),
+        environment.getProperty(
+            "dms2.loadbalancer.latency-aware.failure-penalty",
+            Duration.class,
+            Duration.ofSeconds(1)));
+  }
+}
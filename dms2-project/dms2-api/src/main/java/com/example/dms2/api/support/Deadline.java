@@ -0,0 +1,113 @@
+package com.example.dms2.api.support;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * 调用截止时间 绑定在当前线程上，随 Feign 请求以剩余毫秒数的形式透传给下游
+ *
+ * <p>传递剩余时间而非绝对时间，避免服务器间的时钟偏差。服务端收到请求头后恢复截止时间，其发起的下游调用继承同一截止时间。
+ *
+ * @author DMS2 Team
+ * @since 1.0.0
+ */
+public final class Deadline {
+
+  /** 剩余时间请求头（毫秒） */
+  public static final String HEADER = "X-Deadline-Remaining-Ms";
+
+  private static final ThreadLocal<Deadline> CURRENT = new ThreadLocal<>();
+
+  private final long deadlineNanos;
+
+  private Deadline(long deadlineNanos) {
+    this.deadlineNanos = deadlineNanos;
+  }
+
+  /** 从现在起经过指定时长后截止 */
+  public static Deadline after(Duration timeout) {
+    return new Deadline(System.nanoTime() + timeout.toNanos());
+  }
+
+  /**
+   * 解析请求头中的剩余毫秒数
+   *
+   * @param header 请求头的值
+   * @return 截止时间，请求头缺失或格式错误时返回 null
+   */
+  public static Deadline fromHeader(String header) {
+    if (header == null || header.isBlank()) {
+      return null;
+    }
+    try {
+      return after(Duration.ofMillis(Math.max(0, Long.parseLong(header.trim()))));
+    } catch (NumberFormatException e) {
+      return null;
+    }
+  }
+
+  /** 当前线程绑定的截止时间，未绑定时返回 null */
+  public static Deadline current() {
+    return CURRENT.get();
+  }
+
+  /** 剩余毫秒数，已截止时为 0 或负数 */
+  public long remainingMillis() {
+    return Duration.ofNanos(deadlineNanos - System.nanoTime()).toMillis();
+  }
+
+  /** 是否已截止 */
+  public boolean isExpired() {
+    return deadlineNanos - System.nanoTime() <= 0;
+  }
+
+  /** 取两者中更早的截止时间，other 为 null 时返回自身 */
+  public Deadline min(Deadline other) {
+    if (other == null || deadlineNanos - other.deadlineNanos <= 0) {
+      return this;
+    }
+    return other;
+  }
+
+  /**
+   * 绑定到当前线程，关闭返回的 Scope 时恢复原绑定
+   *
+   * @return 绑定范围，应在 try-with-resources 中使用
+   */
+  public Scope attach() {
+    Deadline previous = CURRENT.get();
+    CURRENT.set(this);
+    return () -> restore(previous);
+  }
+
+  /** 在绑定此截止时间的上下文中执行，结束后恢复原绑定 */
+  public <T> T call(Supplier<T> supplier) {
+    try (Scope ignored = attach()) {
+      return supplier.get();
+    }
+  }
+
+  /** 在绑定此截止时间的上下文中执行，结束后恢复原绑定 */
+  public void run(Runnable runnable) {
+    call(
+        () -> {
+          runnable.run();
+          return null;
+        });
+  }
+
+  /** 截止时间的绑定范围 */
+  public interface Scope extends AutoCloseable {
+
+    @Override
+    void close();
+  }
+
+  private static void restore(Deadline previous) {
+    if (previous == null) {
+      CURRENT.remove();
+    } else {
+      CURRENT.set(previous);
+    }
+  }
+}
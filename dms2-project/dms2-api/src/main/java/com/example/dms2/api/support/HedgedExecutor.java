@@ -0,0 +1,180 @@
+package com.example.dms2.api.support;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 幂等读操作的对冲执行器
+ *
+ * <p>首个请求发出后，若在自适应延迟（该操作近期耗时的 p95）内未返回，再发送一个对冲请求，取先成功的结果。每个请求执行时绑定同一个 {@link
+ * TriedInstances}，负载均衡器据此使对冲请求与重试避开已选用的实例。首个请求快速失败时立即重试。对冲与重试都需从 {@link RetryBudget}
+ * 取得令牌，预算耗尽时不再额外发送请求，避免放大故障。每次调用携带 {@link Deadline}，截止后以 {@link TimeoutException} 结束。
+ *
+ * <p>仅用于幂等操作：被超越的请求不会被中断，其结果被丢弃。
+ *
+ * @author DMS2 Team
+ * @since 1.0.0
+ */
+@Slf4j
+public class HedgedExecutor {
+
+  private final HedgingPolicy policy;
+  private final RetryBudget retryBudget;
+  private final LatencyTracker latencyTracker;
+  private final ScheduledExecutorService scheduler;
+
+  public HedgedExecutor(HedgingPolicy policy, RetryBudget retryBudget) {
+    this.policy = policy;
+    this.retryBudget = retryBudget;
+    this.latencyTracker = new LatencyTracker(policy.percentile());
+    this.scheduler =
+        Executors.newSingleThreadScheduledExecutor(
+            runnable -> {
+              Thread thread = new Thread(runnable, "hedged-executor-timer");
+              thread.setDaemon(true);
+              return thread;
+            });
+  }
+
+  /**
+   * 执行幂等调用
+   *
+   * @param operation 操作名，用于按操作统计耗时
+   * @param call 调用（在 executor 中执行，执行期间绑定截止时间）
+   * @param retryable 返回值是否表示可重试的失败（如降级响应）
+   * @param executor 执行调用的线程池
+   * @return 先成功的结果；全部失败时优先返回最后一个可重试的结果（如 stale 数据），否则为最后一次的失败
+   */
+  public <T> CompletableFuture<T> submit(
+      String operation, Supplier<T> call, Predicate<T> retryable, Executor executor) {
+    Deadline deadline = Deadline.after(policy.timeout()).min(Deadline.current());
+    retryBudget.onRequest();
+    HedgedCall<T> hedged = new HedgedCall<>(operation, call, retryable, executor, deadline);
+    hedged.attempt();
+    if (policy.enabled() && policy.maxAttempts() > 1) {
+      scheduler.schedule(hedged::hedge, hedgeDelayNanos(operation), TimeUnit.NANOSECONDS);
+    }
+    return hedged.result.orTimeout(Math.max(0, deadline.remainingMillis()), TimeUnit.MILLISECONDS);
+  }
+
+  /** 操作的对冲延迟（纳秒） */
+  public long hedgeDelayNanos(String operation) {
+    long observed = latencyTracker.percentileNanos(operation, policy.minSamples());
+    long delay = observed < 0 ? policy.initialDelay().toNanos() : observed;
+    return Math.max(policy.minDelay().toNanos(), Math.min(policy.maxDelay().toNanos(), delay));
+  }
+
+  /** 关闭定时器 */
+  public void shutdown() {
+    scheduler.shutdownNow();
+  }
+
+  /** 一次逻辑调用及其所有请求 */
+  private final class HedgedCall<T> {
+
+    private final String operation;
+    private final Supplier<T> call;
+    private final Predicate<T> retryable;
+    private final Executor executor;
+    private final Deadline deadline;
+    private final TriedInstances tried = new TriedInstances();
+    private final CompletableFuture<T> result = new CompletableFuture<>();
+
+    private int attempts;
+    private int outstanding;
+
+    /** 最后一个可重试的结果，所有请求都失败时作为最终结果 */
+    private T fallback;
+
+    private boolean hasFallback;
+
+    HedgedCall(
+        String operation,
+        Supplier<T> call,
+        Predicate<T> retryable,
+        Executor executor,
+        Deadline deadline) {
+      this.operation = operation;
+      this.call = call;
+      this.retryable = retryable;
+      this.executor = executor;
+      this.deadline = deadline;
+    }
+
+    /** 首个请求在延迟内未返回时发送对冲请求 */
+    void hedge() {
+      if (result.isDone() || deadline.isExpired()) {
+        return;
+      }
+      synchronized (this) {
+        if (attempts >= policy.maxAttempts() || !retryBudget.tryAcquire()) {
+          return;
+        }
+      }
+      log.debug("发送对冲请求: operation={}", operation);
+      attempt();
+    }
+
+    void attempt() {
+      synchronized (this) {
+        attempts++;
+        outstanding++;
+      }
+      long start = System.nanoTime();
+      try {
+        CompletableFuture.supplyAsync(() -> tried.call(() -> deadline.call(call)), executor)
+            .whenComplete((value, error) -> onComplete(value, error, System.nanoTime() - start));
+      } catch (RuntimeException e) {
+        onComplete(null, e, 0);
+      }
+    }
+
+    private void onComplete(T value, Throwable error, long elapsedNanos) {
+      boolean failed = error != null || retryable.test(value);
+      if (!failed) {
+        latencyTracker.record(operation, elapsedNanos);
+      }
+      boolean retry = false;
+      boolean last;
+      synchronized (this) {
+        outstanding--;
+        if (!failed || result.isDone()) {
+          result.complete(value);
+          return;
+        }
+        if (error == null) {
+          fallback = value;
+          hasFallback = true;
+        }
+        if (policy.enabled()
+            && attempts < policy.maxAttempts()
+            && !deadline.isExpired()
+            && retryBudget.tryAcquire()) {
+          retry = true;
+        }
+        last = !retry && outstanding == 0;
+        if (last && hasFallback) {
+          value = fallback;
+          error = null;
+        }
+      }
+      if (retry) {
+        log.debug("请求失败，重试: operation={}", operation);
+        attempt();
+      } else if (last) {
+        if (error != null) {
+          result.completeExceptionally(error);
+        } else {
+          result.complete(value);
+        }
+      }
+    }
+  }
+}
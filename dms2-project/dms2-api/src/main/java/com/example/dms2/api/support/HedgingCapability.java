@@ -0,0 +1,100 @@
+package com.example.dms2.api.support;
+
+import feign.Capability;
+import feign.InvocationHandlerFactory;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.util.Set;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 同步 Feign 客户端的对冲 幂等读方法经 {@link HedgedExecutor} 执行，调用方线程阻塞等待先成功的结果
+ *
+ * <p>包装 Feign 的 {@link InvocationHandler}，对冲、预算内重试与截止时间与异步客户端一致，耗时按方法名统计。其他方法及已处于对冲调用中的请求（当前线程绑定了
+ * {@link TriedInstances}，如异步客户端发出的请求）直接执行。
+ *
+ * <p>请求在按需增长的守护线程池中执行，线程数随并发调用方与对冲请求数伸缩。超过截止时间时抛出 {@link IllegalStateException}（原因为 {@link
+ * TimeoutException}），其余失败原样抛出最后一次的异常。
+ *
+ * @author DMS2 Team
+ * @since 1.0.0
+ */
+@Slf4j
+public class HedgingCapability implements Capability {
+
+  private final HedgedExecutor hedgedExecutor;
+  private final Set<String> operations;
+  private final Predicate<Object> retryable;
+  private final ExecutorService executor;
+
+  /**
+   * @param hedgedExecutor 对冲执行器
+   * @param operations 幂等读方法名
+   * @param retryable 返回值是否表示可重试的失败（如降级响应）
+   */
+  public HedgingCapability(
+      HedgedExecutor hedgedExecutor, Set<String> operations, Predicate<Object> retryable) {
+    this.hedgedExecutor = hedgedExecutor;
+    this.operations = Set.copyOf(operations);
+    this.retryable = retryable;
+    AtomicInteger sequence = new AtomicInteger();
+    this.executor =
+        Executors.newCachedThreadPool(
+            runnable -> {
+              Thread thread = new Thread(runnable, "feign-hedge-" + sequence.incrementAndGet());
+              thread.setDaemon(true);
+              return thread;
+            });
+  }
+
+  @Override
+  public InvocationHandlerFactory enrich(InvocationHandlerFactory factory) {
+    return (target, dispatch) -> hedging(factory.create(target, dispatch));
+  }
+
+  /** 关闭线程池 */
+  public void shutdown() {
+    executor.shutdown();
+  }
+
+  private InvocationHandler hedging(InvocationHandler delegate) {
+    return (proxy, method, args) -> {
+      if (!operations.contains(method.getName()) || TriedInstances.current() != null) {
+        return delegate.invoke(proxy, method, args);
+      }
+      try {
+        return hedgedExecutor
+            .submit(
+                method.getName(), () -> invoke(delegate, proxy, method, args), retryable, executor)
+            .join();
+      } catch (CompletionException e) {
+        throw unwrap(method, e.getCause() != null ? e.getCause() : e);
+      }
+    };
+  }
+
+  private static Object invoke(
+      InvocationHandler delegate, Object proxy, Method method, Object[] args) {
+    try {
+      return delegate.invoke(proxy, method, args);
+    } catch (RuntimeException | Error e) {
+      throw e;
+    } catch (Throwable e) {
+      throw new CompletionException(e);
+    }
+  }
+
+  private static Throwable unwrap(Method method, Throwable error) {
+    if (error instanceof TimeoutException) {
+      log.warn("Feign调用超过截止时间: {}", method.getName());
+      return new IllegalStateException("调用超过截止时间: " + method.getName(), error);
+    }
+    return error;
+  }
+}
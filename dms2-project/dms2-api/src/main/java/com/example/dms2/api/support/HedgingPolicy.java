@@ -0,0 +1,34 @@
+package com.example.dms2.api.support;
+
+import java.time.Duration;
+
+/**
+ * 对冲与重试策略
+ *
+ * @param enabled 是否启用对冲与重试，关闭时每次调用只发送一个请求
+ * @param maxAttempts 单次调用最多发送的请求数（含首个请求）
+ * @param percentile 对冲延迟参考的耗时分位数，如 0.95
+ * @param minSamples 样本数达到该值后才使用分位数，之前使用 initialDelay
+ * @param initialDelay 样本不足时的对冲延迟
+ * @param minDelay 对冲延迟下限
+ * @param maxDelay 对冲延迟上限
+ * @param timeout 单次调用的默认截止时长（当前线程已有更早的截止时间时以其为准）
+ * @author DMS2 Team
+ * @since 1.0.0
+ */
+public record HedgingPolicy(
+    boolean enabled,
+    int maxAttempts,
+    double percentile,
+    int minSamples,
+    Duration initialDelay,
+    Duration minDelay,
+    Duration maxDelay,
+    Duration timeout) {
+
+  /** 不对冲、不重试，仅设置截止时间 */
+  public static HedgingPolicy disabled(Duration timeout) {
+    return new HedgingPolicy(
+        false, 1, 0.95, Integer.MAX_VALUE, Duration.ZERO, Duration.ZERO, Duration.ZERO, timeout);
+  }
+}
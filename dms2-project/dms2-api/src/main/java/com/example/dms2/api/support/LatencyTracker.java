@@ -0,0 +1,74 @@
+package com.example.dms2.api.support;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 按操作统计最近的调用耗时，估算分位数
+ *
+ * <p>每个操作保留最近 {@value #WINDOW} 个样本（环形缓冲），每新增 {@value #RECOMPUTE_EVERY} 个样本重新计算一次分位数，读取时无需排序。
+ *
+ * @author DMS2 Team
+ * @since 1.0.0
+ */
+public class LatencyTracker {
+
+  private static final int WINDOW = 512;
+  private static final int RECOMPUTE_EVERY = 32;
+
+  private final double percentile;
+  private final Map<String, Samples> samples = new ConcurrentHashMap<>();
+
+  /**
+   * @param percentile 统计的分位数，如 0.95
+   */
+  public LatencyTracker(double percentile) {
+    this.percentile = percentile;
+  }
+
+  /** 记录一次成功调用的耗时 */
+  public void record(String operation, long nanos) {
+    samples.computeIfAbsent(operation, key -> new Samples()).add(nanos, percentile);
+  }
+
+  /**
+   * 操作耗时的分位数
+   *
+   * @param operation 操作名
+   * @param minSamples 最少样本数
+   * @return 分位数（纳秒），样本不足时返回 -1
+   */
+  public long percentileNanos(String operation, int minSamples) {
+    Samples s = samples.get(operation);
+    return s == null ? -1 : s.percentile(minSamples);
+  }
+
+  private static final class Samples {
+
+    private final long[] ring = new long[WINDOW];
+    private int next;
+    private int count;
+    private volatile long cached = -1;
+    private volatile int cachedCount;
+
+    synchronized void add(long nanos, double percentile) {
+      ring[next] = nanos;
+      next = (next + 1) % WINDOW;
+      if (count < WINDOW) {
+        count++;
+      }
+      if (count < RECOMPUTE_EVERY || next % RECOMPUTE_EVERY == 0) {
+        long[] sorted = Arrays.copyOf(ring, count);
+        Arrays.sort(sorted);
+        int index = (int) Math.ceil(percentile * count) - 1;
+        cached = sorted[Math.max(0, Math.min(count - 1, index))];
+        cachedCount = count;
+      }
+    }
+
+    long percentile(int minSamples) {
+      return cachedCount >= minSamples ? cached : -1;
+    }
+  }
+}
@@ -0,0 +1,82 @@
+package com.example.dms2.api.support;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.function.Supplier;
+
+/**
+ * 日志参数格式化 返回的对象在日志实际输出时才调用 {@code toString()}，被级别、采样或限流丢弃的日志不产生字符串
+ *
+ * <pre>
+ * log.debug("批量查询用户: ids={}", LogFormat.collection(ids));
+ * // 批量查询用户: ids=[1, 2, 3, 4, 5, 6, 7, 8, 9, 10, ...(共 100 个)]
+ * </pre>
+ *
+ * @author DMS2 Team
+ * @since 1.0.0
+ */
+public final class LogFormat {
+
+  /** 集合默认最多输出的元素个数 */
+  public static final int DEFAULT_MAX_ITEMS = 10;
+
+  private LogFormat() {}
+
+  /**
+   * 集合摘要 最多输出前 {@value #DEFAULT_MAX_ITEMS} 个元素，其余只输出总数
+   *
+   * @param items 集合，可为 null
+   * @return 延迟格式化的日志参数
+   */
+  public static Object collection(Collection<?> items) {
+    return collection(items, DEFAULT_MAX_ITEMS);
+  }
+
+  /**
+   * 集合摘要 最多输出前 maxItems 个元素，其余只输出总数
+   *
+   * @param items 集合，可为 null
+   * @param maxItems 最多输出的元素个数
+   * @return 延迟格式化的日志参数
+   */
+  public static Object collection(Collection<?> items, int maxItems) {
+    return lazy(() -> truncate(items, maxItems));
+  }
+
+  /**
+   * 延迟计算的日志参数
+   *
+   * @param supplier 输出时才调用
+   * @return 日志参数
+   */
+  public static Object lazy(Supplier<?> supplier) {
+    return new Lazy(supplier);
+  }
+
+  private static String truncate(Collection<?> items, int maxItems) {
+    if (items == null) {
+      return "null";
+    }
+    StringBuilder sb = new StringBuilder("[");
+    Iterator<?> iterator = items.iterator();
+    for (int i = 0; i < maxItems && iterator.hasNext(); i++) {
+      if (i > 0) {
+        sb.append(", ");
+      }
+      sb.append(iterator.next());
+    }
+    if (iterator.hasNext()) {
+      sb.append(", ...(共 ").append(items.size()).append(" 个)");
+    }
+    return sb.append(']').toString();
+  }
+
+  /** 输出时才计算的参数 */
+  private record Lazy(Supplier<?> supplier) {
+
+    @Override
+    public String toString() {
+      return String.valueOf(supplier.get());
+    }
+  }
+}
@@ -0,0 +1,103 @@
+package com.example.dms2.api.support;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 重试预算（令牌桶） 限制重试与对冲请求占正常请求的比例，避免在下游故障时放大流量
+ *
+ * <p>每个正常请求存入 {@code ratio} 个令牌，每次重试或对冲取出 1 个；另按 {@code minPerSecond} 匀速补充，保证低流量时也能少量重试。令牌数不超过上限。
+ *
+ * <p>补充按距上次补充的时间计算，超过补满所需的时间按补满计，长时间空闲后计算不会溢出。
+ *
+ * @author DMS2 Team
+ * @since 1.0.0
+ */
+public class RetryBudget {
+
+  /** 内部以千分之一令牌为单位计数 */
+  private static final long UNIT = 1000;
+
+  private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+  private final long deposit;
+  private final long maxBalance;
+  private final long refillPerSecond;
+
+  /** 从空补满所需的纳秒数，超过时按补满计，同时保证补充量的计算不溢出 */
+  private final long fullRefillNanos;
+
+  private final AtomicLong balance;
+  private final LongSupplier clock;
+  private final AtomicLong lastRefillNanos;
+
+  /**
+   * @param ratio 每个正常请求存入的令牌数（如 0.1 表示重试不超过请求量的 10%）
+   * @param minPerSecond 每秒匀速补充的令牌数
+   * @param maxTokens 令牌上限
+   */
+  public RetryBudget(double ratio, int minPerSecond, int maxTokens) {
+    this(ratio, minPerSecond, maxTokens, System::nanoTime);
+  }
+
+  /** 指定时钟（纳秒），用于模拟测试 */
+  public RetryBudget(double ratio, int minPerSecond, int maxTokens, LongSupplier clock) {
+    this.deposit = Math.round(ratio * UNIT);
+    this.maxBalance = maxTokens * UNIT;
+    this.refillPerSecond = minPerSecond * UNIT;
+    this.fullRefillNanos =
+        refillPerSecond <= 0
+            ? Long.MAX_VALUE
+            : (long)
+                Math.min(
+                    Math.ceil((double) maxBalance * NANOS_PER_SECOND / refillPerSecond),
+                    Long.MAX_VALUE / refillPerSecond);
+    this.balance = new AtomicLong(Math.min(maxBalance, refillPerSecond));
+    this.clock = clock;
+    this.lastRefillNanos = new AtomicLong(clock.getAsLong());
+  }
+
+  /** 记录一次正常请求，存入令牌 */
+  public void onRequest() {
+    add(deposit);
+  }
+
+  /**
+   * 尝试取出一个令牌
+   *
+   * @return 取到令牌时返回 true，可以重试或对冲
+   */
+  public boolean tryAcquire() {
+    refill();
+    while (true) {
+      long current = balance.get();
+      if (current < UNIT) {
+        return false;
+      }
+      if (balance.compareAndSet(current, current - UNIT)) {
+        return true;
+      }
+    }
+  }
+
+  /** 当前可用令牌数 */
+  public double available() {
+    refill();
+    return (double) balance.get() / UNIT;
+  }
+
+  private void refill() {
+    long now = clock.getAsLong();
+    long last = lastRefillNanos.get();
+    long elapsed = now - last;
+    long amount =
+        elapsed >= fullRefillNanos ? maxBalance : elapsed * refillPerSecond / NANOS_PER_SECOND;
+    if (amount > 0 && lastRefillNanos.compareAndSet(last, now)) {
+      add(amount);
+    }
+  }
+
+  private void add(long amount) {
+    balance.accumulateAndGet(amount, (current, delta) -> Math.min(maxBalance, current + delta));
+  }
+}
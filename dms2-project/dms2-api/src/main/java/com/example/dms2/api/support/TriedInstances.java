@@ -0,0 +1,50 @@
+package com.example.dms2.api.support;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 一次逻辑调用中各请求已选用的服务实例 由 {@link HedgedExecutor} 在执行每个请求的线程上绑定
+ *
+ * <p>负载均衡器选择实例时避开集合中的实例并记录所选实例，对冲请求与重试因此落到首个请求之外的实例上。集合同时表示当前线程处于对冲调用中，嵌套的客户端不再重复对冲。
+ *
+ * @author DMS2 Team
+ * @since 1.0.0
+ */
+public final class TriedInstances {
+
+  private static final ThreadLocal<TriedInstances> CURRENT = new ThreadLocal<>();
+
+  private final Set<String> instances = ConcurrentHashMap.newKeySet();
+
+  /** 当前线程绑定的集合，不在对冲调用中时返回 null */
+  public static TriedInstances current() {
+    return CURRENT.get();
+  }
+
+  /** 记录已选用的实例 */
+  public void add(String instance) {
+    instances.add(instance);
+  }
+
+  /** 实例是否已被本次调用的其他请求选用 */
+  public boolean contains(String instance) {
+    return instances.contains(instance);
+  }
+
+  /** 在绑定此集合的上下文中执行，结束后恢复原绑定 */
+  public <T> T call(Supplier<T> supplier) {
+    TriedInstances previous = CURRENT.get();
+    CURRENT.set(this);
+    try {
+      return supplier.get();
+    } finally {
+      if (previous == null) {
+        CURRENT.remove();
+      } else {
+        CURRENT.set(previous);
+      }
+    }
+  }
+}
@@ -0,0 +1,39 @@
+package com.example.dms2.api.validation;
+
+import com.example.dms2.api.dto.request.CreateUserRequest;
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+
+/**
+ * {@link ValidCreateUser} 的校验实现
+ *
+ * @author DMS2 Team
+ * @since 1.0.0
+ */
+public class CreateUserRequestValidator
+    implements ConstraintValidator<ValidCreateUser, CreateUserRequest> {
+
+  @Override
+  public boolean isValid(CreateUserRequest request, ConstraintValidatorContext context) {
+    if (request == null) {
+      return true;
+    }
+    String username = request.getUsername();
+    String email = request.getEmail();
+    String phone = request.getPhone();
+    if (UserRules.validate(username, email, phone) == null) {
+      return true;
+    }
+    context.disableDefaultConstraintViolation();
+    UserRules.validate(
+        username,
+        email,
+        phone,
+        (field, message) ->
+            context
+                .buildConstraintViolationWithTemplate(message)
+                .addPropertyNode(field)
+                .addConstraintViolation());
+    return false;
+  }
+}
@@ -0,0 +1,194 @@
+package com.example.dms2.api.validation;
+
+import com.example.dms2.api.dto.request.CreateUserRequest;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 用户字段校验规则 接口层（{@link ValidCreateUser}）与领域层（{@code User.validateForCreate()}）共用
+ *
+ * <p>规则为手写的逐字符检查，不使用正则表达式；一次遍历收集全部字段的错误，校验通过时不分配对象。长度上限与 t_user 表字段一致。
+ *
+ * @author DMS2 Team
+ * @since 1.0.0
+ */
+public final class UserRules {
+
+  public static final int USERNAME_MIN_LENGTH = 2;
+  public static final int USERNAME_MAX_LENGTH = 50;
+  public static final int EMAIL_MAX_LENGTH = 100;
+  public static final int PHONE_MAX_LENGTH = 20;
+
+  public static final String USERNAME_REQUIRED = "用户名不能为空";
+  public static final String USERNAME_LENGTH = "用户名长度必须在2-50之间";
+  public static final String EMAIL_REQUIRED = "邮箱不能为空";
+  public static final String EMAIL_INVALID = "邮箱格式不正确";
+  public static final String EMAIL_LENGTH = "邮箱长度不能超过100";
+  public static final String PHONE_INVALID = "手机号格式不正确";
+
+  /** 多条错误之间的分隔符 */
+  public static final String DELIMITER = "; ";
+
+  private UserRules() {}
+
+  /** 接收校验失败的字段与原因 */
+  @FunctionalInterface
+  public interface ViolationSink {
+    void add(String field, String message);
+  }
+
+  /**
+   * 校验用户名：必填，长度 2-50
+   *
+   * @return 错误消息，通过时为 null
+   */
+  public static String checkUsername(String username) {
+    if (username == null || username.isBlank()) {
+      return USERNAME_REQUIRED;
+    }
+    if (username.length() < USERNAME_MIN_LENGTH || username.length() > USERNAME_MAX_LENGTH) {
+      return USERNAME_LENGTH;
+    }
+    return null;
+  }
+
+  /**
+   * 校验邮箱：必填，本地部分为字母、数字与 {@code +_.-}，域名为以点分隔的非空标签（字母、数字与连字符）
+   *
+   * @return 错误消息，通过时为 null
+   */
+  public static String checkEmail(String email) {
+    if (email == null || email.isBlank()) {
+      return EMAIL_REQUIRED;
+    }
+    if (email.length() > EMAIL_MAX_LENGTH) {
+      return EMAIL_LENGTH;
+    }
+    int at = email.indexOf('@');
+    if (at <= 0) {
+      return EMAIL_INVALID;
+    }
+    for (int i = 0; i < at; i++) {
+      char c = email.charAt(i);
+      if (!isAsciiLetterOrDigit(c) && c != '+' && c != '_' && c != '.' && c != '-') {
+        return EMAIL_INVALID;
+      }
+    }
+    boolean labelStart = true;
+    for (int i = at + 1; i < email.length(); i++) {
+      char c = email.charAt(i);
+      if (c == '.') {
+        if (labelStart) {
+          return EMAIL_INVALID;
+        }
+        labelStart = true;
+      } else if (isAsciiLetterOrDigit(c) || c == '-') {
+        labelStart = false;
+      } else {
+        return EMAIL_INVALID;
+      }
+    }
+    return labelStart ? EMAIL_INVALID : null;
+  }
+
+  /**
+   * 校验手机号：选填，可选的前导 {@code +}，其余为数字与连字符，至少一位数字，最长 20
+   *
+   * @return 错误消息，通过时为 null
+   */
+  public static String checkPhone(String phone) {
+    if (phone == null || phone.isEmpty()) {
+      return null;
+    }
+    if (phone.length() > PHONE_MAX_LENGTH) {
+      return PHONE_INVALID;
+    }
+    boolean hasDigit = false;
+    for (int i = 0; i < phone.length(); i++) {
+      char c = phone.charAt(i);
+      if (c >= '0' && c <= '9') {
+        hasDigit = true;
+      } else if (c != '-' && !(c == '+' && i == 0)) {
+        return PHONE_INVALID;
+      }
+    }
+    return hasDigit ? null : PHONE_INVALID;
+  }
+
+  /**
+   * 校验创建用户的字段，每个错误回调一次
+   *
+   * @return 错误数量
+   */
+  public static int validate(String username, String email, String phone, ViolationSink sink) {
+    int count = report("username", checkUsername(username), sink);
+    count += report("email", checkEmail(email), sink);
+    count += report("phone", checkPhone(phone), sink);
+    return count;
+  }
+
+  /**
+   * 校验创建用户的字段
+   *
+   * @return 全部错误消息（以 {@value #DELIMITER} 分隔），通过时为 null
+   */
+  public static String validate(String username, String email, String phone) {
+    String usernameError = checkUsername(username);
+    String emailError = checkEmail(email);
+    String phoneError = checkPhone(phone);
+    if (usernameError == null && emailError == null && phoneError == null) {
+      return null;
+    }
+    StringBuilder sb = new StringBuilder();
+    append(sb, usernameError);
+    append(sb, emailError);
+    append(sb, phoneError);
+    return sb.toString();
+  }
+
+  /**
+   * 批量校验创建请求
+   *
+   * @param requests 请求列表
+   * @return 不合法请求的下标到错误消息的映射（按下标顺序），全部合法时为空映射
+   */
+  public static Map<Integer, String> validateAll(List<CreateUserRequest> requests) {
+    Map<Integer, String> errors = null;
+    for (int i = 0; i < requests.size(); i++) {
+      CreateUserRequest request = requests.get(i);
+      String error =
+          request == null
+              ? USERNAME_REQUIRED + DELIMITER + EMAIL_REQUIRED
+              : validate(request.getUsername(), request.getEmail(), request.getPhone());
+      if (error != null) {
+        if (errors == null) {
+          errors = new LinkedHashMap<>();
+        }
+        errors.put(i, error);
+      }
+    }
+    return errors == null ? Map.of() : errors;
+  }
+
+  private static int report(String field, String message, ViolationSink sink) {
+    if (message == null) {
+      return 0;
+    }
+    sink.add(field, message);
+    return 1;
+  }
+
+  private static void append(StringBuilder sb, String message) {
+    if (message != null) {
+      if (!sb.isEmpty()) {
+        sb.append(DELIMITER);
+      }
+      sb.append(message);
+    }
+  }
+
+  private static boolean isAsciiLetterOrDigit(char c) {
+    return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9');
+  }
+}
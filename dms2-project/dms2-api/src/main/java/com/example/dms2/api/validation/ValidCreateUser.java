@@ -0,0 +1,28 @@
+package com.example.dms2.api.validation;
+
+import jakarta.validation.Constraint;
+import jakarta.validation.Payload;
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 创建用户请求校验 按 {@link UserRules} 一次校验全部字段，每个错误对应一条字段级校验结果
+ *
+ * @author DMS2 Team
+ * @since 1.0.0
+ */
+@Documented
+@Constraint(validatedBy = CreateUserRequestValidator.class)
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ValidCreateUser {
+
+  String message() default "创建用户请求不合法";
+
+  Class<?>[] groups() default {};
+
+  Class<? extends Payload>[] payload() default {};
+}
@@ -0,0 +1,129 @@
+package com.example.dms2.api;
+
+import static com.example.dms2.api.TestUsers.fullUser;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.dms2.api.codec.BinaryCodec;
+import com.example.dms2.api.codec.BinaryDecoder;
+import com.example.dms2.api.codec.BinaryEncoder;
+import com.example.dms2.api.dto.ApiResponse;
+import com.example.dms2.api.dto.PageRequest;
+import com.example.dms2.api.dto.PageResponse;
+import com.example.dms2.api.dto.response.UserDTO;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import feign.Request;
+import feign.RequestTemplate;
+import feign.Response;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 二进制编解码测试
+ *
+ * @author DMS2 Team
+ * @since 1.0.0
+ */
+@DisplayName("二进制编解码测试")
+class BinaryCodecTest {
+
+  private static final Type USER_RESPONSE_TYPE =
+      new TypeReference<ApiResponse<UserDTO>>() {}.getType();
+
+  private static final Type PAGE_RESPONSE_TYPE =
+      new TypeReference<ApiResponse<PageResponse<UserDTO>>>() {}.getType();
+
+  private static final LocalDateTime TIME = LocalDateTime.of(2024, 1, 1, 12, 30, 15, 123_000_000);
+
+  /** 与 Spring Boot 默认配置一致的 JSON ObjectMapper（日期输出为 ISO 字符串） */
+  private final ObjectMapper jsonMapper =
+      new ObjectMapper()
+          .registerModule(new JavaTimeModule())
+          .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+  @Test
+  @DisplayName("单个用户响应编解码往返一致")
+  void testUserResponseRoundTrip() throws Exception {
+    ApiResponse<UserDTO> original = ApiResponse.success(fullUser(1L, TIME));
+
+    Object decoded = roundTrip(original, USER_RESPONSE_TYPE);
+
+    assertThat(decoded).isEqualTo(original);
+  }
+
+  @Test
+  @DisplayName("分页响应编解码往返一致且体积小于JSON")
+  void testPageResponseRoundTripAndSize() throws Exception {
+    List<UserDTO> records = new ArrayList<>();
+    for (long id = 1; id <= 100; id++) {
+      records.add(fullUser(id, TIME));
+    }
+    PageRequest pageRequest = new PageRequest();
+    pageRequest.setPageSize(100);
+    ApiResponse<PageResponse<UserDTO>> original =
+        ApiResponse.success(PageResponse.of(pageRequest, records, 1000));
+
+    Object decoded = roundTrip(original, PAGE_RESPONSE_TYPE);
+    int binarySize = BinaryCodec.objectMapper().writeValueAsBytes(original).length;
+    int jsonSize = jsonMapper.writeValueAsBytes(original).length;
+
+    assertThat(decoded).isEqualTo(original);
+    assertThat(binarySize).isLessThan(jsonSize);
+  }
+
+  @Test
+  @DisplayName("JSON中用户ID以字符串表示，超过2^53不丢失精度，数字形式仍可解析")
+  void testIdSerializedAsString() throws Exception {
+    long snowflakeId = (1L << 53) + 1;
+
+    String json = jsonMapper.writeValueAsString(fullUser(snowflakeId, TIME));
+
+    assertThat(json).contains("\"id\":\"" + snowflakeId + "\"");
+    assertThat(jsonMapper.readValue(json, UserDTO.class).getId()).isEqualTo(snowflakeId);
+    assertThat(jsonMapper.readValue("{\"id\":7}", UserDTO.class).getId()).isEqualTo(7L);
+  }
+
+  @Test
+  @DisplayName("非CBOR响应交给默认解码器")
+  void testNonBinaryResponseDelegates() throws Exception {
+    Object marker = new Object();
+    BinaryDecoder decoder = new BinaryDecoder((response, type) -> marker);
+
+    Object decoded = decoder.decode(response("application/json", new byte[0]), USER_RESPONSE_TYPE);
+
+    assertThat(decoded).isSameAs(marker);
+  }
+
+  private static Object roundTrip(Object value, Type type) throws Exception {
+    RequestTemplate template = new RequestTemplate();
+    new BinaryEncoder().encode(value, type, template);
+
+    assertThat(template.headers().get("Content-Type")).containsExactly("application/cbor");
+
+    BinaryDecoder decoder =
+        new BinaryDecoder(
+            (response, t) -> {
+              throw new AssertionError("CBOR响应不应交给默认解码器");
+            });
+    return decoder.decode(response("application/cbor", template.body()), type);
+  }
+
+  private static Response response(String contentType, byte[] body) {
+    return Response.builder()
+        .status(200)
+        .headers(Map.of("Content-Type", List.of(contentType)))
+        .body(body)
+        .request(
+            Request.create(
+                Request.HttpMethod.GET, "/api/users", Map.of(), null, StandardCharsets.UTF_8, null))
+        .build();
+  }
+}
@@ -0,0 +1,137 @@
+package com.example.dms2.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.example.dms2.api.http.DeadlineInterceptor;
+import com.example.dms2.api.http.GzipRequestInterceptor;
+import com.example.dms2.api.http.RouteLimitInterceptor;
+import com.example.dms2.api.support.Deadline;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import okio.Buffer;
+import okio.GzipSource;
+import okio.Okio;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Feign HTTP 客户端拦截器测试
+ *
+ * @author DMS2 Team
+ * @since 1.0.0
+ */
+@DisplayName("Feign HTTP客户端测试")
+class FeignHttpClientTest {
+
+  private static final MediaType JSON = MediaType.get("application/json");
+
+  private MockWebServer server;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    server = new MockWebServer();
+    server.start();
+  }
+
+  @AfterEach
+  void tearDown() throws IOException {
+    server.shutdown();
+  }
+
+  @Test
+  @DisplayName("请求体超过阈值时gzip压缩")
+  void testGzipAboveThreshold() throws Exception {
+    OkHttpClient client =
+        new OkHttpClient.Builder().addInterceptor(new GzipRequestInterceptor(64)).build();
+    String json = "{\"username\":\"" + "a".repeat(256) + "\"}";
+    server.enqueue(new MockResponse().setBody("{}"));
+
+    post(client, json).close();
+
+    RecordedRequest recorded = server.takeRequest(5, TimeUnit.SECONDS);
+    assertThat(recorded.getHeader("Content-Encoding")).isEqualTo("gzip");
+    assertThat(recorded.getBodySize()).isLessThan(json.length());
+    assertThat(gunzip(recorded.getBody())).isEqualTo(json);
+  }
+
+  @Test
+  @DisplayName("请求体小于阈值时不压缩")
+  void testNoGzipBelowThreshold() throws Exception {
+    OkHttpClient client =
+        new OkHttpClient.Builder().addInterceptor(new GzipRequestInterceptor(1024)).build();
+    server.enqueue(new MockResponse().setBody("{}"));
+
+    post(client, "{\"username\":\"alice\"}").close();
+
+    RecordedRequest recorded = server.takeRequest(5, TimeUnit.SECONDS);
+    assertThat(recorded.getHeader("Content-Encoding")).isNull();
+    assertThat(recorded.getBody().readUtf8()).isEqualTo("{\"username\":\"alice\"}");
+  }
+
+  @Test
+  @DisplayName("单路由并发已满时等待超时被拒绝，响应体关闭后归还名额")
+  void testRouteLimit() throws Exception {
+    RouteLimitInterceptor routeLimit = new RouteLimitInterceptor(1, Duration.ofMillis(100));
+    OkHttpClient client = new OkHttpClient.Builder().addInterceptor(routeLimit).build();
+    server.enqueue(new MockResponse().setBody("first"));
+    server.enqueue(new MockResponse().setBody("second"));
+
+    Response first = get(client);
+    assertThat(routeLimit.inFlight()).isEqualTo(1);
+    assertThatThrownBy(() -> get(client)).isInstanceOf(IOException.class);
+    assertThat(routeLimit.rejectedCount()).isEqualTo(1);
+
+    assertThat(first.body().string()).isEqualTo("first");
+    assertThat(routeLimit.inFlight()).isZero();
+    try (Response second = get(client)) {
+      assertThat(second.body().string()).isEqualTo("second");
+    }
+  }
+
+  @Test
+  @DisplayName("携带截止时间的请求按剩余时间超时")
+  void testDeadlineTimeout() {
+    OkHttpClient client =
+        new OkHttpClient.Builder().addInterceptor(new DeadlineInterceptor()).build();
+    server.enqueue(new MockResponse().setBody("{}").setHeadersDelay(2, TimeUnit.SECONDS));
+    Request request =
+        new Request.Builder()
+            .url(server.url("/api/users/1"))
+            .header(Deadline.HEADER, "100")
+            .build();
+
+    long start = System.nanoTime();
+    assertThatThrownBy(() -> client.newCall(request).execute()).isInstanceOf(IOException.class);
+    assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(1));
+  }
+
+  private Response post(OkHttpClient client, String json) throws IOException {
+    Request request =
+        new Request.Builder()
+            .url(server.url("/api/users"))
+            .post(RequestBody.create(json, JSON))
+            .build();
+    return client.newCall(request).execute();
+  }
+
+  private Response get(OkHttpClient client) throws IOException {
+    return client.newCall(new Request.Builder().url(server.url("/api/users/1")).build()).execute();
+  }
+
+  private static String gunzip(Buffer body) throws IOException {
+    return Okio.buffer(new GzipSource(body)).readString(StandardCharsets.UTF_8);
+  }
+}
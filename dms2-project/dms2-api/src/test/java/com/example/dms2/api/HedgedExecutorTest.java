@@ -0,0 +1,272 @@
+package com.example.dms2.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.example.dms2.api.support.Deadline;
+import com.example.dms2.api.support.HedgedExecutor;
+import com.example.dms2.api.support.HedgingCapability;
+import com.example.dms2.api.support.HedgingPolicy;
+import com.example.dms2.api.support.LatencyTracker;
+import com.example.dms2.api.support.RetryBudget;
+import com.example.dms2.api.support.TriedInstances;
+import feign.Client;
+import feign.Feign;
+import feign.Request;
+import feign.RequestLine;
+import feign.Response;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 对冲执行器、重试预算与截止时间测试
+ *
+ * @author DMS2 Team
+ * @since 1.0.0
+ */
+@DisplayName("对冲执行器测试")
+class HedgedExecutorTest {
+
+  private final ExecutorService executor = Executors.newCachedThreadPool();
+  private HedgedExecutor hedgedExecutor;
+
+  @AfterEach
+  void tearDown() {
+    hedgedExecutor.shutdown();
+    executor.shutdownNow();
+  }
+
+  @Test
+  @DisplayName("首个请求慢时发送对冲请求并取先返回的结果")
+  void testHedgeWins() throws Exception {
+    hedgedExecutor = new HedgedExecutor(policy(2, Duration.ofSeconds(5)), budget(10));
+    AtomicInteger calls = new AtomicInteger();
+
+    long start = System.nanoTime();
+    String result =
+        hedgedExecutor
+            .submit(
+                "get",
+                () -> calls.incrementAndGet() == 1 ? sleepThen(2000, "slow") : "fast",
+                value -> false,
+                executor)
+            .get(5, TimeUnit.SECONDS);
+
+    assertThat(result).isEqualTo("fast");
+    assertThat(calls.get()).isEqualTo(2);
+    assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(1));
+  }
+
+  @Test
+  @DisplayName("重试预算耗尽时不发送对冲请求")
+  void testNoHedgeWithoutBudget() throws Exception {
+    hedgedExecutor = new HedgedExecutor(policy(2, Duration.ofSeconds(5)), budget(0));
+    AtomicInteger calls = new AtomicInteger();
+
+    String result =
+        hedgedExecutor
+            .submit(
+                "get",
+                () -> {
+                  calls.incrementAndGet();
+                  return sleepThen(200, "slow");
+                },
+                value -> false,
+                executor)
+            .get(5, TimeUnit.SECONDS);
+
+    assertThat(result).isEqualTo("slow");
+    assertThat(calls.get()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("失败或可重试的结果在预算内重试")
+  void testRetryOnFailure() throws Exception {
+    hedgedExecutor = new HedgedExecutor(policy(3, Duration.ofSeconds(5)), budget(10));
+    AtomicInteger calls = new AtomicInteger();
+
+    String result =
+        hedgedExecutor
+            .submit(
+                "get",
+                () -> {
+                  int n = calls.incrementAndGet();
+                  if (n == 1) {
+                    throw new IllegalStateException("boom");
+                  }
+                  return n == 2 ? "fallback" : "ok";
+                },
+                "fallback"::equals,
+                executor)
+            .get(5, TimeUnit.SECONDS);
+
+    assertThat(result).isEqualTo("ok");
+    assertThat(calls.get()).isEqualTo(3);
+  }
+
+  @Test
+  @DisplayName("调用在截止时间内绑定Deadline，超时后以TimeoutException结束")
+  void testDeadline() {
+    hedgedExecutor = new HedgedExecutor(HedgingPolicy.disabled(Duration.ofMillis(100)), budget(10));
+    AtomicInteger bound = new AtomicInteger();
+
+    CompletableFuture<String> future =
+        hedgedExecutor.submit(
+            "get",
+            () -> {
+              if (Deadline.current() != null && Deadline.current().remainingMillis() <= 100) {
+                bound.incrementAndGet();
+              }
+              return sleepThen(1000, "late");
+            },
+            value -> false,
+            executor);
+
+    assertThatThrownBy(() -> future.get(5, TimeUnit.SECONDS))
+        .isInstanceOf(ExecutionException.class)
+        .hasCauseInstanceOf(TimeoutException.class);
+    assertThat(bound.get()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("同步Feign客户端的幂等方法对冲，非幂等方法与嵌套调用只发送一次")
+  void testSyncClientCapability() {
+    hedgedExecutor = new HedgedExecutor(policy(2, Duration.ofSeconds(5)), budget(10));
+    HedgingCapability capability =
+        new HedgingCapability(hedgedExecutor, Set.of("get"), value -> false);
+    AtomicInteger calls = new AtomicInteger();
+    Client client =
+        (request, options) -> {
+          String body =
+              request.httpMethod() == Request.HttpMethod.GET && calls.incrementAndGet() == 1
+                  ? sleepThen(2000, "slow")
+                  : "fast";
+          return Response.builder()
+              .status(200)
+              .request(request)
+              .headers(Map.of())
+              .body(body, StandardCharsets.UTF_8)
+              .build();
+        };
+    EchoClient echo =
+        Feign.builder()
+            .client(client)
+            .addCapability(capability)
+            .target(EchoClient.class, "http://localhost");
+
+    try {
+      long start = System.nanoTime();
+      assertThat(echo.get()).isEqualTo("fast");
+      assertThat(calls.get()).isEqualTo(2);
+      assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(1));
+
+      assertThat(echo.post()).isEqualTo("fast");
+      calls.set(0);
+      assertThat(new TriedInstances().call(echo::get)).isEqualTo("slow");
+      assertThat(calls.get()).isEqualTo(1);
+    } finally {
+      capability.shutdown();
+    }
+  }
+
+  @Test
+  @DisplayName("重试预算按正常请求比例存入令牌")
+  void testRetryBudgetRatio() {
+    RetryBudget budget = new RetryBudget(0.5, 0, 10);
+    hedgedExecutor = new HedgedExecutor(HedgingPolicy.disabled(Duration.ofSeconds(1)), budget);
+
+    assertThat(budget.tryAcquire()).isFalse();
+    budget.onRequest();
+    budget.onRequest();
+
+    assertThat(budget.tryAcquire()).isTrue();
+    assertThat(budget.tryAcquire()).isFalse();
+  }
+
+  @Test
+  @DisplayName("长时间空闲后匀速补充不溢出，补满至上限并继续按速率补充")
+  void testRetryBudgetRefillAfterLongIdle() {
+    AtomicLong now = new AtomicLong();
+    RetryBudget budget = new RetryBudget(0, 10, 100, now::get);
+    hedgedExecutor = new HedgedExecutor(HedgingPolicy.disabled(Duration.ofSeconds(1)), budget);
+    drain(budget);
+
+    // 约 11 天：(now - last) * 每秒补充量 超出 long 范围
+    now.addAndGet(Duration.ofDays(11).toNanos());
+    assertThat(budget.available()).isEqualTo(100.0);
+
+    drain(budget);
+    now.addAndGet(Duration.ofSeconds(1).toNanos());
+    assertThat(budget.available()).isEqualTo(10.0);
+  }
+
+  @Test
+  @DisplayName("耗时分位数按最近样本计算，样本不足时返回-1")
+  void testLatencyPercentile() {
+    hedgedExecutor = new HedgedExecutor(HedgingPolicy.disabled(Duration.ofSeconds(1)), budget(0));
+    LatencyTracker tracker = new LatencyTracker(0.95);
+
+    assertThat(tracker.percentileNanos("get", 1)).isEqualTo(-1);
+    for (long i = 1; i <= 128; i++) {
+      tracker.record("get", i);
+    }
+
+    // ceil(0.95 * 128) = 122
+    assertThat(tracker.percentileNanos("get", 20)).isEqualTo(122);
+    assertThat(tracker.percentileNanos("get", 1000)).isEqualTo(-1);
+  }
+
+  /** 对冲测试用的 Feign 接口 */
+  interface EchoClient {
+
+    @RequestLine("GET /echo")
+    String get();
+
+    @RequestLine("POST /echo")
+    String post();
+  }
+
+  private static HedgingPolicy policy(int maxAttempts, Duration timeout) {
+    return new HedgingPolicy(
+        true,
+        maxAttempts,
+        0.95,
+        20,
+        Duration.ofMillis(50),
+        Duration.ofMillis(5),
+        Duration.ofSeconds(1),
+        timeout);
+  }
+
+  private static void drain(RetryBudget budget) {
+    while (budget.tryAcquire()) {
+      // 取尽令牌
+    }
+  }
+
+  private static RetryBudget budget(int tokens) {
+    return new RetryBudget(0.1, tokens, tokens);
+  }
+
+  private static String sleepThen(long millis, String value) {
+    try {
+      Thread.sleep(millis);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    return value;
+  }
+}
@@ -0,0 +1,213 @@
+package com.example.dms2.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.dms2.api.loadbalancer.LatencyAwareLoadBalancer;
+import com.example.dms2.api.support.TriedInstances;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.cloud.client.DefaultServiceInstance;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.DefaultRequest;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.support.ServiceInstanceListSuppliers;
+
+/**
+ * 延迟感知负载均衡测试 以虚拟时钟模拟请求到达与完成，对比轮询的尾延迟
+ *
+ * @author DMS2 Team
+ * @since 1.0.0
+ */
+@DisplayName("延迟感知负载均衡测试")
+class LatencyAwareLoadBalancerTest {
+
+  private static final String SERVICE_ID = "dms2-service";
+  private static final long MILLIS = TimeUnit.MILLISECONDS.toNanos(1);
+
+  private final AtomicLong clock = new AtomicLong();
+
+  @Test
+  @DisplayName("存在慢实例时p99明显低于轮询")
+  void testP99BetterThanRoundRobin() {
+    List<ServiceInstance> instances = instances(5);
+    // 第 5 个实例处于 GC 停顿或过载状态，耗时为其余实例的 10 倍
+    long[] latencies = {10 * MILLIS, 10 * MILLIS, 10 * MILLIS, 10 * MILLIS, 100 * MILLIS};
+    LatencyAwareLoadBalancer balancer = balancer(Duration.ZERO);
+
+    long[] roundRobin = simulate(instances, latencies, null);
+    long[] latencyAware = simulate(instances, latencies, balancer);
+
+    long roundRobinP99 = percentile(roundRobin, 0.99);
+    long latencyAwareP99 = percentile(latencyAware, 0.99);
+    assertThat(roundRobinP99).isGreaterThanOrEqualTo(100 * MILLIS);
+    assertThat(latencyAwareP99).isLessThan(roundRobinP99 / 2);
+  }
+
+  @Test
+  @DisplayName("新注册实例在预热期内只分到少量请求")
+  void testSlowStart() {
+    List<ServiceInstance> instances = instances(2);
+    LatencyAwareLoadBalancer balancer = balancer(Duration.ofSeconds(30));
+    ServiceInstance warm = instances.get(0);
+    ServiceInstance fresh = instances.get(1);
+
+    // 老实例已运行一段时间并有耗时样本
+    balancer.onRequestStart(warm);
+    balancer.onRequestComplete(warm, 10 * MILLIS, true);
+    clock.set(TimeUnit.SECONDS.toNanos(60));
+
+    // 新实例刚注册：耗时估计取均值，权重为 0.1，预热期内应基本选老实例
+    Map<String, Integer> counts = countSelections(balancer, instances, 1000);
+    assertThat(counts.getOrDefault(fresh.getInstanceId(), 0)).isZero();
+
+    // 预热结束后两个实例代价相同，各分到一部分请求
+    clock.addAndGet(TimeUnit.SECONDS.toNanos(30));
+    balancer.onRequestStart(fresh);
+    balancer.onRequestComplete(fresh, 10 * MILLIS, true);
+    counts = countSelections(balancer, instances, 1000);
+    assertThat(counts.getOrDefault(fresh.getInstanceId(), 0)).isGreaterThan(300);
+  }
+
+  @Test
+  @DisplayName("失败请求按惩罚耗时计入")
+  void testFailurePenalty() {
+    List<ServiceInstance> instances = instances(2);
+    LatencyAwareLoadBalancer balancer = balancer(Duration.ZERO);
+    ServiceInstance healthy = instances.get(0);
+    ServiceInstance failing = instances.get(1);
+
+    balancer.onRequestStart(healthy);
+    balancer.onRequestComplete(healthy, 50 * MILLIS, true);
+    balancer.onRequestStart(failing);
+    // 快速失败的实例耗时很短，但不应因此吸引流量
+    balancer.onRequestComplete(failing, MILLIS, false);
+
+    Map<String, Integer> counts = countSelections(balancer, instances, 100);
+    assertThat(counts.get(healthy.getInstanceId())).isEqualTo(100);
+  }
+
+  @Test
+  @DisplayName("对冲请求与重试避开本次调用已选用的实例")
+  void testHedgeAvoidsTriedInstances() {
+    List<ServiceInstance> instances = instances(3);
+    LatencyAwareLoadBalancer balancer = balancer(Duration.ZERO);
+
+    for (int i = 0; i < 100; i++) {
+      TriedInstances tried = new TriedInstances();
+      ServiceInstance first = balancer.select(instances, tried);
+      ServiceInstance second = balancer.select(instances, tried);
+      ServiceInstance third = balancer.select(instances, tried);
+
+      assertThat(List.of(first, second, third)).doesNotHaveDuplicates();
+      // 全部选用过后退回完整列表
+      assertThat(instances).contains(balancer.select(instances, tried));
+    }
+  }
+
+  @Test
+  @DisplayName("从实例列表提供者中选择实例")
+  void testChooseFromSupplier() {
+    List<ServiceInstance> instances = instances(3);
+    StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+    beanFactory.addBean(
+        "supplier",
+        ServiceInstanceListSuppliers.from(SERVICE_ID, instances.toArray(new ServiceInstance[0])));
+    LatencyAwareLoadBalancer balancer =
+        new LatencyAwareLoadBalancer(
+            SERVICE_ID,
+            beanFactory.getBeanProvider(ServiceInstanceListSupplier.class),
+            Duration.ofSeconds(10),
+            Duration.ZERO,
+            Duration.ofSeconds(1));
+
+    Response<ServiceInstance> response = balancer.choose(new DefaultRequest<>()).block();
+
+    assertThat(response).isNotNull();
+    assertThat(response.hasServer()).isTrue();
+    assertThat(instances).contains(response.getServer());
+    assertThat(balancer.select(List.of())).isNull();
+  }
+
+  /**
+   * 离散事件模拟：每 1ms 到达一个请求，按实例耗时（±20% 抖动）完成
+   *
+   * @param balancer 为 null 时使用轮询
+   * @return 每个请求的耗时
+   */
+  private long[] simulate(
+      List<ServiceInstance> instances, long[] latencies, LatencyAwareLoadBalancer balancer) {
+    int requests = 20_000;
+    Random random = new Random(42);
+    PriorityQueue<long[]> inFlight = new PriorityQueue<>((a, b) -> Long.compare(a[0], b[0]));
+    long[] result = new long[requests];
+    for (int i = 0; i < requests; i++) {
+      long now = i * MILLIS;
+      while (!inFlight.isEmpty() && inFlight.peek()[0] <= now) {
+        long[] done = inFlight.poll();
+        clock.set(done[0]);
+        if (balancer != null) {
+          balancer.onRequestComplete(instances.get((int) done[1]), done[2], true);
+        }
+      }
+      clock.set(now);
+      int index;
+      if (balancer == null) {
+        index = i % instances.size();
+      } else {
+        ServiceInstance chosen = balancer.select(instances);
+        balancer.onRequestStart(chosen);
+        index = instances.indexOf(chosen);
+      }
+      long latency = (long) (latencies[index] * (0.8 + 0.4 * random.nextDouble()));
+      inFlight.add(new long[] {now + latency, index, latency});
+      result[i] = latency;
+    }
+    return result;
+  }
+
+  private Map<String, Integer> countSelections(
+      LatencyAwareLoadBalancer balancer, List<ServiceInstance> instances, int times) {
+    Map<String, Integer> counts = new HashMap<>();
+    for (int i = 0; i < times; i++) {
+      counts.merge(balancer.select(instances).getInstanceId(), 1, Integer::sum);
+    }
+    return counts;
+  }
+
+  private LatencyAwareLoadBalancer balancer(Duration slowStart) {
+    return new LatencyAwareLoadBalancer(
+        SERVICE_ID,
+        new StaticListableBeanFactory().getBeanProvider(ServiceInstanceListSupplier.class),
+        Duration.ofSeconds(10),
+        slowStart,
+        Duration.ofSeconds(1),
+        clock::get);
+  }
+
+  private static List<ServiceInstance> instances(int count) {
+    List<ServiceInstance> instances = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      instances.add(
+          new DefaultServiceInstance("instance-" + i, SERVICE_ID, "10.0.0." + i, 8080, false));
+    }
+    return instances;
+  }
+
+  private static long percentile(long[] values, double percentile) {
+    long[] sorted = values.clone();
+    Arrays.sort(sorted);
+    return sorted[(int) Math.ceil(percentile * sorted.length) - 1];
+  }
+}
@@ -0,0 +1,48 @@
+package com.example.dms2.api;
+
+import com.example.dms2.api.dto.response.UserDTO;
+import java.time.LocalDateTime;
+
+/**
+ * 测试用户数据 用户名、邮箱等字段均由 ID 派生（dms2-interface 经 test-jar 共用）
+ *
+ * @author DMS2 Team
+ * @since 1.0.0
+ */
+public final class TestUsers {
+
+  private TestUsers() {}
+
+  /**
+   * 只含 ID、用户名、邮箱的用户
+   *
+   * @param id 用户 ID
+   * @return 用户
+   */
+  public static UserDTO user(long id) {
+    return UserDTO.builder()
+        .id(id)
+        .username("user" + id)
+        .email("user" + id + "@example.com")
+        .build();
+  }
+
+  /**
+   * 各字段均有值的用户
+   *
+   * @param id 用户 ID
+   * @param time 创建与更新时间
+   * @return 用户
+   */
+  public static UserDTO fullUser(long id, LocalDateTime time) {
+    return UserDTO.builder()
+        .id(id)
+        .username("user" + id)
+        .email("user" + id + "@example.com")
+        .phone("138001380" + (id % 100))
+        .realName("User " + id)
+        .createTime(time)
+        .updateTime(time)
+        .build();
+  }
+}
@@ -0,0 +1,233 @@
+package com.example.dms2.api;
+
+import static com.example.dms2.api.TestUsers.user;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.example.dms2.api.dto.ApiResponse;
+import com.example.dms2.api.dto.ErrorCode;
+import com.example.dms2.api.dto.PageRequest;
+import com.example.dms2.api.dto.PageResponse;
+import com.example.dms2.api.dto.request.CreateUserRequest;
+import com.example.dms2.api.dto.response.UserDTO;
+import com.example.dms2.api.feign.UserAsyncFeignClient;
+import com.example.dms2.api.feign.UserFeignClient;
+import com.example.dms2.api.support.HedgedExecutor;
+import com.example.dms2.api.support.HedgingPolicy;
+import com.example.dms2.api.support.RetryBudget;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * UserAsyncFeignClient测试
+ *
+ * @author DMS2 Team
+ * @since 1.0.0
+ */
+@DisplayName("用户异步Feign Client测试")
+class UserAsyncFeignClientTest {
+
+  private final RecordingClient delegate = new RecordingClient();
+  private UserAsyncFeignClient client;
+
+  @AfterEach
+  void tearDown() {
+    client.destroy();
+  }
+
+  @Test
+  @DisplayName("窗口内的并发单查合并为一次批量请求并按ID拆分结果")
+  void testMergeIntoBatch() throws Exception {
+    client = new UserAsyncFeignClient(delegate, noHedging(), Duration.ofMillis(50), 100, 4);
+
+    List<CompletableFuture<ApiResponse<UserDTO>>> futures = new ArrayList<>();
+    for (long id = 1; id <= 10; id++) {
+      futures.add(client.getUserById(id));
+    }
+    futures.add(client.getUserById(3L));
+
+    for (int i = 0; i < 10; i++) {
+      ApiResponse<UserDTO> response = futures.get(i).get(5, TimeUnit.SECONDS);
+      assertThat(response.getCode()).isEqualTo(200);
+      assertThat(response.getData().getId()).isEqualTo(i + 1L);
+    }
+    assertThat(futures.get(10).get(5, TimeUnit.SECONDS).getData().getId()).isEqualTo(3L);
+    assertThat(delegate.batches).hasSize(1);
+    assertThat(delegate.batches.get(0)).hasSize(10);
+    assertThat(delegate.singleCalls.get()).isZero();
+  }
+
+  @Test
+  @DisplayName("达到最大批量时立即发送，超出部分进入下一批")
+  void testMaxBatchSize() throws Exception {
+    client = new UserAsyncFeignClient(delegate, noHedging(), Duration.ofSeconds(10), 4, 4);
+
+    List<CompletableFuture<ApiResponse<UserDTO>>> futures = new ArrayList<>();
+    for (long id = 1; id <= 8; id++) {
+      futures.add(client.getUserById(id));
+    }
+
+    CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).get(5, TimeUnit.SECONDS);
+    assertThat(delegate.batches).hasSize(2).allSatisfy(batch -> assertThat(batch).hasSize(4));
+  }
+
+  @Test
+  @DisplayName("批量结果中不存在的ID返回用户不存在，单个ID走单查接口")
+  void testNotFoundAndSingle() throws Exception {
+    client = new UserAsyncFeignClient(delegate, noHedging(), Duration.ofMillis(20), 100, 4);
+
+    CompletableFuture<ApiResponse<UserDTO>> found = client.getUserById(1L);
+    CompletableFuture<ApiResponse<UserDTO>> missing = client.getUserById(404L);
+
+    assertThat(found.get(5, TimeUnit.SECONDS).getCode()).isEqualTo(200);
+    assertThat(missing.get(5, TimeUnit.SECONDS).getCode())
+        .isEqualTo(ErrorCode.USER_NOT_FOUND.getCode());
+
+    ApiResponse<UserDTO> single = client.getUserById(7L).get(5, TimeUnit.SECONDS);
+    assertThat(single.getData().getId()).isEqualTo(7L);
+    assertThat(delegate.singleCalls.get()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("批量调用异常时窗口内所有调用以异常结束")
+  void testBatchFailure() {
+    delegate.fail = true;
+    client = new UserAsyncFeignClient(delegate, noHedging(), Duration.ofMillis(20), 100, 4);
+
+    CompletableFuture<ApiResponse<UserDTO>> first = client.getUserById(1L);
+    CompletableFuture<ApiResponse<UserDTO>> second = client.getUserById(2L);
+
+    assertThatThrownBy(() -> first.get(5, TimeUnit.SECONDS))
+        .isInstanceOf(ExecutionException.class)
+        .hasCauseInstanceOf(IllegalStateException.class);
+    assertThatThrownBy(() -> second.get(5, TimeUnit.SECONDS))
+        .isInstanceOf(ExecutionException.class);
+  }
+
+  @Test
+  @DisplayName("stale降级数据视为可重试，重试取得新鲜结果")
+  void testRetryStaleResponse() throws Exception {
+    delegate.staleCalls.set(1);
+    client = new UserAsyncFeignClient(delegate, retrying(), Duration.ZERO, 100, 4);
+
+    ApiResponse<UserDTO> response = client.getUserById(1L).get(5, TimeUnit.SECONDS);
+
+    assertThat(response.getStale()).isNull();
+    assertThat(response.getData().getId()).isEqualTo(1L);
+    assertThat(delegate.singleCalls.get()).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("所有请求都只返回stale数据时，用尽重试次数后返回stale数据")
+  void testStaleAfterAttemptsExhausted() throws Exception {
+    delegate.staleCalls.set(Integer.MAX_VALUE);
+    client = new UserAsyncFeignClient(delegate, retrying(), Duration.ZERO, 100, 4);
+
+    ApiResponse<UserDTO> response = client.getUserById(1L).get(5, TimeUnit.SECONDS);
+
+    assertThat(response.getStale()).isTrue();
+    assertThat(response.getData().getId()).isEqualTo(1L);
+    assertThat(delegate.singleCalls.get()).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("批量降级返回stale部分命中时，命中保留stale标记，未命中返回调用失败而非用户不存在")
+  void testStalePartialBatch() throws Exception {
+    delegate.staleBatch = true;
+    client = new UserAsyncFeignClient(delegate, noHedging(), Duration.ofMillis(20), 100, 4);
+
+    CompletableFuture<ApiResponse<UserDTO>> cached = client.getUserById(1L);
+    CompletableFuture<ApiResponse<UserDTO>> uncached = client.getUserById(2L);
+
+    ApiResponse<UserDTO> hit = cached.get(5, TimeUnit.SECONDS);
+    assertThat(hit.getStale()).isTrue();
+    assertThat(hit.getData().getId()).isEqualTo(1L);
+    assertThat(uncached.get(5, TimeUnit.SECONDS).getCode())
+        .isEqualTo(ErrorCode.FEIGN_CALL_ERROR.getCode());
+    assertThat(delegate.batches).hasSize(1);
+  }
+
+  private static HedgedExecutor retrying() {
+    Duration noHedge = Duration.ofSeconds(10);
+    return new HedgedExecutor(
+        new HedgingPolicy(true, 2, 0.95, 20, noHedge, noHedge, noHedge, Duration.ofSeconds(5)),
+        new RetryBudget(0.1, 10, 100));
+  }
+
+  private static HedgedExecutor noHedging() {
+    return new HedgedExecutor(
+        HedgingPolicy.disabled(Duration.ofSeconds(5)), new RetryBudget(0.1, 10, 100));
+  }
+
+  /** 记录调用的 UserFeignClient 替身，ID 404 视为不存在 */
+  private static class RecordingClient implements UserFeignClient {
+
+    final List<List<Long>> batches = new CopyOnWriteArrayList<>();
+    final AtomicInteger singleCalls = new AtomicInteger();
+
+    /** 前若干次单查返回快照缓存的 stale 数据（模拟降级） */
+    final AtomicInteger staleCalls = new AtomicInteger();
+
+    volatile boolean fail;
+
+    /** 批量查询返回快照缓存中的部分命中（模拟降级，只缓存了奇数 ID） */
+    volatile boolean staleBatch;
+
+    @Override
+    public ApiResponse<UserDTO> getUserById(Long id) {
+      singleCalls.incrementAndGet();
+      if (staleCalls.getAndDecrement() > 0) {
+        return ApiResponse.stale(user(id));
+      }
+      return ApiResponse.success(user(id));
+    }
+
+    @Override
+    public ApiResponse<List<UserDTO>> getUsersByIds(List<Long> ids) {
+      batches.add(List.copyOf(ids));
+      if (fail) {
+        throw new IllegalStateException("provider down");
+      }
+      if (staleBatch) {
+        return ApiResponse.stale(
+            ids.stream().filter(id -> id % 2 == 1).map(TestUsers::user).toList());
+      }
+      return ApiResponse.success(
+          ids.stream().filter(id -> id != 404L).map(TestUsers::user).toList());
+    }
+
+    @Override
+    public ApiResponse<UserDTO> getUserByUsername(String username) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public ApiResponse<UserDTO> getUserByEmail(String email) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public ApiResponse<UserDTO> createUser(CreateUserRequest request) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public ApiResponse<PageResponse<UserDTO>> queryUsers(PageRequest pageRequest) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public ApiResponse<Void> deleteUser(Long id) {
+      throw new UnsupportedOperationException();
+    }
+  }
+}
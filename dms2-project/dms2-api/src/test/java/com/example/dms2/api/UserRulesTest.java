@@ -0,0 +1,108 @@
+package com.example.dms2.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.dms2.api.dto.request.CreateUserRequest;
+import com.example.dms2.api.validation.UserRules;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 用户字段校验规则测试
+ *
+ * @author DMS2 Team
+ * @since 1.0.0
+ */
+@DisplayName("用户字段校验规则测试")
+class UserRulesTest {
+
+  @Test
+  @DisplayName("用户名必填且长度在2-50之间")
+  void testUsername() {
+    assertThat(UserRules.checkUsername("alice")).isNull();
+    assertThat(UserRules.checkUsername(null)).isEqualTo(UserRules.USERNAME_REQUIRED);
+    assertThat(UserRules.checkUsername("  ")).isEqualTo(UserRules.USERNAME_REQUIRED);
+    assertThat(UserRules.checkUsername("a")).isEqualTo(UserRules.USERNAME_LENGTH);
+    assertThat(UserRules.checkUsername("a".repeat(51))).isEqualTo(UserRules.USERNAME_LENGTH);
+  }
+
+  @Test
+  @DisplayName("邮箱格式校验")
+  void testEmail() {
+    for (String valid :
+        new String[] {"alice@example.com", "a.b+tag_1-x@mail.example-host.cn", "user1@localhost"}) {
+      assertThat(UserRules.checkEmail(valid)).as(valid).isNull();
+    }
+    for (String invalid :
+        new String[] {
+          "invalid-email",
+          "@example.com",
+          "alice@",
+          "alice@@example.com",
+          "alice@example..com",
+          "alice@example.com.",
+          "alice@.example.com",
+          "ali ce@example.com",
+          "alice@exa_mple.com"
+        }) {
+      assertThat(UserRules.checkEmail(invalid)).as(invalid).isEqualTo(UserRules.EMAIL_INVALID);
+    }
+    assertThat(UserRules.checkEmail("")).isEqualTo(UserRules.EMAIL_REQUIRED);
+    assertThat(UserRules.checkEmail("a".repeat(90) + "@example.com"))
+        .isEqualTo(UserRules.EMAIL_LENGTH);
+  }
+
+  @Test
+  @DisplayName("手机号选填，只允许数字、连字符与前导加号")
+  void testPhone() {
+    for (String valid : new String[] {null, "", "13800138000", "+86-138-0013-8000", "0101234567"}) {
+      assertThat(UserRules.checkPhone(valid)).as(valid).isNull();
+    }
+    for (String invalid :
+        new String[] {"abc", "138 0013 8000", "86+138", "+", "-", "1".repeat(21)}) {
+      assertThat(UserRules.checkPhone(invalid)).as(invalid).isEqualTo(UserRules.PHONE_INVALID);
+    }
+  }
+
+  @Test
+  @DisplayName("一次收集全部字段的错误")
+  void testValidate() {
+    assertThat(UserRules.validate("alice", "alice@example.com", "13800138000")).isNull();
+    assertThat(UserRules.validate(null, "bad", "x")).isEqualTo("用户名不能为空; 邮箱格式不正确; 手机号格式不正确");
+
+    List<String> violations = new ArrayList<>();
+    int count =
+        UserRules.validate(
+            "a", "alice@example.com", "x", (field, message) -> violations.add(field));
+    assertThat(count).isEqualTo(2);
+    assertThat(violations).containsExactly("username", "phone");
+  }
+
+  @Test
+  @DisplayName("批量校验只返回不合法请求的下标")
+  void testValidateAll() {
+    List<CreateUserRequest> requests = new ArrayList<>();
+    for (int i = 0; i < 100; i++) {
+      requests.add(request("user" + i, "user" + i + "@example.com"));
+    }
+    assertThat(UserRules.validateAll(requests)).isEmpty();
+
+    requests.set(3, request("user3", "invalid-email"));
+    requests.set(42, request("", "user42@example.com"));
+    Map<Integer, String> errors = UserRules.validateAll(requests);
+    assertThat(errors).containsOnlyKeys(3, 42);
+    assertThat(errors.get(3)).isEqualTo(UserRules.EMAIL_INVALID);
+    assertThat(errors.get(42)).isEqualTo(UserRules.USERNAME_REQUIRED);
+
+    assertThat(UserRules.validateAll(Arrays.asList((CreateUserRequest) null)))
+        .containsEntry(0, "用户名不能为空; 邮箱不能为空");
+  }
+
+  private static CreateUserRequest request(String username, String email) {
+    return CreateUserRequest.builder().username(username).email(email).build();
+  }
+}
@@ -0,0 +1,129 @@
+package com.example.dms2.api;
+
+import static com.example.dms2.api.TestUsers.user;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.dms2.api.cache.SnapshotCachingDecoder;
+import com.example.dms2.api.cache.UserSnapshotCache;
+import com.example.dms2.api.dto.ApiResponse;
+import com.example.dms2.api.dto.ErrorCode;
+import com.example.dms2.api.dto.response.UserDTO;
+import com.example.dms2.api.feign.UserFeignClient;
+import com.example.dms2.api.feign.UserFeignClientFallback;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import feign.MethodMetadata;
+import feign.Request;
+import feign.RequestTemplate;
+import feign.Response;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.cloud.openfeign.support.SpringMvcContract;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * 用户快照缓存与降级测试
+ *
+ * @author DMS2 Team
+ * @since 1.0.0
+ */
+@DisplayName("用户快照缓存测试")
+class UserSnapshotCacheTest {
+
+  private static final Map<String, MethodMetadata> METADATA =
+      new SpringMvcContract()
+          .parseAndValidateMetadata(UserFeignClient.class).stream()
+              .collect(Collectors.toMap(m -> m.method().getName(), m -> m));
+
+  private UserSnapshotCache cache;
+  private UserFeignClientFallback fallback;
+
+  @BeforeEach
+  void setUp() {
+    cache =
+        new UserSnapshotCache(
+            DataSize.ofMegabytes(1), Duration.ofMinutes(1), Duration.ofMinutes(1));
+    StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+    beanFactory.addBean("userSnapshotCache", cache);
+    fallback = new UserFeignClientFallback(beanFactory.getBeanProvider(UserSnapshotCache.class));
+  }
+
+  @Test
+  @DisplayName("单查成功后，降级返回标记为stale的缓存数据")
+  void testServeStaleUser() throws Exception {
+    decode("getUserById", ApiResponse.success(user(1L)));
+
+    ApiResponse<UserDTO> response = fallback.getUserById(1L);
+
+    assertThat(response.getCode()).isEqualTo(200);
+    assertThat(response.getStale()).isTrue();
+    assertThat(response.getData().getUsername()).isEqualTo("user1");
+    assertThat(cache.servedCount()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("批量查询成功后，降级返回缓存中存在的部分用户")
+  void testServeStaleBatch() throws Exception {
+    decode("getUsersByIds", ApiResponse.success(List.of(user(1L), user(2L))));
+
+    ApiResponse<List<UserDTO>> partial = fallback.getUsersByIds(List.of(2L, 3L));
+    ApiResponse<List<UserDTO>> none = fallback.getUsersByIds(List.of(4L));
+
+    assertThat(partial.getStale()).isTrue();
+    assertThat(partial.getData()).extracting(UserDTO::getId).containsExactly(2L);
+    assertThat(none.getCode()).isEqualTo(ErrorCode.FEIGN_CALL_ERROR.getCode());
+    assertThat(cache.missedCount()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("失败响应不写入缓存，降级返回调用失败")
+  void testErrorNotCached() throws Exception {
+    decode("getUserById", ApiResponse.error(ErrorCode.USER_NOT_FOUND));
+
+    ApiResponse<UserDTO> response = fallback.getUserById(1L);
+
+    assertThat(response.getCode()).isEqualTo(ErrorCode.FEIGN_CALL_ERROR.getCode());
+    assertThat(response.getStale()).isNull();
+  }
+
+  @Test
+  @DisplayName("超过方法对应的TTL后不再返回")
+  void testTtl() throws Exception {
+    cache =
+        new UserSnapshotCache(
+            DataSize.ofMegabytes(1), Duration.ofMillis(50), Duration.ofMinutes(1));
+    cache.putUser(user(1L));
+    cache.putUsers(List.of(user(2L)));
+
+    Thread.sleep(150);
+
+    assertThat(cache.serveUser(1L)).isEmpty();
+    assertThat(cache.serveUser(2L)).isPresent();
+  }
+
+  @Test
+  @DisplayName("正常响应的JSON不包含stale字段")
+  void testStaleOmittedFromJson() throws Exception {
+    ObjectMapper objectMapper = new ObjectMapper();
+
+    assertThat(objectMapper.writeValueAsString(ApiResponse.success("ok"))).doesNotContain("stale");
+    assertThat(objectMapper.writeValueAsString(ApiResponse.stale("ok"))).contains("\"stale\":true");
+  }
+
+  private void decode(String method, ApiResponse<?> body) throws Exception {
+    RequestTemplate template = new RequestTemplate();
+    template.methodMetadata(METADATA.get(method));
+    Request request =
+        Request.create(
+            Request.HttpMethod.GET, "/api/users", Map.of(), null, StandardCharsets.UTF_8, template);
+    Response response =
+        Response.builder().status(200).headers(Map.of()).request(request).body(new byte[0]).build();
+    new SnapshotCachingDecoder((r, type) -> body, cache).decode(response, ApiResponse.class);
+  }
+}
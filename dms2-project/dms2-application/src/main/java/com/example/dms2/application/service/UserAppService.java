@@ -1,18 +1,22 @@
 package com.example.dms2.application.service;
 
+import com.example.dms2.api.dto.ErrorCode;
 import com.example.dms2.api.dto.PageRequest;
 import com.example.dms2.api.dto.PageResponse;
 import com.example.dms2.api.dto.request.CreateUserRequest;
 import com.example.dms2.api.dto.response.UserDTO;
+import com.example.dms2.api.support.LogFormat;
 import com.example.dms2.application.assembler.UserAssembler;
+import com.example.dms2.domain.event.UserChangedEvent;
 import com.example.dms2.domain.exception.BusinessException;
 import com.example.dms2.domain.model.entity.User;
 import com.example.dms2.domain.repository.UserRepository;
+import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Optional;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -29,34 +33,59 @@ public class UserAppService {
 
   private final UserRepository userRepository;
   private final UserAssembler userAssembler;
+  private final ApplicationEventPublisher eventPublisher;
 
   /** 根据ID查询用户 */
   public UserDTO getUserById(Long id) {
-    log.info("查询用户: id={}", id);
+    log.debug("查询用户: id={}", id);
     User user =
-        userRepository.findById(id).orElseThrow(() -> new BusinessException("用户不存在: id=" + id));
+        userRepository
+            .findById(id)
+            .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
+    return userAssembler.toDTO(user);
+  }
+
+  /** 根据用户名查询用户 */
+  public UserDTO getUserByUsername(String username) {
+    log.debug("按用户名查询用户: username={}", username);
+    User user =
+        userRepository
+            .findByUsername(username)
+            .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
+    return userAssembler.toDTO(user);
+  }
+
+  /** 根据邮箱查询用户 */
+  public UserDTO getUserByEmail(String email) {
+    log.debug("按邮箱查询用户: email={}", email);
+    User user =
+        userRepository
+            .findByEmail(email)
+            .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
     return userAssembler.toDTO(user);
   }
 
   /** 创建用户 */
   @Transactional
   public UserDTO createUser(CreateUserRequest request) {
-    log.info("创建用户: request={}", request);
+    log.debug("创建用户: username={}", request.getUsername());
+
+    // 转换为领域实体，先做字段校验，不合法的请求不查询数据库
+    User user = userAssembler.toEntity(request);
+    user.validateForCreate();
 
     // 业务校验
     if (userRepository.existsByUsername(request.getUsername())) {
-      throw new BusinessException("用户名已存在: " + request.getUsername());
+      throw new BusinessException(
+          ErrorCode.USER_ALREADY_EXISTS, "用户名已存在: " + request.getUsername());
     }
     if (userRepository.existsByEmail(request.getEmail())) {
-      throw new BusinessException("邮箱已存在: " + request.getEmail());
+      throw new BusinessException(ErrorCode.USER_ALREADY_EXISTS, "邮箱已存在: " + request.getEmail());
     }
 
-    // 转换为领域实体
-    User user = userAssembler.toEntity(request);
-    user.validateForCreate();
-
     // 保存
     User savedUser = userRepository.save(user);
+    eventPublisher.publishEvent(UserChangedEvent.created(savedUser));
 
     log.info("用户创建成功: id={}", savedUser.getId());
     return userAssembler.toDTO(savedUser);
@@ -64,41 +93,53 @@ public class UserAppService {
 
   /** 批量查询用户 */
   public List<UserDTO> getUsersByIds(List<Long> ids) {
-    log.info("批量查询用户: ids={}", ids);
-    return ids.stream()
-        .map(userRepository::findById)
-        .filter(Optional::isPresent)
-        .map(Optional::get)
+    log.debug("批量查询用户: ids={}", LogFormat.collection(ids));
+    return userRepository.findByIds(ids).stream()
         .map(userAssembler::toDTO)
         .collect(Collectors.toList());
   }
 
   /** 分页查询用户 */
   public PageResponse<UserDTO> queryUsers(PageRequest pageRequest) {
-    log.info("分页查询用户: pageRequest={}", pageRequest);
+    log.debug(
+        "分页查询用户: pageNum={}, pageSize={}", pageRequest.getPageNum(), pageRequest.getPageSize());
     pageRequest.validate();
 
-    List<User> allUsers = userRepository.findAll();
-    int total = allUsers.size();
-
-    // 简单内存分页（实际项目应使用数据库分页）
-    int from = pageRequest.getOffset();
-    int to = Math.min(from + pageRequest.getPageSize(), allUsers.size());
-
+    long total = userRepository.count();
     List<UserDTO> userDTOs =
-        allUsers.subList(from, to).stream().map(userAssembler::toDTO).collect(Collectors.toList());
+        total <= pageRequest.getOffset()
+            ? List.of()
+            : userRepository.findPage(pageRequest.getOffset(), pageRequest.getPageSize()).stream()
+                .map(userAssembler::toDTO)
+                .collect(Collectors.toList());
 
     return PageResponse.of(pageRequest, userDTOs, total);
   }
 
+  /**
+   * 按键集顺序读取一批用户 顺序与分页查询相同，供流式导出逐批读取，不统计总数
+   *
+   * @param createTime 上一批最后一个用户的创建时间，为 null 时从第一个用户开始
+   * @param id 上一批最后一个用户的 ID
+   * @param limit 每批条数
+   * @return 用户列表，少于 limit 条时表示已读完
+   */
+  public List<UserDTO> listUsersAfter(LocalDateTime createTime, Long id, int limit) {
+    return userRepository.findPageAfter(createTime, id, limit).stream()
+        .map(userAssembler::toDTO)
+        .collect(Collectors.toList());
+  }
+
   /** 删除用户 */
   @Transactional
   public void deleteUser(Long id) {
-    log.info("删除用户: id={}", id);
-    if (!userRepository.findById(id).isPresent()) {
-      throw new BusinessException("用户不存在: id=" + id);
-    }
+    log.debug("删除用户: id={}", id);
+    User user =
+        userRepository
+            .findById(id)
+            .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
     userRepository.deleteById(id);
+    eventPublisher.publishEvent(UserChangedEvent.deleted(user));
     log.info("用户删除成功: id={}", id);
   }
 }
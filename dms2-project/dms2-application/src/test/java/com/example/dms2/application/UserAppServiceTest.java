@@ -4,18 +4,21 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.example.dms2.api.dto.ErrorCode;
 import com.example.dms2.api.dto.PageRequest;
 import com.example.dms2.api.dto.PageResponse;
 import com.example.dms2.api.dto.request.CreateUserRequest;
 import com.example.dms2.api.dto.response.UserDTO;
 import com.example.dms2.application.assembler.UserAssembler;
 import com.example.dms2.application.service.UserAppService;
+import com.example.dms2.domain.event.UserChangedEvent;
 import com.example.dms2.domain.exception.BusinessException;
 import com.example.dms2.domain.model.entity.User;
 import com.example.dms2.domain.repository.UserRepository;
@@ -30,6 +33,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 /**
  * UserAppService集成测试
@@ -45,6 +49,8 @@ class UserAppServiceTest {
 
   @Mock private UserAssembler userAssembler;
 
+  @Mock private ApplicationEventPublisher eventPublisher;
+
   @InjectMocks private UserAppService userAppService;
 
   private User testUser;
@@ -115,12 +121,49 @@ class UserAppServiceTest {
     // When & Then
     assertThatThrownBy(() -> userAppService.getUserById(userId))
         .isInstanceOf(BusinessException.class)
-        .hasMessageContaining("用户不存在");
+        .hasMessageContaining("用户不存在")
+        .satisfies(
+            e -> {
+              // 预期内的业务异常不填充堆栈
+              assertThat(e.getStackTrace()).isEmpty();
+              assertThat(((BusinessException) e).getErrorCode())
+                  .isEqualTo(ErrorCode.USER_NOT_FOUND);
+            });
 
     verify(userRepository, times(1)).findById(userId);
     verify(userAssembler, never()).toDTO(any());
   }
 
+  @Test
+  @DisplayName("根据用户名查询用户 - 成功")
+  void testGetUserByUsernameSuccess() {
+    // Given
+    when(userRepository.findByUsername("alice")).thenReturn(Optional.of(testUser));
+    when(userAssembler.toDTO(testUser)).thenReturn(testUserDTO);
+
+    // When
+    UserDTO result = userAppService.getUserByUsername("alice");
+
+    // Then
+    assertThat(result.getId()).isEqualTo(1L);
+    verify(userRepository, never()).findAll();
+  }
+
+  @Test
+  @DisplayName("根据邮箱查询用户 - 用户不存在")
+  void testGetUserByEmailNotFound() {
+    // Given
+    when(userRepository.findByEmail("missing@example.com")).thenReturn(Optional.empty());
+
+    // When & Then
+    assertThatThrownBy(() -> userAppService.getUserByEmail("missing@example.com"))
+        .isInstanceOf(BusinessException.class)
+        .extracting(e -> ((BusinessException) e).getErrorCode())
+        .isEqualTo(ErrorCode.USER_NOT_FOUND);
+
+    verify(userAssembler, never()).toDTO(any());
+  }
+
   @Test
   @DisplayName("创建用户 - 成功")
   void testCreateUserSuccess() {
@@ -143,12 +186,14 @@ class UserAppServiceTest {
     verify(userAssembler, times(1)).toEntity(createRequest);
     verify(userRepository, times(1)).save(any(User.class));
     verify(userAssembler, times(1)).toDTO(testUser);
+    verify(eventPublisher, times(1)).publishEvent(any(UserChangedEvent.class));
   }
 
   @Test
   @DisplayName("创建用户 - 用户名已存在")
   void testCreateUserUsernameExists() {
     // Given
+    when(userAssembler.toEntity(createRequest)).thenReturn(testUser);
     when(userRepository.existsByUsername(createRequest.getUsername())).thenReturn(true);
 
     // When & Then
@@ -164,6 +209,7 @@ class UserAppServiceTest {
   @DisplayName("创建用户 - 邮箱已存在")
   void testCreateUserEmailExists() {
     // Given
+    when(userAssembler.toEntity(createRequest)).thenReturn(testUser);
     when(userRepository.existsByUsername(createRequest.getUsername())).thenReturn(false);
     when(userRepository.existsByEmail(createRequest.getEmail())).thenReturn(true);
 
@@ -177,25 +223,39 @@ class UserAppServiceTest {
     verify(userRepository, never()).save(any(User.class));
   }
 
+  @Test
+  @DisplayName("创建用户 - 字段不合法时报告全部错误且不查询数据库")
+  void testCreateUserInvalidFields() {
+    // Given
+    User invalidUser = User.builder().username("").email("invalid-email").phone("abc").build();
+    when(userAssembler.toEntity(createRequest)).thenReturn(invalidUser);
+
+    // When & Then
+    assertThatThrownBy(() -> userAppService.createUser(createRequest))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("用户名不能为空; 邮箱格式不正确; 手机号格式不正确");
+
+    verify(userRepository, never()).existsByUsername(any());
+    verify(userRepository, never()).save(any(User.class));
+  }
+
   @Test
   @DisplayName("批量查询用户 - 成功")
   void testGetUsersByIdsSuccess() {
     // Given
     List<Long> ids = Arrays.asList(1L, 2L, 3L);
-    when(userRepository.findById(1L)).thenReturn(Optional.of(testUser));
-    when(userRepository.findById(2L)).thenReturn(Optional.empty());
-    when(userRepository.findById(3L)).thenReturn(Optional.of(testUser));
+    // 只有1和3存在
+    when(userRepository.findByIds(ids)).thenReturn(List.of(testUser, testUser));
     when(userAssembler.toDTO(testUser)).thenReturn(testUserDTO);
 
     // When
     List<UserDTO> result = userAppService.getUsersByIds(ids);
 
     // Then
-    assertThat(result).hasSize(2); // 只有1和3存在
+    assertThat(result).hasSize(2);
 
-    verify(userRepository, times(1)).findById(1L);
-    verify(userRepository, times(1)).findById(2L);
-    verify(userRepository, times(1)).findById(3L);
+    verify(userRepository, times(1)).findByIds(ids);
+    verify(userRepository, never()).findById(any());
   }
 
   @Test
@@ -207,7 +267,8 @@ class UserAppServiceTest {
     pageRequest.setPageSize(10);
 
     List<User> users = Arrays.asList(testUser, testUser);
-    when(userRepository.findAll()).thenReturn(users);
+    when(userRepository.count()).thenReturn(2L);
+    when(userRepository.findPage(0, 10)).thenReturn(users);
     when(userAssembler.toDTO(any(User.class))).thenReturn(testUserDTO);
 
     // When
@@ -220,10 +281,29 @@ class UserAppServiceTest {
     assertThat(result.getTotal()).isEqualTo(2);
     assertThat(result.getRecords()).hasSize(2);
 
-    verify(userRepository, times(1)).findAll();
+    // 分页下推到仓储，不读取全表
+    verify(userRepository, never()).findAll();
     verify(userAssembler, times(2)).toDTO(any(User.class));
   }
 
+  @Test
+  @DisplayName("分页查询用户 - 偏移量超出总数时不查询记录")
+  void testQueryUsersBeyondTotal() {
+    // Given
+    PageRequest pageRequest = new PageRequest();
+    pageRequest.setPageNum(3);
+    pageRequest.setPageSize(10);
+    when(userRepository.count()).thenReturn(15L);
+
+    // When
+    PageResponse<UserDTO> result = userAppService.queryUsers(pageRequest);
+
+    // Then
+    assertThat(result.getTotal()).isEqualTo(15);
+    assertThat(result.getRecords()).isEmpty();
+    verify(userRepository, never()).findPage(anyInt(), anyInt());
+  }
+
   @Test
   @DisplayName("删除用户 - 成功")
   void testDeleteUserSuccess() {
@@ -238,6 +318,7 @@ class UserAppServiceTest {
     // Then
     verify(userRepository, times(1)).findById(userId);
     verify(userRepository, times(1)).deleteById(userId);
+    verify(eventPublisher, times(1)).publishEvent(any(UserChangedEvent.class));
   }
 
   @Test
@@ -254,5 +335,6 @@ class UserAppServiceTest {
 
     verify(userRepository, times(1)).findById(userId);
     verify(userRepository, never()).deleteById(any());
+    verify(eventPublisher, never()).publishEvent(any(Object.class));
   }
 }
@@ -0,0 +1,62 @@
+package com.example.dms2.benchmark;
+
+import com.example.dms2.api.dto.request.CreateUserRequest;
+import com.example.dms2.api.dto.response.UserDTO;
+import com.example.dms2.application.assembler.UserAssembler;
+import com.example.dms2.domain.model.entity.User;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * DTO 转换与领域校验基准 每次查询/创建都会经过的 {@link UserAssembler} 与 {@link User#validateForCreate()}
+ *
+ * @author DMS2 Team
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AssemblerBenchmark {
+
+  private UserAssembler assembler;
+  private User user;
+  private CreateUserRequest request;
+  private User validUser;
+
+  @Setup
+  public void setUp() {
+    assembler = new UserAssembler();
+    user = BenchmarkData.user(1L);
+    request = BenchmarkData.createRequest("1");
+    validUser = assembler.toEntity(request);
+  }
+
+  @Benchmark
+  public UserDTO toDTO() {
+    return assembler.toDTO(user);
+  }
+
+  @Benchmark
+  public User toEntity() {
+    return assembler.toEntity(request);
+  }
+
+  /** 按 UserRules 逐字符校验用户名、邮箱与手机号 */
+  @Benchmark
+  public User validateForCreate() {
+    validUser.validateForCreate();
+    return validUser;
+  }
+}
@@ -0,0 +1,79 @@
+package com.example.dms2.benchmark;
+
+import com.example.dms2.api.dto.ApiResponse;
+import com.example.dms2.api.dto.PageRequest;
+import com.example.dms2.api.dto.PageResponse;
+import com.example.dms2.api.dto.request.CreateUserRequest;
+import com.example.dms2.api.dto.response.UserDTO;
+import com.example.dms2.domain.model.entity.User;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 基准测试数据 字段长度与线上用户数据相近，保证各基准之间可比
+ *
+ * @author DMS2 Team
+ * @since 1.0.0
+ */
+final class BenchmarkData {
+
+  /** 固定时间，避免 LocalDateTime.now() 计入被测代码 */
+  static final LocalDateTime TIME = LocalDateTime.of(2024, 1, 1, 12, 0, 0);
+
+  private BenchmarkData() {}
+
+  static User user(long id) {
+    return User.builder()
+        .id(id)
+        .username("user" + id)
+        .email("user" + id + "@example.com")
+        .phone("138" + String.format("%08d", id))
+        .realName("测试用户" + id)
+        .createTime(TIME)
+        .updateTime(TIME)
+        .build();
+  }
+
+  static UserDTO userDTO(long id) {
+    return UserDTO.builder()
+        .id(id)
+        .username("user" + id)
+        .email("user" + id + "@example.com")
+        .phone("138" + String.format("%08d", id))
+        .realName("测试用户" + id)
+        .createTime(TIME)
+        .updateTime(TIME)
+        .build();
+  }
+
+  static CreateUserRequest createRequest(String suffix) {
+    return CreateUserRequest.builder()
+        .username("user" + suffix)
+        .email("user" + suffix + "@example.com")
+        .phone("13800000000")
+        .realName("测试用户" + suffix)
+        .build();
+  }
+
+  static PageRequest pageRequest(int pageNum, int pageSize) {
+    PageRequest pageRequest = new PageRequest();
+    pageRequest.setPageNum(pageNum);
+    pageRequest.setPageSize(pageSize);
+    return pageRequest;
+  }
+
+  /** 单个用户查询的响应 */
+  static ApiResponse<UserDTO> userResponse() {
+    return ApiResponse.success(userDTO(1L));
+  }
+
+  /** 一页（size 条）用户的分页响应 */
+  static ApiResponse<PageResponse<UserDTO>> pageResponse(int size) {
+    List<UserDTO> records = new ArrayList<>(size);
+    for (long id = 1; id <= size; id++) {
+      records.add(userDTO(id));
+    }
+    return ApiResponse.success(PageResponse.of(pageRequest(1, size), records, 10_000));
+  }
+}
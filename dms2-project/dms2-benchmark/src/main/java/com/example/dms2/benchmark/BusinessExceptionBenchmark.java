@@ -0,0 +1,67 @@
+package com.example.dms2.benchmark;
+
+import com.example.dms2.application.assembler.UserAssembler;
+import com.example.dms2.application.service.UserAppService;
+import com.example.dms2.domain.exception.BusinessException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 用户不存在路径基准 {@link UserAppService#getUserById} 查询不存在的 ID，抛出并捕获 {@link BusinessException}
+ *
+ * <p>异常的开销主要在填充堆栈，与抛出处的调用深度成正比。frameDepth 为调用前额外的栈帧数，120 约等于经过 Tomcat、过滤器链、Spring MVC
+ * 与切面后到达应用服务时的深度。
+ *
+ * @author DMS2 Team
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BusinessExceptionBenchmark {
+
+  private static final long MISSING_ID = -1L;
+
+  /** 调用前额外的栈帧数 */
+  @Param({"20", "120"})
+  public int frameDepth;
+
+  private UserAppService service;
+
+  @Setup
+  public void setUp() {
+    MapUserRepository repository = new MapUserRepository();
+    repository.save(BenchmarkData.user(1L));
+    service = new UserAppService(repository, new UserAssembler(), event -> {});
+  }
+
+  @Benchmark
+  public int getUserByIdNotFound() {
+    return call(frameDepth);
+  }
+
+  private int call(int depth) {
+    if (depth > 0) {
+      return call(depth - 1);
+    }
+    try {
+      service.getUserById(MISSING_ID);
+      return 0;
+    } catch (BusinessException e) {
+      return e.getCode();
+    }
+  }
+}
@@ -0,0 +1,69 @@
+package com.example.dms2.benchmark;
+
+import com.example.dms2.domain.model.entity.User;
+import com.example.dms2.domain.repository.UserRepository;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 基于内存 Map 的用户仓储 排除数据库与网络开销，只测量应用服务本身的耗时
+ *
+ * @author DMS2 Team
+ * @since 1.0.0
+ */
+final class MapUserRepository implements UserRepository {
+
+  private final Map<Long, User> users = new ConcurrentSkipListMap<>();
+  private final AtomicLong sequence = new AtomicLong();
+
+  @Override
+  public Optional<User> findById(Long id) {
+    return Optional.ofNullable(users.get(id));
+  }
+
+  @Override
+  public Optional<User> findByUsername(String username) {
+    return users.values().stream().filter(u -> u.getUsername().equals(username)).findFirst();
+  }
+
+  @Override
+  public Optional<User> findByEmail(String email) {
+    return users.values().stream().filter(u -> u.getEmail().equals(email)).findFirst();
+  }
+
+  @Override
+  public User save(User user) {
+    if (user.getId() == null) {
+      user.setId(sequence.incrementAndGet());
+      user.initCreateTime();
+    } else {
+      sequence.accumulateAndGet(user.getId(), Math::max);
+    }
+    users.put(user.getId(), user);
+    return user;
+  }
+
+  @Override
+  public void deleteById(Long id) {
+    users.remove(id);
+  }
+
+  @Override
+  public List<User> findAll() {
+    return new ArrayList<>(users.values());
+  }
+
+  @Override
+  public boolean existsByUsername(String username) {
+    return findByUsername(username).isPresent();
+  }
+
+  @Override
+  public boolean existsByEmail(String email) {
+    return findByEmail(email).isPresent();
+  }
+}
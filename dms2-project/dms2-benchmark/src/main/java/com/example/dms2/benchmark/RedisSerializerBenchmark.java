@@ -0,0 +1,61 @@
+package com.example.dms2.benchmark;
+
+import com.example.dms2.api.dto.response.UserDTO;
+import com.example.dms2.infrastructure.config.RedisConfig;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+
+/**
+ * Redis 序列化基准 使用 {@link RedisConfig} 中 RedisTemplate 与 CacheManager 实际使用的序列化器
+ *
+ * @author DMS2 Team
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RedisSerializerBenchmark {
+
+  private RedisSerializer<Object> valueSerializer;
+  private StringRedisSerializer keySerializer;
+  private UserDTO user;
+  private byte[] userBytes;
+
+  @Setup
+  public void setUp() {
+    valueSerializer = RedisConfig.valueSerializer();
+    keySerializer = new StringRedisSerializer();
+    user = BenchmarkData.userDTO(1L);
+    userBytes = valueSerializer.serialize(user);
+  }
+
+  @Benchmark
+  public byte[] serializeKey() {
+    return keySerializer.serialize("user:id:1");
+  }
+
+  /** 带类型信息（@class）的 JSON */
+  @Benchmark
+  public byte[] serializeValue() {
+    return valueSerializer.serialize(user);
+  }
+
+  @Benchmark
+  public Object deserializeValue() {
+    return valueSerializer.deserialize(userBytes);
+  }
+}
@@ -0,0 +1,92 @@
+package com.example.dms2.benchmark;
+
+import com.example.dms2.api.codec.BinaryCodec;
+import com.example.dms2.api.dto.ApiResponse;
+import com.example.dms2.api.dto.PageResponse;
+import com.example.dms2.api.dto.response.UserDTO;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 响应序列化基准 对比 JSON（与 Spring Boot 默认的 ObjectMapper 配置一致）与 CBOR（{@link BinaryCodec}）
+ *
+ * @author DMS2 Team
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SerializationBenchmark {
+
+  private static final TypeReference<ApiResponse<UserDTO>> USER_TYPE = new TypeReference<>() {};
+
+  private static final TypeReference<ApiResponse<PageResponse<UserDTO>>> PAGE_TYPE =
+      new TypeReference<>() {};
+
+  /** 序列化格式 */
+  @Param({"json", "cbor"})
+  public String format;
+
+  private ObjectMapper mapper;
+  private ApiResponse<UserDTO> userResponse;
+  private ApiResponse<PageResponse<UserDTO>> pageResponse;
+  private byte[] userBytes;
+  private byte[] pageBytes;
+
+  @Setup
+  public void setUp() throws IOException {
+    mapper =
+        "cbor".equals(format)
+            ? BinaryCodec.objectMapper()
+            : JsonMapper.builder()
+                .addModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                .build();
+    userResponse = BenchmarkData.userResponse();
+    pageResponse = BenchmarkData.pageResponse(100);
+    userBytes = mapper.writeValueAsBytes(userResponse);
+    pageBytes = mapper.writeValueAsBytes(pageResponse);
+  }
+
+  @Benchmark
+  public byte[] serializeUser() throws IOException {
+    return mapper.writeValueAsBytes(userResponse);
+  }
+
+  @Benchmark
+  public ApiResponse<UserDTO> deserializeUser() throws IOException {
+    return mapper.readValue(userBytes, USER_TYPE);
+  }
+
+  /** 100 条记录的分页响应 */
+  @Benchmark
+  public byte[] serializePage() throws IOException {
+    return mapper.writeValueAsBytes(pageResponse);
+  }
+
+  @Benchmark
+  public ApiResponse<PageResponse<UserDTO>> deserializePage() throws IOException {
+    return mapper.readValue(pageBytes, PAGE_TYPE);
+  }
+}
@@ -0,0 +1,151 @@
+package com.example.dms2.benchmark;
+
+import com.example.dms2.domain.model.entity.User;
+import com.example.dms2.infrastructure.id.SnowflakeIdGenerator;
+import com.example.dms2.infrastructure.mapper.UserIndexMapper;
+import com.example.dms2.infrastructure.repository.ShardedUserRepositoryImpl;
+import com.example.dms2.infrastructure.sharding.UserShards;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.h2.jdbcx.JdbcConnectionPool;
+import org.mybatis.spring.SqlSessionFactoryBean;
+import org.mybatis.spring.SqlSessionTemplate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * 分片仓储吞吐量基准 {@link ShardedUserRepositoryImpl} 在 1、2、4 个 H2 内存库（MySQL 模式）分片上的单查、批量查询（100 个 ID）、
+ * 全量查询、分页查询（第 6 页，每页 20 条，下推到各分片后归并）与创建+删除
+ *
+ * <p>各分片在同一进程内共享 CPU，结果反映路由、并行扇出与合并的开销，而不是多台数据库带来的扩展；分片分布在多台数据库上时，单查与写入的容量随分片数增长，扇出查询的耗时取决于最慢的分片。
+ *
+ * @author DMS2 Team
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ShardedUserRepositoryBenchmark {
+
+  private static final String SHARD_DDL =
+      "CREATE TABLE t_user (id BIGINT PRIMARY KEY, username VARCHAR(50) NOT NULL,"
+          + " email VARCHAR(100) NOT NULL, phone VARCHAR(20), real_name VARCHAR(50),"
+          + " create_time DATETIME NOT NULL, update_time DATETIME NOT NULL)";
+
+  private static final String INDEX_DDL =
+      "CREATE TABLE t_user_index (id BIGINT PRIMARY KEY, username VARCHAR(50) NOT NULL UNIQUE,"
+          + " email VARCHAR(100) NOT NULL UNIQUE)";
+
+  /** 分片数 */
+  @Param({"1", "2", "4"})
+  public int shardCount;
+
+  /** 用户数 */
+  @Param({"2000"})
+  public int userCount;
+
+  private UserShards shards;
+  private ShardedUserRepositoryImpl repository;
+  private long[] ids;
+  private List<Long> batchIds;
+  private long createSeq;
+
+  @Setup(Level.Trial)
+  public void setUp() throws Exception {
+    String run = Long.toString(System.nanoTime(), 36);
+    List<JdbcConnectionPool> dataSources = new ArrayList<>();
+    for (int i = 0; i < shardCount; i++) {
+      dataSources.add(h2("bench_shard_" + run + "_" + i, SHARD_DDL));
+    }
+    shards = UserShards.create(dataSources, configuration -> {}, List.of());
+
+    SqlSessionFactoryBean indexFactory = new SqlSessionFactoryBean();
+    indexFactory.setDataSource(h2("bench_index_" + run, INDEX_DDL));
+    indexFactory.setMapperLocations(
+        new PathMatchingResourcePatternResolver()
+            .getResources("classpath*:mapper/UserIndexMapper.xml"));
+    UserIndexMapper indexMapper =
+        new SqlSessionTemplate(indexFactory.getObject()).getMapper(UserIndexMapper.class);
+    repository =
+        new ShardedUserRepositoryImpl(
+            shards,
+            indexMapper,
+            new SnowflakeIdGenerator(
+                Instant.parse("2024-01-01T00:00:00Z"), () -> 1, Duration.ZERO));
+
+    ids = new long[userCount];
+    for (int i = 0; i < userCount; i++) {
+      User user = BenchmarkData.user(i);
+      user.setId(null);
+      ids[i] = repository.save(user).getId();
+    }
+    batchIds = new ArrayList<>();
+    for (int i = 0; i < 100; i++) {
+      batchIds.add(ids[i * (userCount / 100)]);
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    shards.close();
+  }
+
+  @Benchmark
+  public User findById() {
+    return repository.findById(ids[ThreadLocalRandom.current().nextInt(ids.length)]).orElseThrow();
+  }
+
+  @Benchmark
+  public List<User> findByIds() {
+    return repository.findByIds(batchIds);
+  }
+
+  @Benchmark
+  public List<User> findAll() {
+    return repository.findAll();
+  }
+
+  @Benchmark
+  public List<User> findPage() {
+    return repository.findPage(100, 20);
+  }
+
+  @Benchmark
+  public long createAndDelete() {
+    User user = BenchmarkData.user(userCount + (++createSeq));
+    user.setId(null);
+    long id = repository.save(user).getId();
+    repository.deleteById(id);
+    return id;
+  }
+
+  private static JdbcConnectionPool h2(String name, String ddl) {
+    JdbcConnectionPool dataSource =
+        JdbcConnectionPool.create(
+            "jdbc:h2:mem:" + name + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+            "sa",
+            "");
+    new JdbcTemplate(dataSource).execute(ddl);
+    return dataSource;
+  }
+}
@@ -0,0 +1,83 @@
+package com.example.dms2.benchmark;
+
+import com.example.dms2.api.dto.PageRequest;
+import com.example.dms2.api.dto.PageResponse;
+import com.example.dms2.api.dto.response.UserDTO;
+import com.example.dms2.application.assembler.UserAssembler;
+import com.example.dms2.application.service.UserAppService;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 应用服务基准 {@link UserAppService} 使用内存仓储，测量编排、日志参数构造与 DTO 转换的开销
+ *
+ * <p>日志级别为 WARN（见 logback.xml），与生产环境关闭 INFO 日志时的开销一致。
+ *
+ * @author DMS2 Team
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UserAppServiceBenchmark {
+
+  /** 仓储中的用户数 */
+  @Param({"1000"})
+  public int userCount;
+
+  private UserAppService service;
+  private List<Long> batchIds;
+  private PageRequest pageRequest;
+  private long createSeq;
+
+  @Setup
+  public void setUp() {
+    MapUserRepository repository = new MapUserRepository();
+    for (long id = 1; id <= userCount; id++) {
+      repository.save(BenchmarkData.user(id));
+    }
+    service = new UserAppService(repository, new UserAssembler(), event -> {});
+    batchIds = LongStream.rangeClosed(1, 100).boxed().toList();
+    pageRequest = BenchmarkData.pageRequest(5, 20);
+  }
+
+  @Benchmark
+  public UserDTO getUserById() {
+    return service.getUserById(42L);
+  }
+
+  /** 批量查询 100 个 ID */
+  @Benchmark
+  public List<UserDTO> getUsersByIds() {
+    return service.getUsersByIds(batchIds);
+  }
+
+  /** 分页查询会先读取全部用户再在内存中分页 */
+  @Benchmark
+  public PageResponse<UserDTO> queryUsers() {
+    return service.queryUsers(pageRequest);
+  }
+
+  /** 创建后立即删除，保持仓储规模不变；重名校验会扫描全部用户 */
+  @Benchmark
+  public UserDTO createAndDeleteUser() {
+    UserDTO created = service.createUser(BenchmarkData.createRequest("bench" + createSeq++));
+    service.deleteUser(created.getId());
+    return created;
+  }
+}
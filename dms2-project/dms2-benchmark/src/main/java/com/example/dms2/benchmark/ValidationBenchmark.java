@@ -0,0 +1,85 @@
+package com.example.dms2.benchmark;
+
+import com.example.dms2.api.dto.request.CreateUserRequest;
+import com.example.dms2.api.validation.UserRules;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 创建用户请求校验基准 接口层 {@code @Valid}（Bean Validation，类级别约束 {@code @ValidCreateUser}）与直接调用 {@link
+ * UserRules} 的单次及批量（100 条）校验
+ *
+ * @author DMS2 Team
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValidationBenchmark {
+
+  private ValidatorFactory factory;
+  private Validator validator;
+  private CreateUserRequest validRequest;
+  private CreateUserRequest invalidRequest;
+  private List<CreateUserRequest> batch;
+
+  @Setup
+  public void setUp() {
+    factory = Validation.buildDefaultValidatorFactory();
+    validator = factory.getValidator();
+    validRequest = BenchmarkData.createRequest("1");
+    invalidRequest = BenchmarkData.createRequest("1");
+    invalidRequest.setUsername("");
+    invalidRequest.setEmail("invalid-email");
+    batch = IntStream.range(0, 100).mapToObj(i -> BenchmarkData.createRequest("b" + i)).toList();
+  }
+
+  @TearDown
+  public void tearDown() {
+    factory.close();
+  }
+
+  @Benchmark
+  public Set<ConstraintViolation<CreateUserRequest>> beanValidation() {
+    return validator.validate(validRequest);
+  }
+
+  /** 用户名与邮箱均不合法 */
+  @Benchmark
+  public Set<ConstraintViolation<CreateUserRequest>> beanValidationInvalid() {
+    return validator.validate(invalidRequest);
+  }
+
+  @Benchmark
+  public String userRules() {
+    return UserRules.validate(
+        validRequest.getUsername(), validRequest.getEmail(), validRequest.getPhone());
+  }
+
+  /** 100 条合法请求 */
+  @Benchmark
+  public Map<Integer, String> userRulesBatch() {
+    return UserRules.validateAll(batch);
+  }
+}
@@ -0,0 +1,20 @@
+package com.example.dms2.domain.event;
+
+import java.time.LocalDateTime;
+import lombok.Getter;
+
+/**
+ * 领域事件基类
+ *
+ * @author DMS2 Team
+ * @since 1.0.0
+ */
+@Getter
+public abstract class DomainEvent {
+
+  private final LocalDateTime occurredOn;
+
+  protected DomainEvent() {
+    this.occurredOn = LocalDateTime.now();
+  }
+}
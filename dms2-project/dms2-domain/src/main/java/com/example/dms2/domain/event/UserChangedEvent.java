@@ -0,0 +1,48 @@
+package com.example.dms2.domain.event;
+
+import com.example.dms2.domain.model.entity.User;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 用户变更领域事件 用户被创建、更新或删除后发布，供缓存等读模型失效使用
+ *
+ * @author DMS2 Team
+ * @since 1.0.0
+ */
+@Getter
+@ToString
+public class UserChangedEvent extends DomainEvent {
+
+  /** 变更类型 */
+  public enum ChangeType {
+    CREATED,
+    UPDATED,
+    DELETED
+  }
+
+  private final ChangeType changeType;
+
+  private final Long userId;
+
+  private final String username;
+
+  private final String email;
+
+  public UserChangedEvent(ChangeType changeType, User user) {
+    this.changeType = changeType;
+    this.userId = user.getId();
+    this.username = user.getUsername();
+    this.email = user.getEmail();
+  }
+
+  /** 用户创建事件 */
+  public static UserChangedEvent created(User user) {
+    return new UserChangedEvent(ChangeType.CREATED, user);
+  }
+
+  /** 用户删除事件 */
+  public static UserChangedEvent deleted(User user) {
+    return new UserChangedEvent(ChangeType.DELETED, user);
+  }
+}
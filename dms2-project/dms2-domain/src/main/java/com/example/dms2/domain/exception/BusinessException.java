@@ -1,26 +1,51 @@
 package com.example.dms2.domain.exception;
 
+import com.example.dms2.api.dto.ErrorCode;
+
 /**
  * 业务异常 用于标识业务逻辑错误，如用户不存在、用户名已存在等
  *
+ * <p>业务异常是预期内的结果（如大量查询不存在的用户），不记录堆栈，避免填充堆栈的开销。优先使用 {@link ErrorCode} 构造，
+ * 消息与错误码默认消息一致时，全局异常处理器直接返回预先创建的响应。
+ *
  * @author DMS2 Team
  * @since 1.0.0
  */
 public class BusinessException extends RuntimeException {
 
   private final int code;
+  private final transient ErrorCode errorCode;
+
+  public BusinessException(ErrorCode errorCode) {
+    this(errorCode, errorCode.getMessage());
+  }
+
+  public BusinessException(ErrorCode errorCode, String message) {
+    super(message, null, false, false);
+    this.code = errorCode.getCode();
+    this.errorCode = errorCode;
+  }
 
   public BusinessException(String message) {
-    super(message);
-    this.code = 400;
+    this(400, message);
   }
 
   public BusinessException(int code, String message) {
-    super(message);
+    super(message, null, false, false);
     this.code = code;
+    this.errorCode = null;
   }
 
   public int getCode() {
     return code;
   }
+
+  /**
+   * 错误码
+   *
+   * @return 以错误码构造时返回该错误码，否则为 null
+   */
+  public ErrorCode getErrorCode() {
+    return errorCode;
+  }
 }
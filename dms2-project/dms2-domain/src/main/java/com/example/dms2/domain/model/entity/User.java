@@ -1,5 +1,6 @@
 package com.example.dms2.domain.model.entity;
 
+import com.example.dms2.api.validation.UserRules;
 import java.time.LocalDateTime;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -32,16 +33,11 @@ public class User {
 
   private LocalDateTime updateTime;
 
-  /** 业务校验：创建用户时调用 */
+  /** 业务校验：创建用户时调用，规则见 {@link UserRules}，一次报告全部错误 */
   public void validateForCreate() {
-    if (username == null || username.trim().isEmpty()) {
-      throw new IllegalArgumentException("用户名不能为空");
-    }
-    if (email == null || email.trim().isEmpty()) {
-      throw new IllegalArgumentException("邮箱不能为空");
-    }
-    if (!email.matches("^[A-Za-z0-9+_.-]+@(.+)$")) {
-      throw new IllegalArgumentException("邮箱格式不正确");
+    String errors = UserRules.validate(username, email, phone);
+    if (errors != null) {
+      throw new IllegalArgumentException(errors);
     }
   }
 
@@ -1,6 +1,7 @@
 package com.example.dms2.domain.repository;
 
 import com.example.dms2.domain.model.entity.User;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,6 +16,11 @@ public interface UserRepository {
   /** 根据ID查询用户 */
   Optional<User> findById(Long id);
 
+  /** 批量查询用户 按 ids 的顺序返回存在的用户（重复的 ID 重复返回），默认逐个调用 {@link #findById} */
+  default List<User> findByIds(List<Long> ids) {
+    return ids.stream().map(this::findById).flatMap(Optional::stream).toList();
+  }
+
   /** 根据用户名查询用户 */
   Optional<User> findByUsername(String username);
 
@@ -27,12 +33,50 @@ public interface UserRepository {
   /** 删除用户 */
   void deleteById(Long id);
 
-  /** 查询所有用户 */
+  /** 查询所有用户 按创建时间倒序，相同时按 ID 倒序 */
   List<User> findAll();
 
+  /**
+   * 分页查询用户 顺序与 {@link #findAll()} 相同，默认在 {@link #findAll()} 的结果上截取
+   *
+   * @param offset 跳过的条数
+   * @param limit 最多返回的条数
+   * @return 用户列表
+   */
+  default List<User> findPage(int offset, int limit) {
+    List<User> all = findAll();
+    return all.subList(Math.min(offset, all.size()), Math.min(offset + limit, all.size()));
+  }
+
+  /**
+   * 键集分页 返回顺序排在（createTime, id）之后的用户，顺序与 {@link #findAll()} 相同；连续读取时不需要跳过已读的行
+   *
+   * @param createTime 上一批最后一个用户的创建时间，为 null 时从第一个用户开始
+   * @param id 上一批最后一个用户的 ID
+   * @param limit 最多返回的条数
+   * @return 用户列表
+   */
+  default List<User> findPageAfter(LocalDateTime createTime, Long id, int limit) {
+    return findAll().stream()
+        .filter(user -> createTime == null || isAfter(user, createTime, id))
+        .limit(limit)
+        .toList();
+  }
+
+  /** 用户总数 默认为 {@link #findAll()} 的条数 */
+  default long count() {
+    return findAll().size();
+  }
+
   /** 判断用户名是否存在 */
   boolean existsByUsername(String username);
 
   /** 判断邮箱是否存在 */
   boolean existsByEmail(String email);
+
+  /** 按 {@link #findAll()} 的顺序，user 是否排在（createTime, id）之后 */
+  static boolean isAfter(User user, LocalDateTime createTime, Long id) {
+    int cmp = user.getCreateTime().compareTo(createTime);
+    return cmp < 0 || (cmp == 0 && user.getId() < id);
+  }
 }
@@ -0,0 +1,68 @@
+package com.example.dms2.infrastructure.config;
+
+import com.alibaba.druid.filter.Filter;
+import com.alibaba.druid.pool.DruidDataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.env.Environment;
+
+/**
+ * 数据源配置类（memory profile 不使用数据库，不加载）
+ *
+ * <p>替代 Druid 自动配置创建的 DruidDataSourceWrapper（自动配置因 @ConditionalOnMissingBean 不再生效），行为相同：先绑定
+ * spring.datasource.druid.*，未配置的连接属性取 spring.datasource.*，并加入容器中的 Druid 过滤器。
+ *
+ * <p>原实现依赖类型上的 @ConfigurationProperties 与字段注入，Spring AOT 处理时会遍历 DruidDataSource 的全部属性生成绑定提示而失败，
+ * 且按 @Bean 方法声明的 DataSource 类型生成的代码不会注入这些字段。这里在方法内显式绑定，JVM 与 Native Image 下都可用。
+ *
+ * @author DMS2 Team
+ * @since 1.0.0
+ */
+@Configuration
+@Profile("!memory")
+public class DataSourceConfig {
+
+  @Bean(initMethod = "init")
+  public DruidDataSource dataSource(
+      DataSourceProperties basicProperties,
+      Environment environment,
+      ObjectProvider<Filter> filters) {
+    DruidDataSource dataSource = new LenientDruidDataSource();
+    Binder.get(environment).bind("spring.datasource.druid", Bindable.ofInstance(dataSource));
+    if (dataSource.getUsername() == null) {
+      dataSource.setUsername(basicProperties.determineUsername());
+    }
+    if (dataSource.getPassword() == null) {
+      dataSource.setPassword(basicProperties.determinePassword());
+    }
+    if (dataSource.getUrl() == null) {
+      dataSource.setUrl(basicProperties.determineUrl());
+    }
+    if (dataSource.getDriverClassName() == null) {
+      dataSource.setDriverClassName(basicProperties.getDriverClassName());
+    }
+    dataSource.getProxyFilters().addAll(filters.orderedStream().toList());
+    return dataSource;
+  }
+
+  /**
+   * 属性按任意顺序绑定时，max-evictable-idle-time-millis 可能先于 min-evictable-idle-time-millis 设置而小于其默认值，
+   * DruidDataSource 会拒绝；与 DruidDataSourceWrapper 一样直接记录该值，由 init() 统一校验
+   */
+  static class LenientDruidDataSource extends DruidDataSource {
+
+    @Override
+    public void setMaxEvictableIdleTimeMillis(long maxEvictableIdleTimeMillis) {
+      try {
+        super.setMaxEvictableIdleTimeMillis(maxEvictableIdleTimeMillis);
+      } catch (IllegalArgumentException e) {
+        this.maxEvictableIdleTimeMillis = maxEvictableIdleTimeMillis;
+      }
+    }
+  }
+}
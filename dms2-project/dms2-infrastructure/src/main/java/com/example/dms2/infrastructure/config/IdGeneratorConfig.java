@@ -0,0 +1,102 @@
+package com.example.dms2.infrastructure.config;
+
+import com.example.dms2.infrastructure.id.IdGenerator;
+import com.example.dms2.infrastructure.id.RedisSegmentSource;
+import com.example.dms2.infrastructure.id.SegmentIdAllocator;
+import com.example.dms2.infrastructure.id.SnowflakeIdGenerator;
+import com.example.dms2.infrastructure.id.WorkerIdLease;
+import com.example.dms2.infrastructure.mapper.UserMapper;
+import com.example.dms2.infrastructure.sharding.UserShards;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+/**
+ * 主键生成配置 按 {@code dms2.id.strategy} 选择用户主键的分配方式
+ *
+ * <ul>
+ *   <li>{@code snowflake}（默认）：Snowflake，workerId 通过 Redis 租约分配，各实例独立生成，不访问数据库
+ *   <li>{@code segment}：号段，各实例从 Redis 计数器批量领取连续主键，主键更短、更紧凑
+ *   <li>{@code database}：不注册 {@link IdGenerator}，沿用数据库自增主键
+ * </ul>
+ *
+ * @author DMS2 Team
+ * @since 1.0.0
+ */
+@Slf4j
+@Configuration
+@Profile("!memory")
+public class IdGeneratorConfig {
+
+  private static final String WORKER_KEY_PREFIX = "dms2:id:worker:";
+
+  /** workerId 租约 */
+  @Bean(destroyMethod = "close")
+  @ConditionalOnProperty(
+      name = "dms2.id.strategy",
+      havingValue = "snowflake",
+      matchIfMissing = true)
+  public WorkerIdLease workerIdLease(
+      RedissonClient redissonClient,
+      @Value("${dms2.id.snowflake.lease-ttl:30s}") Duration leaseTtl) {
+    WorkerIdLease lease = new WorkerIdLease(redissonClient, WORKER_KEY_PREFIX, leaseTtl);
+    lease.start();
+    return lease;
+  }
+
+  /** Snowflake 用户主键生成器 */
+  @Bean
+  @ConditionalOnProperty(
+      name = "dms2.id.strategy",
+      havingValue = "snowflake",
+      matchIfMissing = true)
+  public SnowflakeIdGenerator snowflakeUserIdGenerator(
+      WorkerIdLease workerIdLease,
+      @Value("${dms2.id.snowflake.epoch:2024-01-01T00:00:00Z}") Instant epoch,
+      @Value("${dms2.id.snowflake.max-backward:10ms}") Duration maxBackward) {
+    return new SnowflakeIdGenerator(epoch, workerIdLease, maxBackward);
+  }
+
+  /** 号段用户主键分配器 计数器以表中最大主键为下限，Redis 数据丢失后不会分配重复主键 */
+  @Bean
+  @ConditionalOnProperty(name = "dms2.id.strategy", havingValue = "segment")
+  public SegmentIdAllocator segmentUserIdGenerator(
+      RedissonClient redissonClient,
+      UserMapper userMapper,
+      ObjectProvider<UserShards> userShards,
+      @Value("${dms2.id.segment.key:dms2:id:segment:user}") String key,
+      @Value("${dms2.id.segment.step:1000}") int step) {
+    RedisSegmentSource source = new RedisSegmentSource(redissonClient, key);
+    // sharding profile 下取各分片的最大主键
+    UserShards shards = userShards.getIfAvailable();
+    Long maxId =
+        shards == null
+            ? userMapper.selectMaxId()
+            : shards.fanOut(UserMapper::selectMaxId).stream()
+                .filter(Objects::nonNull)
+                .max(Long::compare)
+                .orElse(null);
+    if (maxId != null) {
+      source.ensureAtLeast(maxId);
+    }
+    log.info("号段主键分配器: key={}, step={}, maxId={}", key, step, maxId);
+    return new SegmentIdAllocator(
+        source,
+        step,
+        Executors.newSingleThreadExecutor(
+            r -> {
+              Thread thread = new Thread(r, "id-segment-preload");
+              thread.setDaemon(true);
+              return thread;
+            }));
+  }
+}
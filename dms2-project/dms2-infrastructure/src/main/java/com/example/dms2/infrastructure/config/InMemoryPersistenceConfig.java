@@ -0,0 +1,44 @@
+package com.example.dms2.infrastructure.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+
+/**
+ * 内存存储配置 memory profile 下用户数据保存在 {@code InMemoryUserRepositoryImpl} 中，不连接数据库
+ *
+ * <p>数据源与 MyBatis 的自动配置在 application-memory.yml 中排除；应用服务上的 {@code @Transactional}
+ * 仍需要事务管理器，这里提供一个不做任何操作的实现。
+ *
+ * @author DMS2 Team
+ * @since 1.0.0
+ */
+@Configuration
+@Profile("memory")
+public class InMemoryPersistenceConfig {
+
+  /** 空事务管理器：内存仓储的每次写入各自原子，不支持回滚 */
+  @Bean
+  public PlatformTransactionManager transactionManager() {
+    return new AbstractPlatformTransactionManager() {
+
+      @Override
+      protected Object doGetTransaction() {
+        return new Object();
+      }
+
+      @Override
+      protected void doBegin(Object transaction, TransactionDefinition definition) {}
+
+      @Override
+      protected void doCommit(DefaultTransactionStatus status) {}
+
+      @Override
+      protected void doRollback(DefaultTransactionStatus status) {}
+    };
+  }
+}
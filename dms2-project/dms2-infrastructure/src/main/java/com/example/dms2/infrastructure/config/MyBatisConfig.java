@@ -1,17 +1,60 @@
 package com.example.dms2.infrastructure.config;
 
+import com.example.dms2.infrastructure.mybatis.MapperFactoryBeanTypeResolver;
+import com.example.dms2.infrastructure.mybatis.StatementMetricsInterceptor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import java.time.Duration;
 import org.mybatis.spring.annotation.MapperScan;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.annotation.Role;
 
 /**
- * MyBatis 配置类
+ * MyBatis 配置类（memory profile 不使用数据库，不加载）
  *
  * @author DMS2 Team
  * @since 1.0.0
  */
 @Configuration
-@MapperScan("com.example.dms2.infrastructure.mapper")
+@Profile("!memory")
+// 显式引用 SqlSessionTemplate：AOT 生成的代码不保留按类型自动装配，Mapper 需要以 Bean 引用注入
+@MapperScan(
+    basePackages = "com.example.dms2.infrastructure.mapper",
+    sqlSessionTemplateRef = "sqlSessionTemplate")
 public class MyBatisConfig {
   // MyBatis 基本配置在 application.yml 中完成
   // 包括：mapper-locations、type-aliases-package、configuration 等
+
+  /** 补全 Mapper Bean 定义的类型，AOT/Native Image 构建需要（见 {@link MapperFactoryBeanTypeResolver}） */
+  @Bean
+  @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+  public static MapperFactoryBeanTypeResolver mapperFactoryBeanTypeResolver() {
+    return new MapperFactoryBeanTypeResolver();
+  }
+
+  /** Mapper 语句耗时、行数、慢查询统计与 JFR 事件（dms2.metrics.mapper.enabled=false 时关闭） */
+  @Bean
+  @ConditionalOnProperty(
+      name = "dms2.metrics.mapper.enabled",
+      havingValue = "true",
+      matchIfMissing = true)
+  public StatementMetricsInterceptor statementMetricsInterceptor(
+      ObjectProvider<MeterRegistry> meterRegistry,
+      @Value("${dms2.metrics.percentiles-histogram:true}") boolean percentilesHistogram,
+      @Value("${dms2.metrics.mapper.slow-threshold:200ms}") Duration slowThreshold,
+      @Value("${dms2.metrics.mapper.unbounded-rows:1000}") int unboundedRows,
+      @Value("${dms2.jfr.enabled:true}") boolean jfrEnabled) {
+    return new StatementMetricsInterceptor(
+        meterRegistry.getIfAvailable(() -> Metrics.globalRegistry),
+        percentilesHistogram,
+        slowThreshold,
+        unboundedRows,
+        jfrEnabled);
+  }
 }
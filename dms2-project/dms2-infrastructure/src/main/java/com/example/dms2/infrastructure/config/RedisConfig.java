@@ -5,6 +5,7 @@ import com.fasterxml.jackson.annotation.JsonTypeInfo;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.jsontype.impl.LaissezFaireSubTypeValidator;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import java.time.Duration;
 import org.redisson.Redisson;
 import org.redisson.api.RedissonClient;
@@ -15,6 +16,7 @@ import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
@@ -45,8 +47,8 @@ public class RedisConfig {
   @Value("${spring.data.redis.database:0}")
   private int redisDatabase;
 
-  @Value("${spring.data.redis.timeout:5000}")
-  private int redisTimeout;
+  @Value("${spring.data.redis.timeout:5s}")
+  private Duration redisTimeout;
 
   /** Redisson 客户端配置 */
   @Bean(destroyMethod = "shutdown")
@@ -61,7 +63,7 @@ public class RedisConfig {
         .setPassword(redisPassword)
         .setConnectionPoolSize(64)
         .setConnectionMinimumIdleSize(10)
-        .setTimeout(redisTimeout)
+        .setTimeout((int) redisTimeout.toMillis())
         .setRetryAttempts(3)
         .setRetryInterval(1500)
         .setKeepAlive(true);
@@ -81,17 +83,7 @@ public class RedisConfig {
     template.setConnectionFactory(redisConnectionFactory);
 
     // 使用 Jackson2JsonRedisSerializer 来序列化和反序列化 redis 的 value 值
-    Jackson2JsonRedisSerializer<Object> jackson2JsonRedisSerializer =
-        new Jackson2JsonRedisSerializer<>(Object.class);
-
-    ObjectMapper objectMapper = new ObjectMapper();
-    objectMapper.setVisibility(PropertyAccessor.ALL, JsonAutoDetect.Visibility.ANY);
-    objectMapper.activateDefaultTyping(
-        LaissezFaireSubTypeValidator.instance,
-        ObjectMapper.DefaultTyping.NON_FINAL,
-        JsonTypeInfo.As.PROPERTY);
-
-    jackson2JsonRedisSerializer.setObjectMapper(objectMapper);
+    Jackson2JsonRedisSerializer<Object> jackson2JsonRedisSerializer = valueSerializer();
 
     // String 序列化
     StringRedisSerializer stringRedisSerializer = new StringRedisSerializer();
@@ -109,23 +101,17 @@ public class RedisConfig {
     return template;
   }
 
-  /** CacheManager 配置 */
+  /**
+   * CacheManager 配置
+   *
+   * <p>连接工厂以延迟代理注入：创建 CacheManager 不需要连接，缓存指标与缓存切面在启动时获取 CacheManager 也不会提前创建 Redisson 客户端， Redis
+   * 相关 Bean 可按启动策略（dms2.startup.init.redis）延迟创建。
+   */
   @Bean
-  public CacheManager cacheManager(RedisConnectionFactory redisConnectionFactory) {
+  public CacheManager cacheManager(@Lazy RedisConnectionFactory redisConnectionFactory) {
     // 配置序列化
-    Jackson2JsonRedisSerializer<Object> jackson2JsonRedisSerializer =
-        new Jackson2JsonRedisSerializer<>(Object.class);
+    Jackson2JsonRedisSerializer<Object> jackson2JsonRedisSerializer = valueSerializer();
 
-    ObjectMapper objectMapper = new ObjectMapper();
-    objectMapper.setVisibility(PropertyAccessor.ALL, JsonAutoDetect.Visibility.ANY);
-    objectMapper.activateDefaultTyping(
-        LaissezFaireSubTypeValidator.instance,
-        ObjectMapper.DefaultTyping.NON_FINAL,
-        JsonTypeInfo.As.PROPERTY);
-
-    jackson2JsonRedisSerializer.setObjectMapper(objectMapper);
-
-    // 配置序列化
     RedisCacheConfiguration config =
         RedisCacheConfiguration.defaultCacheConfig()
             .entryTtl(Duration.ofHours(1)) // 默认缓存时间1小时
@@ -140,6 +126,23 @@ public class RedisConfig {
     return RedisCacheManager.builder(redisConnectionFactory).cacheDefaults(config).build();
   }
 
+  /**
+   * Redis value 序列化器 RedisTemplate 与 CacheManager 共用；JSON 中携带类型信息，反序列化时还原为原类型
+   *
+   * @return 序列化器
+   */
+  public static Jackson2JsonRedisSerializer<Object> valueSerializer() {
+    ObjectMapper objectMapper = new ObjectMapper();
+    // 缓存对象中的 LocalDateTime 等 Java 8 时间类型
+    objectMapper.registerModule(new JavaTimeModule());
+    objectMapper.setVisibility(PropertyAccessor.ALL, JsonAutoDetect.Visibility.ANY);
+    objectMapper.activateDefaultTyping(
+        LaissezFaireSubTypeValidator.instance,
+        ObjectMapper.DefaultTyping.NON_FINAL,
+        JsonTypeInfo.As.PROPERTY);
+    return new Jackson2JsonRedisSerializer<>(objectMapper, Object.class);
+  }
+
   /** Redisson 连接工厂 */
   @Bean
   public RedisConnectionFactory redissonConnectionFactory(RedissonClient redissonClient) {
@@ -0,0 +1,83 @@
+package com.example.dms2.infrastructure.config;
+
+import com.alibaba.druid.filter.Filter;
+import com.alibaba.druid.pool.DruidDataSource;
+import com.example.dms2.infrastructure.sharding.UserShards;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.ibatis.plugin.Interceptor;
+import org.mybatis.spring.boot.autoconfigure.MybatisProperties;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.env.Environment;
+
+/**
+ * 分片配置（sharding profile） 按 {@code dms2.sharding.shards[i]} 创建 t_user 的分片数据源与 Mapper
+ *
+ * <p>每个分片的连接池先绑定 spring.datasource.druid.*，再以分片自己的配置（url、username、password 等）覆盖，未配置的账号取
+ * spring.datasource.*。分片数据源不注册为 DataSource Bean，主库（spring.datasource）仍是唯一的 DataSource，保存全局索引表
+ * t_user_index，并由它承担健康检查、启动预热与 Spring 事务。
+ *
+ * @author DMS2 Team
+ * @since 1.0.0
+ */
+@Slf4j
+@Configuration
+@Profile("sharding & !memory")
+public class ShardingConfig {
+
+  private static final String SHARDS_PREFIX = "dms2.sharding.shards";
+
+  @Bean(destroyMethod = "close")
+  public UserShards userShards(
+      Environment environment,
+      DataSourceProperties basicProperties,
+      MybatisProperties mybatisProperties,
+      ObjectProvider<Filter> filters,
+      ObjectProvider<Interceptor> interceptors)
+      throws SQLException {
+    Binder binder = Binder.get(environment);
+    List<DruidDataSource> dataSources = new ArrayList<>();
+    for (int i = 0; binder.bind(shardKey(i, "url"), String.class).isBound(); i++) {
+      DruidDataSource dataSource = new DataSourceConfig.LenientDruidDataSource();
+      binder.bind("spring.datasource.druid", Bindable.ofInstance(dataSource));
+      binder.bind(SHARDS_PREFIX + "[" + i + "]", Bindable.ofInstance(dataSource));
+      if (dataSource.getUsername() == null) {
+        dataSource.setUsername(basicProperties.determineUsername());
+      }
+      if (dataSource.getPassword() == null) {
+        dataSource.setPassword(basicProperties.determinePassword());
+      }
+      if (dataSource.getDriverClassName() == null) {
+        dataSource.setDriverClassName(basicProperties.getDriverClassName());
+      }
+      dataSource.setName("user-shard-" + i);
+      dataSource.getProxyFilters().addAll(filters.orderedStream().toList());
+      dataSource.init();
+      dataSources.add(dataSource);
+    }
+    if (dataSources.isEmpty()) {
+      throw new IllegalStateException("sharding profile 需要配置 " + SHARDS_PREFIX);
+    }
+    log.info("t_user 分片数: {}", dataSources.size());
+    return UserShards.create(
+        dataSources,
+        configuration -> {
+          if (mybatisProperties.getConfiguration() != null) {
+            mybatisProperties.getConfiguration().applyTo(configuration);
+          }
+        },
+        interceptors.orderedStream().toList());
+  }
+
+  private static String shardKey(int index, String property) {
+    return SHARDS_PREFIX + "[" + index + "]." + property;
+  }
+}
@@ -0,0 +1,19 @@
+package com.example.dms2.infrastructure.id;
+
+/**
+ * 主键生成器 插入前在应用内分配主键，不依赖数据库自增
+ *
+ * @author DMS2 Team
+ * @since 1.0.0
+ */
+@FunctionalInterface
+public interface IdGenerator {
+
+  /**
+   * 生成下一个主键
+   *
+   * @return 正数主键，同一生成器内单调递增
+   * @throws IllegalStateException 暂时无法安全生成（如 workerId 租约过期、时钟回拨超过容忍上限）
+   */
+  long nextId();
+}
@@ -0,0 +1,38 @@
+package com.example.dms2.infrastructure.id;
+
+import org.redisson.api.RAtomicLong;
+import org.redisson.api.RedissonClient;
+
+/**
+ * 基于 Redisson {@link RAtomicLong} 的号段来源 INCRBY step 领取号段，多实例共享同一个计数器
+ *
+ * <p>计数器丢失（Redis 未持久化）后会从 0 重新计数，启动时应以表中最大主键调用 {@link #ensureAtLeast(long)}。
+ *
+ * @author DMS2 Team
+ * @since 1.0.0
+ */
+public class RedisSegmentSource implements SegmentIdAllocator.Source {
+
+  private final RAtomicLong counter;
+
+  public RedisSegmentSource(RedissonClient redissonClient, String key) {
+    this.counter = redissonClient.getAtomicLong(key);
+  }
+
+  @Override
+  public long allocate(int step) {
+    return counter.addAndGet(step);
+  }
+
+  /**
+   * 计数器小于 floor 时提升到 floor
+   *
+   * @param floor 已使用的最大主键
+   */
+  public void ensureAtLeast(long floor) {
+    long current = counter.get();
+    while (current < floor && !counter.compareAndSet(current, floor)) {
+      current = counter.get();
+    }
+  }
+}
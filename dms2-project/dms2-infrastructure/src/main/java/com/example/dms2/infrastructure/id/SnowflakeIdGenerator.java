@@ -0,0 +1,110 @@
+package com.example.dms2.infrastructure.id;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntSupplier;
+import java.util.function.LongSupplier;
+
+/**
+ * Snowflake 主键生成器 64 位主键 = 1 位符号（0）+ 41 位毫秒时间戳（相对 epoch，约 69 年）+ 10 位 workerId + 12 位序列号
+ *
+ * <p>每个 workerId 每毫秒最多生成 4096 个主键，用尽后等待下一毫秒。时钟回拨不超过 maxBackward 时沿用上次的时间戳（依靠序列号保持递增，
+ * 序列号用尽时等待时钟追上），超过时拒绝生成，避免与回拨前生成的主键重复。
+ *
+ * @author DMS2 Team
+ * @since 1.0.0
+ */
+public class SnowflakeIdGenerator implements IdGenerator {
+
+  public static final int WORKER_ID_BITS = 10;
+  public static final int SEQUENCE_BITS = 12;
+  public static final int MAX_WORKER_ID = (1 << WORKER_ID_BITS) - 1;
+
+  private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+  private static final int TIMESTAMP_SHIFT = WORKER_ID_BITS + SEQUENCE_BITS;
+
+  private final long epochMillis;
+  private final IntSupplier workerId;
+  private final LongSupplier clock;
+  private final long maxBackwardMillis;
+  private final LongAdder clockBackward = new LongAdder();
+
+  private long lastTimestamp = -1L;
+  private long sequence;
+
+  /**
+   * @param epoch 时间戳起点
+   * @param workerId workerId（0-1023），每次生成时读取，租约失效时应抛出 {@link IllegalStateException}
+   * @param maxBackward 可容忍的时钟回拨
+   */
+  public SnowflakeIdGenerator(Instant epoch, IntSupplier workerId, Duration maxBackward) {
+    this(epoch, workerId, maxBackward, System::currentTimeMillis);
+  }
+
+  /**
+   * @param clock 毫秒时钟
+   */
+  public SnowflakeIdGenerator(
+      Instant epoch, IntSupplier workerId, Duration maxBackward, LongSupplier clock) {
+    this.epochMillis = epoch.toEpochMilli();
+    this.workerId = workerId;
+    this.maxBackwardMillis = maxBackward.toMillis();
+    this.clock = clock;
+    if (clock.getAsLong() < epochMillis) {
+      throw new IllegalArgumentException("epoch 晚于当前时间: " + epoch);
+    }
+  }
+
+  @Override
+  public synchronized long nextId() {
+    long worker = workerId.getAsInt();
+    if (worker < 0 || worker > MAX_WORKER_ID) {
+      throw new IllegalStateException("workerId 超出范围: " + worker);
+    }
+    long now = clock.getAsLong();
+    if (now < lastTimestamp) {
+      long backward = lastTimestamp - now;
+      if (backward > maxBackwardMillis) {
+        throw new IllegalStateException(
+            "时钟回拨 " + backward + "ms，超过容忍上限 " + maxBackwardMillis + "ms");
+      }
+      clockBackward.increment();
+      now = lastTimestamp;
+    }
+    if (now == lastTimestamp) {
+      sequence = (sequence + 1) & SEQUENCE_MASK;
+      if (sequence == 0) {
+        now = waitAfter(lastTimestamp);
+      }
+    } else {
+      sequence = 0;
+    }
+    lastTimestamp = now;
+    return ((now - epochMillis) << TIMESTAMP_SHIFT) | (worker << SEQUENCE_BITS) | sequence;
+  }
+
+  /** 因时钟回拨沿用上次时间戳的次数 */
+  public long getClockBackwardCount() {
+    return clockBackward.sum();
+  }
+
+  /**
+   * 主键中的时间戳
+   *
+   * @param id 主键
+   * @return 生成时间
+   */
+  public Instant timestampOf(long id) {
+    return Instant.ofEpochMilli((id >>> TIMESTAMP_SHIFT) + epochMillis);
+  }
+
+  private long waitAfter(long timestamp) {
+    long now = clock.getAsLong();
+    while (now <= timestamp) {
+      Thread.onSpinWait();
+      now = clock.getAsLong();
+    }
+    return now;
+  }
+}
@@ -0,0 +1,154 @@
+package com.example.dms2.infrastructure.id;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntSupplier;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RScript;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+
+/**
+ * Snowflake workerId 租约 通过 Redisson 在 {@code <keyPrefix><workerId>} 上以 SET NX PX 占用一个 workerId，每
+ * ttl/3 续期一次
+ *
+ * <p>续期失败（Redis 不可用）时租约在 ttl 后失效，此后 {@link #getAsInt()} 抛出异常，避免其他实例接手该 workerId 后生成重复主键； 发现
+ * workerId 已被其他实例占用时重新申请。关闭时只删除自己持有的 key。
+ *
+ * @author DMS2 Team
+ * @since 1.0.0
+ */
+@Slf4j
+public class WorkerIdLease implements IntSupplier, AutoCloseable {
+
+  /** key 的值等于 owner 时续期 */
+  private static final String RENEW_SCRIPT =
+      "if redis.call('get', KEYS[1]) == ARGV[1] then "
+          + "return redis.call('pexpire', KEYS[1], ARGV[2]) else return 0 end";
+
+  /** key 的值等于 owner 时删除 */
+  private static final String RELEASE_SCRIPT =
+      "if redis.call('get', KEYS[1]) == ARGV[1] then "
+          + "return redis.call('del', KEYS[1]) else return 0 end";
+
+  private final RedissonClient redissonClient;
+  private final String keyPrefix;
+  private final Duration ttl;
+  private final String owner;
+  private final ScheduledExecutorService renewer;
+
+  private volatile int workerId = -1;
+  private volatile long validUntilNanos;
+
+  public WorkerIdLease(RedissonClient redissonClient, String keyPrefix, Duration ttl) {
+    this.redissonClient = redissonClient;
+    this.keyPrefix = keyPrefix;
+    this.ttl = ttl;
+    this.owner =
+        ManagementFactory.getRuntimeMXBean().getName()
+            + ":"
+            + UUID.randomUUID().toString().substring(0, 8);
+    this.renewer =
+        Executors.newSingleThreadScheduledExecutor(
+            r -> {
+              Thread thread = new Thread(r, "id-worker-lease");
+              thread.setDaemon(true);
+              return thread;
+            });
+  }
+
+  /** 申请 workerId 并开始定时续期 */
+  public void start() {
+    acquire();
+    long period = Math.max(1, ttl.toMillis() / 3);
+    renewer.scheduleWithFixedDelay(this::renew, period, period, TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * 当前持有的 workerId
+   *
+   * @throws IllegalStateException 租约已过期
+   */
+  @Override
+  public int getAsInt() {
+    if (System.nanoTime() - validUntilNanos >= 0) {
+      throw new IllegalStateException("workerId 租约已过期: workerId=" + workerId);
+    }
+    return workerId;
+  }
+
+  public String getOwner() {
+    return owner;
+  }
+
+  @Override
+  public void close() {
+    renewer.shutdownNow();
+    int current = workerId;
+    if (current < 0) {
+      return;
+    }
+    validUntilNanos = System.nanoTime();
+    try {
+      eval(RELEASE_SCRIPT, current);
+      log.info("释放 workerId: {}", current);
+    } catch (Exception e) {
+      log.warn("释放 workerId 失败，租约到期后自动释放: workerId={}, error={}", current, e.getMessage());
+    }
+  }
+
+  private synchronized void acquire() {
+    long start = System.nanoTime();
+    int offset = Math.floorMod(owner.hashCode(), SnowflakeIdGenerator.MAX_WORKER_ID + 1);
+    for (int i = 0; i <= SnowflakeIdGenerator.MAX_WORKER_ID; i++) {
+      int candidate = (offset + i) % (SnowflakeIdGenerator.MAX_WORKER_ID + 1);
+      if (redissonClient
+          .<String>getBucket(keyPrefix + candidate, StringCodec.INSTANCE)
+          .setIfAbsent(owner, ttl)) {
+        workerId = candidate;
+        validUntilNanos = start + ttl.toNanos();
+        log.info("申请 workerId: {}, owner={}", candidate, owner);
+        return;
+      }
+    }
+    throw new IllegalStateException("没有可用的 workerId（0-" + SnowflakeIdGenerator.MAX_WORKER_ID + "）");
+  }
+
+  private void renew() {
+    long start = System.nanoTime();
+    try {
+      Long renewed = eval(RENEW_SCRIPT, workerId, ttl.toMillis());
+      if (renewed != null && renewed == 1L) {
+        validUntilNanos = start + ttl.toNanos();
+        return;
+      }
+      log.warn("workerId 已被其他实例占用，重新申请: workerId={}", workerId);
+      validUntilNanos = start;
+      acquire();
+    } catch (Exception e) {
+      // 保持当前租约直到过期，下次续期时重试
+      log.warn("workerId 续期失败: workerId={}, error={}", workerId, e.getMessage());
+    }
+  }
+
+  private Long eval(String script, int worker, Object... extraArgs) {
+    Object[] args = new Object[extraArgs.length + 1];
+    args[0] = owner;
+    for (int i = 0; i < extraArgs.length; i++) {
+      args[i + 1] = String.valueOf(extraArgs[i]);
+    }
+    return redissonClient
+        .getScript(StringCodec.INSTANCE)
+        .eval(
+            RScript.Mode.READ_WRITE,
+            script,
+            RScript.ReturnType.INTEGER,
+            List.<Object>of(keyPrefix + worker),
+            args);
+  }
+}
@@ -0,0 +1,34 @@
+package com.example.dms2.infrastructure.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 缓存查询 JFR 事件（本地响应缓存与 Redis）
+ *
+ * @author DMS2 Team
+ * @since 1.0.0
+ */
+@Name(CacheLookupEvent.NAME)
+@Label("Cache Lookup")
+@Category({"DMS2", "Cache"})
+@Description("缓存查询")
+@StackTrace(false)
+public class CacheLookupEvent extends Event {
+
+  public static final String NAME = "com.example.dms2.CacheLookup";
+
+  @Label("Cache")
+  @Description("缓存名称，如 userResponse、redis")
+  public String cache;
+
+  @Label("Key")
+  public String key;
+
+  @Label("Hit")
+  public boolean hit;
+}
@@ -0,0 +1,35 @@
+package com.example.dms2.infrastructure.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Mapper 语句 JFR 事件
+ *
+ * @author DMS2 Team
+ * @since 1.0.0
+ */
+@Name(SqlStatementEvent.NAME)
+@Label("SQL Statement")
+@Category({"DMS2", "Database"})
+@Description("MyBatis Mapper 语句执行")
+@StackTrace(false)
+public class SqlStatementEvent extends Event {
+
+  public static final String NAME = "com.example.dms2.SqlStatement";
+
+  @Label("Statement")
+  @Description("语句简称，如 UserMapper.selectById")
+  public String statement;
+
+  @Label("Rows")
+  @Description("返回或影响的行数")
+  public long rows;
+
+  @Label("Outcome")
+  public String outcome;
+}
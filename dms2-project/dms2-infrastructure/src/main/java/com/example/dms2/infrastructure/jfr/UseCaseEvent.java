@@ -0,0 +1,38 @@
+package com.example.dms2.infrastructure.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 应用服务用例 JFR 事件（{@code UserAppService} 方法）
+ *
+ * @author DMS2 Team
+ * @since 1.0.0
+ */
+@Name(UseCaseEvent.NAME)
+@Label("Use Case")
+@Category({"DMS2", "Application"})
+@Description("UserAppService 用例调用")
+@StackTrace(false)
+public class UseCaseEvent extends Event {
+
+  public static final String NAME = "com.example.dms2.UseCase";
+
+  @Label("Operation")
+  public String operation;
+
+  @Label("User Id")
+  @Description("单个用户操作的用户 ID，无则为 0")
+  public long userId;
+
+  @Label("Batch Size")
+  @Description("批量操作的 ID 数，非批量操作为 0")
+  public int batchSize;
+
+  @Label("Outcome")
+  public String outcome;
+}
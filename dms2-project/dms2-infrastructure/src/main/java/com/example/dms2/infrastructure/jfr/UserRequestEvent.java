@@ -0,0 +1,37 @@
+package com.example.dms2.infrastructure.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 用户接口请求 JFR 事件（{@code /api/} 下的 HTTP 请求）
+ *
+ * @author DMS2 Team
+ * @since 1.0.0
+ */
+@Name(UserRequestEvent.NAME)
+@Label("User Request")
+@Category({"DMS2", "Web"})
+@Description("用户接口 HTTP 请求")
+@StackTrace(false)
+public class UserRequestEvent extends Event {
+
+  public static final String NAME = "com.example.dms2.UserRequest";
+
+  @Label("Method")
+  public String method;
+
+  @Label("Path")
+  @Description("匹配的路径模式，如 /api/users/{id}")
+  public String path;
+
+  @Label("Status")
+  public int status;
+
+  @Label("Outcome")
+  public String outcome;
+}
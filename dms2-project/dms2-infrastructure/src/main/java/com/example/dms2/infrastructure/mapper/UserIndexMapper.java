@@ -0,0 +1,71 @@
+package com.example.dms2.infrastructure.mapper;
+
+import com.example.dms2.domain.model.entity.User;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+/**
+ * 用户全局二级索引 Mapper 接口 t_user_index 位于主库，保存用户名、邮箱到主键的映射（sharding profile 使用）
+ *
+ * @author DMS2 Team
+ * @since 1.0.0
+ */
+@Mapper
+public interface UserIndexMapper {
+
+  /**
+   * 根据用户名查询用户 ID
+   *
+   * @param username 用户名
+   * @return 用户 ID，不存在时返回 null
+   */
+  Long selectIdByUsername(@Param("username") String username);
+
+  /**
+   * 根据邮箱查询用户 ID
+   *
+   * @param email 邮箱
+   * @return 用户 ID，不存在时返回 null
+   */
+  Long selectIdByEmail(@Param("email") String email);
+
+  /**
+   * 插入索引
+   *
+   * @param user 用户实体，id 不能为空
+   * @return 影响行数
+   */
+  int insert(User user);
+
+  /**
+   * 根据 ID 更新索引
+   *
+   * @param user 用户实体
+   * @return 影响行数
+   */
+  int updateById(User user);
+
+  /**
+   * 根据 ID 删除索引
+   *
+   * @param id 用户 ID
+   * @return 影响行数
+   */
+  int deleteById(@Param("id") Long id);
+
+  /**
+   * 统计用户名数量
+   *
+   * @param username 用户名
+   * @return 数量
+   */
+  int countByUsername(@Param("username") String username);
+
+  /**
+   * 统计邮箱数量
+   *
+   * @param email 邮箱
+   * @return 数量
+   */
+  int countByEmail(@Param("email") String email);
+}
@@ -1,6 +1,7 @@
 package com.example.dms2.infrastructure.mapper;
 
 import com.example.dms2.domain.model.entity.User;
+import java.time.LocalDateTime;
 import java.util.List;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
@@ -61,6 +62,14 @@ public interface UserMapper {
    */
   int insert(User user);
 
+  /**
+   * 插入用户（主键由应用分配，见 {@link com.example.dms2.infrastructure.id.IdGenerator}）
+   *
+   * @param user 用户实体，id 不能为空
+   * @return 影响行数
+   */
+  int insertWithId(User user);
+
   /**
    * 根据 ID 更新用户
    *
@@ -94,11 +103,38 @@ public interface UserMapper {
   int countByEmail(@Param("email") String email);
 
   /**
-   * 分页查询用户
+   * 查询最大用户 ID
+   *
+   * @return 最大 ID，表为空时返回 null
+   */
+  Long selectMaxId();
+
+  /**
+   * 分页查询用户 按创建时间倒序，相同时按 ID 倒序
    *
    * @param offset 偏移量
    * @param limit 限制数量
    * @return 用户列表
    */
   List<User> selectByPage(@Param("offset") int offset, @Param("limit") int limit);
+
+  /**
+   * 键集分页查询用户 顺序与 {@link #selectByPage(int, int)} 相同，返回排在（createTime, id）之后的用户
+   *
+   * @param createTime 上一批最后一个用户的创建时间，为 null 时从头开始
+   * @param id 上一批最后一个用户的 ID
+   * @param limit 限制数量
+   * @return 用户列表
+   */
+  List<User> selectPageAfter(
+      @Param("createTime") LocalDateTime createTime,
+      @Param("id") Long id,
+      @Param("limit") int limit);
+
+  /**
+   * 统计用户总数
+   *
+   * @return 数量
+   */
+  long countAll();
 }
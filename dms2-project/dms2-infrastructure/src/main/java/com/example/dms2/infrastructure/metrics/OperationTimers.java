@@ -0,0 +1,80 @@
+package com.example.dms2.infrastructure.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 按操作名与结果分组的耗时指标
+ *
+ * <p>每个操作的各结果 {@link Timer} 在首次记录时注册并缓存，之后的记录只有一次哈希查找，不再经过 MeterRegistry 的查找与标签排序。开启百分位直方图时，桶范围限制在
+ * {@link #MIN_EXPECTED} 到 {@link #MAX_EXPECTED} 之间以控制序列数。
+ *
+ * @author DMS2 Team
+ * @since 1.0.0
+ */
+public class OperationTimers {
+
+  static final Duration MIN_EXPECTED = Duration.ofMillis(1);
+  static final Duration MAX_EXPECTED = Duration.ofSeconds(10);
+
+  private final MeterRegistry registry;
+  private final String name;
+  private final String description;
+  private final String operationTag;
+  private final boolean percentilesHistogram;
+  private final Map<String, Timer[]> timers = new ConcurrentHashMap<>();
+
+  /**
+   * @param registry 指标注册表
+   * @param name 指标名
+   * @param description 指标描述
+   * @param operationTag 操作名的标签键（如 method、statement）
+   * @param percentilesHistogram 是否发布百分位直方图
+   */
+  public OperationTimers(
+      MeterRegistry registry,
+      String name,
+      String description,
+      String operationTag,
+      boolean percentilesHistogram) {
+    this.registry = registry;
+    this.name = name;
+    this.description = description;
+    this.operationTag = operationTag;
+    this.percentilesHistogram = percentilesHistogram;
+  }
+
+  /**
+   * 记录一次操作耗时
+   *
+   * @param operation 操作名
+   * @param nanos 耗时（纳秒）
+   * @param error 异常，成功时为 null
+   */
+  public void record(String operation, long nanos, Throwable error) {
+    Outcome outcome = Outcome.of(error);
+    timers.computeIfAbsent(operation, this::register)[outcome.ordinal()].record(
+        nanos, TimeUnit.NANOSECONDS);
+  }
+
+  private Timer[] register(String operation) {
+    Outcome[] outcomes = Outcome.values();
+    Timer[] result = new Timer[outcomes.length];
+    for (Outcome outcome : outcomes) {
+      result[outcome.ordinal()] =
+          Timer.builder(name)
+              .description(description)
+              .tag(operationTag, operation)
+              .tag("outcome", outcome.tag())
+              .publishPercentileHistogram(percentilesHistogram)
+              .minimumExpectedValue(MIN_EXPECTED)
+              .maximumExpectedValue(MAX_EXPECTED)
+              .register(registry);
+    }
+    return result;
+  }
+}
@@ -0,0 +1,44 @@
+package com.example.dms2.infrastructure.metrics;
+
+import com.example.dms2.domain.exception.BusinessException;
+
+/**
+ * 操作结果 作为耗时指标的 {@code outcome} 标签
+ *
+ * @author DMS2 Team
+ * @since 1.0.0
+ */
+public enum Outcome {
+  /** 成功 */
+  SUCCESS("success"),
+  /** 业务异常（用户不存在、参数不合法等） */
+  BUSINESS_ERROR("business_error"),
+  /** 系统异常 */
+  SYSTEM_ERROR("system_error");
+
+  private final String tag;
+
+  Outcome(String tag) {
+    this.tag = tag;
+  }
+
+  /**
+   * 根据异常判断结果
+   *
+   * @param error 异常，成功时为 null
+   * @return 结果
+   */
+  public static Outcome of(Throwable error) {
+    if (error == null) {
+      return SUCCESS;
+    }
+    if (error instanceof BusinessException || error instanceof IllegalArgumentException) {
+      return BUSINESS_ERROR;
+    }
+    return SYSTEM_ERROR;
+  }
+
+  public String tag() {
+    return tag;
+  }
+}
@@ -0,0 +1,49 @@
+package com.example.dms2.infrastructure.mybatis;
+
+import org.mybatis.spring.mapper.MapperFactoryBean;
+import org.springframework.beans.factory.config.ConstructorArgumentValues;
+import org.springframework.beans.factory.support.MergedBeanDefinitionPostProcessor;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.core.ResolvableType;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Mapper Bean 定义类型补全 供 Spring AOT 生成正确的 Mapper 注册代码
+ *
+ * <p>{@code @MapperScan} 注册的 {@link MapperFactoryBean} 以类名字符串作为构造参数、目标类型为原始类型。AOT 生成的实例提供者按 {@code
+ * Class} 类型匹配构造参数，字符串无法匹配时转为按类型注入而启动失败；按类型查找 Mapper 时也无法从原始类型得知接口。这里在 AOT 处理阶段把构造参数换成接口 {@code
+ * Class}，并设置 {@code MapperFactoryBean<接口>} 目标类型。在 JVM 上直接运行时同样生效，行为不变。
+ *
+ * @author DMS2 Team
+ * @since 1.0.0
+ */
+public class MapperFactoryBeanTypeResolver implements MergedBeanDefinitionPostProcessor {
+
+  @Override
+  public void postProcessMergedBeanDefinition(
+      RootBeanDefinition beanDefinition, Class<?> beanType, String beanName) {
+    if (!MapperFactoryBean.class.isAssignableFrom(beanType)
+        || !beanDefinition.getResolvableType().hasUnresolvableGenerics()) {
+      return;
+    }
+    Class<?> mapperInterface = mapperInterface(beanDefinition);
+    if (mapperInterface == null) {
+      return;
+    }
+    ConstructorArgumentValues arguments = new ConstructorArgumentValues();
+    arguments.addGenericArgumentValue(mapperInterface);
+    beanDefinition.setConstructorArgumentValues(arguments);
+    beanDefinition.setTargetType(ResolvableType.forClassWithGenerics(beanType, mapperInterface));
+  }
+
+  private static Class<?> mapperInterface(RootBeanDefinition beanDefinition) {
+    Object value = beanDefinition.getPropertyValues().get("mapperInterface");
+    if (value instanceof Class<?> type) {
+      return type;
+    }
+    if (value instanceof String name) {
+      return ClassUtils.resolveClassName(name, null);
+    }
+    return null;
+  }
+}
@@ -0,0 +1,22 @@
+package com.example.dms2.infrastructure.mybatis;
+
+import org.mybatis.spring.mapper.MapperScannerConfigurer;
+import org.springframework.beans.factory.aot.BeanRegistrationExcludeFilter;
+import org.springframework.beans.factory.support.RegisteredBean;
+
+/**
+ * AOT 处理时排除 {@link MapperScannerConfigurer}
+ *
+ * <p>扫描得到的 Mapper Bean 定义已写入 AOT 生成的代码；若扫描器本身也被注册，运行时会再扫描一次并因同名 Bean 定义冲突而启动失败。 通过
+ * META-INF/spring/aot.factories 注册。
+ *
+ * @author DMS2 Team
+ * @since 1.0.0
+ */
+public class MapperScannerAotExcludeFilter implements BeanRegistrationExcludeFilter {
+
+  @Override
+  public boolean isExcludedFromAotProcessing(RegisteredBean registeredBean) {
+    return MapperScannerConfigurer.class.isAssignableFrom(registeredBean.getBeanClass());
+  }
+}
@@ -0,0 +1,321 @@
+package com.example.dms2.infrastructure.mybatis;
+
+import com.example.dms2.infrastructure.jfr.SqlStatementEvent;
+import com.example.dms2.infrastructure.metrics.OperationTimers;
+import com.example.dms2.infrastructure.metrics.Outcome;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.lang.reflect.Array;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.ibatis.cache.CacheKey;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+
+/**
+ * Mapper 语句拦截器 按语句（如 {@code UserMapper.selectById}）记录耗时与返回/影响行数
+ *
+ * <p>拦截 {@link Executor} 而非 StatementHandler，耗时包含获取连接、执行与结果映射，与调用方感受到的数据库耗时一致。导出的指标：
+ *
+ * <ul>
+ *   <li>{@code dms2.mapper}：耗时，带 outcome 标签
+ *   <li>{@code dms2.mapper.rows}：查询返回行数或更新影响行数
+ *   <li>{@code dms2.mapper.slow}：超过 {@code slowThreshold} 的次数，同时输出 WARN 日志（含 SQL 与参数形态，不含参数值）
+ *   <li>{@code dms2.mapper.unbounded}：查询返回行数超过 {@code unboundedRows} 的次数（如 {@code selectAll}）
+ * </ul>
+ *
+ * <p>累计统计通过 {@link #getStatistics()} 提供给 actuator 端点。启用 JFR 事件时每次执行同时提交一个 {@link
+ * SqlStatementEvent}，未在录制中启用该事件时只有一次 {@code isEnabled()} 判断。
+ *
+ * @author DMS2 Team
+ * @since 1.0.0
+ */
+@Slf4j
+@Intercepts({
+  @Signature(
+      type = Executor.class,
+      method = "query",
+      args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class}),
+  @Signature(
+      type = Executor.class,
+      method = "query",
+      args = {
+        MappedStatement.class,
+        Object.class,
+        RowBounds.class,
+        ResultHandler.class,
+        CacheKey.class,
+        BoundSql.class
+      }),
+  @Signature(
+      type = Executor.class,
+      method = "update",
+      args = {MappedStatement.class, Object.class})
+})
+public class StatementMetricsInterceptor implements Interceptor {
+
+  /** 耗时指标名 */
+  public static final String METRIC_NAME = "dms2.mapper";
+
+  /** 参数形态中集合、字符串之外的参数最多展示的个数 */
+  private static final int MAX_SHAPE_PARAMS = 10;
+
+  private final MeterRegistry registry;
+  private final OperationTimers timers;
+  private final long slowThresholdNanos;
+  private final int unboundedRows;
+  private final boolean jfrEnabled;
+  private final Map<String, StatementMeters> statements = new ConcurrentHashMap<>();
+
+  /**
+   * @param registry 指标注册表
+   * @param percentilesHistogram 是否发布百分位直方图
+   * @param slowThreshold 慢查询阈值
+   * @param unboundedRows 单次查询返回行数超过该值时视为无界查询
+   */
+  public StatementMetricsInterceptor(
+      MeterRegistry registry,
+      boolean percentilesHistogram,
+      Duration slowThreshold,
+      int unboundedRows) {
+    this(registry, percentilesHistogram, slowThreshold, unboundedRows, true);
+  }
+
+  /**
+   * @param registry 指标注册表
+   * @param percentilesHistogram 是否发布百分位直方图
+   * @param slowThreshold 慢查询阈值
+   * @param unboundedRows 单次查询返回行数超过该值时视为无界查询
+   * @param jfrEnabled 是否提交 {@link SqlStatementEvent}
+   */
+  public StatementMetricsInterceptor(
+      MeterRegistry registry,
+      boolean percentilesHistogram,
+      Duration slowThreshold,
+      int unboundedRows,
+      boolean jfrEnabled) {
+    this.registry = registry;
+    this.timers =
+        new OperationTimers(
+            registry, METRIC_NAME, "Mapper 语句耗时", "statement", percentilesHistogram);
+    this.slowThresholdNanos = slowThreshold.toNanos();
+    this.unboundedRows = unboundedRows;
+    this.jfrEnabled = jfrEnabled;
+  }
+
+  @Override
+  public Object intercept(Invocation invocation) throws Throwable {
+    Object[] args = invocation.getArgs();
+    MappedStatement statement = (MappedStatement) args[0];
+    SqlStatementEvent event = beginEvent();
+    long start = System.nanoTime();
+    Object result = null;
+    Throwable error = null;
+    try {
+      result = invocation.proceed();
+      return result;
+    } catch (Throwable e) {
+      error = e;
+      throw e;
+    } finally {
+      long nanos = System.nanoTime() - start;
+      long rows = rows(result);
+      StatementMeters meters = statements.computeIfAbsent(statement.getId(), this::register);
+      timers.record(meters.stats.getStatement(), nanos, error);
+      record(meters, statement, args, result, rows, nanos, error != null);
+      if (event != null) {
+        commit(event, meters.stats.getStatement(), rows, error);
+      }
+    }
+  }
+
+  /** 启用 JFR 事件且正在录制时返回已开始的事件，否则返回 null */
+  private SqlStatementEvent beginEvent() {
+    if (!jfrEnabled) {
+      return null;
+    }
+    SqlStatementEvent event = new SqlStatementEvent();
+    if (!event.isEnabled()) {
+      return null;
+    }
+    event.begin();
+    return event;
+  }
+
+  private static void commit(
+      SqlStatementEvent event, String statement, long rows, Throwable error) {
+    event.end();
+    if (event.shouldCommit()) {
+      event.statement = statement;
+      event.rows = rows;
+      event.outcome = Outcome.of(error).tag();
+      event.commit();
+    }
+  }
+
+  private void record(
+      StatementMeters meters,
+      MappedStatement statement,
+      Object[] args,
+      Object result,
+      long rows,
+      long nanos,
+      boolean error) {
+    meters.stats.record(nanos, rows, error);
+    if (error) {
+      return;
+    }
+    meters.rows.record(rows);
+    if (result instanceof List<?> && rows > unboundedRows) {
+      meters.stats.recordUnbounded();
+      meters.unbounded.increment();
+      log.warn(
+          "查询返回行数过多（无界查询）: statement={}, rows={}, threshold={}",
+          meters.stats.getStatement(),
+          rows,
+          unboundedRows);
+    }
+    if (nanos >= slowThresholdNanos) {
+      BoundSql boundSql = args.length == 6 ? (BoundSql) args[5] : statement.getBoundSql(args[1]);
+      StatementStats.SlowQuery slowQuery =
+          new StatementStats.SlowQuery(
+              System.currentTimeMillis(),
+              nanos / 1_000_000.0,
+              rows,
+              boundSql.getSql().replaceAll("\\s+", " ").trim(),
+              shape(args[1]));
+      meters.stats.recordSlow(slowQuery);
+      meters.slow.increment();
+      log.warn(
+          "慢查询: statement={}, {}ms, rows={}, params={}, sql={}",
+          meters.stats.getStatement(),
+          String.format("%.1f", slowQuery.millis()),
+          rows,
+          slowQuery.parameters(),
+          slowQuery.sql());
+    }
+  }
+
+  private StatementMeters register(String id) {
+    String name = shorten(id);
+    return new StatementMeters(
+        new StatementStats(name),
+        DistributionSummary.builder(METRIC_NAME + ".rows")
+            .description("Mapper 语句返回/影响行数")
+            .tag("statement", name)
+            .register(registry),
+        Counter.builder(METRIC_NAME + ".slow")
+            .description("慢查询次数")
+            .tag("statement", name)
+            .register(registry),
+        Counter.builder(METRIC_NAME + ".unbounded")
+            .description("返回行数超过阈值的查询次数")
+            .tag("statement", name)
+            .register(registry));
+  }
+
+  /**
+   * 各语句的累计统计，按总耗时降序
+   *
+   * @return 统计列表
+   */
+  public List<StatementStats> getStatistics() {
+    return statements.values().stream()
+        .map(meters -> meters.stats)
+        .sorted(
+            Comparator.comparingDouble((StatementStats s) -> s.getMeanMillis() * s.getCount())
+                .reversed())
+        .toList();
+  }
+
+  /** 慢查询阈值（毫秒） */
+  public long getSlowThresholdMillis() {
+    return Duration.ofNanos(slowThresholdNanos).toMillis();
+  }
+
+  /** 无界查询行数阈值 */
+  public int getUnboundedRows() {
+    return unboundedRows;
+  }
+
+  private static long rows(Object result) {
+    if (result instanceof Collection<?> collection) {
+      return collection.size();
+    }
+    if (result instanceof Number number) {
+      return number.longValue();
+    }
+    return 0;
+  }
+
+  /**
+   * 参数形态 只描述类型与大小，如 {@code {ids=List[120], offset=Integer}}
+   *
+   * @param parameter MyBatis 参数对象
+   * @return 参数形态
+   */
+  static String shape(Object parameter) {
+    if (!(parameter instanceof Map<?, ?> map)) {
+      return shapeOf(parameter);
+    }
+    StringJoiner joiner = new StringJoiner(", ", "{", "}");
+    int shown = 0;
+    for (Map.Entry<?, ?> entry : map.entrySet()) {
+      String key = String.valueOf(entry.getKey());
+      // 跳过 MyBatis 自动生成的 param1、param2 别名
+      if (key.startsWith("param") || shown++ >= MAX_SHAPE_PARAMS) {
+        continue;
+      }
+      joiner.add(key + "=" + shapeOf(entry.getValue()));
+    }
+    return joiner.toString();
+  }
+
+  private static String shapeOf(Object value) {
+    if (value == null) {
+      return "null";
+    }
+    if (value instanceof Collection<?> collection) {
+      return "List[" + collection.size() + "]";
+    }
+    if (value.getClass().isArray()) {
+      return value.getClass().getComponentType().getSimpleName()
+          + "["
+          + Array.getLength(value)
+          + "]";
+    }
+    if (value instanceof CharSequence text) {
+      return "String(" + text.length() + ")";
+    }
+    return value.getClass().getSimpleName();
+  }
+
+  /**
+   * 语句简称 去掉包名，保留 Mapper 类名与方法名
+   *
+   * @param id 语句完整 ID
+   * @return 如 {@code UserMapper.selectById}
+   */
+  static String shorten(String id) {
+    int method = id.lastIndexOf('.');
+    int type = method > 0 ? id.lastIndexOf('.', method - 1) : -1;
+    return type < 0 ? id : id.substring(type + 1);
+  }
+
+  private record StatementMeters(
+      StatementStats stats, DistributionSummary rows, Counter slow, Counter unbounded) {}
+}
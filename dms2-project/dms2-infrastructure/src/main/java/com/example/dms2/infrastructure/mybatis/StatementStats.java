@@ -0,0 +1,107 @@
+package com.example.dms2.infrastructure.mybatis;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 单条 Mapper 语句的累计统计 供 actuator 端点查看
+ *
+ * @author DMS2 Team
+ * @since 1.0.0
+ */
+public class StatementStats {
+
+  private final String statement;
+  private final LongAdder count = new LongAdder();
+  private final LongAdder errors = new LongAdder();
+  private final LongAdder totalNanos = new LongAdder();
+  private final AtomicLong maxNanos = new AtomicLong();
+  private final LongAdder totalRows = new LongAdder();
+  private final AtomicLong maxRows = new AtomicLong();
+  private final LongAdder slowCount = new LongAdder();
+  private final LongAdder unboundedCount = new LongAdder();
+  private final AtomicReference<SlowQuery> lastSlowQuery = new AtomicReference<>();
+
+  StatementStats(String statement) {
+    this.statement = statement;
+  }
+
+  void record(long nanos, long rows, boolean error) {
+    count.increment();
+    totalNanos.add(nanos);
+    maxNanos.accumulateAndGet(nanos, Math::max);
+    if (error) {
+      errors.increment();
+      return;
+    }
+    totalRows.add(rows);
+    maxRows.accumulateAndGet(rows, Math::max);
+  }
+
+  void recordSlow(SlowQuery slowQuery) {
+    slowCount.increment();
+    lastSlowQuery.set(slowQuery);
+  }
+
+  void recordUnbounded() {
+    unboundedCount.increment();
+  }
+
+  public String getStatement() {
+    return statement;
+  }
+
+  public long getCount() {
+    return count.sum();
+  }
+
+  public long getErrors() {
+    return errors.sum();
+  }
+
+  /** 平均耗时（毫秒） */
+  public double getMeanMillis() {
+    long n = count.sum();
+    return n == 0 ? 0 : totalNanos.sum() / 1_000_000.0 / n;
+  }
+
+  /** 最大耗时（毫秒） */
+  public double getMaxMillis() {
+    return maxNanos.get() / 1_000_000.0;
+  }
+
+  /** 平均返回/影响行数（仅成功的执行） */
+  public double getMeanRows() {
+    long n = count.sum() - errors.sum();
+    return n <= 0 ? 0 : (double) totalRows.sum() / n;
+  }
+
+  public long getMaxRows() {
+    return maxRows.get();
+  }
+
+  public long getSlowCount() {
+    return slowCount.sum();
+  }
+
+  public long getUnboundedCount() {
+    return unboundedCount.sum();
+  }
+
+  public SlowQuery getLastSlowQuery() {
+    return lastSlowQuery.get();
+  }
+
+  /**
+   * 慢查询样本 只记录参数的类型与大小，不记录参数值
+   *
+   * @param timestamp 发生时间（毫秒时间戳）
+   * @param millis 耗时（毫秒）
+   * @param rows 返回/影响行数
+   * @param sql SQL（占位符形式）
+   * @param parameters 参数形态，如 {@code {ids=List[120]}}
+   */
+  public record SlowQuery(
+      long timestamp, double millis, long rows, String sql, String parameters) {}
+}
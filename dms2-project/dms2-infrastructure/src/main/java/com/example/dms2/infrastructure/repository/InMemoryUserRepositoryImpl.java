@@ -0,0 +1,208 @@
+package com.example.dms2.infrastructure.repository;
+
+import com.example.dms2.domain.model.entity.User;
+import com.example.dms2.domain.repository.UserRepository;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 用户仓储内存实现 启用 memory profile 时替代 {@link UserRepositoryImpl}，用于本地运行与压测对照
+ *
+ * <p>用户按 ID 存放在 {@link ConcurrentHashMap} 中，用户名、邮箱各有一个无锁的二级索引（值为用户 ID），以 {@code putIfAbsent}
+ * 原子地占用，语义与 t_user 的唯一索引一致：冲突时抛出 {@link DuplicateKeyException}。另按创建时间倒序维护有序索引，{@link #findAll()}
+ * 与分页查询的顺序与 {@code UserMapper.selectAll} 相同，分页直接在有序索引上跳过或定位，结果稳定。
+ *
+ * <p>存取时都复制实体，调用方修改返回的对象不会影响已保存的数据，与数据库实现的行为一致。
+ *
+ * @author DMS2 Team
+ * @since 1.0.0
+ */
+@Slf4j
+@Repository
+@Profile("memory")
+public class InMemoryUserRepositoryImpl implements UserRepository {
+
+  /** 有序索引的键为（创建时间, ID），按创建时间倒序，相同时按 ID 倒序 */
+  private static final Comparator<Map.Entry<LocalDateTime, Long>> NEWEST_FIRST =
+      Map.Entry.<LocalDateTime, Long>comparingByKey(Comparator.reverseOrder())
+          .thenComparing(Map.Entry.comparingByValue(Comparator.reverseOrder()));
+
+  private final Map<Long, User> users = new ConcurrentHashMap<>();
+  private final Map<String, Long> usernameIndex = new ConcurrentHashMap<>();
+  private final Map<String, Long> emailIndex = new ConcurrentHashMap<>();
+  private final NavigableSet<Map.Entry<LocalDateTime, Long>> createTimeIndex =
+      new ConcurrentSkipListSet<>(NEWEST_FIRST);
+  private final AtomicLong sequence = new AtomicLong();
+
+  @Override
+  public Optional<User> findById(Long id) {
+    return Optional.ofNullable(users.get(id)).map(InMemoryUserRepositoryImpl::copy);
+  }
+
+  @Override
+  public Optional<User> findByUsername(String username) {
+    return Optional.ofNullable(usernameIndex.get(username)).flatMap(this::findById);
+  }
+
+  @Override
+  public Optional<User> findByEmail(String email) {
+    return Optional.ofNullable(emailIndex.get(email)).flatMap(this::findById);
+  }
+
+  @Override
+  public User save(User user) {
+    if (user.getId() == null) {
+      insert(user);
+      log.debug("保存新用户: id={}, username={}", user.getId(), user.getUsername());
+    } else {
+      user.updateUpdateTime();
+      update(user);
+      log.debug("更新用户: id={}, username={}", user.getId(), user.getUsername());
+    }
+    return user;
+  }
+
+  @Override
+  public void deleteById(Long id) {
+    log.debug("删除用户: id={}", id);
+    User removed = users.remove(id);
+    if (removed != null) {
+      usernameIndex.remove(removed.getUsername(), id);
+      emailIndex.remove(removed.getEmail(), id);
+      createTimeIndex.remove(Map.entry(removed.getCreateTime(), id));
+    }
+  }
+
+  @Override
+  public List<User> findAll() {
+    List<User> result = new ArrayList<>(users.size());
+    for (Map.Entry<LocalDateTime, Long> key : createTimeIndex) {
+      User user = users.get(key.getValue());
+      // 遍历期间被删除的用户跳过
+      if (user != null) {
+        result.add(copy(user));
+      }
+    }
+    return result;
+  }
+
+  @Override
+  public List<User> findPage(int offset, int limit) {
+    return collect(createTimeIndex.stream().skip(offset), limit);
+  }
+
+  @Override
+  public List<User> findPageAfter(LocalDateTime createTime, Long id, int limit) {
+    NavigableSet<Map.Entry<LocalDateTime, Long>> keys =
+        createTime == null
+            ? createTimeIndex
+            : createTimeIndex.tailSet(Map.entry(createTime, id), false);
+    return collect(keys.stream(), limit);
+  }
+
+  @Override
+  public long count() {
+    return users.size();
+  }
+
+  @Override
+  public boolean existsByUsername(String username) {
+    return usernameIndex.containsKey(username);
+  }
+
+  @Override
+  public boolean existsByEmail(String email) {
+    return emailIndex.containsKey(email);
+  }
+
+  private void insert(User user) {
+    long id = sequence.incrementAndGet();
+    claim(usernameIndex, user.getUsername(), id, "用户名");
+    try {
+      claim(emailIndex, user.getEmail(), id, "邮箱");
+    } catch (DuplicateKeyException e) {
+      usernameIndex.remove(user.getUsername(), id);
+      throw e;
+    }
+    user.setId(id);
+    user.initCreateTime();
+    users.put(id, copy(user));
+    createTimeIndex.add(Map.entry(user.getCreateTime(), id));
+  }
+
+  /** 同一用户的并发更新在 compute 中串行执行；用户不存在时与 UPDATE 语句一样不做任何修改 */
+  private void update(User user) {
+    long id = user.getId();
+    users.computeIfPresent(
+        id,
+        (key, existing) -> {
+          boolean usernameChanged = !existing.getUsername().equals(user.getUsername());
+          boolean emailChanged = !existing.getEmail().equals(user.getEmail());
+          if (usernameChanged) {
+            claim(usernameIndex, user.getUsername(), id, "用户名");
+          }
+          if (emailChanged) {
+            try {
+              claim(emailIndex, user.getEmail(), id, "邮箱");
+            } catch (DuplicateKeyException e) {
+              if (usernameChanged) {
+                usernameIndex.remove(user.getUsername(), id);
+              }
+              throw e;
+            }
+          }
+          if (usernameChanged) {
+            usernameIndex.remove(existing.getUsername(), id);
+          }
+          if (emailChanged) {
+            emailIndex.remove(existing.getEmail(), id);
+          }
+          // 创建时间不随更新改变
+          User updated = copy(user);
+          updated.setCreateTime(existing.getCreateTime());
+          return updated;
+        });
+  }
+
+  /** 按有序索引取出最多 limit 个用户，遍历期间被删除的用户跳过 */
+  private List<User> collect(Stream<Map.Entry<LocalDateTime, Long>> keys, int limit) {
+    return keys.map(key -> users.get(key.getValue()))
+        .filter(Objects::nonNull)
+        .limit(limit)
+        .map(InMemoryUserRepositoryImpl::copy)
+        .toList();
+  }
+
+  private static void claim(Map<String, Long> index, String value, long id, String field) {
+    Long owner = index.putIfAbsent(value, id);
+    if (owner != null && owner != id) {
+      throw new DuplicateKeyException(field + "已存在: " + value);
+    }
+  }
+
+  private static User copy(User user) {
+    return User.builder()
+        .id(user.getId())
+        .username(user.getUsername())
+        .email(user.getEmail())
+        .phone(user.getPhone())
+        .realName(user.getRealName())
+        .createTime(user.getCreateTime())
+        .updateTime(user.getUpdateTime())
+        .build();
+  }
+}
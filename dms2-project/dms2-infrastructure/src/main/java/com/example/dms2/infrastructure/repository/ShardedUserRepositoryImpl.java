@@ -0,0 +1,253 @@
+package com.example.dms2.infrastructure.repository;
+
+import com.example.dms2.domain.model.entity.User;
+import com.example.dms2.domain.repository.UserRepository;
+import com.example.dms2.infrastructure.id.IdGenerator;
+import com.example.dms2.infrastructure.mapper.UserIndexMapper;
+import com.example.dms2.infrastructure.mapper.UserMapper;
+import com.example.dms2.infrastructure.sharding.RollbackCompensation;
+import com.example.dms2.infrastructure.sharding.UserShards;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 分片用户仓储实现 t_user 按主键哈希分布在 {@link UserShards} 的各分片上（sharding profile）
+ *
+ * <p>主库的 t_user_index 是用户名、邮箱的全局二级索引：按用户名、邮箱查询先查索引得到主键再路由到分片，唯一索引保证跨分片唯一。新增时先写索引再写分片，
+ * 分片写入失败时删除索引；删除时先删分片再删索引。
+ *
+ * <p>索引写入加入调用方在主库上的事务，分片语句则自动提交。调用方事务回滚时，索引随之回滚，分片写入由 {@link RollbackCompensation} 在回滚后撤销：
+ * 新增的分片行被删除，更新与删除前的分片行被恢复。进程在两步之间退出或补偿失败时可能残留不一致，按索引查到的用户会再核对用户名、邮箱。
+ *
+ * <p>{@link #findAll()}、{@link #findByIds(List)} 与分页查询在各分片上并行查询后合并。分页时每个分片只按与单库相同的顺序返回前
+ * offset+limit 行（键集分页只返回 limit 行），再对各分片的有序结果做多路归并；总数由各分片的 COUNT 相加。偏移量分页的代价随页码增长， 顺序读取全部用户应使用键集分页。
+ *
+ * @author DMS2 Team
+ * @since 1.0.0
+ */
+@Repository
+@Profile("sharding & !memory")
+public class ShardedUserRepositoryImpl implements UserRepository {
+
+  private static final Logger log = LoggerFactory.getLogger(ShardedUserRepositoryImpl.class);
+
+  /** 与 selectAll、selectByPage 的 ORDER BY create_time DESC, id DESC 一致 */
+  private static final Comparator<User> NEWEST_FIRST =
+      Comparator.comparing(
+              User::getCreateTime, Comparator.nullsLast(Comparator.<LocalDateTime>reverseOrder()))
+          .thenComparing(User::getId, Comparator.reverseOrder());
+
+  private final UserShards shards;
+  private final UserIndexMapper indexMapper;
+  private final IdGenerator idGenerator;
+
+  @Autowired
+  public ShardedUserRepositoryImpl(
+      UserShards shards, UserIndexMapper indexMapper, ObjectProvider<IdGenerator> idGenerator) {
+    this(
+        shards,
+        indexMapper,
+        idGenerator.getIfAvailable(
+            () -> {
+              throw new IllegalStateException("分片存储需要应用分配主键，dms2.id.strategy 不能为 database");
+            }));
+  }
+
+  public ShardedUserRepositoryImpl(
+      UserShards shards, UserIndexMapper indexMapper, IdGenerator idGenerator) {
+    this.shards = shards;
+    this.indexMapper = indexMapper;
+    this.idGenerator = idGenerator;
+  }
+
+  @Override
+  public Optional<User> findById(Long id) {
+    if (id == null) {
+      return Optional.empty();
+    }
+    return Optional.ofNullable(shards.mapperFor(id).selectById(id));
+  }
+
+  @Override
+  public List<User> findByIds(List<Long> ids) {
+    if (ids.isEmpty()) {
+      return List.of();
+    }
+    Map<Integer, List<Long>> idsByShard = new LinkedHashMap<>();
+    for (Long id : ids) {
+      if (id != null) {
+        List<Long> shardIds =
+            idsByShard.computeIfAbsent(shards.shardOf(id), k -> new ArrayList<>());
+        if (!shardIds.contains(id)) {
+          shardIds.add(id);
+        }
+      }
+    }
+    List<Supplier<List<User>>> tasks = new ArrayList<>(idsByShard.size());
+    idsByShard.forEach(
+        (shard, shardIds) -> tasks.add(() -> shards.mapper(shard).selectByIds(shardIds)));
+    Map<Long, User> users = new HashMap<>();
+    for (List<User> shardUsers : shards.parallel(tasks)) {
+      shardUsers.forEach(user -> users.put(user.getId(), user));
+    }
+    return ids.stream().map(users::get).filter(Objects::nonNull).toList();
+  }
+
+  @Override
+  public Optional<User> findByUsername(String username) {
+    Long id = indexMapper.selectIdByUsername(username);
+    if (id == null) {
+      return Optional.empty();
+    }
+    return findById(id).filter(user -> Objects.equals(user.getUsername(), username));
+  }
+
+  @Override
+  public Optional<User> findByEmail(String email) {
+    Long id = indexMapper.selectIdByEmail(email);
+    if (id == null) {
+      return Optional.empty();
+    }
+    return findById(id).filter(user -> Objects.equals(user.getEmail(), email));
+  }
+
+  @Override
+  public User save(User user) {
+    if (user.getId() == null) {
+      // 新增用户：索引的唯一约束先于分片写入检查用户名、邮箱
+      user.initCreateTime();
+      user.setId(idGenerator.nextId());
+      indexMapper.insert(user);
+      UserMapper mapper = shards.mapperFor(user.getId());
+      try {
+        mapper.insertWithId(user);
+      } catch (RuntimeException e) {
+        indexMapper.deleteById(user.getId());
+        throw e;
+      }
+      Long id = user.getId();
+      RollbackCompensation.register("新增用户 id=" + id, () -> mapper.deleteById(id));
+      log.debug(
+          "保存新用户: id={}, shard={}, username={}",
+          user.getId(),
+          shards.shardOf(user.getId()),
+          user.getUsername());
+    } else {
+      // 更新用户
+      user.updateUpdateTime();
+      UserMapper mapper = shards.mapperFor(user.getId());
+      User previous = RollbackCompensation.isActive() ? mapper.selectById(user.getId()) : null;
+      indexMapper.updateById(user);
+      mapper.updateById(user);
+      if (previous != null) {
+        RollbackCompensation.register("更新用户 id=" + user.getId(), () -> mapper.updateById(previous));
+      }
+      log.debug("更新用户: id={}, username={}", user.getId(), user.getUsername());
+    }
+    return user;
+  }
+
+  @Override
+  public void deleteById(Long id) {
+    log.debug("删除用户: id={}", id);
+    UserMapper mapper = shards.mapperFor(id);
+    User previous = RollbackCompensation.isActive() ? mapper.selectById(id) : null;
+    mapper.deleteById(id);
+    indexMapper.deleteById(id);
+    if (previous != null) {
+      RollbackCompensation.register("删除用户 id=" + id, () -> mapper.insertWithId(previous));
+    }
+  }
+
+  @Override
+  public List<User> findAll() {
+    return merge(shards.fanOut(UserMapper::selectAll), 0, Integer.MAX_VALUE);
+  }
+
+  @Override
+  public List<User> findPage(int offset, int limit) {
+    if (limit <= 0) {
+      return List.of();
+    }
+    // 每个分片的前 offset+limit 行包含了全局第 offset ~ offset+limit 行中属于该分片的全部行
+    int perShard = (int) Math.min(Integer.MAX_VALUE, (long) offset + limit);
+    return merge(shards.fanOut(mapper -> mapper.selectByPage(0, perShard)), offset, limit);
+  }
+
+  @Override
+  public List<User> findPageAfter(LocalDateTime createTime, Long id, int limit) {
+    if (limit <= 0) {
+      return List.of();
+    }
+    return merge(shards.fanOut(mapper -> mapper.selectPageAfter(createTime, id, limit)), 0, limit);
+  }
+
+  @Override
+  public long count() {
+    return shards.fanOut(UserMapper::countAll).stream().mapToLong(Long::longValue).sum();
+  }
+
+  @Override
+  public boolean existsByUsername(String username) {
+    return indexMapper.countByUsername(username) > 0;
+  }
+
+  @Override
+  public boolean existsByEmail(String email) {
+    return indexMapper.countByEmail(email) > 0;
+  }
+
+  /**
+   * 多路归并各分片已按 {@link #NEWEST_FIRST} 排好序的结果
+   *
+   * @param shardResults 各分片的有序结果
+   * @param skip 跳过的条数
+   * @param limit 最多返回的条数
+   * @return 合并后的结果
+   */
+  private static List<User> merge(List<List<User>> shardResults, int skip, int limit) {
+    // 游标 {分片下标, 分片内位置}，按游标处的用户排序
+    PriorityQueue<int[]> heads =
+        new PriorityQueue<>(
+            Math.max(1, shardResults.size()),
+            Comparator.comparing(
+                (int[] cursor) -> shardResults.get(cursor[0]).get(cursor[1]), NEWEST_FIRST));
+    int total = 0;
+    for (int shard = 0; shard < shardResults.size(); shard++) {
+      total += shardResults.get(shard).size();
+      if (!shardResults.get(shard).isEmpty()) {
+        heads.add(new int[] {shard, 0});
+      }
+    }
+    List<User> merged = new ArrayList<>(Math.max(0, Math.min(limit, total - skip)));
+    int skipped = 0;
+    while (!heads.isEmpty() && merged.size() < limit) {
+      int[] head = heads.poll();
+      List<User> shardResult = shardResults.get(head[0]);
+      if (skipped < skip) {
+        skipped++;
+      } else {
+        merged.add(shardResult.get(head[1]));
+      }
+      if (++head[1] < shardResult.size()) {
+        heads.add(head);
+      }
+    }
+    return merged;
+  }
+}
@@ -2,33 +2,60 @@ package com.example.dms2.infrastructure.repository;
 
 import com.example.dms2.domain.model.entity.User;
 import com.example.dms2.domain.repository.UserRepository;
+import com.example.dms2.infrastructure.id.IdGenerator;
 import com.example.dms2.infrastructure.mapper.UserMapper;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
-import lombok.RequiredArgsConstructor;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Repository;
 
 /**
- * 用户仓储实现 使用 MyBatis 进行数据库操作
+ * 用户仓储实现 使用 MyBatis 进行数据库操作（memory profile 下由 {@link InMemoryUserRepositoryImpl}、sharding profile
+ * 下由 {@link ShardedUserRepositoryImpl} 替代）
+ *
+ * <p>新增用户的主键由 {@link IdGenerator} 在插入前分配；未配置生成器（dms2.id.strategy=database）时使用数据库自增主键。
  *
  * @author DMS2 Team
  * @since 1.0.0
  */
 @Repository
-@RequiredArgsConstructor
+@Profile("!memory & !sharding")
 public class UserRepositoryImpl implements UserRepository {
 
   private static final Logger log = LoggerFactory.getLogger(UserRepositoryImpl.class);
 
   private final UserMapper userMapper;
+  private final IdGenerator idGenerator;
+
+  public UserRepositoryImpl(UserMapper userMapper, ObjectProvider<IdGenerator> idGenerator) {
+    this.userMapper = userMapper;
+    this.idGenerator = idGenerator.getIfAvailable();
+  }
 
   @Override
   public Optional<User> findById(Long id) {
     return Optional.ofNullable(userMapper.selectById(id));
   }
 
+  @Override
+  public List<User> findByIds(List<Long> ids) {
+    if (ids.isEmpty()) {
+      return List.of();
+    }
+    Map<Long, User> users =
+        userMapper.selectByIds(ids.stream().distinct().toList()).stream()
+            .collect(Collectors.toMap(User::getId, Function.identity()));
+    return ids.stream().map(users::get).filter(Objects::nonNull).toList();
+  }
+
   @Override
   public Optional<User> findByUsername(String username) {
     return Optional.ofNullable(userMapper.selectByUsername(username));
@@ -44,20 +71,25 @@ public class UserRepositoryImpl implements UserRepository {
     if (user.getId() == null) {
       // 新增用户
       user.initCreateTime();
-      userMapper.insert(user);
-      log.info("保存新用户: id={}, username={}", user.getId(), user.getUsername());
+      if (idGenerator != null) {
+        user.setId(idGenerator.nextId());
+        userMapper.insertWithId(user);
+      } else {
+        userMapper.insert(user);
+      }
+      log.debug("保存新用户: id={}, username={}", user.getId(), user.getUsername());
     } else {
       // 更新用户
       user.updateUpdateTime();
       userMapper.updateById(user);
-      log.info("更新用户: id={}, username={}", user.getId(), user.getUsername());
+      log.debug("更新用户: id={}, username={}", user.getId(), user.getUsername());
     }
     return user;
   }
 
   @Override
   public void deleteById(Long id) {
-    log.info("删除用户: id={}", id);
+    log.debug("删除用户: id={}", id);
     userMapper.deleteById(id);
   }
 
@@ -66,6 +98,21 @@ public class UserRepositoryImpl implements UserRepository {
     return userMapper.selectAll();
   }
 
+  @Override
+  public List<User> findPage(int offset, int limit) {
+    return userMapper.selectByPage(offset, limit);
+  }
+
+  @Override
+  public List<User> findPageAfter(LocalDateTime createTime, Long id, int limit) {
+    return userMapper.selectPageAfter(createTime, id, limit);
+  }
+
+  @Override
+  public long count() {
+    return userMapper.countAll();
+  }
+
   @Override
   public boolean existsByUsername(String username) {
     return userMapper.countByUsername(username) > 0;
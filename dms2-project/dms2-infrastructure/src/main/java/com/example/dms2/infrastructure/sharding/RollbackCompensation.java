@@ -0,0 +1,56 @@
+package com.example.dms2.infrastructure.sharding;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 分片写入的回滚补偿 主库事务回滚后撤销已自动提交的分片写入
+ *
+ * <p>分片 Mapper 不参与 Spring 事务，主库上的索引写入随调用方事务回滚时，分片写入需要反向操作才能与索引保持一致。补偿失败只记录日志，不影响调用方已得到的回滚结果。
+ *
+ * @author DMS2 Team
+ * @since 1.0.0
+ */
+@Slf4j
+public final class RollbackCompensation implements TransactionSynchronization {
+
+  private final String description;
+  private final Runnable undo;
+
+  private RollbackCompensation(String description, Runnable undo) {
+    this.description = description;
+    this.undo = undo;
+  }
+
+  /** 当前线程是否处于事务同步中（需要补偿时才读取写入前的分片行） */
+  public static boolean isActive() {
+    return TransactionSynchronizationManager.isSynchronizationActive();
+  }
+
+  /**
+   * 当前线程处于事务同步中时，登记事务回滚后执行的补偿；不在事务中时分片与索引都已提交，无需补偿
+   *
+   * @param description 补偿描述（日志）
+   * @param undo 撤销分片写入的操作
+   */
+  public static void register(String description, Runnable undo) {
+    if (isActive()) {
+      TransactionSynchronizationManager.registerSynchronization(
+          new RollbackCompensation(description, undo));
+    }
+  }
+
+  @Override
+  public void afterCompletion(int status) {
+    if (status != STATUS_ROLLED_BACK) {
+      return;
+    }
+    try {
+      undo.run();
+      log.debug("事务回滚，已撤销分片写入: {}", description);
+    } catch (RuntimeException e) {
+      log.error("事务回滚后撤销分片写入失败: {}", description, e);
+    }
+  }
+}
@@ -0,0 +1,183 @@
+package com.example.dms2.infrastructure.sharding;
+
+import com.example.dms2.infrastructure.mapper.UserMapper;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.LocalCacheScope;
+import org.mybatis.spring.SqlSessionFactoryBean;
+import org.mybatis.spring.SqlSessionTemplate;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+
+/**
+ * t_user 分片 每个分片一个数据源与 {@link UserMapper}，按主键哈希路由，跨分片查询在线程池中并行执行
+ *
+ * <p>分片 Mapper 不参与 Spring 事务，每条语句自动提交。路由使用主键的 64 位混合哈希而不是取模：Snowflake 主键的低位是序列号，低并发时几乎总是
+ * 0，直接取模会集中到少数分片。分片数确定后不可修改，扩容需要迁移数据。
+ *
+ * @author DMS2 Team
+ * @since 1.0.0
+ */
+@Slf4j
+public class UserShards implements AutoCloseable {
+
+  private static final String MAPPER_LOCATION = "classpath*:mapper/UserMapper.xml";
+
+  private final List<DataSource> dataSources;
+  private final List<UserMapper> mappers;
+  private final ExecutorService executor;
+
+  private UserShards(List<DataSource> dataSources, List<UserMapper> mappers) {
+    this.dataSources = dataSources;
+    this.mappers = mappers;
+    AtomicInteger threadSeq = new AtomicInteger();
+    this.executor =
+        Executors.newFixedThreadPool(
+            Math.max(1, mappers.size() - 1),
+            r -> {
+              Thread thread = new Thread(r, "user-shard-" + threadSeq.incrementAndGet());
+              thread.setDaemon(true);
+              return thread;
+            });
+  }
+
+  /**
+   * 为每个数据源创建只加载 UserMapper.xml 的 SqlSessionFactory
+   *
+   * @param dataSources 分片数据源，顺序即分片编号；关闭时一并关闭
+   * @param customizer MyBatis 全局配置（与主库一致）
+   * @param plugins MyBatis 拦截器（语句指标、JFR 事件）
+   * @return 分片
+   */
+  public static UserShards create(
+      List<? extends DataSource> dataSources,
+      Consumer<Configuration> customizer,
+      List<Interceptor> plugins) {
+    if (dataSources.isEmpty()) {
+      throw new IllegalArgumentException("至少需要一个分片数据源");
+    }
+    List<UserMapper> mappers = new ArrayList<>(dataSources.size());
+    try {
+      for (DataSource dataSource : dataSources) {
+        Configuration configuration = new Configuration();
+        customizer.accept(configuration);
+        // 语句各自提交，事务中共享的 SqlSession 不跨语句缓存查询结果（回滚补偿需要读取写入前的行）
+        configuration.setLocalCacheScope(LocalCacheScope.STATEMENT);
+        SqlSessionFactoryBean factory = new SqlSessionFactoryBean();
+        factory.setDataSource(dataSource);
+        factory.setConfiguration(configuration);
+        factory.setMapperLocations(
+            new PathMatchingResourcePatternResolver().getResources(MAPPER_LOCATION));
+        factory.setPlugins(plugins.toArray(Interceptor[]::new));
+        mappers.add(new SqlSessionTemplate(factory.getObject()).getMapper(UserMapper.class));
+      }
+    } catch (Exception e) {
+      throw new IllegalStateException("创建分片 SqlSessionFactory 失败", e);
+    }
+    return new UserShards(List.copyOf(dataSources), List.copyOf(mappers));
+  }
+
+  /** 分片数 */
+  public int size() {
+    return mappers.size();
+  }
+
+  /**
+   * 主键所在的分片编号
+   *
+   * @param id 用户 ID
+   * @return 0 ~ size()-1
+   */
+  public int shardOf(long id) {
+    return Math.floorMod(mix(id), mappers.size());
+  }
+
+  /** 主键所在分片的 Mapper */
+  public UserMapper mapperFor(long id) {
+    return mappers.get(shardOf(id));
+  }
+
+  /** 指定分片的 Mapper */
+  public UserMapper mapper(int shard) {
+    return mappers.get(shard);
+  }
+
+  /**
+   * 在所有分片上并行执行查询
+   *
+   * @param query 查询
+   * @return 各分片的结果，按分片编号排列
+   */
+  public <T> List<T> fanOut(Function<UserMapper, T> query) {
+    List<Supplier<T>> tasks = new ArrayList<>(mappers.size());
+    for (UserMapper mapper : mappers) {
+      tasks.add(() -> query.apply(mapper));
+    }
+    return parallel(tasks);
+  }
+
+  /**
+   * 并行执行任务 第一个任务在调用线程执行，其余提交到分片线程池
+   *
+   * @param tasks 任务
+   * @return 各任务的结果，与任务顺序一致；任一任务失败时抛出其异常
+   */
+  public <T> List<T> parallel(List<Supplier<T>> tasks) {
+    if (tasks.size() == 1) {
+      return List.of(tasks.get(0).get());
+    }
+    List<CompletableFuture<T>> futures = new ArrayList<>(tasks.size());
+    for (int i = 1; i < tasks.size(); i++) {
+      futures.add(CompletableFuture.supplyAsync(tasks.get(i), executor));
+    }
+    List<T> results = new ArrayList<>(tasks.size());
+    results.add(tasks.get(0).get());
+    try {
+      for (CompletableFuture<T> future : futures) {
+        results.add(future.join());
+      }
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      throw e;
+    }
+    return results;
+  }
+
+  @Override
+  public void close() {
+    executor.shutdownNow();
+    for (DataSource dataSource : dataSources) {
+      if (dataSource instanceof AutoCloseable closeable) {
+        try {
+          closeable.close();
+        } catch (Exception e) {
+          log.warn("关闭分片数据源失败: {}", e.getMessage());
+        }
+      }
+    }
+  }
+
+  /** MurmurHash3 fmix64：主键的每一位都影响结果 */
+  private static long mix(long id) {
+    long h = id;
+    h ^= h >>> 33;
+    h *= 0xff51afd7ed558ccdL;
+    h ^= h >>> 33;
+    h *= 0xc4ceb9fe1a85ec53L;
+    h ^= h >>> 33;
+    return h;
+  }
+}
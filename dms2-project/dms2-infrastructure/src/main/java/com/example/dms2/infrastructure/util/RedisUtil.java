@@ -1,10 +1,12 @@
 package com.example.dms2.infrastructure.util;
 
+import com.example.dms2.infrastructure.jfr.CacheLookupEvent;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.redisson.api.RBatch;
@@ -73,7 +75,7 @@ public class RedisUtil {
    */
   public Object get(String key) {
     RBucket<Object> bucket = redissonClient.getBucket(key);
-    return bucket.get();
+    return lookup(key, bucket::get);
   }
 
   /**
@@ -85,7 +87,25 @@ public class RedisUtil {
    */
   public <T> T get(String key, Class<T> clazz) {
     RBucket<T> bucket = redissonClient.getBucket(key);
-    return bucket.get();
+    return lookup(key, bucket::get);
+  }
+
+  /** 读取并提交 JFR 缓存查询事件 */
+  private static <T> T lookup(String key, Supplier<T> loader) {
+    CacheLookupEvent event = new CacheLookupEvent();
+    if (!event.isEnabled()) {
+      return loader.get();
+    }
+    event.begin();
+    T value = loader.get();
+    event.end();
+    if (event.shouldCommit()) {
+      event.cache = "redis";
+      event.key = key;
+      event.hit = value != null;
+      event.commit();
+    }
+    return value;
   }
 
   /**
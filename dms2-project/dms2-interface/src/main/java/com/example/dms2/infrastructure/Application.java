@@ -1,11 +1,14 @@
 package com.example.dms2.infrastructure;
 
+import com.example.dms2.infrastructure.config.Dms2RuntimeHints;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.cloud.client.discovery.EnableDiscoveryClient;
 import org.springframework.cloud.openfeign.EnableFeignClients;
 import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.ImportRuntimeHints;
 
 /**
  * DMS2项目启动类
@@ -24,9 +27,16 @@ import org.springframework.context.annotation.ComponentScan;
       "com.example.dms2.application",
       "com.example.dms2.infrastructure"
     })
+@ImportRuntimeHints(Dms2RuntimeHints.class)
 public class Application {
 
+  /** 启动步骤缓冲容量，超出后丢弃新的步骤 */
+  private static final int STARTUP_STEPS_CAPACITY = 10_000;
+
   public static void main(String[] args) {
-    SpringApplication.run(Application.class, args);
+    SpringApplication application = new SpringApplication(Application.class);
+    // 记录 Bean 创建等启动步骤的耗时，排行见 /actuator/startupreport
+    application.setApplicationStartup(new BufferingApplicationStartup(STARTUP_STEPS_CAPACITY));
+    application.run(args);
   }
 }
@@ -0,0 +1,121 @@
+package com.example.dms2.infrastructure.config;
+
+import com.alibaba.druid.pool.DruidAbstractDataSource;
+import com.alibaba.druid.pool.DruidDataSource;
+import com.example.dms2.api.dto.ApiResponse;
+import com.example.dms2.api.dto.ErrorCode;
+import com.example.dms2.api.dto.PageRequest;
+import com.example.dms2.api.dto.PageResponse;
+import com.example.dms2.api.dto.request.CreateUserRequest;
+import com.example.dms2.api.dto.response.UserDTO;
+import com.example.dms2.api.feign.UserFeignClient;
+import com.example.dms2.api.feign.UserService;
+import com.example.dms2.api.validation.CreateUserRequestValidator;
+import com.example.dms2.domain.model.entity.User;
+import com.example.dms2.infrastructure.mapper.UserMapper;
+import org.apache.ibatis.cache.decorators.LruCache;
+import org.apache.ibatis.cache.impl.PerpetualCache;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.logging.slf4j.Slf4jImpl;
+import org.apache.ibatis.scripting.defaults.RawLanguageDriver;
+import org.apache.ibatis.scripting.xmltags.XMLLanguageDriver;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+
+/**
+ * Native Image 运行时提示 补充 Spring AOT 无法自动推断的反射、资源与代理
+ *
+ * <ul>
+ *   <li>MyBatis：Mapper XML 与 DTD 资源、按类名实例化的日志/语言驱动/缓存实现、结果映射的实体、Mapper 与插件的 JDK 代理
+ *   <li>Druid：数据源属性在运行时由 Binder 绑定（见 {@link DataSourceConfig}）
+ *   <li>OpenFeign：客户端接口的 JDK 代理及方法注解的解析
+ *   <li>Jackson：接口与 Feign 使用的 DTO（Lombok 生成的访问器在编译期已存在，按普通 Bean 注册即可）
+ * </ul>
+ *
+ * <p>Redisson 的编解码器已由 redisson jar 自带的 reflect-config.json 覆盖，这里不再重复登记。
+ *
+ * @author DMS2 Team
+ * @since 1.0.0
+ */
+public class Dms2RuntimeHints implements RuntimeHintsRegistrar {
+
+  private final BindingReflectionHintsRegistrar bindingRegistrar =
+      new BindingReflectionHintsRegistrar();
+
+  @Override
+  public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+    registerMyBatisHints(hints);
+    registerDruidHints(hints);
+    registerFeignHints(hints);
+    bindingRegistrar.registerReflectionHints(
+        hints.reflection(),
+        ApiResponse.class,
+        ErrorCode.class,
+        PageRequest.class,
+        PageResponse.class,
+        CreateUserRequest.class,
+        UserDTO.class);
+    // 类级别约束 @ValidCreateUser 的校验器由 Hibernate Validator 反射创建
+    hints
+        .reflection()
+        .registerType(CreateUserRequestValidator.class, MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+  }
+
+  private void registerMyBatisHints(RuntimeHints hints) {
+    hints.resources().registerPattern("mapper/*.xml");
+    hints.resources().registerPattern("org/apache/ibatis/builder/xml/*.dtd");
+
+    // 结果映射与参数绑定通过 Reflector 扫描声明的方法与字段，再调用 getter/setter
+    hints
+        .reflection()
+        .registerType(
+            User.class,
+            MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+            MemberCategory.INTROSPECT_DECLARED_METHODS,
+            MemberCategory.INVOKE_PUBLIC_METHODS,
+            MemberCategory.DECLARED_FIELDS);
+
+    // 配置项（log-impl、默认语言驱动、二级缓存）按类名反射创建
+    for (Class<?> type :
+        new Class<?>[] {
+          Slf4jImpl.class,
+          XMLLanguageDriver.class,
+          RawLanguageDriver.class,
+          PerpetualCache.class,
+          LruCache.class
+        }) {
+      hints.reflection().registerType(type, MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+    }
+
+    hints.proxies().registerJdkProxy(UserMapper.class);
+    // 拦截器通过 Plugin.wrap 代理 Executor，@Signature 中的方法按名称反射查找
+    hints.proxies().registerJdkProxy(Executor.class);
+    hints.reflection().registerType(Executor.class, MemberCategory.INVOKE_PUBLIC_METHODS);
+  }
+
+  private void registerDruidHints(RuntimeHints hints) {
+    for (Class<?> type :
+        new Class<?>[] {
+          DataSourceConfig.LenientDruidDataSource.class,
+          DruidDataSource.class,
+          DruidAbstractDataSource.class
+        }) {
+      hints
+          .reflection()
+          .registerType(
+              type,
+              MemberCategory.INTROSPECT_DECLARED_METHODS,
+              MemberCategory.INVOKE_PUBLIC_METHODS);
+    }
+  }
+
+  private void registerFeignHints(RuntimeHints hints) {
+    hints.proxies().registerJdkProxy(UserFeignClient.class);
+    // Contract 解析继承自 UserService 的方法及其 Spring MVC 注解
+    for (Class<?> type : new Class<?>[] {UserFeignClient.class, UserService.class}) {
+      hints.reflection().registerType(type, MemberCategory.INTROSPECT_PUBLIC_METHODS);
+    }
+  }
+}
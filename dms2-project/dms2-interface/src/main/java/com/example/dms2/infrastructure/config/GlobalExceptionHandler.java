@@ -1,10 +1,17 @@
 package com.example.dms2.infrastructure.config;
 
 import com.example.dms2.api.dto.ApiResponse;
+import com.example.dms2.api.dto.ErrorCode;
 import com.example.dms2.domain.exception.BusinessException;
+import com.example.dms2.infrastructure.sentinel.SentinelBlockedException;
+import jakarta.servlet.http.HttpServletRequest;
+import java.util.EnumMap;
+import java.util.Map;
 import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.validation.BindException;
 import org.springframework.validation.FieldError;
@@ -16,6 +23,9 @@ import org.springframework.web.bind.annotation.RestControllerAdvice;
 /**
  * 全局异常处理器 统一处理应用中的异常，返回标准的API响应
  *
+ * <p>以错误码默认消息抛出的业务异常与 Sentinel 拦截直接返回预先创建的只读响应（修改时抛出 {@link UnsupportedOperationException}），仍按请求的
+ * Accept 协商 JSON 或 CBOR。本类的 WARN 日志由 logback-spring.xml 中的 business-exception 过滤器限制每秒条数。
+ *
  * @author DMS2 Team
  * @since 1.0.0
  */
@@ -23,14 +33,38 @@ import org.springframework.web.bind.annotation.RestControllerAdvice;
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
+  /** 各错误码的默认响应，只读共享 */
+  private static final Map<ErrorCode, ApiResponse<Void>> FIXED_RESPONSES =
+      new EnumMap<>(ErrorCode.class);
+
+  static {
+    for (ErrorCode errorCode : ErrorCode.values()) {
+      FIXED_RESPONSES.put(errorCode, new SharedResult(errorCode));
+    }
+  }
+
   /** 处理业务异常 */
   @ExceptionHandler(BusinessException.class)
   @ResponseStatus(HttpStatus.OK)
   public ApiResponse<Void> handleBusinessException(BusinessException e) {
-    log.warn("业务异常: {}", e.getMessage());
+    log.warn("业务异常: code={}, message={}", e.getCode(), e.getMessage());
+    ErrorCode errorCode = e.getErrorCode();
+    if (errorCode != null && errorCode.getMessage().equals(e.getMessage())) {
+      return FIXED_RESPONSES.get(errorCode);
+    }
     return ApiResponse.error(e.getCode(), e.getMessage());
   }
 
+  /** 处理 Sentinel 限流与系统保护（429/503，不输出堆栈） */
+  @ExceptionHandler(SentinelBlockedException.class)
+  public ResponseEntity<ApiResponse<Void>> handleSentinelBlockedException(
+      SentinelBlockedException e, HttpServletRequest request) {
+    SentinelBlockedException.markBlocked(request);
+    return ResponseEntity.status(e.getErrorCode().getCode())
+        .header(HttpHeaders.RETRY_AFTER, "1")
+        .body(FIXED_RESPONSES.get(e.getErrorCode()));
+  }
+
   /** 处理参数校验异常 */
   @ExceptionHandler(IllegalArgumentException.class)
   @ResponseStatus(HttpStatus.BAD_REQUEST)
@@ -80,4 +114,32 @@ public class GlobalExceptionHandler {
     log.error("系统异常", e);
     return ApiResponse.error(500, "系统异常: " + e.getMessage());
   }
+
+  /** 只读的共享响应 */
+  private static final class SharedResult extends ApiResponse<Void> {
+
+    SharedResult(ErrorCode errorCode) {
+      super(errorCode.getCode(), errorCode.getMessage(), null, null);
+    }
+
+    @Override
+    public void setCode(Integer code) {
+      throw new UnsupportedOperationException("共享响应只读");
+    }
+
+    @Override
+    public void setMessage(String message) {
+      throw new UnsupportedOperationException("共享响应只读");
+    }
+
+    @Override
+    public void setData(Void data) {
+      throw new UnsupportedOperationException("共享响应只读");
+    }
+
+    @Override
+    public void setStale(Boolean stale) {
+      throw new UnsupportedOperationException("共享响应只读");
+    }
+  }
 }
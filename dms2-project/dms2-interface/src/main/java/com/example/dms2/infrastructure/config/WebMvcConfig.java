@@ -0,0 +1,57 @@
+package com.example.dms2.infrastructure.config;
+
+import com.example.dms2.api.codec.BinaryCodec;
+import com.example.dms2.infrastructure.web.UserResponseCacheInterceptor;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Web MVC 配置类
+ *
+ * @author DMS2 Team
+ * @since 1.0.0
+ */
+@Configuration
+@RequiredArgsConstructor
+public class WebMvcConfig implements WebMvcConfigurer {
+
+  private final UserResponseCacheInterceptor userResponseCacheInterceptor;
+
+  @Override
+  public void addInterceptors(InterceptorRegistry registry) {
+    // 用户查询响应字节缓存
+    registry
+        .addInterceptor(userResponseCacheInterceptor)
+        .addPathPatterns("/api/users/*", "/api/users/by-username/*", "/api/users/by-email/*");
+  }
+
+  /**
+   * 服务间二进制格式（application/cbor）使用 {@link BinaryCodec} 的 ObjectMapper
+   *
+   * <p>classpath 上有 jackson-dataformat-cbor 时 Spring MVC 已注册默认的 CBOR 转换器且排在前面，因此替换到它原来的位置；未注册时追加在
+   * JSON 之后。未显式协商时仍返回 JSON。
+   */
+  @Override
+  public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+    int index = -1;
+    for (int i = 0; i < converters.size(); i++) {
+      if (converters.get(i) instanceof MappingJackson2CborHttpMessageConverter) {
+        index = i;
+        break;
+      }
+    }
+    converters.removeIf(MappingJackson2CborHttpMessageConverter.class::isInstance);
+    MappingJackson2CborHttpMessageConverter binary =
+        new MappingJackson2CborHttpMessageConverter(BinaryCodec.objectMapper());
+    if (index < 0) {
+      converters.add(binary);
+    } else {
+      converters.add(index, binary);
+    }
+  }
+}
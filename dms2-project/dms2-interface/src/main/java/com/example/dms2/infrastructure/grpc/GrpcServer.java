@@ -0,0 +1,101 @@
+package com.example.dms2.infrastructure.grpc;
+
+import io.grpc.BindableService;
+import io.grpc.Server;
+import io.grpc.netty.shaded.io.grpc.netty.NettyServerBuilder;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * gRPC 服务端 与 Web 服务器一同随应用上下文启停，注册容器中所有 {@link BindableService}
+ *
+ * <p>HTTP/2 长连接上多路复用请求，keepalive 用于及时发现失效连接；关闭时先停止接收新调用，在宽限期内等待进行中的调用完成。
+ *
+ * @author DMS2 Team
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+public class GrpcServer implements SmartLifecycle {
+
+  private final List<BindableService> services;
+  private final boolean enabled;
+  private final int port;
+  private final Duration keepAliveTime;
+  private final Duration permitKeepAliveTime;
+  private final DataSize maxInboundMessageSize;
+  private final Duration shutdownGracePeriod;
+
+  private volatile Server server;
+
+  public GrpcServer(
+      List<BindableService> services,
+      @Value("${dms2.grpc.server.enabled:true}") boolean enabled,
+      @Value("${dms2.grpc.server.port:9090}") int port,
+      @Value("${dms2.grpc.server.keep-alive-time:30s}") Duration keepAliveTime,
+      @Value("${dms2.grpc.server.permit-keep-alive-time:10s}") Duration permitKeepAliveTime,
+      @Value("${dms2.grpc.server.max-inbound-message-size:4MB}") DataSize maxInboundMessageSize,
+      @Value("${dms2.grpc.server.shutdown-grace-period:10s}") Duration shutdownGracePeriod) {
+    this.services = services;
+    this.enabled = enabled;
+    this.port = port;
+    this.keepAliveTime = keepAliveTime;
+    this.permitKeepAliveTime = permitKeepAliveTime;
+    this.maxInboundMessageSize = maxInboundMessageSize;
+    this.shutdownGracePeriod = shutdownGracePeriod;
+  }
+
+  @Override
+  public void start() {
+    if (!enabled) {
+      log.info("gRPC 服务端未启用");
+      return;
+    }
+    NettyServerBuilder builder =
+        NettyServerBuilder.forPort(port)
+            .keepAliveTime(keepAliveTime.toMillis(), TimeUnit.MILLISECONDS)
+            .permitKeepAliveTime(permitKeepAliveTime.toMillis(), TimeUnit.MILLISECONDS)
+            .permitKeepAliveWithoutCalls(true)
+            .maxInboundMessageSize((int) maxInboundMessageSize.toBytes());
+    services.forEach(builder::addService);
+    try {
+      server = builder.build().start();
+    } catch (IOException e) {
+      throw new UncheckedIOException("gRPC 服务端启动失败: port=" + port, e);
+    }
+    log.info("gRPC 服务端已启动: port={}, services={}", server.getPort(), services.size());
+  }
+
+  @Override
+  public void stop() {
+    Server current = server;
+    if (current == null) {
+      return;
+    }
+    current.shutdown();
+    try {
+      if (!current.awaitTermination(shutdownGracePeriod.toMillis(), TimeUnit.MILLISECONDS)) {
+        log.warn("gRPC 服务端在宽限期内未完成进行中的调用，强制关闭");
+        current.shutdownNow();
+      }
+    } catch (InterruptedException e) {
+      current.shutdownNow();
+      Thread.currentThread().interrupt();
+    }
+    server = null;
+    log.info("gRPC 服务端已关闭");
+  }
+
+  @Override
+  public boolean isRunning() {
+    return server != null;
+  }
+}
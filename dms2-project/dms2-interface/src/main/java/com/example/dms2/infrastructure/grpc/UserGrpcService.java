@@ -0,0 +1,281 @@
+package com.example.dms2.infrastructure.grpc;
+
+import com.example.dms2.api.dto.ErrorCode;
+import com.example.dms2.api.dto.PageResponse;
+import com.example.dms2.api.dto.grpc.BatchGetUsersRequest;
+import com.example.dms2.api.dto.grpc.BatchGetUsersResponse;
+import com.example.dms2.api.dto.grpc.CreateUserRequest;
+import com.example.dms2.api.dto.grpc.DeleteUserRequest;
+import com.example.dms2.api.dto.grpc.DeleteUserResponse;
+import com.example.dms2.api.dto.grpc.GetUserRequest;
+import com.example.dms2.api.dto.grpc.ListUsersRequest;
+import com.example.dms2.api.dto.grpc.LookupUserResponse;
+import com.example.dms2.api.dto.grpc.QueryUsersRequest;
+import com.example.dms2.api.dto.grpc.QueryUsersResponse;
+import com.example.dms2.api.dto.grpc.UserMessage;
+import com.example.dms2.api.dto.response.UserDTO;
+import com.example.dms2.api.grpc.UserServiceGrpc;
+import com.example.dms2.application.service.UserAppService;
+import com.example.dms2.domain.exception.BusinessException;
+import com.example.dms2.infrastructure.sentinel.SentinelBlockedException;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 用户 gRPC 服务 与 REST 接口提供相同的操作，统一委托给 {@link UserAppService}
+ *
+ * <p>业务异常按错误码映射为 gRPC 状态：用户不存在为 NOT_FOUND，用户已存在为 ALREADY_EXISTS，参数错误为 INVALID_ARGUMENT。
+ *
+ * @author DMS2 Team
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserGrpcService extends UserServiceGrpc.UserServiceImplBase {
+
+  /** ListUsers 默认每批读取条数 */
+  private static final int DEFAULT_BATCH_SIZE = 100;
+
+  /** ListUsers 每批读取条数上限（与分页查询的上限一致） */
+  private static final int MAX_BATCH_SIZE = 100;
+
+  private final UserAppService userAppService;
+  private final Validator validator;
+
+  @Override
+  public void getUser(GetUserRequest request, StreamObserver<UserMessage> responseObserver) {
+    try {
+      UserDTO user = userAppService.getUserById(request.getId());
+      responseObserver.onNext(UserProtoConverter.toMessage(user));
+      responseObserver.onCompleted();
+    } catch (RuntimeException e) {
+      responseObserver.onError(toStatusException(e));
+    }
+  }
+
+  @Override
+  public void createUser(CreateUserRequest request, StreamObserver<UserMessage> responseObserver) {
+    try {
+      com.example.dms2.api.dto.request.CreateUserRequest createRequest =
+          UserProtoConverter.toCreateRequest(request);
+      validate(createRequest);
+      UserDTO user = userAppService.createUser(createRequest);
+      responseObserver.onNext(UserProtoConverter.toMessage(user));
+      responseObserver.onCompleted();
+    } catch (RuntimeException e) {
+      responseObserver.onError(toStatusException(e));
+    }
+  }
+
+  @Override
+  public void batchGetUsers(
+      BatchGetUsersRequest request, StreamObserver<BatchGetUsersResponse> responseObserver) {
+    try {
+      List<UserDTO> users = userAppService.getUsersByIds(request.getIdsList());
+      BatchGetUsersResponse.Builder builder = BatchGetUsersResponse.newBuilder();
+      users.forEach(user -> builder.addUsers(UserProtoConverter.toMessage(user)));
+      responseObserver.onNext(builder.build());
+      responseObserver.onCompleted();
+    } catch (RuntimeException e) {
+      responseObserver.onError(toStatusException(e));
+    }
+  }
+
+  @Override
+  public void queryUsers(
+      QueryUsersRequest request, StreamObserver<QueryUsersResponse> responseObserver) {
+    try {
+      PageResponse<UserDTO> page =
+          userAppService.queryUsers(UserProtoConverter.toPageRequest(request));
+      responseObserver.onNext(UserProtoConverter.toQueryResponse(page));
+      responseObserver.onCompleted();
+    } catch (RuntimeException e) {
+      responseObserver.onError(toStatusException(e));
+    }
+  }
+
+  @Override
+  public void deleteUser(
+      DeleteUserRequest request, StreamObserver<DeleteUserResponse> responseObserver) {
+    try {
+      userAppService.deleteUser(request.getId());
+      responseObserver.onNext(DeleteUserResponse.getDefaultInstance());
+      responseObserver.onCompleted();
+    } catch (RuntimeException e) {
+      responseObserver.onError(toStatusException(e));
+    }
+  }
+
+  /**
+   * 服务端流：按键集逐批读取，由传输层的可写通知驱动推送
+   *
+   * <p>只在 {@link ServerCallStreamObserver#isReady()} 为 true 时推送，客户端消费慢时暂停，待 onReady
+   * 回调后继续，服务端最多缓存一批； 每批从上一批最后一个用户之后读取，不重复扫描已读的行。客户端取消后停止读取。
+   */
+  @Override
+  public void listUsers(ListUsersRequest request, StreamObserver<UserMessage> responseObserver) {
+    ServerCallStreamObserver<UserMessage> serverObserver =
+        (ServerCallStreamObserver<UserMessage>) responseObserver;
+    int batchSize =
+        request.getBatchSize() > 0
+            ? Math.min(request.getBatchSize(), MAX_BATCH_SIZE)
+            : DEFAULT_BATCH_SIZE;
+    ListUsersStream stream = new ListUsersStream(serverObserver, batchSize);
+    serverObserver.setOnCancelHandler(() -> log.debug("ListUsers 已被客户端取消"));
+    serverObserver.setOnReadyHandler(stream::drain);
+  }
+
+  /** 双向流：逐条查询，不存在的用户返回 found=false，其他错误结束整个流 */
+  @Override
+  public StreamObserver<GetUserRequest> lookupUsers(
+      StreamObserver<LookupUserResponse> responseObserver) {
+    return new StreamObserver<>() {
+
+      private boolean failed;
+
+      @Override
+      public void onNext(GetUserRequest request) {
+        if (failed) {
+          return;
+        }
+        LookupUserResponse.Builder builder = LookupUserResponse.newBuilder().setId(request.getId());
+        try {
+          UserDTO user = userAppService.getUserById(request.getId());
+          builder.setFound(true).setUser(UserProtoConverter.toMessage(user));
+        } catch (BusinessException e) {
+          if (businessStatus(e.getCode()) != Status.NOT_FOUND) {
+            fail(e);
+            return;
+          }
+          builder.setFound(false);
+        } catch (RuntimeException e) {
+          fail(e);
+          return;
+        }
+        responseObserver.onNext(builder.build());
+      }
+
+      @Override
+      public void onError(Throwable t) {
+        log.debug("LookupUsers 客户端异常结束: {}", t.getMessage());
+      }
+
+      @Override
+      public void onCompleted() {
+        if (!failed) {
+          responseObserver.onCompleted();
+        }
+      }
+
+      private void fail(RuntimeException e) {
+        failed = true;
+        responseObserver.onError(toStatusException(e));
+      }
+    };
+  }
+
+  /** ListUsers 的推送状态 回调由 gRPC 串行执行 */
+  private final class ListUsersStream {
+
+    private final ServerCallStreamObserver<UserMessage> observer;
+    private final int batchSize;
+    private final Deque<UserDTO> buffer = new ArrayDeque<>();
+    private UserDTO last;
+    private boolean exhausted;
+    private boolean closed;
+
+    ListUsersStream(ServerCallStreamObserver<UserMessage> observer, int batchSize) {
+      this.observer = observer;
+      this.batchSize = batchSize;
+    }
+
+    /** 在可写期间持续推送，缓冲区空时读取下一批 */
+    void drain() {
+      try {
+        while (!closed && !observer.isCancelled() && observer.isReady()) {
+          if (buffer.isEmpty()) {
+            if (exhausted) {
+              closed = true;
+              observer.onCompleted();
+              return;
+            }
+            List<UserDTO> batch =
+                last == null
+                    ? userAppService.listUsersAfter(null, null, batchSize)
+                    : userAppService.listUsersAfter(last.getCreateTime(), last.getId(), batchSize);
+            buffer.addAll(batch);
+            exhausted = batch.size() < batchSize;
+            continue;
+          }
+          last = buffer.poll();
+          observer.onNext(UserProtoConverter.toMessage(last));
+        }
+      } catch (RuntimeException e) {
+        closed = true;
+        observer.onError(toStatusException(e));
+      }
+    }
+  }
+
+  private void validate(com.example.dms2.api.dto.request.CreateUserRequest request) {
+    Set<ConstraintViolation<com.example.dms2.api.dto.request.CreateUserRequest>> violations =
+        validator.validate(request);
+    if (!violations.isEmpty()) {
+      throw new IllegalArgumentException(
+          violations.stream()
+              .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+              .sorted()
+              .collect(Collectors.joining(", ")));
+    }
+  }
+
+  private static StatusRuntimeException toStatusException(RuntimeException e) {
+    return toStatus(e).asRuntimeException();
+  }
+
+  private static Status toStatus(RuntimeException e) {
+    if (e instanceof BusinessException be) {
+      log.warn("业务异常: {}", be.getMessage());
+      return businessStatus(be.getCode()).withDescription(be.getMessage());
+    }
+    if (e instanceof SentinelBlockedException blocked) {
+      Status status =
+          blocked.getErrorCode() == ErrorCode.TOO_MANY_REQUESTS
+              ? Status.RESOURCE_EXHAUSTED
+              : Status.UNAVAILABLE;
+      return status.withDescription(blocked.getMessage());
+    }
+    if (e instanceof IllegalArgumentException) {
+      log.warn("参数错误: {}", e.getMessage());
+      return Status.INVALID_ARGUMENT.withDescription(e.getMessage());
+    }
+    log.error("gRPC 调用异常", e);
+    return Status.INTERNAL.withDescription(ErrorCode.INTERNAL_SERVER_ERROR.getMessage());
+  }
+
+  private static Status businessStatus(int code) {
+    if (code == ErrorCode.USER_NOT_FOUND.getCode() || code == ErrorCode.NOT_FOUND.getCode()) {
+      return Status.NOT_FOUND;
+    }
+    if (code == ErrorCode.USER_ALREADY_EXISTS.getCode()) {
+      return Status.ALREADY_EXISTS;
+    }
+    if (code == ErrorCode.BAD_REQUEST.getCode() || code == ErrorCode.VALIDATION_ERROR.getCode()) {
+      return Status.INVALID_ARGUMENT;
+    }
+    return Status.FAILED_PRECONDITION;
+  }
+}
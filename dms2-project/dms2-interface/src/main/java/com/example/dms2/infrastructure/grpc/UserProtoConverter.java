@@ -0,0 +1,97 @@
+package com.example.dms2.infrastructure.grpc;
+
+import com.example.dms2.api.dto.PageRequest;
+import com.example.dms2.api.dto.PageResponse;
+import com.example.dms2.api.dto.grpc.CreateUserRequest;
+import com.example.dms2.api.dto.grpc.QueryUsersRequest;
+import com.example.dms2.api.dto.grpc.QueryUsersResponse;
+import com.example.dms2.api.dto.grpc.UserMessage;
+import com.example.dms2.api.dto.response.UserDTO;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * gRPC 消息与 API DTO 之间的转换
+ *
+ * <p>proto3 的字符串与数值字段没有 null，可选字段通过 {@code optional} 区分是否设置；时间以 epoch 毫秒（系统默认时区）传输。
+ *
+ * @author DMS2 Team
+ * @since 1.0.0
+ */
+final class UserProtoConverter {
+
+  private static final ZoneId ZONE = ZoneId.systemDefault();
+
+  private UserProtoConverter() {}
+
+  /** UserDTO 转换为 gRPC 消息 */
+  static UserMessage toMessage(UserDTO dto) {
+    UserMessage.Builder builder =
+        UserMessage.newBuilder()
+            .setId(dto.getId())
+            .setUsername(nullToEmpty(dto.getUsername()))
+            .setEmail(nullToEmpty(dto.getEmail()));
+    if (dto.getPhone() != null) {
+      builder.setPhone(dto.getPhone());
+    }
+    if (dto.getRealName() != null) {
+      builder.setRealName(dto.getRealName());
+    }
+    if (dto.getCreateTime() != null) {
+      builder.setCreateTime(toEpochMilli(dto.getCreateTime()));
+    }
+    if (dto.getUpdateTime() != null) {
+      builder.setUpdateTime(toEpochMilli(dto.getUpdateTime()));
+    }
+    return builder.build();
+  }
+
+  /** gRPC 创建请求转换为 API 创建请求 */
+  static com.example.dms2.api.dto.request.CreateUserRequest toCreateRequest(
+      CreateUserRequest request) {
+    return com.example.dms2.api.dto.request.CreateUserRequest.builder()
+        .username(request.getUsername())
+        .email(request.getEmail())
+        .phone(request.hasPhone() ? request.getPhone() : null)
+        .realName(request.hasRealName() ? request.getRealName() : null)
+        .build();
+  }
+
+  /** gRPC 分页请求转换为 PageRequest，未设置的字段沿用 PageRequest 默认值 */
+  static PageRequest toPageRequest(QueryUsersRequest request) {
+    PageRequest pageRequest = new PageRequest();
+    if (request.getPageNum() > 0) {
+      pageRequest.setPageNum(request.getPageNum());
+    }
+    if (request.getPageSize() > 0) {
+      pageRequest.setPageSize(request.getPageSize());
+    }
+    if (!request.getSortField().isEmpty()) {
+      pageRequest.setSortField(request.getSortField());
+    }
+    if (!request.getSortDirection().isEmpty()) {
+      pageRequest.setSortDirection(request.getSortDirection());
+    }
+    return pageRequest;
+  }
+
+  /** 分页结果转换为 gRPC 消息 */
+  static QueryUsersResponse toQueryResponse(PageResponse<UserDTO> page) {
+    QueryUsersResponse.Builder builder =
+        QueryUsersResponse.newBuilder()
+            .setTotal(page.getTotal())
+            .setPageNum(page.getPageNum())
+            .setPageSize(page.getPageSize())
+            .setTotalPages(page.getTotalPages());
+    page.getRecords().forEach(dto -> builder.addRecords(toMessage(dto)));
+    return builder.build();
+  }
+
+  private static long toEpochMilli(LocalDateTime time) {
+    return time.atZone(ZONE).toInstant().toEpochMilli();
+  }
+
+  private static String nullToEmpty(String value) {
+    return value == null ? "" : value;
+  }
+}
@@ -0,0 +1,109 @@
+package com.example.dms2.infrastructure.jfr;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+/**
+ * JFR 事件流消费者 在进程内订阅 DMS2 自定义事件并转换为 {@code dms2.jfr.*} 指标
+ *
+ * <p>默认关闭（{@code dms2.jfr.streaming.enabled=true} 开启）。开启后事件在本进程内始终处于启用状态，由 JFR 的流线程定期批量读取，业务线程只承担写入
+ * JFR 缓冲区的开销。
+ *
+ * @author DMS2 Team
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "dms2.jfr.streaming.enabled", havingValue = "true")
+public class JfrMetricsStreamer implements SmartLifecycle {
+
+  private final MeterRegistry meterRegistry;
+
+  private RecordingStream stream;
+
+  @Override
+  public synchronized void start() {
+    stream = new RecordingStream();
+    stream.setMaxAge(Duration.ofSeconds(30));
+    for (String name :
+        new String[] {
+          UserRequestEvent.NAME, UseCaseEvent.NAME, CacheLookupEvent.NAME, SqlStatementEvent.NAME
+        }) {
+      stream.enable(name).withoutStackTrace().withThreshold(Duration.ZERO);
+    }
+    stream.onEvent(UserRequestEvent.NAME, this::onRequest);
+    stream.onEvent(UseCaseEvent.NAME, this::onUseCase);
+    stream.onEvent(CacheLookupEvent.NAME, this::onCacheLookup);
+    stream.onEvent(SqlStatementEvent.NAME, this::onSqlStatement);
+    stream.startAsync();
+    log.info("JFR 事件流已启动");
+  }
+
+  @Override
+  public synchronized void stop() {
+    if (stream != null) {
+      stream.close();
+      stream = null;
+    }
+  }
+
+  @Override
+  public synchronized boolean isRunning() {
+    return stream != null;
+  }
+
+  private void onRequest(RecordedEvent event) {
+    timer(
+            "dms2.jfr.request",
+            "method",
+            event.getString("method"),
+            "path",
+            event.getString("path"),
+            "outcome",
+            event.getString("outcome"))
+        .record(event.getDuration());
+  }
+
+  private void onUseCase(RecordedEvent event) {
+    timer(
+            "dms2.jfr.use.case",
+            "operation",
+            event.getString("operation"),
+            "outcome",
+            event.getString("outcome"))
+        .record(event.getDuration());
+  }
+
+  private void onCacheLookup(RecordedEvent event) {
+    timer(
+            "dms2.jfr.cache.lookup",
+            "cache",
+            event.getString("cache"),
+            "hit",
+            String.valueOf(event.getBoolean("hit")))
+        .record(event.getDuration());
+  }
+
+  private void onSqlStatement(RecordedEvent event) {
+    timer(
+            "dms2.jfr.sql",
+            "statement",
+            event.getString("statement"),
+            "outcome",
+            event.getString("outcome"))
+        .record(event.getDuration());
+  }
+
+  private Timer timer(String name, String... tags) {
+    return Timer.builder(name).tags(tags).register(meterRegistry);
+  }
+}
@@ -0,0 +1,56 @@
+package com.example.dms2.infrastructure.jfr;
+
+import com.example.dms2.infrastructure.metrics.Outcome;
+import java.util.Collection;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * 应用服务用例 JFR 事件 每次 {@code UserAppService} 调用提交一个 {@link UseCaseEvent}
+ *
+ * <p>第一个 {@code Long} 参数记为用户 ID，集合参数的大小记为批量大小。事件未启用时只有一次 {@code isEnabled()} 判断。
+ *
+ * @author DMS2 Team
+ * @since 1.0.0
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 300)
+@ConditionalOnProperty(name = "dms2.jfr.enabled", havingValue = "true", matchIfMissing = true)
+public class UseCaseEventAspect {
+
+  @Around("execution(public * com.example.dms2.application.service.UserAppService.*(..))")
+  public Object around(ProceedingJoinPoint joinPoint) throws Throwable {
+    UseCaseEvent event = new UseCaseEvent();
+    if (!event.isEnabled()) {
+      return joinPoint.proceed();
+    }
+    event.begin();
+    Throwable error = null;
+    try {
+      return joinPoint.proceed();
+    } catch (Throwable e) {
+      error = e;
+      throw e;
+    } finally {
+      event.end();
+      if (event.shouldCommit()) {
+        event.operation = joinPoint.getSignature().getName();
+        for (Object arg : joinPoint.getArgs()) {
+          if (arg instanceof Long id && event.userId == 0) {
+            event.userId = id;
+          } else if (arg instanceof Collection<?> ids) {
+            event.batchSize = ids.size();
+          }
+        }
+        event.outcome = Outcome.of(error).tag();
+        event.commit();
+      }
+    }
+  }
+}
@@ -0,0 +1,38 @@
+package com.example.dms2.infrastructure.metrics;
+
+import com.example.dms2.infrastructure.id.SnowflakeIdGenerator;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * 主键生成指标 {@code dms2.id.clock.backward}：Snowflake 因时钟回拨沿用上次时间戳的次数
+ *
+ * <p>超过容忍上限的回拨直接导致写入失败，体现在 {@code dms2.app.service} 的失败数中。
+ *
+ * @author DMS2 Team
+ * @since 1.0.0
+ */
+@Component
+public class IdGeneratorMetrics implements MeterBinder {
+
+  private final ObjectProvider<SnowflakeIdGenerator> generators;
+
+  public IdGeneratorMetrics(ObjectProvider<SnowflakeIdGenerator> generators) {
+    this.generators = generators;
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    generators.forEach(
+        generator ->
+            FunctionCounter.builder(
+                    "dms2.id.clock.backward",
+                    generator,
+                    SnowflakeIdGenerator::getClockBackwardCount)
+                .description("Snowflake 因时钟回拨沿用上次时间戳的次数")
+                .register(registry));
+  }
+}
@@ -0,0 +1,38 @@
+package com.example.dms2.infrastructure.metrics;
+
+import com.example.dms2.infrastructure.logging.SamplingTurboFilter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.stereotype.Component;
+
+/**
+ * 日志采样指标 {@code dms2.log.suppressed}：各 {@link SamplingTurboFilter}
+ * 因采样（reason=sampled）或限流（reason=rate-limited）丢弃的日志条数
+ *
+ * @author DMS2 Team
+ * @since 1.0.0
+ */
+@Component
+public class LogSamplingMetrics implements MeterBinder {
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    SamplingTurboFilter.statistics()
+        .forEach(
+            (name, stats) -> {
+              FunctionCounter.builder(
+                      "dms2.log.suppressed", stats, SamplingTurboFilter.Stats::getSampledOut)
+                  .description("采样或限流丢弃的日志条数")
+                  .tag("filter", name)
+                  .tag("reason", "sampled")
+                  .register(registry);
+              FunctionCounter.builder(
+                      "dms2.log.suppressed", stats, SamplingTurboFilter.Stats::getRateLimited)
+                  .description("采样或限流丢弃的日志条数")
+                  .tag("filter", name)
+                  .tag("reason", "rate-limited")
+                  .register(registry);
+            });
+  }
+}
@@ -0,0 +1,41 @@
+package com.example.dms2.infrastructure.metrics;
+
+import com.example.dms2.infrastructure.mybatis.StatementMetricsInterceptor;
+import com.example.dms2.infrastructure.mybatis.StatementStats;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * SQL 语句统计端点（{@code /actuator/sqlstats}） 按语句列出调用次数、耗时、行数、慢查询与无界查询次数及最近一次慢查询样本
+ *
+ * @author DMS2 Team
+ * @since 1.0.0
+ */
+@Component
+@Endpoint(id = "sqlstats")
+@RequiredArgsConstructor
+public class SqlStatsEndpoint {
+
+  private final ObjectProvider<StatementMetricsInterceptor> interceptor;
+
+  @ReadOperation
+  public Map<String, Object> sqlStats() {
+    Map<String, Object> result = new LinkedHashMap<>();
+    StatementMetricsInterceptor metrics = interceptor.getIfAvailable();
+    result.put("enabled", metrics != null);
+    if (metrics == null) {
+      return result;
+    }
+    List<StatementStats> statements = metrics.getStatistics();
+    result.put("slowThresholdMillis", metrics.getSlowThresholdMillis());
+    result.put("unboundedRows", metrics.getUnboundedRows());
+    result.put("statements", statements);
+    return result;
+  }
+}
@@ -6,6 +6,7 @@ import com.example.dms2.api.dto.PageResponse;
 import com.example.dms2.api.dto.request.CreateUserRequest;
 import com.example.dms2.api.dto.response.UserDTO;
 import com.example.dms2.api.feign.UserService;
+import com.example.dms2.api.support.LogFormat;
 import com.example.dms2.application.service.UserAppService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -40,16 +41,34 @@ public class UserController implements UserService {
   @GetMapping("/{id}")
   @Operation(summary = "根据ID查询用户")
   public ApiResponse<UserDTO> getUserById(@PathVariable("id") Long id) {
-    log.info("REST请求: 查询用户, id={}", id);
+    log.debug("REST请求: 查询用户, id={}", id);
     UserDTO userDTO = userAppService.getUserById(id);
     return ApiResponse.success(userDTO);
   }
 
+  @Override
+  @GetMapping("/by-username/{username}")
+  @Operation(summary = "根据用户名查询用户")
+  public ApiResponse<UserDTO> getUserByUsername(@PathVariable("username") String username) {
+    log.debug("REST请求: 按用户名查询用户, username={}", username);
+    UserDTO userDTO = userAppService.getUserByUsername(username);
+    return ApiResponse.success(userDTO);
+  }
+
+  @Override
+  @GetMapping("/by-email/{email}")
+  @Operation(summary = "根据邮箱查询用户")
+  public ApiResponse<UserDTO> getUserByEmail(@PathVariable("email") String email) {
+    log.debug("REST请求: 按邮箱查询用户, email={}", email);
+    UserDTO userDTO = userAppService.getUserByEmail(email);
+    return ApiResponse.success(userDTO);
+  }
+
   @Override
   @PostMapping
   @Operation(summary = "创建用户")
   public ApiResponse<UserDTO> createUser(@Valid @RequestBody CreateUserRequest request) {
-    log.info("REST请求: 创建用户, request={}", request);
+    log.debug("REST请求: 创建用户, username={}", request.getUsername());
     UserDTO userDTO = userAppService.createUser(request);
     return ApiResponse.success("用户创建成功", userDTO);
   }
@@ -58,7 +77,7 @@ public class UserController implements UserService {
   @PostMapping("/batch")
   @Operation(summary = "批量查询用户")
   public ApiResponse<List<UserDTO>> getUsersByIds(@RequestBody List<Long> ids) {
-    log.info("REST请求: 批量查询用户, ids={}", ids);
+    log.debug("REST请求: 批量查询用户, ids={}", LogFormat.collection(ids));
     List<UserDTO> userDTOs = userAppService.getUsersByIds(ids);
     return ApiResponse.success(userDTOs);
   }
@@ -67,7 +86,10 @@ public class UserController implements UserService {
   @PostMapping("/page")
   @Operation(summary = "分页查询用户")
   public ApiResponse<PageResponse<UserDTO>> queryUsers(@RequestBody PageRequest pageRequest) {
-    log.info("REST请求: 分页查询用户, pageRequest={}", pageRequest);
+    log.debug(
+        "REST请求: 分页查询用户, pageNum={}, pageSize={}",
+        pageRequest.getPageNum(),
+        pageRequest.getPageSize());
     PageResponse<UserDTO> pageResponse = userAppService.queryUsers(pageRequest);
     return ApiResponse.success(pageResponse);
   }
@@ -76,7 +98,7 @@ public class UserController implements UserService {
   @DeleteMapping("/{id}")
   @Operation(summary = "删除用户")
   public ApiResponse<Void> deleteUser(@PathVariable("id") Long id) {
-    log.info("REST请求: 删除用户, id={}", id);
+    log.debug("REST请求: 删除用户, id={}", id);
     userAppService.deleteUser(id);
     return ApiResponse.success("用户删除成功", null);
   }
@@ -0,0 +1,72 @@
+package com.example.dms2.infrastructure.sentinel;
+
+import com.alibaba.csp.sentinel.slots.block.BlockException;
+import com.alibaba.csp.sentinel.slots.block.degrade.DegradeException;
+import com.alibaba.csp.sentinel.slots.system.SystemBlockException;
+import com.example.dms2.api.dto.ErrorCode;
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * 请求被 Sentinel 规则拦截
+ *
+ * <p>限流（含热点参数限流）对应 {@link ErrorCode#TOO_MANY_REQUESTS}，系统自适应保护与熔断对应 {@link
+ * ErrorCode#SERVICE_UNAVAILABLE}。拦截是预期内的高频事件，不记录堆栈。
+ *
+ * <p>HTTP 请求被拦截时在请求上设置 {@link #REQUEST_ATTRIBUTE}，自适应并发限制据此不把拦截产生的 503 当作过载信号。
+ *
+ * @author DMS2 Team
+ * @since 1.0.0
+ */
+public class SentinelBlockedException extends RuntimeException {
+
+  /** 请求被 Sentinel 拦截的标记（请求属性） */
+  public static final String REQUEST_ATTRIBUTE = SentinelBlockedException.class.getName();
+
+  private final transient ErrorCode errorCode;
+  private final String resource;
+
+  public SentinelBlockedException(String resource, BlockException cause) {
+    super(errorCodeOf(cause).getMessage(), null, false, false);
+    this.errorCode = errorCodeOf(cause);
+    this.resource = resource;
+  }
+
+  /**
+   * 拦截类型对应的错误码
+   *
+   * @param e 拦截异常
+   * @return 错误码
+   */
+  public static ErrorCode errorCodeOf(BlockException e) {
+    return e instanceof SystemBlockException || e instanceof DegradeException
+        ? ErrorCode.SERVICE_UNAVAILABLE
+        : ErrorCode.TOO_MANY_REQUESTS;
+  }
+
+  /**
+   * 标记请求已被 Sentinel 拦截
+   *
+   * @param request 请求
+   */
+  public static void markBlocked(HttpServletRequest request) {
+    request.setAttribute(REQUEST_ATTRIBUTE, Boolean.TRUE);
+  }
+
+  /**
+   * 请求是否被 Sentinel 拦截
+   *
+   * @param request 请求
+   * @return 是否被拦截
+   */
+  public static boolean isBlocked(HttpServletRequest request) {
+    return request.getAttribute(REQUEST_ATTRIBUTE) != null;
+  }
+
+  public ErrorCode getErrorCode() {
+    return errorCode;
+  }
+
+  public String getResource() {
+    return resource;
+  }
+}
@@ -0,0 +1,201 @@
+package com.example.dms2.infrastructure.startup;
+
+import com.example.dms2.api.feign.UserAsyncFeignClient;
+import com.example.dms2.infrastructure.util.RedisUtil;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.EnvironmentAware;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.env.Environment;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.stereotype.Component;
+
+/**
+ * 启动初始化策略 按 {@code dms2.startup.init.<分组>} 调整非关键重量级 Bean 的创建时机
+ *
+ * <ul>
+ *   <li>{@code eager}：随容器启动创建（Spring 默认）
+ *   <li>{@code lazy}：首次使用时创建
+ *   <li>{@code background}：启动时不创建，应用就绪（{@link ApplicationReadyEvent}）后在后台线程创建，通常早于首次使用
+ * </ul>
+ *
+ * <p>Spring 6.1 创建单例时持有全局锁，容器刷新期间在其他线程创建 Bean 只会与主线程串行，因此后台创建放在启动完成之后。 标记为延迟的 Bean 若被其他非延迟 Bean
+ * 直接依赖，仍会在启动时创建，实际效果以 {@code /actuator/startupreport} 为准。
+ *
+ * @author DMS2 Team
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+public class StartupInitPolicyPostProcessor
+    implements BeanFactoryPostProcessor,
+        EnvironmentAware,
+        Ordered,
+        ApplicationListener<ApplicationReadyEvent> {
+
+  private static final String PROPERTY_PREFIX = "dms2.startup.init";
+
+  private Environment environment;
+  private ConfigurableListableBeanFactory beanFactory;
+  private final Map<Group, Policy> policies = new EnumMap<>(Group.class);
+  private final Map<Group, List<String>> beanNames = new EnumMap<>(Group.class);
+
+  /** 初始化策略 */
+  public enum Policy {
+    EAGER,
+    LAZY,
+    BACKGROUND
+  }
+
+  /** 可调整创建时机的 Bean 分组，按 Bean 类型匹配 */
+  public enum Group {
+    /** Redisson 客户端及依赖它的连接工厂、RedisTemplate 与 RedisUtil，以及自动配置的 Lettuce 事件循环（未使用） */
+    REDIS(
+        type ->
+            type.getName().startsWith("org.redisson.api.")
+                || type.getName().startsWith("io.lettuce.")
+                || RedisUtil.class.isAssignableFrom(type)
+                || RedisConnectionFactory.class.isAssignableFrom(type)
+                || RedisOperations.class.isAssignableFrom(type)),
+    /** Feign 客户端（每个客户端创建一个子容器）及直接依赖它的 UserAsyncFeignClient */
+    FEIGN(
+        type ->
+            (type.isInterface() && AnnotatedElementUtils.hasAnnotation(type, FeignClient.class))
+                || UserAsyncFeignClient.class.isAssignableFrom(type)),
+    /** springdoc 文档接口 */
+    SPRINGDOC(type -> type.getName().startsWith("org.springdoc."));
+
+    private final Predicate<Class<?>> matcher;
+
+    Group(Predicate<Class<?>> matcher) {
+      this.matcher = matcher;
+    }
+
+    boolean matches(Class<?> type) {
+      return matcher.test(type);
+    }
+  }
+
+  @Override
+  public void setEnvironment(Environment environment) {
+    this.environment = environment;
+  }
+
+  @Override
+  public int getOrder() {
+    return Ordered.LOWEST_PRECEDENCE;
+  }
+
+  @Override
+  public void postProcessBeanFactory(ConfigurableListableBeanFactory beanFactory)
+      throws BeansException {
+    this.beanFactory = beanFactory;
+    Map<String, Policy> configured =
+        Binder.get(environment)
+            .bind(PROPERTY_PREFIX, Bindable.mapOf(String.class, Policy.class))
+            .orElse(Map.of());
+    for (Group group : Group.values()) {
+      policies.put(group, configured.getOrDefault(group.name().toLowerCase(), Policy.EAGER));
+      beanNames.put(group, new ArrayList<>());
+    }
+
+    for (String name : beanFactory.getBeanDefinitionNames()) {
+      BeanDefinition definition = beanFactory.getBeanDefinition(name);
+      if (!definition.isSingleton()
+          || definition.isAbstract()
+          || definition.getRole() == BeanDefinition.ROLE_INFRASTRUCTURE) {
+        continue;
+      }
+      Class<?> type = beanFactory.getType(name, false);
+      if (type == null
+          || BeanFactoryPostProcessor.class.isAssignableFrom(type)
+          || BeanPostProcessor.class.isAssignableFrom(type)) {
+        continue;
+      }
+      for (Group group : Group.values()) {
+        if (group.matches(type)) {
+          beanNames.get(group).add(name);
+          if (policies.get(group) != Policy.EAGER) {
+            definition.setLazyInit(true);
+          }
+          break;
+        }
+      }
+    }
+    log.info("启动初始化策略: policies={}, beans={}", policies, beanNames);
+  }
+
+  @Override
+  public void onApplicationEvent(ApplicationReadyEvent event) {
+    List<String> pending = new ArrayList<>();
+    policies.forEach(
+        (group, policy) -> {
+          if (policy == Policy.BACKGROUND) {
+            beanNames.get(group).stream()
+                .filter(name -> !beanFactory.containsSingleton(name))
+                .forEach(pending::add);
+          }
+        });
+    if (pending.isEmpty()) {
+      return;
+    }
+    Thread thread = new Thread(() -> initialize(pending), "startup-background-init");
+    thread.setDaemon(true);
+    thread.start();
+  }
+
+  /**
+   * 各分组的策略、匹配的 Bean 及已创建的数量
+   *
+   * @return 分组名到明细的映射
+   */
+  public Map<String, Object> describe() {
+    Map<String, Object> result = new LinkedHashMap<>();
+    policies.forEach(
+        (group, policy) -> {
+          List<String> names = beanNames.getOrDefault(group, List.of());
+          Map<String, Object> detail = new LinkedHashMap<>();
+          detail.put("policy", policy);
+          detail.put("beans", Collections.unmodifiableList(names));
+          detail.put("initialized", names.stream().filter(beanFactory::containsSingleton).count());
+          result.put(group.name().toLowerCase(), detail);
+        });
+    return result;
+  }
+
+  private void initialize(List<String> names) {
+    for (String name : names) {
+      long start = System.nanoTime();
+      try {
+        beanFactory.getBean(name);
+        log.debug(
+            "后台创建 Bean 完成: name={}, {}ms",
+            name,
+            TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+      } catch (Exception e) {
+        // 首次使用时会再次尝试创建
+        log.warn("后台创建 Bean 失败: name={}, error={}", name, e.getMessage());
+      }
+    }
+    log.info("后台创建 Bean 完成: count={}", names.size());
+  }
+}
@@ -0,0 +1,132 @@
+package com.example.dms2.infrastructure.startup;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.metrics.StartupStep;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+/**
+ * 启动耗时排行端点（{@code /actuator/startupreport}） 基于 {@link BufferingApplicationStartup} 记录的启动步骤
+ *
+ * <ul>
+ *   <li>beans：按自身耗时（扣除创建依赖 Bean 的时间）倒序排列的 Bean 创建步骤
+ *   <li>steps：Bean 创建以外的步骤按名称汇总后倒序排列（容器刷新、配置类解析、后处理器等）
+ *   <li>initPolicies：{@link StartupInitPolicyPostProcessor} 中各分组的策略与已创建数量
+ * </ul>
+ *
+ * <p>只读取时间线快照，不会清空缓冲区；未以 {@link BufferingApplicationStartup} 启动时（如单元测试）返回 enabled=false。
+ *
+ * @author DMS2 Team
+ * @since 1.0.0
+ */
+@Component
+@Endpoint(id = "startupreport")
+@RequiredArgsConstructor
+public class StartupReportEndpoint {
+
+  private static final String BEAN_INSTANTIATE_STEP = "spring.beans.instantiate";
+
+  private static final int DEFAULT_LIMIT = 20;
+
+  private final ApplicationContext applicationContext;
+  private final ObjectProvider<StartupInitPolicyPostProcessor> initPolicies;
+
+  @ReadOperation
+  public Map<String, Object> startupReport(@Nullable Integer limit) {
+    Map<String, Object> result = new LinkedHashMap<>();
+    StartupInitPolicyPostProcessor policies = initPolicies.getIfAvailable();
+    if (!(applicationContext instanceof ConfigurableApplicationContext context)
+        || !(context.getApplicationStartup() instanceof BufferingApplicationStartup startup)) {
+      result.put("enabled", false);
+      if (policies != null) {
+        result.put("initPolicies", policies.describe());
+      }
+      return result;
+    }
+    int top = limit == null || limit <= 0 ? DEFAULT_LIMIT : limit;
+    StartupTimeline timeline = startup.getBufferedTimeline();
+    List<StartupTimeline.TimelineEvent> events = timeline.getEvents();
+
+    // 子步骤耗时之和，用于计算自身耗时
+    Map<Long, Duration> childDurations = new HashMap<>();
+    for (StartupTimeline.TimelineEvent event : events) {
+      Long parentId = event.getStartupStep().getParentId();
+      if (parentId != null) {
+        childDurations.merge(parentId, event.getDuration(), Duration::plus);
+      }
+    }
+
+    List<Map<String, Object>> beans =
+        events.stream()
+            .filter(event -> BEAN_INSTANTIATE_STEP.equals(event.getStartupStep().getName()))
+            .map(event -> beanEntry(event, childDurations))
+            .sorted(
+                Comparator.comparingLong(
+                        (Map<String, Object> bean) -> (long) bean.get("selfMillis"))
+                    .reversed())
+            .limit(top)
+            .toList();
+
+    Map<String, long[]> stepTotals = new LinkedHashMap<>();
+    for (StartupTimeline.TimelineEvent event : events) {
+      String name = event.getStartupStep().getName();
+      if (!BEAN_INSTANTIATE_STEP.equals(name)) {
+        long[] total = stepTotals.computeIfAbsent(name, key -> new long[2]);
+        total[0]++;
+        total[1] += event.getDuration().toMillis();
+      }
+    }
+    List<Map<String, Object>> steps =
+        stepTotals.entrySet().stream()
+            .sorted(
+                Comparator.comparingLong((Map.Entry<String, long[]> e) -> e.getValue()[1])
+                    .reversed())
+            .limit(top)
+            .map(
+                e -> {
+                  Map<String, Object> step = new LinkedHashMap<>();
+                  step.put("name", e.getKey());
+                  step.put("count", e.getValue()[0]);
+                  step.put("totalMillis", e.getValue()[1]);
+                  return step;
+                })
+            .toList();
+
+    result.put("enabled", true);
+    result.put("startTime", timeline.getStartTime());
+    result.put("events", events.size());
+    result.put("beans", beans);
+    result.put("steps", steps);
+    if (policies != null) {
+      result.put("initPolicies", policies.describe());
+    }
+    return result;
+  }
+
+  private static Map<String, Object> beanEntry(
+      StartupTimeline.TimelineEvent event, Map<Long, Duration> childDurations) {
+    StartupStep step = event.getStartupStep();
+    Map<String, Object> bean = new LinkedHashMap<>();
+    for (StartupStep.Tag tag : step.getTags()) {
+      bean.put(tag.getKey(), tag.getValue());
+    }
+    Duration self =
+        event.getDuration().minus(childDurations.getOrDefault(step.getId(), Duration.ZERO));
+    bean.put("totalMillis", event.getDuration().toMillis());
+    bean.put("selfMillis", Math.max(0, self.toMillis()));
+    return bean;
+  }
+}
@@ -0,0 +1,394 @@
+package com.example.dms2.infrastructure.warmup;
+
+import com.example.dms2.api.dto.ApiResponse;
+import com.example.dms2.api.dto.PageRequest;
+import com.example.dms2.api.dto.PageResponse;
+import com.example.dms2.api.dto.response.UserDTO;
+import com.example.dms2.application.service.UserAppService;
+import com.example.dms2.infrastructure.web.UserResponseCache;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.lang.management.CompilationMXBean;
+import java.lang.management.ManagementFactory;
+import java.sql.Connection;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.logging.LogLevel;
+import org.springframework.boot.logging.LoggerConfiguration;
+import org.springframework.boot.logging.LoggingSystem;
+import org.springframework.boot.web.context.WebServerGracefulShutdownLifecycle;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+/**
+ * 启动预热 在 Web 服务器、gRPC 服务端启动及 Nacos 注册之前执行，使实例注册后收到的第一批请求不再承担冷启动开销
+ *
+ * <ol>
+ *   <li>预先打开数据库连接池中的连接，并向 Redis 并发发送命令建立连接
+ *   <li>以只读的调用混合（单查、批量、分页，结果按接口响应序列化）反复调用 {@link UserAppService}，每轮结束后检查 JIT 编译耗时占比，
+ *       连续若干轮低于阈值即认为热点代码已编译完成；达到最长时间时按时结束
+ *   <li>可选：把配置的热点用户写入 {@link UserResponseCache}
+ * </ol>
+ *
+ * <p>Nacos 在 Web 服务器启动完成（{@code WebServerInitializedEvent}）后注册实例，本组件的阶段早于 Web 服务器，因此预热结束前实例不会被发现。
+ * 预热失败只记录日志与结果（{@code /actuator/warmup}），不阻止启动。
+ *
+ * @author DMS2 Team
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+public class StartupWarmup implements SmartLifecycle {
+
+  /** 早于 Web 服务器的启动阶段（Web 服务器为 SMART_LIFECYCLE_PHASE - 1024） */
+  private static final int PHASE = WebServerGracefulShutdownLifecycle.SMART_LIFECYCLE_PHASE - 2048;
+
+  /** 预热期间调高级别的日志，避免每次调用的 INFO/DEBUG 日志刷屏 */
+  private static final String QUIET_LOGGER = "com.example.dms2";
+
+  private static final String REDIS_KEY = "dms2:warmup";
+
+  /** 用于抽样 ID 的首页大小 */
+  private static final int SAMPLE_SIZE = 100;
+
+  private static final int BATCH_SIZE = 20;
+
+  private static final int PAGE_SIZE = 20;
+
+  private static final int MAX_PAGES = 3;
+
+  private static final long STEP_TIMEOUT_SECONDS = 10;
+
+  private final UserAppService userAppService;
+  private final UserResponseCache userResponseCache;
+  private final ObjectMapper objectMapper;
+  private final ObjectProvider<DataSource> dataSource;
+  private final ObjectProvider<RedissonClient> redissonClient;
+  private final ObjectProvider<LoggingSystem> loggingSystem;
+  private final boolean enabled;
+  private final Duration maxDuration;
+  private final int connections;
+  private final int concurrency;
+  private final int callsPerRound;
+  private final int minRounds;
+  private final double jitSettleRatio;
+  private final int settleRounds;
+  private final List<Long> preloadIds;
+
+  private volatile WarmupReport report = WarmupReport.of(WarmupReport.Status.PENDING, null);
+  private volatile boolean running;
+
+  public StartupWarmup(
+      UserAppService userAppService,
+      UserResponseCache userResponseCache,
+      ObjectMapper objectMapper,
+      ObjectProvider<DataSource> dataSource,
+      ObjectProvider<RedissonClient> redissonClient,
+      ObjectProvider<LoggingSystem> loggingSystem,
+      @Value("${dms2.warmup.enabled:true}") boolean enabled,
+      @Value("${dms2.warmup.max-duration:30s}") Duration maxDuration,
+      @Value("${dms2.warmup.connections:8}") int connections,
+      @Value("${dms2.warmup.concurrency:4}") int concurrency,
+      @Value("${dms2.warmup.calls-per-round:200}") int callsPerRound,
+      @Value("${dms2.warmup.min-rounds:5}") int minRounds,
+      @Value("${dms2.warmup.jit-settle-ratio:0.05}") double jitSettleRatio,
+      @Value("${dms2.warmup.settle-rounds:3}") int settleRounds,
+      @Value("${dms2.warmup.preload-ids:}") List<Long> preloadIds) {
+    this.userAppService = userAppService;
+    this.userResponseCache = userResponseCache;
+    this.objectMapper = objectMapper;
+    this.dataSource = dataSource;
+    this.redissonClient = redissonClient;
+    this.loggingSystem = loggingSystem;
+    this.enabled = enabled;
+    this.maxDuration = maxDuration;
+    this.connections = connections;
+    this.concurrency = Math.max(1, concurrency);
+    this.callsPerRound = Math.max(1, callsPerRound);
+    this.minRounds = minRounds;
+    this.jitSettleRatio = jitSettleRatio;
+    this.settleRounds = Math.max(1, settleRounds);
+    this.preloadIds = preloadIds;
+  }
+
+  /** 最近一次预热的结果 */
+  public WarmupReport getReport() {
+    return report;
+  }
+
+  @Override
+  public void start() {
+    running = true;
+    if (!enabled) {
+      report = WarmupReport.of(WarmupReport.Status.SKIPPED, null);
+      log.info("启动预热未启用");
+      return;
+    }
+    report = warmup();
+    log.info(
+        "启动预热结束: status={}, duration={}ms, connections={}, redisCommands={}, rounds={}, calls={},"
+            + " errors={}, compilation={}ms, preloaded={}",
+        report.status(),
+        report.durationMillis(),
+        report.databaseConnections(),
+        report.redisCommands(),
+        report.rounds(),
+        report.calls(),
+        report.errors(),
+        report.compilationMillis(),
+        report.preloadedIds().size());
+  }
+
+  @Override
+  public void stop() {
+    running = false;
+  }
+
+  @Override
+  public boolean isRunning() {
+    return running;
+  }
+
+  @Override
+  public int getPhase() {
+    return PHASE;
+  }
+
+  private WarmupReport warmup() {
+    Instant startedAt = Instant.now();
+    long start = System.nanoTime();
+    long deadline = start + maxDuration.toNanos();
+    CompilationMXBean compilation = compilationBean();
+    long compilationStart = compilationTime(compilation);
+
+    Progress progress = new Progress();
+    WarmupReport.Status status;
+    String message = null;
+    LogLevel previousLevel = quietLogs();
+    ExecutorService executor =
+        Executors.newFixedThreadPool(
+            concurrency,
+            runnable -> {
+              Thread thread = new Thread(runnable, "warmup-" + progress.threads.incrementAndGet());
+              thread.setDaemon(true);
+              return thread;
+            });
+    try {
+      progress.databaseConnections = openConnections();
+      progress.redisCommands = touchRedis();
+      status = replay(executor, compilation, deadline, progress);
+      progress.preloadedIds = preload();
+    } catch (Exception e) {
+      status = WarmupReport.Status.FAILED;
+      message = e.toString();
+      log.warn("启动预热失败，继续启动", e);
+    } finally {
+      executor.shutdownNow();
+      restoreLogs(previousLevel);
+    }
+    if (status == WarmupReport.Status.TIMED_OUT) {
+      message = "JIT 编译在 " + maxDuration + " 内未趋于平稳";
+    }
+
+    long compilationMillis =
+        compilation == null ? -1 : compilationTime(compilation) - compilationStart;
+    return new WarmupReport(
+        status,
+        startedAt,
+        TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start),
+        progress.databaseConnections,
+        progress.redisCommands,
+        progress.rounds,
+        progress.calls.get(),
+        progress.errors.get(),
+        compilationMillis,
+        progress.preloadedIds,
+        message);
+  }
+
+  /** 同时借出 connections 个连接使连接池扩容到该数量，随后全部归还 */
+  private int openConnections() throws Exception {
+    DataSource source = dataSource.getIfAvailable();
+    if (source == null || connections <= 0) {
+      return 0;
+    }
+    List<Connection> opened = new ArrayList<>(connections);
+    try {
+      for (int i = 0; i < connections; i++) {
+        Connection connection = source.getConnection();
+        opened.add(connection);
+        connection.isValid((int) STEP_TIMEOUT_SECONDS);
+      }
+    } finally {
+      for (Connection connection : opened) {
+        connection.close();
+      }
+    }
+    return opened.size();
+  }
+
+  /** 并发发送命令，使 Redisson 建立连接并加载命令与编解码路径 */
+  private int touchRedis() throws Exception {
+    RedissonClient client = redissonClient.getIfAvailable();
+    if (client == null || connections <= 0) {
+      return 0;
+    }
+    CompletableFuture<?>[] futures = new CompletableFuture<?>[connections];
+    for (int i = 0; i < connections; i++) {
+      futures[i] = client.getBucket(REDIS_KEY).isExistsAsync().toCompletableFuture();
+    }
+    CompletableFuture.allOf(futures).get(STEP_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+    return futures.length;
+  }
+
+  /** 执行调用混合，直到 JIT 编译耗时占比连续 settleRounds 轮低于阈值或到达截止时间 */
+  private WarmupReport.Status replay(
+      ExecutorService executor, CompilationMXBean compilation, long deadline, Progress progress)
+      throws Exception {
+    PageResponse<UserDTO> sample = userAppService.queryUsers(page(1, SAMPLE_SIZE));
+    List<Long> ids = sample.getRecords().stream().map(UserDTO::getId).toList();
+    // 只请求存在的页（最多前 3 页），超出总页数的分页查询会失败
+    int pages =
+        (int) Math.min(MAX_PAGES, Math.max(1, (sample.getTotal() + PAGE_SIZE - 1) / PAGE_SIZE));
+    int quietRounds = 0;
+    while (System.nanoTime() < deadline) {
+      long roundStart = System.nanoTime();
+      long compilationBefore = compilationTime(compilation);
+      long errorsBefore = progress.errors.get();
+      List<Future<?>> tasks = new ArrayList<>(concurrency);
+      for (int i = 0; i < concurrency; i++) {
+        int calls = callsPerRound / concurrency + (i < callsPerRound % concurrency ? 1 : 0);
+        tasks.add(executor.submit(() -> callMix(ids, pages, calls, deadline, progress)));
+      }
+      for (Future<?> task : tasks) {
+        task.get();
+      }
+      progress.rounds++;
+      if (progress.errors.get() - errorsBefore >= callsPerRound) {
+        throw new IllegalStateException("预热调用全部失败，终止预热");
+      }
+
+      if (compilation == null) {
+        // 无法观测 JIT 编译时按最少轮数结束
+        if (progress.rounds >= minRounds) {
+          return WarmupReport.Status.COMPLETED;
+        }
+        continue;
+      }
+      long roundMillis = Math.max(1, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - roundStart));
+      double ratio = (double) (compilationTime(compilation) - compilationBefore) / roundMillis;
+      quietRounds = ratio < jitSettleRatio ? quietRounds + 1 : 0;
+      log.debug("预热第 {} 轮: {}ms, JIT 编译占比 {}", progress.rounds, roundMillis, ratio);
+      if (progress.rounds >= minRounds && quietRounds >= settleRounds) {
+        return WarmupReport.Status.COMPLETED;
+      }
+    }
+    return WarmupReport.Status.TIMED_OUT;
+  }
+
+  /** 只读调用混合：单查 70%、批量 15%、分页 15%，结果按接口响应序列化 */
+  private void callMix(List<Long> ids, int pages, int calls, long deadline, Progress progress) {
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    for (int i = 0; i < calls && System.nanoTime() < deadline; i++) {
+      int kind = ids.isEmpty() ? 99 : random.nextInt(100);
+      try {
+        Object data;
+        if (kind < 70) {
+          data = userAppService.getUserById(ids.get(random.nextInt(ids.size())));
+        } else if (kind < 85) {
+          List<Long> batch = new ArrayList<>(BATCH_SIZE);
+          for (int j = 0; j < BATCH_SIZE; j++) {
+            batch.add(ids.get(random.nextInt(ids.size())));
+          }
+          data = userAppService.getUsersByIds(batch);
+        } else {
+          data = userAppService.queryUsers(page(random.nextInt(pages) + 1, PAGE_SIZE));
+        }
+        objectMapper.writeValueAsBytes(ApiResponse.success(data));
+      } catch (Exception e) {
+        progress.errors.incrementAndGet();
+        log.debug("预热调用失败", e);
+      }
+      progress.calls.incrementAndGet();
+    }
+  }
+
+  /** 把配置的热点用户写入响应缓存，字节与 {@code GET /api/users/{id}} 的响应一致 */
+  private List<Long> preload() {
+    if (preloadIds.isEmpty() || !userResponseCache.isEnabled()) {
+      return List.of();
+    }
+    List<Long> preloaded = new ArrayList<>(preloadIds.size());
+    for (Long id : preloadIds) {
+      try {
+        long version = userResponseCache.version(id);
+        UserDTO user = userAppService.getUserById(id);
+        userResponseCache.put(
+            id, version, objectMapper.writeValueAsBytes(ApiResponse.success(user)));
+        preloaded.add(id);
+      } catch (Exception e) {
+        log.warn("预热写入响应缓存失败: id={}, error={}", id, e.getMessage());
+      }
+    }
+    return List.copyOf(preloaded);
+  }
+
+  private LogLevel quietLogs() {
+    LoggingSystem system = loggingSystem.getIfAvailable();
+    if (system == null) {
+      return null;
+    }
+    LoggerConfiguration configuration = system.getLoggerConfiguration(QUIET_LOGGER);
+    LogLevel previous = configuration == null ? null : configuration.getConfiguredLevel();
+    system.setLogLevel(QUIET_LOGGER, LogLevel.WARN);
+    return previous;
+  }
+
+  private void restoreLogs(LogLevel previous) {
+    LoggingSystem system = loggingSystem.getIfAvailable();
+    if (system != null) {
+      system.setLogLevel(QUIET_LOGGER, previous);
+    }
+  }
+
+  private static PageRequest page(int pageNum, int pageSize) {
+    PageRequest request = new PageRequest();
+    request.setPageNum(pageNum);
+    request.setPageSize(pageSize);
+    return request;
+  }
+
+  private static CompilationMXBean compilationBean() {
+    CompilationMXBean bean = ManagementFactory.getCompilationMXBean();
+    return bean != null && bean.isCompilationTimeMonitoringSupported() ? bean : null;
+  }
+
+  private static long compilationTime(CompilationMXBean bean) {
+    return bean == null ? 0 : bean.getTotalCompilationTime();
+  }
+
+  /** 预热过程中的计数 */
+  private static final class Progress {
+    private final AtomicInteger threads = new AtomicInteger();
+    private final AtomicLong calls = new AtomicLong();
+    private final AtomicLong errors = new AtomicLong();
+    private int databaseConnections;
+    private int redisCommands;
+    private int rounds;
+    private List<Long> preloadedIds = List.of();
+  }
+}
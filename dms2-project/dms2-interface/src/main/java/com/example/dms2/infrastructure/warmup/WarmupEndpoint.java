@@ -0,0 +1,25 @@
+package com.example.dms2.infrastructure.warmup;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * 启动预热端点（{@code /actuator/warmup}） 返回预热状态、耗时、连接数、调用次数、JIT 编译耗时及写入缓存的用户
+ *
+ * @author DMS2 Team
+ * @since 1.0.0
+ */
+@Component
+@Endpoint(id = "warmup")
+@RequiredArgsConstructor
+public class WarmupEndpoint {
+
+  private final StartupWarmup startupWarmup;
+
+  @ReadOperation
+  public WarmupReport warmup() {
+    return startupWarmup.getReport();
+  }
+}
@@ -0,0 +1,53 @@
+package com.example.dms2.infrastructure.warmup;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 启动预热结果（{@code /actuator/warmup}）
+ *
+ * @param status 预热状态
+ * @param startedAt 开始时间
+ * @param durationMillis 总耗时
+ * @param databaseConnections 预先打开的数据库连接数
+ * @param redisCommands 预先执行的 Redis 命令数
+ * @param rounds 调用混合的执行轮数
+ * @param calls 调用次数
+ * @param errors 失败的调用次数
+ * @param compilationMillis 预热期间 JIT 编译累计耗时，JVM 不支持统计时为 -1
+ * @param preloadedIds 已写入响应缓存的用户 ID
+ * @param message 未完成的原因或异常信息
+ * @author DMS2 Team
+ * @since 1.0.0
+ */
+public record WarmupReport(
+    Status status,
+    Instant startedAt,
+    long durationMillis,
+    int databaseConnections,
+    int redisCommands,
+    int rounds,
+    long calls,
+    long errors,
+    long compilationMillis,
+    List<Long> preloadedIds,
+    String message) {
+
+  /** 预热状态 */
+  public enum Status {
+    /** 尚未开始 */
+    PENDING,
+    /** 未启用 */
+    SKIPPED,
+    /** JIT 编译已趋于平稳 */
+    COMPLETED,
+    /** 达到最长时间仍未平稳，按时结束 */
+    TIMED_OUT,
+    /** 预热过程出错，不影响启动 */
+    FAILED
+  }
+
+  static WarmupReport of(Status status, String message) {
+    return new WarmupReport(status, null, 0, 0, 0, 0, 0, 0, -1, List.of(), message);
+  }
+}
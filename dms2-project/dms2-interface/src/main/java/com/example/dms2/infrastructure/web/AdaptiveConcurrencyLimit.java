@@ -0,0 +1,148 @@
+package com.example.dms2.infrastructure.web;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 自适应并发上限（Gradient 算法） 根据请求耗时的变化动态调整允许的并发数
+ *
+ * <p>维护长期平均耗时与短期平均耗时，二者之比即梯度：耗时上升（数据库变慢、排队）时梯度小于 1，上限按比例收缩；耗时稳定时上限每次增加约 {@code sqrt(limit)}
+ * 的排队余量。请求失败（异常或 5xx）时上限乘以 {@link #BACKOFF_RATIO}，客户端错误与限流拦截不影响上限。只有实际并发达到上限一半以上时才允许增长，避免空闲时上限虚高。
+ *
+ * <p>长期耗时在短期耗时持续低于它一半时向下校正，防止一次慢事件后上限长期偏高。
+ *
+ * @author DMS2 Team
+ * @since 1.0.0
+ */
+public class AdaptiveConcurrencyLimit {
+
+  /** 失败时的收缩比例 */
+  static final double BACKOFF_RATIO = 0.9;
+
+  /** 单次调整的最小梯度 */
+  private static final double MIN_GRADIENT = 0.5;
+
+  /** 短期耗时的平滑样本数 */
+  private static final int SHORT_WINDOW = 10;
+
+  private final int minLimit;
+  private final int maxLimit;
+  private final double smoothing;
+  private final double tolerance;
+  private final int longWindow;
+  private final AtomicInteger inFlight = new AtomicInteger();
+  private final AtomicLong rejected = new AtomicLong();
+
+  private volatile double limit;
+  private double longRtt;
+  private double shortRtt;
+  private long samples;
+
+  /**
+   * @param initialLimit 初始上限
+   * @param minLimit 最小上限
+   * @param maxLimit 最大上限
+   * @param smoothing 每次调整向新上限靠拢的比例（0-1）
+   * @param tolerance 允许的耗时上升倍数，超过后才开始收缩
+   * @param longWindow 长期耗时的平滑样本数
+   */
+  public AdaptiveConcurrencyLimit(
+      int initialLimit,
+      int minLimit,
+      int maxLimit,
+      double smoothing,
+      double tolerance,
+      int longWindow) {
+    if (minLimit < 1 || maxLimit < minLimit) {
+      throw new IllegalArgumentException("并发上限范围无效: " + minLimit + "-" + maxLimit);
+    }
+    this.minLimit = minLimit;
+    this.maxLimit = maxLimit;
+    this.smoothing = smoothing;
+    this.tolerance = tolerance;
+    this.longWindow = Math.max(SHORT_WINDOW, longWindow);
+    this.limit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+  }
+
+  /**
+   * 尝试占用一个并发名额
+   *
+   * @param borrow 可额外占用的名额（高优先级请求借用其他类别的空闲名额）
+   * @return 是否成功，成功后必须调用 {@link #onSuccess(long)}、{@link #onDropped()} 或 {@link #onIgnore()} 之一
+   */
+  public boolean tryAcquire(int borrow) {
+    int allowed = getLimit() + Math.max(0, borrow);
+    while (true) {
+      int current = inFlight.get();
+      if (current >= allowed) {
+        rejected.incrementAndGet();
+        return false;
+      }
+      if (inFlight.compareAndSet(current, current + 1)) {
+        return true;
+      }
+    }
+  }
+
+  /**
+   * 请求成功完成
+   *
+   * @param rttNanos 请求耗时
+   */
+  public void onSuccess(long rttNanos) {
+    int current = inFlight.getAndDecrement();
+    update(Math.max(1, rttNanos), current);
+  }
+
+  /** 请求失败（异常或 5xx），按比例收缩上限 */
+  public synchronized void onDropped() {
+    inFlight.decrementAndGet();
+    limit = clamp(limit * BACKOFF_RATIO);
+  }
+
+  /** 请求结束但不计入耗时（客户端错误、限流拦截），只归还名额 */
+  public void onIgnore() {
+    inFlight.decrementAndGet();
+  }
+
+  private synchronized void update(double rtt, int inFlightAtCompletion) {
+    samples++;
+    if (samples == 1) {
+      longRtt = rtt;
+      shortRtt = rtt;
+      return;
+    }
+    shortRtt += (rtt - shortRtt) / Math.min(samples, SHORT_WINDOW);
+    longRtt += (shortRtt - longRtt) / Math.min(samples, longWindow);
+    // 耗时明显下降（慢事件结束）时加速校正长期耗时
+    if (longRtt / shortRtt > 2) {
+      longRtt *= 0.95;
+    }
+    // 空闲时不增长
+    if (inFlightAtCompletion < limit / 2) {
+      return;
+    }
+    double gradient = Math.max(MIN_GRADIENT, Math.min(1.0, tolerance * longRtt / shortRtt));
+    double newLimit = limit * gradient + Math.sqrt(limit);
+    limit = clamp(limit * (1 - smoothing) + newLimit * smoothing);
+  }
+
+  private double clamp(double value) {
+    return Math.max(minLimit, Math.min(maxLimit, value));
+  }
+
+  /** 当前并发上限 */
+  public int getLimit() {
+    return (int) limit;
+  }
+
+  /** 当前进行中的请求数 */
+  public int getInFlight() {
+    return inFlight.get();
+  }
+
+  /** 累计拒绝数 */
+  public long getRejected() {
+    return rejected.get();
+  }
+}
@@ -0,0 +1,209 @@
+package com.example.dms2.infrastructure.web;
+
+import com.example.dms2.api.dto.ApiResponse;
+import com.example.dms2.api.dto.ErrorCode;
+import com.example.dms2.infrastructure.sentinel.SentinelBlockedException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * 自适应并发限制过滤器 超出当前并发上限的请求立即返回 503，而不是堆积在 Tomcat 线程与数据库连接池的等待队列中
+ *
+ * <p>按接口类别（读/写）分别测量耗时并维护各自的 {@link AdaptiveConcurrencyLimit}。写请求优先：自身上限已满时可借用读类别的空闲名额，读请求不能借用。健康检查与
+ * 非 {@code /api/} 路径不受限制。
+ *
+ * <p>5xx 与异常使上限收缩；客户端错误（4xx，含 429）与 Sentinel 拦截产生的 503 只归还名额，不计入耗时，也不触发收缩。
+ *
+ * <p>当前上限、进行中请求数与拒绝数以 {@code dms2.concurrency.*} 指标导出。
+ *
+ * @author DMS2 Team
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 5)
+@ConditionalOnProperty(
+    name = "dms2.web.concurrency-limit.enabled",
+    havingValue = "true",
+    matchIfMissing = true)
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+  /** 接口类别 */
+  public enum EndpointClass {
+    /** 查询（GET 及批量/分页查询） */
+    READ,
+    /** 写入（创建、删除） */
+    WRITE
+  }
+
+  private static final String API_PREFIX = "/api/";
+
+  private final Map<EndpointClass, AdaptiveConcurrencyLimit> limits =
+      new EnumMap<>(EndpointClass.class);
+
+  /** 预先序列化的 503 响应体 */
+  private final byte[] rejectedBody;
+
+  public ConcurrencyLimitFilter(
+      @Value("${dms2.web.concurrency-limit.initial-limit:20}") int initialLimit,
+      @Value("${dms2.web.concurrency-limit.min-limit:4}") int minLimit,
+      @Value("${dms2.web.concurrency-limit.max-limit:200}") int maxLimit,
+      @Value("${dms2.web.concurrency-limit.smoothing:0.2}") double smoothing,
+      @Value("${dms2.web.concurrency-limit.tolerance:1.5}") double tolerance,
+      @Value("${dms2.web.concurrency-limit.long-window:600}") int longWindow,
+      ObjectMapper objectMapper,
+      ObjectProvider<MeterRegistry> meterRegistry)
+      throws JsonProcessingException {
+    for (EndpointClass endpointClass : EndpointClass.values()) {
+      limits.put(
+          endpointClass,
+          new AdaptiveConcurrencyLimit(
+              initialLimit, minLimit, maxLimit, smoothing, tolerance, longWindow));
+    }
+    this.rejectedBody =
+        objectMapper.writeValueAsBytes(ApiResponse.error(ErrorCode.SERVICE_UNAVAILABLE));
+    meterRegistry.ifAvailable(this::bindMetrics);
+    log.info(
+        "自适应并发限制: initialLimit={}, minLimit={}, maxLimit={}", initialLimit, minLimit, maxLimit);
+  }
+
+  @Override
+  protected boolean shouldNotFilter(HttpServletRequest request) {
+    String path = request.getRequestURI().substring(request.getContextPath().length());
+    return !path.startsWith(API_PREFIX);
+  }
+
+  @Override
+  protected void doFilterInternal(
+      HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+      throws ServletException, IOException {
+    EndpointClass endpointClass = classify(request);
+    AdaptiveConcurrencyLimit limit = limits.get(endpointClass);
+    if (!limit.tryAcquire(borrowable(endpointClass))) {
+      reject(endpointClass, response);
+      return;
+    }
+    long start = System.nanoTime();
+    Outcome outcome = Outcome.DROPPED;
+    try {
+      filterChain.doFilter(request, response);
+      outcome = outcome(request, response.getStatus());
+    } finally {
+      switch (outcome) {
+        case SUCCESS -> limit.onSuccess(System.nanoTime() - start);
+        case IGNORED -> limit.onIgnore();
+        case DROPPED -> limit.onDropped();
+      }
+    }
+  }
+
+  /** 请求结果对并发上限的影响 */
+  private enum Outcome {
+    /** 计入耗时样本 */
+    SUCCESS,
+    /** 只归还名额 */
+    IGNORED,
+    /** 收缩上限 */
+    DROPPED
+  }
+
+  /** Sentinel 拦截与客户端错误不反映服务端容量，5xx 视为过载 */
+  private static Outcome outcome(HttpServletRequest request, int status) {
+    if (SentinelBlockedException.isBlocked(request)
+        || (status >= HttpServletResponse.SC_BAD_REQUEST
+            && status < HttpServletResponse.SC_INTERNAL_SERVER_ERROR)) {
+      return Outcome.IGNORED;
+    }
+    return status >= HttpServletResponse.SC_INTERNAL_SERVER_ERROR
+        ? Outcome.DROPPED
+        : Outcome.SUCCESS;
+  }
+
+  /**
+   * 接口类别 批量查询与分页查询虽为 POST，但只读
+   *
+   * @param request 请求
+   * @return 类别
+   */
+  static EndpointClass classify(HttpServletRequest request) {
+    String method = request.getMethod();
+    if (HttpMethod.GET.matches(method) || HttpMethod.HEAD.matches(method)) {
+      return EndpointClass.READ;
+    }
+    String uri = request.getRequestURI();
+    if (HttpMethod.POST.matches(method) && (uri.endsWith("/batch") || uri.endsWith("/page"))) {
+      return EndpointClass.READ;
+    }
+    return EndpointClass.WRITE;
+  }
+
+  /** 写请求可借用读类别的空闲名额 */
+  private int borrowable(EndpointClass endpointClass) {
+    if (endpointClass != EndpointClass.WRITE) {
+      return 0;
+    }
+    AdaptiveConcurrencyLimit read = limits.get(EndpointClass.READ);
+    return Math.max(0, read.getLimit() - read.getInFlight());
+  }
+
+  private void reject(EndpointClass endpointClass, HttpServletResponse response)
+      throws IOException {
+    log.debug("超出并发上限，拒绝请求: class={}", endpointClass);
+    response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+    response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+    response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+    response.setContentLength(rejectedBody.length);
+    response.getOutputStream().write(rejectedBody);
+  }
+
+  /**
+   * 指定类别的并发上限
+   *
+   * @param endpointClass 类别
+   * @return 并发上限
+   */
+  public AdaptiveConcurrencyLimit getLimit(EndpointClass endpointClass) {
+    return limits.get(endpointClass);
+  }
+
+  private void bindMetrics(MeterRegistry registry) {
+    limits.forEach(
+        (endpointClass, limit) -> {
+          String tag = endpointClass.name().toLowerCase();
+          Gauge.builder("dms2.concurrency.limit", limit, AdaptiveConcurrencyLimit::getLimit)
+              .description("当前并发上限")
+              .tag("endpoint", tag)
+              .register(registry);
+          Gauge.builder("dms2.concurrency.in.flight", limit, AdaptiveConcurrencyLimit::getInFlight)
+              .description("进行中的请求数")
+              .tag("endpoint", tag)
+              .register(registry);
+          FunctionCounter.builder(
+                  "dms2.concurrency.rejected", limit, AdaptiveConcurrencyLimit::getRejected)
+              .description("超出并发上限被拒绝的请求数")
+              .tag("endpoint", tag)
+              .register(registry);
+        });
+  }
+}
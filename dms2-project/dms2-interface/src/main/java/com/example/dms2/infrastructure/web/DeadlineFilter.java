@@ -0,0 +1,42 @@
+package com.example.dms2.infrastructure.web;
+
+import com.example.dms2.api.support.Deadline;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * 截止时间过滤器 从请求头恢复调用方的截止时间，本次请求中发起的 Feign 调用继承同一截止时间
+ *
+ * @author DMS2 Team
+ * @since 1.0.0
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class DeadlineFilter extends OncePerRequestFilter {
+
+  @Override
+  protected boolean shouldNotFilter(HttpServletRequest request) {
+    return request.getHeader(Deadline.HEADER) == null;
+  }
+
+  @Override
+  protected void doFilterInternal(
+      HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+      throws ServletException, IOException {
+    Deadline deadline = Deadline.fromHeader(request.getHeader(Deadline.HEADER));
+    if (deadline == null) {
+      filterChain.doFilter(request, response);
+      return;
+    }
+    try (Deadline.Scope ignored = deadline.attach()) {
+      filterChain.doFilter(request, response);
+    }
+  }
+}
@@ -0,0 +1,255 @@
+package com.example.dms2.infrastructure.web;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.zip.GZIPInputStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * gzip 请求体解压过滤器
+ *
+ * <p>Feign 客户端对较大的请求体使用 gzip 压缩（{@code Content-Encoding: gzip}），Servlet
+ * 容器不会自动解压请求体，在此透明解压，后续的消息转换器读到的是原始内容。解压后的大小受 {@code dms2.web.gzip-request-max-size}
+ * 限制，超出时按请求体不可读处理。
+ *
+ * @author DMS2 Team
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class GzipRequestBodyFilter extends OncePerRequestFilter {
+
+  private static final String GZIP = "gzip";
+
+  private final long maxSize;
+
+  public GzipRequestBodyFilter(@Value("${dms2.web.gzip-request-max-size:10MB}") DataSize maxSize) {
+    this.maxSize = maxSize.toBytes();
+  }
+
+  @Override
+  protected boolean shouldNotFilter(HttpServletRequest request) {
+    String encoding = request.getHeader(HttpHeaders.CONTENT_ENCODING);
+    return encoding == null || !GZIP.equalsIgnoreCase(encoding.trim());
+  }
+
+  @Override
+  protected void doFilterInternal(
+      HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+      throws ServletException, IOException {
+    filterChain.doFilter(new DecompressingRequestWrapper(request, maxSize), response);
+  }
+
+  /** 解压后的请求：去掉 Content-Encoding 与 Content-Length，读取时解压 */
+  private static final class DecompressingRequestWrapper extends HttpServletRequestWrapper {
+
+    private final long maxSize;
+    private ServletInputStream inputStream;
+    private BufferedReader reader;
+
+    DecompressingRequestWrapper(HttpServletRequest request, long maxSize) {
+      super(request);
+      this.maxSize = maxSize;
+    }
+
+    @Override
+    public ServletInputStream getInputStream() throws IOException {
+      if (inputStream == null) {
+        inputStream =
+            new GzipServletInputStream(new GZIPInputStream(super.getInputStream()), maxSize);
+      }
+      return inputStream;
+    }
+
+    @Override
+    public BufferedReader getReader() throws IOException {
+      if (reader == null) {
+        String encoding = getCharacterEncoding();
+        Charset charset = encoding != null ? Charset.forName(encoding) : StandardCharsets.UTF_8;
+        reader = new BufferedReader(new InputStreamReader(getInputStream(), charset));
+      }
+      return reader;
+    }
+
+    @Override
+    public int getContentLength() {
+      return -1;
+    }
+
+    @Override
+    public long getContentLengthLong() {
+      return -1;
+    }
+
+    @Override
+    public String getHeader(String name) {
+      if (isStrippedHeader(name)) {
+        return null;
+      }
+      return super.getHeader(name);
+    }
+
+    @Override
+    public Enumeration<String> getHeaders(String name) {
+      if (isStrippedHeader(name)) {
+        return Collections.emptyEnumeration();
+      }
+      return super.getHeaders(name);
+    }
+
+    @Override
+    public Enumeration<String> getHeaderNames() {
+      return Collections.enumeration(
+          Collections.list(super.getHeaderNames()).stream()
+              .filter(name -> !isStrippedHeader(name))
+              .toList());
+    }
+
+    private static boolean isStrippedHeader(String name) {
+      return HttpHeaders.CONTENT_ENCODING.equalsIgnoreCase(name)
+          || HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name);
+    }
+  }
+
+  /**
+   * 限制解压总字节数的输入流，防止压缩炸弹
+   *
+   * <p>设置 {@link ReadListener} 后（Servlet 非阻塞读取）先把剩余请求体解压到内存（同样受大小限制），之后的读取直接来自内存，{@link #isReady()}
+   * 始终为 true：随即回调 {@link ReadListener#onDataAvailable()}，读到流末尾时回调 {@link
+   * ReadListener#onAllDataRead()}，解压失败时回调 {@link ReadListener#onError(Throwable)}。
+   */
+  private static final class GzipServletInputStream extends ServletInputStream {
+
+    private final long maxSize;
+    private InputStream delegate;
+    private long count;
+    private boolean buffered;
+    private boolean finished;
+    private ReadListener readListener;
+
+    GzipServletInputStream(InputStream delegate, long maxSize) {
+      this.delegate = delegate;
+      this.maxSize = maxSize;
+    }
+
+    @Override
+    public int read() throws IOException {
+      int b = delegate.read();
+      if (b < 0) {
+        endOfStream();
+      } else {
+        count(1);
+      }
+      return b;
+    }
+
+    @Override
+    public int read(byte[] buffer, int off, int len) throws IOException {
+      int n = delegate.read(buffer, off, len);
+      if (n < 0) {
+        endOfStream();
+      } else {
+        count(n);
+      }
+      return n;
+    }
+
+    @Override
+    public boolean isFinished() {
+      return finished;
+    }
+
+    @Override
+    public boolean isReady() {
+      return true;
+    }
+
+    @Override
+    public void setReadListener(ReadListener readListener) {
+      if (readListener == null) {
+        throw new NullPointerException("readListener");
+      }
+      if (this.readListener != null) {
+        throw new IllegalStateException("ReadListener 已设置");
+      }
+      this.readListener = readListener;
+      try {
+        if (!finished) {
+          delegate = new ByteArrayInputStream(inflateRemaining());
+          buffered = true;
+        }
+        if (finished || delegate.available() == 0) {
+          // 没有剩余数据：不回调 onDataAvailable，直接结束
+          endOfStream();
+          return;
+        }
+        readListener.onDataAvailable();
+      } catch (IOException | RuntimeException e) {
+        readListener.onError(e);
+      }
+    }
+
+    @Override
+    public void close() throws IOException {
+      delegate.close();
+    }
+
+    /** 把剩余请求体解压到内存，计入大小限制 */
+    private byte[] inflateRemaining() throws IOException {
+      ByteArrayOutputStream out = new ByteArrayOutputStream();
+      byte[] buffer = new byte[8192];
+      int n;
+      while ((n = delegate.read(buffer)) >= 0) {
+        count(n);
+        out.write(buffer, 0, n);
+      }
+      delegate.close();
+      return out.toByteArray();
+    }
+
+    private void endOfStream() throws IOException {
+      if (finished) {
+        return;
+      }
+      finished = true;
+      if (readListener != null) {
+        readListener.onAllDataRead();
+      }
+    }
+
+    private void count(int n) throws IOException {
+      if (buffered) {
+        // 解压到内存时已计数
+        return;
+      }
+      count += n;
+      if (count > maxSize) {
+        log.warn("gzip 请求体解压后超出限制: max={}", maxSize);
+        throw new IOException("gzip 请求体解压后超过 " + maxSize + " 字节");
+      }
+    }
+  }
+}
@@ -0,0 +1,166 @@
+package com.example.dms2.infrastructure.web;
+
+import com.example.dms2.domain.event.UserChangedEvent;
+import com.example.dms2.infrastructure.jfr.CacheLookupEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLongArray;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 用户二级键缓存 用户名、邮箱到用户 ID 的映射
+ *
+ * <p>{@code GET /api/users/by-username/{username}} 与 {@code by-email/{email}} 先经本缓存得到 ID，再从 {@link
+ * UserResponseCache} 取响应字节，每个用户的响应只缓存一份。
+ *
+ * <p>映射记录写入时该 ID 在 {@link UserResponseCache} 中的版本号，用户变更使 ID 条目失效（版本递增）后映射随之失效，
+ * 因此改名等事件中不携带旧键的变更也不会返回旧用户。
+ *
+ * <p>键本身同样按分段维护版本：用户创建、删除后递增事件中用户名、邮箱所在分段的版本并移除映射，回源期间发生变更时放弃写入。
+ *
+ * @author DMS2 Team
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+public class UserKeyCache {
+
+  /** 缓存名称（指标与 JFR 事件） */
+  private static final String CACHE_NAME = "userKey";
+
+  /** 版本分段数（2的幂） */
+  private static final int VERSION_STRIPES = 1024;
+
+  /** 键类型 */
+  public enum KeyType {
+    USERNAME,
+    EMAIL
+  }
+
+  private final boolean enabled;
+  private final UserResponseCache userResponseCache;
+  private final Cache<Key, Entry> cache;
+  private final AtomicLongArray versions = new AtomicLongArray(VERSION_STRIPES);
+
+  public UserKeyCache(
+      @Value("${dms2.cache.user-key.enabled:true}") boolean enabled,
+      @Value("${dms2.cache.user-key.max-size:100000}") long maxSize,
+      @Value("${dms2.cache.user-key.expire-after-write:10m}") Duration expireAfterWrite,
+      UserResponseCache userResponseCache,
+      ObjectProvider<MeterRegistry> meterRegistry) {
+    this.enabled = enabled && userResponseCache.isEnabled();
+    this.userResponseCache = userResponseCache;
+    this.cache =
+        Caffeine.newBuilder()
+            .maximumSize(maxSize)
+            .expireAfterWrite(expireAfterWrite)
+            .recordStats()
+            .build();
+    meterRegistry.ifAvailable(
+        registry -> CaffeineCacheMetrics.monitor(registry, cache, CACHE_NAME));
+    log.info("用户二级键缓存: enabled={}, maxSize={}, ttl={}", this.enabled, maxSize, expireAfterWrite);
+  }
+
+  /** 是否启用（依赖 {@link UserResponseCache}） */
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * 键的当前版本号 回源前读取，写入时原样传回 {@link #put(KeyType, String, long, long)}
+   *
+   * @param type 键类型
+   * @param key 用户名或邮箱
+   * @return 版本号
+   */
+  public long version(KeyType type, String key) {
+    return versions.get(stripe(new Key(type, key)));
+  }
+
+  /**
+   * 查找用户 ID
+   *
+   * @param type 键类型
+   * @param key 用户名或邮箱
+   * @return 用户 ID，未命中或映射已失效时返回 null
+   */
+  public Long get(KeyType type, String key) {
+    CacheLookupEvent event = new CacheLookupEvent();
+    event.begin();
+    Key cacheKey = new Key(type, key);
+    Entry entry = cache.getIfPresent(cacheKey);
+    Long id = null;
+    if (entry != null) {
+      if (entry.keyVersion == versions.get(stripe(cacheKey))
+          && entry.idVersion == userResponseCache.version(entry.id)) {
+        id = entry.id;
+      } else {
+        cache.asMap().remove(cacheKey, entry);
+      }
+    }
+    event.end();
+    if (event.shouldCommit()) {
+      event.cache = CACHE_NAME;
+      event.key = type + ":" + key;
+      event.hit = id != null;
+      event.commit();
+    }
+    return id;
+  }
+
+  /**
+   * 写入映射 键的版本号在回源期间发生变化时放弃写入
+   *
+   * @param type 键类型
+   * @param key 用户名或邮箱
+   * @param keyVersion 回源前读取的键版本号
+   * @param id 用户 ID
+   */
+  public void put(KeyType type, String key, long keyVersion, long id) {
+    Key cacheKey = new Key(type, key);
+    if (versions.get(stripe(cacheKey)) != keyVersion) {
+      return;
+    }
+    cache.put(cacheKey, new Entry(id, keyVersion, userResponseCache.version(id)));
+  }
+
+  /**
+   * 使映射失效
+   *
+   * @param type 键类型
+   * @param key 用户名或邮箱
+   */
+  public void evict(KeyType type, String key) {
+    Key cacheKey = new Key(type, key);
+    versions.incrementAndGet(stripe(cacheKey));
+    cache.invalidate(cacheKey);
+  }
+
+  /** 用户变更后（事务提交后）失效事件中用户名、邮箱的映射，ID 条目由 {@link UserResponseCache} 失效 */
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onUserChanged(UserChangedEvent event) {
+    if (event.getUsername() != null) {
+      evict(KeyType.USERNAME, event.getUsername());
+    }
+    if (event.getEmail() != null) {
+      evict(KeyType.EMAIL, event.getEmail());
+    }
+  }
+
+  private static int stripe(Key key) {
+    return (key.hashCode() * 0x9E3779B9) >>> 22 & (VERSION_STRIPES - 1);
+  }
+
+  /** 缓存键 */
+  private record Key(KeyType type, String value) {}
+
+  /** 缓存条目：用户 ID 及写入时键与 ID 的版本号 */
+  private record Entry(long id, long keyVersion, long idVersion) {}
+}
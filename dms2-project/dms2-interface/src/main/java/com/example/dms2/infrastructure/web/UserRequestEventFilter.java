@@ -0,0 +1,79 @@
+package com.example.dms2.infrastructure.web;
+
+import com.example.dms2.infrastructure.jfr.UserRequestEvent;
+import com.example.dms2.infrastructure.metrics.Outcome;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * 用户接口请求 JFR 事件过滤器 每个 {@code /api/} 请求提交一个 {@link UserRequestEvent}，路径记为匹配的模式（如 {@code
+ * /api/users/{id}}）
+ *
+ * <p>未匹配到处理器的请求（404、被过滤器提前拒绝等）路径记为 {@value #UNMATCHED}，不使用原始 URI，避免按路径聚合时基数无限增长。
+ *
+ * @author DMS2 Team
+ * @since 1.0.0
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+@ConditionalOnProperty(name = "dms2.jfr.enabled", havingValue = "true", matchIfMissing = true)
+public class UserRequestEventFilter extends OncePerRequestFilter {
+
+  /** 未匹配到处理器的请求路径 */
+  public static final String UNMATCHED = "UNMATCHED";
+
+  private static final String API_PREFIX = "/api/";
+
+  @Override
+  protected boolean shouldNotFilter(HttpServletRequest request) {
+    return !request.getRequestURI().startsWith(request.getContextPath() + API_PREFIX);
+  }
+
+  @Override
+  protected void doFilterInternal(
+      HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+      throws ServletException, IOException {
+    UserRequestEvent event = new UserRequestEvent();
+    if (!event.isEnabled()) {
+      filterChain.doFilter(request, response);
+      return;
+    }
+    event.begin();
+    Throwable error = null;
+    try {
+      filterChain.doFilter(request, response);
+    } catch (IOException | ServletException | RuntimeException e) {
+      error = e;
+      throw e;
+    } finally {
+      event.end();
+      if (event.shouldCommit()) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        event.method = request.getMethod();
+        event.path = pattern != null ? pattern.toString() : UNMATCHED;
+        event.status =
+            error != null ? HttpServletResponse.SC_INTERNAL_SERVER_ERROR : response.getStatus();
+        event.outcome = outcome(event.status, error);
+        event.commit();
+      }
+    }
+  }
+
+  private static String outcome(int status, Throwable error) {
+    if (error != null || status >= HttpServletResponse.SC_INTERNAL_SERVER_ERROR) {
+      return Outcome.SYSTEM_ERROR.tag();
+    }
+    return status >= HttpServletResponse.SC_BAD_REQUEST
+        ? Outcome.BUSINESS_ERROR.tag()
+        : Outcome.SUCCESS.tag();
+  }
+}
@@ -0,0 +1,139 @@
+package com.example.dms2.infrastructure.web;
+
+import com.example.dms2.domain.event.UserChangedEvent;
+import com.example.dms2.infrastructure.jfr.CacheLookupEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLongArray;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * 用户查询响应字节缓存
+ *
+ * <p>缓存 {@code GET /api/users/{id}} 最终序列化后的 JSON 字节，命中时直接写回响应，跳过 DTO 转换与 Jackson 序列化。按用户名、邮箱查询经
+ * {@link UserKeyCache} 映射到 ID 后共用同一条目。
+ *
+ * <p>每个条目携带写入时的版本号，版本按 ID 分段维护：用户变更时先递增版本再移除条目，读取时只返回与当前版本一致的条目，
+ * 因此与变更并发执行的回源请求也不会写入或读出旧数据。容量按总字节数限制，而非条目数。
+ *
+ * @author DMS2 Team
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+public class UserResponseCache {
+
+  /** 缓存名称（指标与 JFR 事件） */
+  private static final String CACHE_NAME = "userResponse";
+
+  /** 版本分段数（2的幂） */
+  private static final int VERSION_STRIPES = 1024;
+
+  /** 单个条目除响应体之外的估算开销（对象头、Long键、节点引用等） */
+  private static final int ENTRY_OVERHEAD_BYTES = 96;
+
+  private final boolean enabled;
+  private final Cache<Long, Entry> cache;
+  private final AtomicLongArray versions = new AtomicLongArray(VERSION_STRIPES);
+
+  public UserResponseCache(
+      @Value("${dms2.cache.user-response.enabled:true}") boolean enabled,
+      @Value("${dms2.cache.user-response.max-size:32MB}") DataSize maxSize,
+      @Value("${dms2.cache.user-response.expire-after-write:10m}") Duration expireAfterWrite,
+      ObjectProvider<MeterRegistry> meterRegistry) {
+    this.enabled = enabled;
+    this.cache =
+        Caffeine.newBuilder()
+            .maximumWeight(maxSize.toBytes())
+            .weigher((Long id, Entry entry) -> entry.bytes.length + ENTRY_OVERHEAD_BYTES)
+            .expireAfterWrite(expireAfterWrite)
+            .recordStats()
+            .build();
+    meterRegistry.ifAvailable(
+        registry -> CaffeineCacheMetrics.monitor(registry, cache, CACHE_NAME));
+    log.info("用户响应字节缓存: enabled={}, maxSize={}, ttl={}", enabled, maxSize, expireAfterWrite);
+  }
+
+  /** 是否启用 */
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * 当前版本号 回源前读取，写入时原样传回 {@link #put(long, long, byte[])}
+   *
+   * @param id 用户 ID
+   * @return 版本号
+   */
+  public long version(long id) {
+    return versions.get(stripe(id));
+  }
+
+  /**
+   * 读取缓存字节
+   *
+   * @param id 用户 ID
+   * @return 序列化后的响应字节，未命中或版本已失效时返回 null
+   */
+  public byte[] get(long id) {
+    CacheLookupEvent event = new CacheLookupEvent();
+    event.begin();
+    Entry entry = cache.getIfPresent(id);
+    byte[] bytes = entry == null || entry.version != version(id) ? null : entry.bytes;
+    event.end();
+    if (event.shouldCommit()) {
+      event.cache = CACHE_NAME;
+      event.key = Long.toString(id);
+      event.hit = bytes != null;
+      event.commit();
+    }
+    return bytes;
+  }
+
+  /**
+   * 写入缓存 版本号在回源期间发生变化时放弃写入
+   *
+   * @param id 用户 ID
+   * @param version 回源前读取的版本号
+   * @param bytes 序列化后的响应字节
+   */
+  public void put(long id, long version, byte[] bytes) {
+    if (version(id) != version) {
+      return;
+    }
+    cache.put(id, new Entry(version, bytes));
+  }
+
+  /**
+   * 使缓存失效
+   *
+   * @param id 用户 ID
+   */
+  public void evict(long id) {
+    versions.incrementAndGet(stripe(id));
+    cache.invalidate(id);
+  }
+
+  /** 用户变更后（事务提交后）失效对应条目 */
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onUserChanged(UserChangedEvent event) {
+    if (event.getUserId() != null) {
+      evict(event.getUserId());
+    }
+  }
+
+  private static int stripe(long id) {
+    return Long.hashCode(id * 0x9E3779B97F4A7C15L) & (VERSION_STRIPES - 1);
+  }
+
+  /** 缓存条目 */
+  private record Entry(long version, byte[] bytes) {}
+}
@@ -0,0 +1,87 @@
+package com.example.dms2.infrastructure.web;
+
+import com.example.dms2.api.dto.ApiResponse;
+import com.example.dms2.api.dto.ErrorCode;
+import com.example.dms2.api.dto.response.UserDTO;
+import com.example.dms2.infrastructure.rest.UserController;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * 用户查询响应缓存回填
+ *
+ * <p>缓存未命中时，在响应写出前用与 MVC 相同的 {@link ObjectMapper} 序列化一次并写入 {@link UserResponseCache}，
+ * 保证缓存字节与正常响应完全一致。只缓存成功响应，且响应中的用户 ID 必须与待回填的 ID 一致。
+ *
+ * <p>按用户名、邮箱查询未命中 {@link UserKeyCache} 时，同时回填键到响应中用户 ID 的映射。
+ *
+ * @author DMS2 Team
+ * @since 1.0.0
+ */
+@Slf4j
+@RequiredArgsConstructor
+@RestControllerAdvice(assignableTypes = UserController.class)
+public class UserResponseCacheAdvice implements ResponseBodyAdvice<Object> {
+
+  private final UserResponseCache userResponseCache;
+  private final UserKeyCache userKeyCache;
+  private final ObjectMapper objectMapper;
+
+  @Override
+  public boolean supports(
+      MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+    return MappingJackson2HttpMessageConverter.class.isAssignableFrom(converterType);
+  }
+
+  @Override
+  public Object beforeBodyWrite(
+      Object body,
+      MethodParameter returnType,
+      MediaType selectedContentType,
+      Class<? extends HttpMessageConverter<?>> selectedConverterType,
+      ServerHttpRequest request,
+      ServerHttpResponse response) {
+    if (!(body instanceof ApiResponse<?> apiResponse)
+        || !ErrorCode.SUCCESS.getCode().equals(apiResponse.getCode())
+        || !(request instanceof ServletServerHttpRequest servletRequest)) {
+      return body;
+    }
+    HttpServletRequest httpRequest = servletRequest.getServletRequest();
+    if (!(apiResponse.getData() instanceof UserDTO user) || user.getId() == null) {
+      return body;
+    }
+    Object keyType = httpRequest.getAttribute(UserResponseCacheInterceptor.KEY_TYPE_ATTRIBUTE);
+    Object key = httpRequest.getAttribute(UserResponseCacheInterceptor.KEY_ATTRIBUTE);
+    Object keyVersion =
+        httpRequest.getAttribute(UserResponseCacheInterceptor.KEY_VERSION_ATTRIBUTE);
+    if (keyType instanceof UserKeyCache.KeyType type
+        && key instanceof String userKey
+        && keyVersion instanceof Long expectedKeyVersion) {
+      userKeyCache.put(type, userKey, expectedKeyVersion, user.getId());
+    }
+    Object id = httpRequest.getAttribute(UserResponseCacheInterceptor.ID_ATTRIBUTE);
+    Object version = httpRequest.getAttribute(UserResponseCacheInterceptor.VERSION_ATTRIBUTE);
+    if (id instanceof Long userId
+        && version instanceof Long expectedVersion
+        && userId.equals(user.getId())) {
+      try {
+        userResponseCache.put(userId, expectedVersion, objectMapper.writeValueAsBytes(body));
+      } catch (JsonProcessingException e) {
+        log.warn("用户响应缓存序列化失败: id={}", userId, e);
+      }
+    }
+    return body;
+  }
+}
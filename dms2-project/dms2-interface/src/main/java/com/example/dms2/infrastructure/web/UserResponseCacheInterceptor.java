@@ -0,0 +1,158 @@
+package com.example.dms2.infrastructure.web;
+
+import com.example.dms2.infrastructure.rest.UserController;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * 用户查询响应缓存拦截器
+ *
+ * <p>在进入 {@link UserController#getUserById(Long)} 之前查找 {@link
+ * UserResponseCache}，命中时直接把缓存字节写入响应并结束请求；未命中时记录用户 ID 与版本号，由 {@link UserResponseCacheAdvice}
+ * 在序列化前回填缓存。
+ *
+ * <p>按用户名、邮箱查询时先经 {@link UserKeyCache} 得到用户 ID，再按上述方式查找或回填 ID 对应的响应字节。映射未命中时记录键与版本号，由 {@link
+ * UserResponseCacheAdvice} 按响应中的用户 ID 回填映射。
+ *
+ * @author DMS2 Team
+ * @since 1.0.0
+ */
+@Component
+@RequiredArgsConstructor
+public class UserResponseCacheInterceptor implements HandlerInterceptor {
+
+  /** 请求属性：待回填的用户 ID */
+  static final String ID_ATTRIBUTE = UserResponseCacheInterceptor.class.getName() + ".id";
+
+  /** 请求属性：回源前读取的版本号 */
+  static final String VERSION_ATTRIBUTE = UserResponseCacheInterceptor.class.getName() + ".version";
+
+  /** 请求属性：待回填的二级键类型 */
+  static final String KEY_TYPE_ATTRIBUTE =
+      UserResponseCacheInterceptor.class.getName() + ".keyType";
+
+  /** 请求属性：待回填的用户名或邮箱 */
+  static final String KEY_ATTRIBUTE = UserResponseCacheInterceptor.class.getName() + ".key";
+
+  /** 请求属性：回源前读取的二级键版本号 */
+  static final String KEY_VERSION_ATTRIBUTE =
+      UserResponseCacheInterceptor.class.getName() + ".keyVersion";
+
+  private static final Set<String> CACHED_HANDLER_METHODS =
+      Set.of("getUserById", "getUserByUsername", "getUserByEmail");
+
+  private final UserResponseCache userResponseCache;
+  private final UserKeyCache userKeyCache;
+
+  @Override
+  public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler)
+      throws Exception {
+    if (!userResponseCache.isEnabled() || !(handler instanceof HandlerMethod handlerMethod)) {
+      return true;
+    }
+    String method = cachedHandlerMethod(handlerMethod);
+    if (method == null || !acceptsJson(request)) {
+      return true;
+    }
+    Long id =
+        switch (method) {
+          case "getUserByUsername" ->
+              resolveKey(request, UserKeyCache.KeyType.USERNAME, "username");
+          case "getUserByEmail" -> resolveKey(request, UserKeyCache.KeyType.EMAIL, "email");
+          default -> resolveId(request);
+        };
+    if (id == null) {
+      return true;
+    }
+
+    byte[] bytes = userResponseCache.get(id);
+    if (bytes != null) {
+      response.setStatus(HttpStatus.OK.value());
+      response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+      response.setContentLength(bytes.length);
+      response.getOutputStream().write(bytes);
+      return false;
+    }
+
+    request.setAttribute(ID_ATTRIBUTE, id);
+    request.setAttribute(VERSION_ATTRIBUTE, userResponseCache.version(id));
+    return true;
+  }
+
+  /**
+   * 按二级键查找用户 ID 未命中时记录键与版本号，供回填映射
+   *
+   * @return 用户 ID，未命中时返回 null
+   */
+  private Long resolveKey(
+      HttpServletRequest request, UserKeyCache.KeyType type, String variableName) {
+    if (!userKeyCache.isEnabled()) {
+      return null;
+    }
+    String key = pathVariables(request).get(variableName);
+    if (key == null) {
+      return null;
+    }
+    Long id = userKeyCache.get(type, key);
+    if (id == null) {
+      request.setAttribute(KEY_TYPE_ATTRIBUTE, type);
+      request.setAttribute(KEY_ATTRIBUTE, key);
+      request.setAttribute(KEY_VERSION_ATTRIBUTE, userKeyCache.version(type, key));
+    }
+    return id;
+  }
+
+  /** 可缓存的处理方法名，其余处理方法返回 null */
+  private static String cachedHandlerMethod(HandlerMethod handlerMethod) {
+    if (!UserController.class.isAssignableFrom(handlerMethod.getBeanType())) {
+      return null;
+    }
+    String name = handlerMethod.getMethod().getName();
+    return CACHED_HANDLER_METHODS.contains(name) ? name : null;
+  }
+
+  /** 仅当客户端接受的所有类型都兼容 JSON 时才直接写回缓存字节，其余情况交给内容协商 */
+  private static boolean acceptsJson(HttpServletRequest request) {
+    String accept = request.getHeader(HttpHeaders.ACCEPT);
+    if (accept == null || accept.isBlank()) {
+      return true;
+    }
+    try {
+      List<MediaType> mediaTypes = MediaType.parseMediaTypes(accept);
+      return mediaTypes.stream().allMatch(MediaType.APPLICATION_JSON::isCompatibleWith);
+    } catch (InvalidMediaTypeException e) {
+      return false;
+    }
+  }
+
+  private static Long resolveId(HttpServletRequest request) {
+    String id = pathVariables(request).get("id");
+    if (id == null) {
+      return null;
+    }
+    try {
+      return Long.valueOf(id);
+    } catch (NumberFormatException e) {
+      return null;
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Map<String, String> pathVariables(HttpServletRequest request) {
+    Map<String, String> variables =
+        (Map<String, String>) request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+    return variables == null ? Map.of() : variables;
+  }
+}
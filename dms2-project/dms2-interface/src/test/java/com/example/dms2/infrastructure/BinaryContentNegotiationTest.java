@@ -0,0 +1,132 @@
+package com.example.dms2.infrastructure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.example.dms2.api.codec.BinaryCodec;
+import com.example.dms2.api.dto.response.UserDTO;
+import com.example.dms2.infrastructure.config.WebMvcConfig;
+import com.example.dms2.infrastructure.web.UserResponseCacheInterceptor;
+import com.fasterxml.jackson.databind.JsonNode;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit.jupiter.web.SpringJUnitWebConfig;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.WebApplicationContext;
+import org.springframework.web.servlet.config.annotation.EnableWebMvc;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
+
+/**
+ * 二进制内容协商测试 验证 application/cbor 响应由 {@link BinaryCodec} 的 ObjectMapper 编码
+ *
+ * @author DMS2 Team
+ * @since 1.0.0
+ */
+@SpringJUnitWebConfig(BinaryContentNegotiationTest.Config.class)
+@ActiveProfiles(BinaryContentNegotiationTest.PROFILE)
+@DisplayName("二进制内容协商测试")
+class BinaryContentNegotiationTest {
+
+  static final String PROFILE = "binary-negotiation-test";
+
+  private static final LocalDateTime TIME = LocalDateTime.of(2024, 1, 1, 12, 30, 15);
+
+  @Autowired private WebApplicationContext context;
+
+  private MockMvc mockMvc;
+
+  @BeforeEach
+  void setUp() {
+    mockMvc = MockMvcBuilders.webAppContextSetup(context).build();
+  }
+
+  @Test
+  @DisplayName("Accept: application/cbor 时日期编码为数值数组")
+  void testCborDatesAsArray() throws Exception {
+    byte[] body =
+        mockMvc
+            .perform(get("/test/user").accept(BinaryCodec.MEDIA_TYPE))
+            .andExpect(status().isOk())
+            .andExpect(content().contentTypeCompatibleWith(BinaryCodec.MEDIA_TYPE))
+            .andReturn()
+            .getResponse()
+            .getContentAsByteArray();
+
+    JsonNode createTime = BinaryCodec.objectMapper().readTree(body).get("createTime");
+    assertThat(createTime.isArray()).isTrue();
+    assertThat(createTime.get(0).asInt()).isEqualTo(2024);
+    assertThat(BinaryCodec.objectMapper().readValue(body, UserDTO.class).getCreateTime())
+        .isEqualTo(TIME);
+  }
+
+  @Test
+  @DisplayName("默认的CBOR转换器被替换，只保留BinaryCodec的转换器且位于JSON之后")
+  void testDefaultCborConverterReplaced() {
+    List<HttpMessageConverter<?>> converters =
+        context.getBean(RequestMappingHandlerAdapter.class).getMessageConverters();
+
+    List<MappingJackson2CborHttpMessageConverter> cbor =
+        converters.stream()
+            .filter(MappingJackson2CborHttpMessageConverter.class::isInstance)
+            .map(MappingJackson2CborHttpMessageConverter.class::cast)
+            .toList();
+    assertThat(cbor).hasSize(1);
+    assertThat(cbor.get(0).getObjectMapper()).isSameAs(BinaryCodec.objectMapper());
+    assertThat(converters.indexOf(cbor.get(0)))
+        .isGreaterThan(
+            converters.indexOf(
+                converters.stream()
+                    .filter(MappingJackson2HttpMessageConverter.class::isInstance)
+                    .findFirst()
+                    .orElseThrow()));
+  }
+
+  @Test
+  @DisplayName("未显式协商时仍返回JSON")
+  void testJsonByDefault() throws Exception {
+    mockMvc
+        .perform(get("/test/user"))
+        .andExpect(status().isOk())
+        .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON));
+  }
+
+  /** 测试上下文（不加 {@code @Configuration}，避免被应用的组件扫描加载） */
+  @EnableWebMvc
+  @Import({WebMvcConfig.class, UserEndpoint.class})
+  static class Config {
+
+    @Bean
+    UserResponseCacheInterceptor userResponseCacheInterceptor() {
+      return mock(UserResponseCacheInterceptor.class);
+    }
+  }
+
+  /** 测试端点，仅在本测试的 profile 下注册 */
+  @RestController
+  @Profile(PROFILE)
+  static class UserEndpoint {
+
+    @GetMapping("/test/user")
+    UserDTO user() {
+      return UserDTO.builder().id(1L).username("user1").createTime(TIME).build();
+    }
+  }
+}
@@ -0,0 +1,184 @@
+package com.example.dms2.infrastructure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.dms2.infrastructure.sentinel.SentinelBlockedException;
+import com.example.dms2.infrastructure.web.AdaptiveConcurrencyLimit;
+import com.example.dms2.infrastructure.web.ConcurrencyLimitFilter;
+import com.example.dms2.infrastructure.web.ConcurrencyLimitFilter.EndpointClass;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+/**
+ * 自适应并发限制测试
+ *
+ * @author DMS2 Team
+ * @since 1.0.0
+ */
+@DisplayName("自适应并发限制测试")
+class ConcurrencyLimitFilterTest {
+
+  private static final long MILLIS = TimeUnit.MILLISECONDS.toNanos(1);
+
+  private SimpleMeterRegistry registry;
+  private ConcurrencyLimitFilter filter;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    registry = new SimpleMeterRegistry();
+    StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+    beanFactory.addBean("meterRegistry", registry);
+    filter =
+        new ConcurrencyLimitFilter(
+            4,
+            2,
+            100,
+            0.2,
+            1.5,
+            600,
+            new ObjectMapper(),
+            beanFactory.getBeanProvider(MeterRegistry.class));
+  }
+
+  @Test
+  @DisplayName("耗时稳定时上限增长，耗时上升后收缩")
+  void testLimitFollowsRtt() {
+    AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(20, 4, 200, 0.2, 1.5, 600);
+
+    runRounds(limit, 50, 10 * MILLIS);
+    int grown = limit.getLimit();
+    runRounds(limit, 20, 100 * MILLIS);
+
+    assertThat(grown).isGreaterThan(20);
+    assertThat(limit.getLimit()).isLessThan(grown / 2);
+  }
+
+  @Test
+  @DisplayName("失败请求使上限收缩且不低于下限")
+  void testDroppedBacksOff() {
+    AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(20, 4, 200, 0.2, 1.5, 600);
+
+    for (int i = 0; i < 100; i++) {
+      assertThat(limit.tryAcquire(0)).isTrue();
+      limit.onDropped();
+    }
+
+    assertThat(limit.getLimit()).isEqualTo(4);
+    assertThat(limit.getInFlight()).isZero();
+  }
+
+  @Test
+  @DisplayName("读请求超出上限立即返回503")
+  void testReadShedWhenSaturated() throws Exception {
+    saturate(EndpointClass.READ);
+
+    MockHttpServletResponse response = execute("GET", "/api/users/1");
+
+    assertThat(response.getStatus()).isEqualTo(503);
+    assertThat(response.getHeader("Retry-After")).isEqualTo("1");
+    assertThat(response.getContentAsString()).contains("\"code\":503");
+    assertThat(
+            registry
+                .get("dms2.concurrency.rejected")
+                .tag("endpoint", "read")
+                .functionCounter()
+                .count())
+        .isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("写请求可借用读类别的空闲名额")
+  void testWriteBorrowsReadCapacity() throws Exception {
+    saturate(EndpointClass.WRITE);
+
+    MockHttpServletResponse write = execute("POST", "/api/users");
+    saturate(EndpointClass.READ);
+    MockHttpServletResponse writeWhenReadBusy = execute("DELETE", "/api/users/1");
+
+    assertThat(write.getStatus()).isEqualTo(200);
+    assertThat(writeWhenReadBusy.getStatus()).isEqualTo(503);
+  }
+
+  @Test
+  @DisplayName("批量查询按读请求计入，非API路径不受限制")
+  void testClassificationAndBypass() throws Exception {
+    saturate(EndpointClass.READ);
+
+    assertThat(execute("POST", "/api/users/batch").getStatus()).isEqualTo(503);
+    assertThat(execute("GET", "/actuator/health").getStatus()).isEqualTo(200);
+    assertThat(registry.get("dms2.concurrency.limit").tag("endpoint", "write").gauge().value())
+        .isEqualTo(4);
+  }
+
+  @Test
+  @DisplayName("客户端错误、429与Sentinel拦截的503不收缩上限，服务端5xx收缩")
+  void testIgnoredOutcomes() throws Exception {
+    AdaptiveConcurrencyLimit read = filter.getLimit(EndpointClass.READ);
+
+    execute("GET", "/api/users/1", respond(404, false));
+    execute("GET", "/api/users/1", respond(429, false));
+    execute("GET", "/api/users/1", respond(503, true));
+
+    assertThat(read.getLimit()).isEqualTo(4);
+    assertThat(read.getInFlight()).isZero();
+
+    execute("GET", "/api/users/1", respond(503, false));
+
+    assertThat(read.getLimit()).isEqualTo(3);
+    assertThat(read.getInFlight()).isZero();
+  }
+
+  /** 以指定状态码结束的过滤器链，blocked 时模拟 Sentinel 拦截 */
+  private static FilterChain respond(int status, boolean blocked) {
+    return (request, response) -> {
+      if (blocked) {
+        SentinelBlockedException.markBlocked((HttpServletRequest) request);
+      }
+      ((HttpServletResponse) response).setStatus(status);
+    };
+  }
+
+  /** 按轮次模拟满并发：每轮占满上限后以相同耗时完成 */
+  private static void runRounds(AdaptiveConcurrencyLimit limit, int rounds, long rtt) {
+    for (int round = 0; round < rounds; round++) {
+      int acquired = 0;
+      while (limit.tryAcquire(0)) {
+        acquired++;
+      }
+      for (int i = 0; i < acquired; i++) {
+        limit.onSuccess(rtt);
+      }
+    }
+  }
+
+  private void saturate(EndpointClass endpointClass) {
+    AdaptiveConcurrencyLimit limit = filter.getLimit(endpointClass);
+    while (limit.getInFlight() < limit.getLimit()) {
+      limit.tryAcquire(0);
+    }
+  }
+
+  private MockHttpServletResponse execute(String method, String uri) throws Exception {
+    return execute(method, uri, new MockFilterChain());
+  }
+
+  private MockHttpServletResponse execute(String method, String uri, FilterChain chain)
+      throws Exception {
+    MockHttpServletRequest request = new MockHttpServletRequest(method, uri);
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    filter.doFilter(request, response, chain);
+    return response;
+  }
+}
@@ -0,0 +1,64 @@
+package com.example.dms2.infrastructure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.dms2.api.dto.ApiResponse;
+import com.example.dms2.api.dto.request.CreateUserRequest;
+import com.example.dms2.api.dto.response.UserDTO;
+import com.example.dms2.api.feign.UserFeignClient;
+import com.example.dms2.domain.model.entity.User;
+import com.example.dms2.infrastructure.config.Dms2RuntimeHints;
+import com.example.dms2.infrastructure.mapper.UserMapper;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.logging.slf4j.Slf4jImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+/**
+ * Native Image 运行时提示测试
+ *
+ * @author DMS2 Team
+ * @since 1.0.0
+ */
+@DisplayName("Native Image 运行时提示测试")
+class Dms2RuntimeHintsTest {
+
+  private final RuntimeHints hints = new RuntimeHints();
+
+  @BeforeEach
+  void setUp() {
+    new Dms2RuntimeHints().registerHints(hints, getClass().getClassLoader());
+  }
+
+  @Test
+  @DisplayName("MyBatis：Mapper XML 资源、实体反射、Mapper 与插件代理")
+  void myBatisHints() {
+    assertThat(RuntimeHintsPredicates.resource().forResource("mapper/UserMapper.xml"))
+        .accepts(hints);
+    assertThat(
+            RuntimeHintsPredicates.resource()
+                .forResource("org/apache/ibatis/builder/xml/mybatis-3-mapper.dtd"))
+        .accepts(hints);
+    assertThat(RuntimeHintsPredicates.reflection().onMethod(User.class, "setUsername"))
+        .accepts(hints);
+    assertThat(RuntimeHintsPredicates.reflection().onType(Slf4jImpl.class)).accepts(hints);
+    assertThat(RuntimeHintsPredicates.proxies().forInterfaces(UserMapper.class)).accepts(hints);
+    assertThat(RuntimeHintsPredicates.proxies().forInterfaces(Executor.class)).accepts(hints);
+  }
+
+  @Test
+  @DisplayName("Feign 客户端代理与 DTO 的 JSON 绑定")
+  void feignAndDtoHints() {
+    assertThat(RuntimeHintsPredicates.proxies().forInterfaces(UserFeignClient.class))
+        .accepts(hints);
+    assertThat(RuntimeHintsPredicates.reflection().onMethod(UserDTO.class, "getUsername"))
+        .accepts(hints);
+    assertThat(RuntimeHintsPredicates.reflection().onMethod(CreateUserRequest.class, "setEmail"))
+        .accepts(hints);
+    assertThat(RuntimeHintsPredicates.reflection().onMethod(ApiResponse.class, "getData"))
+        .accepts(hints);
+  }
+}
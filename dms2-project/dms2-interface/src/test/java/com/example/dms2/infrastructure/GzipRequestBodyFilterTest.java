@@ -0,0 +1,118 @@
+package com.example.dms2.infrastructure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.dms2.infrastructure.web.GzipRequestBodyFilter;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * GzipRequestBodyFilter单元测试
+ *
+ * @author DMS2 Team
+ * @since 1.0.0
+ */
+@DisplayName("gzip请求体解压过滤器测试")
+class GzipRequestBodyFilterTest {
+
+  private static final String BODY = "[1,2,3,4,5,6,7,8,9,10]";
+
+  @Test
+  @DisplayName("阻塞读取得到解压后的请求体，去掉Content-Encoding")
+  void testBlockingRead() throws Exception {
+    HttpServletRequest request = filter(DataSize.ofKilobytes(1), gzip(BODY));
+
+    assertThat(new String(request.getInputStream().readAllBytes(), StandardCharsets.UTF_8))
+        .isEqualTo(BODY);
+    assertThat(request.getHeader(HttpHeaders.CONTENT_ENCODING)).isNull();
+  }
+
+  @Test
+  @DisplayName("非阻塞读取回调onDataAvailable与onAllDataRead")
+  void testReadListener() throws Exception {
+    ServletInputStream in = filter(DataSize.ofKilobytes(1), gzip(BODY)).getInputStream();
+    RecordingListener listener = new RecordingListener(in);
+
+    in.setReadListener(listener);
+
+    assertThat(listener.events).containsExactly("data", "all");
+    assertThat(listener.body.toString(StandardCharsets.UTF_8)).isEqualTo(BODY);
+    assertThat(in.isFinished()).isTrue();
+  }
+
+  @Test
+  @DisplayName("非阻塞读取时解压超出限制回调onError")
+  void testReadListenerOverLimit() throws Exception {
+    ServletInputStream in = filter(DataSize.ofBytes(8), gzip(BODY)).getInputStream();
+    RecordingListener listener = new RecordingListener(in);
+
+    in.setReadListener(listener);
+
+    assertThat(listener.events).containsExactly("error");
+  }
+
+  private static HttpServletRequest filter(DataSize maxSize, byte[] body) throws Exception {
+    MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/users/batch");
+    request.addHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+    request.setContent(body);
+    MockFilterChain chain = new MockFilterChain();
+    new GzipRequestBodyFilter(maxSize).doFilter(request, new MockHttpServletResponse(), chain);
+    return (HttpServletRequest) chain.getRequest();
+  }
+
+  private static byte[] gzip(String text) throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+      gzip.write(text.getBytes(StandardCharsets.UTF_8));
+    }
+    return out.toByteArray();
+  }
+
+  /** 在 onDataAvailable 中按 isReady 读尽数据的监听器 */
+  private static final class RecordingListener implements ReadListener {
+
+    final List<String> events = new ArrayList<>();
+    final ByteArrayOutputStream body = new ByteArrayOutputStream();
+    private final ServletInputStream in;
+
+    RecordingListener(ServletInputStream in) {
+      this.in = in;
+    }
+
+    @Override
+    public void onDataAvailable() throws IOException {
+      events.add("data");
+      byte[] buffer = new byte[4];
+      while (in.isReady() && !in.isFinished()) {
+        int n = in.read(buffer);
+        if (n > 0) {
+          body.write(buffer, 0, n);
+        }
+      }
+    }
+
+    @Override
+    public void onAllDataRead() {
+      events.add("all");
+    }
+
+    @Override
+    public void onError(Throwable t) {
+      events.add("error");
+    }
+  }
+}
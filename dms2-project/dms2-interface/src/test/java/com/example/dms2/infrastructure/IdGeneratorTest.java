@@ -0,0 +1,159 @@
+package com.example.dms2.infrastructure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.example.dms2.infrastructure.id.RedisSegmentSource;
+import com.example.dms2.infrastructure.id.SegmentIdAllocator;
+import com.example.dms2.infrastructure.id.SnowflakeIdGenerator;
+import com.example.dms2.infrastructure.id.WorkerIdLease;
+import com.github.fppt.jedismock.RedisServer;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.redisson.Redisson;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.redisson.config.Config;
+
+/**
+ * 主键生成测试 Snowflake（时钟回拨）、workerId 租约与号段分配
+ *
+ * @author DMS2 Team
+ * @since 1.0.0
+ */
+@DisplayName("主键生成测试")
+class IdGeneratorTest {
+
+  private static final Instant EPOCH = Instant.parse("2024-01-01T00:00:00Z");
+
+  private static RedisServer redisServer;
+  private static RedissonClient redissonClient;
+
+  @BeforeAll
+  static void startRedis() throws Exception {
+    redisServer = RedisServer.newRedisServer().start();
+    Config config = new Config();
+    config
+        .useSingleServer()
+        .setAddress("redis://127.0.0.1:" + redisServer.getBindPort())
+        .setConnectionMinimumIdleSize(1)
+        .setConnectionPoolSize(2);
+    redissonClient = Redisson.create(config);
+  }
+
+  @AfterAll
+  static void stopRedis() throws Exception {
+    redissonClient.shutdown();
+    redisServer.stop();
+  }
+
+  @Test
+  @DisplayName("Snowflake 主键多线程下唯一，单线程内递增")
+  void testSnowflakeUniqueAndMonotonic() throws Exception {
+    SnowflakeIdGenerator generator = new SnowflakeIdGenerator(EPOCH, () -> 7, Duration.ZERO);
+    Set<Long> ids = ConcurrentHashMap.newKeySet();
+    AtomicLong outOfOrder = new AtomicLong();
+    List<Thread> threads = new ArrayList<>();
+    for (int t = 0; t < 4; t++) {
+      Thread thread =
+          new Thread(
+              () -> {
+                long last = 0;
+                for (int i = 0; i < 20_000; i++) {
+                  long id = generator.nextId();
+                  if (id <= last) {
+                    outOfOrder.incrementAndGet();
+                  }
+                  last = id;
+                  ids.add(id);
+                }
+              });
+      threads.add(thread);
+      thread.start();
+    }
+    for (Thread thread : threads) {
+      thread.join();
+    }
+
+    assertThat(ids).hasSize(80_000);
+    assertThat(outOfOrder).hasValue(0);
+    long id = generator.nextId();
+    assertThat((id >> SnowflakeIdGenerator.SEQUENCE_BITS) & SnowflakeIdGenerator.MAX_WORKER_ID)
+        .isEqualTo(7);
+    assertThat(generator.timestampOf(id)).isBetween(Instant.now().minusSeconds(5), Instant.now());
+  }
+
+  @Test
+  @DisplayName("容忍范围内的时钟回拨沿用上次时间戳，超过时拒绝生成")
+  void testClockBackward() {
+    AtomicLong clock = new AtomicLong(EPOCH.toEpochMilli() + 1_000);
+    SnowflakeIdGenerator generator =
+        new SnowflakeIdGenerator(EPOCH, () -> 1, Duration.ofMillis(10), clock::get);
+
+    long before = generator.nextId();
+    clock.addAndGet(-5);
+    long during = generator.nextId();
+    assertThat(during).isGreaterThan(before);
+    assertThat(generator.timestampOf(during)).isEqualTo(generator.timestampOf(before));
+    assertThat(generator.getClockBackwardCount()).isEqualTo(1);
+
+    clock.addAndGet(-20);
+    assertThatThrownBy(generator::nextId)
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessageContaining("时钟回拨");
+
+    clock.addAndGet(30);
+    assertThat(generator.nextId()).isGreaterThan(during);
+  }
+
+  @Test
+  @DisplayName("多个实例租到不同的 workerId，关闭后释放")
+  void testWorkerIdLease() {
+    String prefix = "test:id:worker:";
+    WorkerIdLease first = new WorkerIdLease(redissonClient, prefix, Duration.ofSeconds(30));
+    WorkerIdLease second = new WorkerIdLease(redissonClient, prefix, Duration.ofSeconds(30));
+    first.start();
+    second.start();
+    int firstId = first.getAsInt();
+    int secondId = second.getAsInt();
+    assertThat(firstId).isNotEqualTo(secondId);
+    assertThat(redissonClient.<String>getBucket(prefix + firstId, StringCodec.INSTANCE).get())
+        .isEqualTo(first.getOwner());
+
+    second.close();
+    assertThat(redissonClient.getBucket(prefix + secondId).isExists()).isFalse();
+    assertThat(redissonClient.getBucket(prefix + firstId).isExists()).isTrue();
+    first.close();
+    assertThatThrownBy(first::getAsInt).isInstanceOf(IllegalStateException.class);
+    assertThat(redissonClient.getBucket(prefix + firstId).isExists()).isFalse();
+  }
+
+  @Test
+  @DisplayName("号段分配器跨号段连续分配，计数器不低于已有最大主键")
+  void testSegmentAllocator() {
+    RedisSegmentSource source = new RedisSegmentSource(redissonClient, "test:id:segment");
+    source.ensureAtLeast(500);
+    source.ensureAtLeast(100);
+    SegmentIdAllocator allocator = new SegmentIdAllocator(source, 10, Runnable::run);
+
+    Set<Long> ids = new HashSet<>();
+    long last = 500;
+    for (int i = 0; i < 35; i++) {
+      long id = allocator.nextId();
+      assertThat(id).isGreaterThan(last);
+      last = id;
+      ids.add(id);
+    }
+    assertThat(ids).hasSize(35).contains(501L, 535L);
+  }
+}
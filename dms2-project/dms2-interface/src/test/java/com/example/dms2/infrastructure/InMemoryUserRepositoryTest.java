@@ -0,0 +1,149 @@
+package com.example.dms2.infrastructure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.example.dms2.domain.model.entity.User;
+import com.example.dms2.infrastructure.repository.InMemoryUserRepositoryImpl;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DuplicateKeyException;
+
+/**
+ * 用户仓储内存实现测试 二级索引、唯一性约束与创建时间排序
+ *
+ * @author DMS2 Team
+ * @since 1.0.0
+ */
+@DisplayName("用户仓储内存实现测试")
+class InMemoryUserRepositoryTest {
+
+  private final InMemoryUserRepositoryImpl repository = new InMemoryUserRepositoryImpl();
+
+  @Test
+  @DisplayName("保存后可按ID、用户名、邮箱查询，修改返回对象不影响已保存数据")
+  void saveAndFind() {
+    User saved = repository.save(user("alice"));
+
+    assertThat(saved.getId()).isNotNull();
+    assertThat(saved.getCreateTime()).isNotNull();
+    assertThat(repository.findByUsername("alice"))
+        .get()
+        .extracting(User::getId)
+        .isEqualTo(saved.getId());
+    assertThat(repository.findByEmail("alice@example.com")).isPresent();
+    assertThat(repository.existsByUsername("alice")).isTrue();
+
+    repository.findById(saved.getId()).orElseThrow().setRealName("changed");
+    assertThat(repository.findById(saved.getId()).orElseThrow().getRealName()).isEqualTo("Alice");
+  }
+
+  @Test
+  @DisplayName("用户名或邮箱重复时抛出DuplicateKeyException，且不占用另一个索引")
+  void rejectsDuplicates() {
+    repository.save(user("alice"));
+
+    assertThatThrownBy(() -> repository.save(user("alice")))
+        .isInstanceOf(DuplicateKeyException.class);
+    User sameEmail = user("bob");
+    sameEmail.setEmail("alice@example.com");
+    assertThatThrownBy(() -> repository.save(sameEmail)).isInstanceOf(DuplicateKeyException.class);
+
+    assertThat(repository.existsByUsername("bob")).isFalse();
+    assertThat(repository.findAll()).hasSize(1);
+  }
+
+  @Test
+  @DisplayName("并发创建同名用户时只有一个成功")
+  void uniqueUnderConcurrency() throws Exception {
+    int threads = 8;
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    CountDownLatch start = new CountDownLatch(1);
+    List<Future<Boolean>> results = new ArrayList<>();
+    for (int i = 0; i < threads; i++) {
+      results.add(
+          executor.submit(
+              () -> {
+                start.await();
+                try {
+                  repository.save(user("racer"));
+                  return true;
+                } catch (DuplicateKeyException e) {
+                  return false;
+                }
+              }));
+    }
+    start.countDown();
+    int succeeded = 0;
+    for (Future<Boolean> result : results) {
+      succeeded += result.get(5, TimeUnit.SECONDS) ? 1 : 0;
+    }
+    executor.shutdown();
+
+    assertThat(succeeded).isEqualTo(1);
+    assertThat(repository.findAll()).hasSize(1);
+  }
+
+  @Test
+  @DisplayName("更新用户名和邮箱后旧值释放，删除后索引与排序同步移除")
+  void updateAndDelete() {
+    User saved = repository.save(user("alice"));
+    saved.setUsername("alice2");
+    saved.setEmail("alice2@example.com");
+    repository.save(saved);
+
+    assertThat(repository.existsByUsername("alice")).isFalse();
+    assertThat(repository.findByUsername("alice2")).isPresent();
+    repository.save(user("alice"));
+
+    repository.deleteById(saved.getId());
+    assertThat(repository.findById(saved.getId())).isEmpty();
+    assertThat(repository.existsByEmail("alice@example.com")).isTrue();
+    assertThat(repository.existsByUsername("alice2")).isFalse();
+    assertThat(repository.existsByEmail("alice2@example.com")).isFalse();
+    assertThat(repository.findAll()).extracting(User::getUsername).containsExactly("alice");
+  }
+
+  @Test
+  @DisplayName("findAll按创建时间倒序返回，与selectAll一致")
+  void findAllNewestFirst() {
+    repository.save(user("a"));
+    repository.save(user("b"));
+    repository.save(user("c"));
+
+    assertThat(repository.findAll()).extracting(User::getUsername).containsExactly("c", "b", "a");
+  }
+
+  @Test
+  @DisplayName("偏移量分页与键集分页顺序与findAll一致")
+  void pagesFollowFindAllOrder() {
+    for (String name : List.of("a", "b", "c", "d", "e")) {
+      repository.save(user(name));
+    }
+
+    assertThat(repository.count()).isEqualTo(5);
+    assertThat(repository.findPage(1, 2)).extracting(User::getUsername).containsExactly("d", "c");
+    assertThat(repository.findPage(4, 2)).extracting(User::getUsername).containsExactly("a");
+    List<User> first = repository.findPageAfter(null, null, 3);
+    assertThat(first).extracting(User::getUsername).containsExactly("e", "d", "c");
+    User last = first.get(2);
+    assertThat(repository.findPageAfter(last.getCreateTime(), last.getId(), 3))
+        .extracting(User::getUsername)
+        .containsExactly("b", "a");
+  }
+
+  private static User user(String username) {
+    return User.builder()
+        .username(username)
+        .email(username + "@example.com")
+        .realName(Character.toUpperCase(username.charAt(0)) + username.substring(1))
+        .build();
+  }
+}
@@ -0,0 +1,180 @@
+package com.example.dms2.infrastructure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.example.dms2.api.dto.response.UserDTO;
+import com.example.dms2.application.service.UserAppService;
+import com.example.dms2.infrastructure.jfr.CacheLookupEvent;
+import com.example.dms2.infrastructure.jfr.SqlStatementEvent;
+import com.example.dms2.infrastructure.jfr.UseCaseEvent;
+import com.example.dms2.infrastructure.jfr.UseCaseEventAspect;
+import com.example.dms2.infrastructure.jfr.UserRequestEvent;
+import com.example.dms2.infrastructure.mybatis.StatementMetricsInterceptor;
+import com.example.dms2.infrastructure.web.UserRequestEventFilter;
+import com.example.dms2.infrastructure.web.UserResponseCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.apache.ibatis.builder.StaticSqlSource;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.SqlCommandType;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.RowBounds;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * JFR 自定义事件测试 在录制中执行各埋点并读取录制文件验证事件内容
+ *
+ * @author DMS2 Team
+ * @since 1.0.0
+ */
+@DisplayName("JFR自定义事件测试")
+class JfrEventTest {
+
+  @TempDir Path tempDir;
+
+  @Test
+  @DisplayName("请求、用例、缓存查询与SQL语句均提交事件")
+  void testEventsEmitted() throws Exception {
+    List<RecordedEvent> events;
+    try (Recording recording = new Recording()) {
+      for (String name :
+          List.of(
+              UserRequestEvent.NAME,
+              UseCaseEvent.NAME,
+              CacheLookupEvent.NAME,
+              SqlStatementEvent.NAME)) {
+        recording.enable(name).withThreshold(Duration.ZERO);
+      }
+      recording.start();
+
+      executeRequest();
+      executeUseCases();
+      executeCacheLookups();
+      executeStatement();
+
+      recording.stop();
+      Path file = tempDir.resolve("dms2.jfr");
+      recording.dump(file);
+      events = RecordingFile.readAllEvents(file);
+    }
+    Map<String, List<RecordedEvent>> byName =
+        events.stream().collect(Collectors.groupingBy(e -> e.getEventType().getName()));
+
+    assertThat(byName.get(UserRequestEvent.NAME))
+        .extracting(e -> e.getString("path"), e -> e.getInt("status"), e -> e.getString("outcome"))
+        .containsExactlyInAnyOrder(
+            tuple("/api/users/{id}", 200, "success"),
+            tuple(UserRequestEventFilter.UNMATCHED, 404, "business_error"));
+
+    assertThat(byName.get(UseCaseEvent.NAME))
+        .extracting(
+            e -> e.getString("operation"), e -> e.getLong("userId"), e -> e.getInt("batchSize"))
+        .containsExactlyInAnyOrder(tuple("getUserById", 7L, 0), tuple("getUsersByIds", 0L, 3));
+
+    assertThat(byName.get(CacheLookupEvent.NAME))
+        .extracting(e -> e.getString("key"), e -> e.getBoolean("hit"))
+        .containsExactly(tuple("1", true), tuple("2", false));
+
+    RecordedEvent sql = byName.get(SqlStatementEvent.NAME).get(0);
+    assertThat(sql.getString("statement")).isEqualTo("UserMapper.selectByIds");
+    assertThat(sql.getLong("rows")).isEqualTo(2);
+    assertThat(sql.getString("outcome")).isEqualTo("success");
+  }
+
+  private void executeRequest() throws Exception {
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/users/1");
+    request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/users/{id}");
+    new UserRequestEventFilter()
+        .doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+    // 未匹配的路径不按原始 URI 记录
+    MockHttpServletResponse notFound = new MockHttpServletResponse();
+    notFound.setStatus(404);
+    new UserRequestEventFilter()
+        .doFilter(
+            new MockHttpServletRequest("GET", "/api/users/no-such/123"),
+            notFound,
+            new MockFilterChain());
+  }
+
+  private void executeUseCases() {
+    UserAppService target = mock(UserAppService.class);
+    when(target.getUserById(any())).thenReturn(UserDTO.builder().id(7L).build());
+    when(target.getUsersByIds(anyList())).thenReturn(List.of());
+    AspectJProxyFactory factory = new AspectJProxyFactory(target);
+    factory.setProxyTargetClass(true);
+    factory.addAspect(new UseCaseEventAspect());
+    UserAppService userAppService = factory.getProxy();
+
+    userAppService.getUserById(7L);
+    userAppService.getUsersByIds(List.of(1L, 2L, 3L));
+  }
+
+  private void executeCacheLookups() {
+    UserResponseCache cache =
+        new UserResponseCache(
+            true,
+            DataSize.ofMegabytes(1),
+            Duration.ofMinutes(1),
+            new StaticListableBeanFactory().getBeanProvider(MeterRegistry.class));
+    cache.put(1L, cache.version(1L), new byte[] {1});
+
+    cache.get(1L);
+    cache.get(2L);
+  }
+
+  private void executeStatement() throws Exception {
+    Configuration configuration = new Configuration();
+    MappedStatement statement =
+        new MappedStatement.Builder(
+                configuration,
+                "com.example.dms2.infrastructure.mapper.UserMapper.selectByIds",
+                new StaticSqlSource(configuration, "SELECT * FROM t_user"),
+                SqlCommandType.SELECT)
+            .build();
+    Executor target = mock(Executor.class);
+    when(target.query(any(), any(), any(), any())).thenReturn(List.of(1, 2));
+    Executor executor =
+        (Executor)
+            new StatementMetricsInterceptor(
+                    new SimpleMeterRegistry(), false, Duration.ofSeconds(1), 1000)
+                .plugin(target);
+
+    executor.query(statement, null, RowBounds.DEFAULT, null);
+  }
+
+  @Test
+  @DisplayName("未录制时埋点正常执行")
+  void testNoRecording() throws Exception {
+    executeRequest();
+    executeUseCases();
+    executeCacheLookups();
+    executeStatement();
+
+    assertThat(Files.exists(tempDir)).isTrue();
+  }
+}
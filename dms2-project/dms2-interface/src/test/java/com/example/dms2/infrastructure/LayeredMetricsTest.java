@@ -0,0 +1,106 @@
+package com.example.dms2.infrastructure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.example.dms2.api.dto.ErrorCode;
+import com.example.dms2.api.dto.response.UserDTO;
+import com.example.dms2.application.service.UserAppService;
+import com.example.dms2.domain.exception.BusinessException;
+import com.example.dms2.infrastructure.metrics.AppServiceMetricsAspect;
+import com.example.dms2.infrastructure.mybatis.StatementMetricsInterceptor;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import org.apache.ibatis.builder.StaticSqlSource;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.SqlCommandType;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+/**
+ * 分层耗时指标测试
+ *
+ * @author DMS2 Team
+ * @since 1.0.0
+ */
+@DisplayName("分层耗时指标测试")
+class LayeredMetricsTest {
+
+  private SimpleMeterRegistry registry;
+
+  @BeforeEach
+  void setUp() {
+    registry = new SimpleMeterRegistry();
+  }
+
+  @Test
+  @DisplayName("应用服务方法按结果分别计时")
+  void testAppServiceOutcomes() {
+    UserAppService target = mock(UserAppService.class);
+    when(target.getUserById(anyLong()))
+        .thenReturn(UserDTO.builder().id(1L).build())
+        .thenThrow(new BusinessException(ErrorCode.USER_NOT_FOUND.getCode(), "用户不存在"))
+        .thenThrow(new IllegalStateException("数据库不可用"));
+    AspectJProxyFactory factory = new AspectJProxyFactory(target);
+    factory.setProxyTargetClass(true);
+    factory.addAspect(new AppServiceMetricsAspect(registry, true));
+    UserAppService userAppService = factory.getProxy();
+
+    userAppService.getUserById(1L);
+    assertThatThrownBy(() -> userAppService.getUserById(2L)).isInstanceOf(BusinessException.class);
+    assertThatThrownBy(() -> userAppService.getUserById(3L))
+        .isInstanceOf(IllegalStateException.class);
+
+    for (String outcome : List.of("success", "business_error", "system_error")) {
+      Timer timer =
+          registry
+              .get(AppServiceMetricsAspect.METRIC_NAME)
+              .tag("method", "getUserById")
+              .tag("outcome", outcome)
+              .timer();
+      assertThat(timer.count()).as(outcome).isEqualTo(1);
+    }
+  }
+
+  @Test
+  @DisplayName("Mapper语句按简称计时")
+  void testMapperStatementTimer() throws Exception {
+    Configuration configuration = new Configuration();
+    MappedStatement statement =
+        new MappedStatement.Builder(
+                configuration,
+                "com.example.dms2.infrastructure.mapper.UserMapper.selectById",
+                new StaticSqlSource(configuration, "SELECT * FROM t_user WHERE id = ?"),
+                SqlCommandType.SELECT)
+            .build();
+    Executor target = mock(Executor.class);
+    when(target.query(any(), any(), any(), any())).thenReturn(List.of());
+    Executor executor =
+        (Executor)
+            new StatementMetricsInterceptor(registry, false, Duration.ofSeconds(1), 1000)
+                .plugin(target);
+
+    executor.query(statement, 1L, RowBounds.DEFAULT, Executor.NO_RESULT_HANDLER);
+    executor.query(statement, 2L, RowBounds.DEFAULT, (ResultHandler<?>) null);
+
+    Timer timer =
+        registry
+            .get(StatementMetricsInterceptor.METRIC_NAME)
+            .tag("statement", "UserMapper.selectById")
+            .tag("outcome", "success")
+            .timer();
+    assertThat(timer.count()).isEqualTo(2);
+  }
+}
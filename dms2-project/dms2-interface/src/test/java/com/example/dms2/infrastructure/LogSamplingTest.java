@@ -0,0 +1,130 @@
+package com.example.dms2.infrastructure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import com.example.dms2.api.support.LogFormat;
+import com.example.dms2.infrastructure.logging.SamplingTurboFilter;
+import com.example.dms2.infrastructure.metrics.LogSamplingMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 日志采样、限流与延迟格式化测试
+ *
+ * @author DMS2 Team
+ * @since 1.0.0
+ */
+@DisplayName("日志采样测试")
+class LogSamplingTest {
+
+  private static final String HOT_LOGGER = "com.example.dms2.infrastructure.rest.UserController";
+
+  private LoggerContext context;
+  private ListAppender<ILoggingEvent> appender;
+
+  @BeforeEach
+  void setUp() {
+    context = new LoggerContext();
+    appender = new ListAppender<>();
+    appender.setContext(context);
+    appender.start();
+    Logger root = context.getLogger(Logger.ROOT_LOGGER_NAME);
+    root.setLevel(Level.DEBUG);
+    root.addAppender(appender);
+  }
+
+  @Test
+  @DisplayName("按比例采样热点路径 DEBUG 日志，WARN 与其他 Logger 不受影响")
+  void testSampling() {
+    SamplingTurboFilter filter = filter("sampling-test", 0.1, 0);
+    Logger hot = context.getLogger(HOT_LOGGER);
+    Logger other = context.getLogger("com.example.dms2.infrastructure.config.RedisConfig");
+
+    for (int i = 0; i < 10_000; i++) {
+      hot.debug("查询用户: id={}", i);
+    }
+    int sampled = appender.list.size();
+    assertThat(sampled).isBetween(700, 1300);
+    assertThat(SamplingTurboFilter.statistics().get("sampling-test").getSampledOut())
+        .isEqualTo(10_000 - sampled);
+
+    appender.list.clear();
+    for (int i = 0; i < 100; i++) {
+      hot.warn("慢查询: id={}", i);
+      other.debug("配置: {}", i);
+    }
+    assertThat(appender.list).hasSize(200);
+    assertThat(hot.isDebugEnabled()).isTrue();
+    filter.stop();
+  }
+
+  @Test
+  @DisplayName("超过每秒上限的日志被丢弃并计入指标")
+  void testRateLimit() {
+    filter("rate-limit-test", 1.0, 50);
+    Logger hot = context.getLogger(HOT_LOGGER);
+
+    // 跨越秒边界时窗口重置，输出条数最多为上限的两倍
+    for (int i = 0; i < 1_000; i++) {
+      hot.debug("查询用户: id={}", i);
+    }
+    assertThat(appender.list.size()).isBetween(50, 100);
+
+    SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    new LogSamplingMetrics().bindTo(registry);
+    double rateLimited =
+        registry
+            .get("dms2.log.suppressed")
+            .tag("filter", "rate-limit-test")
+            .tag("reason", "rate-limited")
+            .functionCounter()
+            .count();
+    assertThat(rateLimited).isEqualTo(1_000 - appender.list.size());
+  }
+
+  @Test
+  @DisplayName("被丢弃的日志不格式化参数，集合只输出前若干个元素")
+  void testLazyFormat() {
+    filter("lazy-test", 0.0, 0);
+    Logger hot = context.getLogger(HOT_LOGGER);
+    AtomicInteger rendered = new AtomicInteger();
+
+    hot.debug("批量查询用户: ids={}", LogFormat.lazy(rendered::incrementAndGet));
+    context
+        .getLogger("com.example.dms2.other")
+        .debug("{}", LogFormat.lazy(rendered::incrementAndGet));
+
+    assertThat(appender.list).hasSize(1);
+    assertThat(appender.list.get(0).getFormattedMessage()).isEqualTo("1");
+    assertThat(rendered.get()).isEqualTo(1);
+
+    List<Long> ids = LongStream.rangeClosed(1, 100).boxed().toList();
+    assertThat(LogFormat.collection(ids, 3)).hasToString("[1, 2, 3, ...(共 100 个)]");
+    assertThat(LogFormat.collection(List.of(1L, 2L))).hasToString("[1, 2]");
+    assertThat(LogFormat.collection(null)).hasToString("null");
+  }
+
+  private SamplingTurboFilter filter(String name, double sampleRate, int maxPerSecond) {
+    SamplingTurboFilter filter = new SamplingTurboFilter();
+    filter.setContext(context);
+    filter.setName(name);
+    filter.setLoggers(
+        " com.example.dms2.infrastructure.rest , com.example.dms2.application.service");
+    filter.setMaxLevel("DEBUG");
+    filter.setSampleRate(sampleRate);
+    filter.setMaxPerSecond(maxPerSecond);
+    filter.start();
+    context.addTurboFilter(filter);
+    return filter;
+  }
+}
@@ -0,0 +1,137 @@
+package com.example.dms2.infrastructure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.alibaba.csp.sentinel.slots.block.RuleConstant;
+import com.alibaba.csp.sentinel.slots.block.flow.FlowRule;
+import com.alibaba.csp.sentinel.slots.block.flow.FlowRuleManager;
+import com.alibaba.csp.sentinel.slots.block.flow.param.ParamFlowRule;
+import com.alibaba.csp.sentinel.slots.block.flow.param.ParamFlowRuleManager;
+import com.alibaba.csp.sentinel.slots.system.SystemBlockException;
+import com.example.dms2.api.dto.ApiResponse;
+import com.example.dms2.api.dto.ErrorCode;
+import com.example.dms2.api.dto.response.UserDTO;
+import com.example.dms2.application.service.UserAppService;
+import com.example.dms2.infrastructure.config.GlobalExceptionHandler;
+import com.example.dms2.infrastructure.sentinel.SentinelBlockedException;
+import com.example.dms2.infrastructure.sentinel.UserSentinelAspect;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+/**
+ * Sentinel 规则测试 在本地加载规则，验证用户服务资源的限流行为与拦截响应
+ *
+ * @author DMS2 Team
+ * @since 1.0.0
+ */
+@DisplayName("Sentinel规则测试")
+class SentinelRuleTest {
+
+  private UserAppService userAppService;
+
+  @BeforeEach
+  void setUp() {
+    UserAppService target = mock(UserAppService.class);
+    when(target.getUserById(anyLong()))
+        .thenAnswer(invocation -> UserDTO.builder().id(invocation.getArgument(0)).build());
+    when(target.createUser(any())).thenReturn(UserDTO.builder().id(1L).build());
+    AspectJProxyFactory factory = new AspectJProxyFactory(target);
+    factory.setProxyTargetClass(true);
+    factory.addAspect(new UserSentinelAspect());
+    userAppService = factory.getProxy();
+  }
+
+  @AfterEach
+  void tearDown() {
+    FlowRuleManager.loadRules(List.of());
+    ParamFlowRuleManager.loadRules(List.of());
+  }
+
+  @Test
+  @DisplayName("热点参数规则只限制超出频率的用户ID")
+  void testHotParamFlow() {
+    ParamFlowRule rule =
+        new ParamFlowRule(UserSentinelAspect.RESOURCE_PREFIX + "getUserById")
+            .setParamIdx(0)
+            .setGrade(RuleConstant.FLOW_GRADE_QPS)
+            .setCount(2);
+    ParamFlowRuleManager.loadRules(List.of(rule));
+
+    userAppService.getUserById(1L);
+    userAppService.getUserById(1L);
+
+    assertThatThrownBy(() -> userAppService.getUserById(1L))
+        .isInstanceOf(SentinelBlockedException.class)
+        .satisfies(
+            e -> {
+              SentinelBlockedException blocked = (SentinelBlockedException) e;
+              assertThat(blocked.getErrorCode()).isEqualTo(ErrorCode.TOO_MANY_REQUESTS);
+              assertThat(blocked.getResource()).isEqualTo("user:getUserById");
+              assertThat(blocked.getStackTrace()).isEmpty();
+            });
+    assertThat(userAppService.getUserById(2L).getId()).isEqualTo(2L);
+  }
+
+  @Test
+  @DisplayName("资源QPS规则限制整个操作")
+  void testFlowRule() {
+    FlowRule rule = new FlowRule(UserSentinelAspect.RESOURCE_PREFIX + "createUser");
+    rule.setGrade(RuleConstant.FLOW_GRADE_QPS);
+    rule.setCount(1);
+    FlowRuleManager.loadRules(List.of(rule));
+
+    userAppService.createUser(null);
+
+    assertThatThrownBy(() -> userAppService.createUser(null))
+        .isInstanceOf(SentinelBlockedException.class);
+    assertThat(userAppService.getUserById(1L).getId()).isEqualTo(1L);
+  }
+
+  @Test
+  @DisplayName("拦截响应为ApiResponse，系统保护返回503")
+  void testBlockResponses() {
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/users/1");
+    var entity =
+        new GlobalExceptionHandler()
+            .handleSentinelBlockedException(
+                new SentinelBlockedException(
+                    "user:getUserById", new SystemBlockException("user:getUserById", "rt")),
+                request);
+
+    assertThat(entity.getStatusCode().value()).isEqualTo(503);
+    assertThat(entity.getBody().getCode()).isEqualTo(503);
+    // 并发限制据此不把拦截当作过载
+    assertThat(SentinelBlockedException.isBlocked(request)).isTrue();
+  }
+
+  @Test
+  @DisplayName("预先创建的拦截响应只读，序列化结果不变")
+  void testFixedResponseReadOnly() throws Exception {
+    var body =
+        new GlobalExceptionHandler()
+            .handleSentinelBlockedException(
+                new SentinelBlockedException(
+                    "user:getUserById", new SystemBlockException("user:getUserById", "rt")),
+                new MockHttpServletRequest("GET", "/api/users/1"))
+            .getBody();
+
+    assertThatThrownBy(() -> body.setMessage("changed"))
+        .isInstanceOf(UnsupportedOperationException.class);
+    assertThatThrownBy(() -> body.setCode(200)).isInstanceOf(UnsupportedOperationException.class);
+    ObjectMapper objectMapper = new ObjectMapper();
+    assertThat(objectMapper.writeValueAsString(body))
+        .isEqualTo(
+            objectMapper.writeValueAsString(ApiResponse.error(ErrorCode.SERVICE_UNAVAILABLE)));
+  }
+}
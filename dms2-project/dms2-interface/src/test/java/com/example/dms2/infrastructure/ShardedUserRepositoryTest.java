@@ -0,0 +1,238 @@
+package com.example.dms2.infrastructure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.example.dms2.domain.model.entity.User;
+import com.example.dms2.infrastructure.id.SnowflakeIdGenerator;
+import com.example.dms2.infrastructure.mapper.UserIndexMapper;
+import com.example.dms2.infrastructure.repository.ShardedUserRepositoryImpl;
+import com.example.dms2.infrastructure.sharding.UserShards;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mybatis.spring.SqlSessionFactoryBean;
+import org.mybatis.spring.SqlSessionTemplate;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 分片用户仓储测试 3 个 H2 内存库（MySQL 模式）作分片，另一个作保存全局索引的主库
+ *
+ * @author DMS2 Team
+ * @since 1.0.0
+ */
+@DisplayName("分片用户仓储测试")
+class ShardedUserRepositoryTest {
+
+  private static final int SHARD_COUNT = 3;
+
+  private List<JdbcDataSource> shardDataSources;
+  private UserShards shards;
+  private ShardedUserRepositoryImpl repository;
+  private TransactionTemplate transaction;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    String run = UUID.randomUUID().toString().substring(0, 8);
+    shardDataSources = new ArrayList<>();
+    for (int i = 0; i < SHARD_COUNT; i++) {
+      shardDataSources.add(h2("shard_" + run + "_" + i, "../sql/sharding/shard.sql"));
+    }
+    shards = UserShards.create(shardDataSources, configuration -> {}, List.of());
+
+    JdbcDataSource indexDataSource = h2("index_" + run, "../sql/sharding/index.sql");
+    transaction = new TransactionTemplate(new DataSourceTransactionManager(indexDataSource));
+    SqlSessionFactoryBean indexFactory = new SqlSessionFactoryBean();
+    indexFactory.setDataSource(indexDataSource);
+    indexFactory.setMapperLocations(
+        new PathMatchingResourcePatternResolver()
+            .getResources("classpath*:mapper/UserIndexMapper.xml"));
+    UserIndexMapper indexMapper =
+        new SqlSessionTemplate(indexFactory.getObject()).getMapper(UserIndexMapper.class);
+
+    SnowflakeIdGenerator idGenerator =
+        new SnowflakeIdGenerator(Instant.parse("2024-01-01T00:00:00Z"), () -> 1, Duration.ZERO);
+    repository = new ShardedUserRepositoryImpl(shards, indexMapper, idGenerator);
+  }
+
+  @AfterEach
+  void tearDown() {
+    shards.close();
+  }
+
+  @Test
+  @DisplayName("按主键哈希分布到各分片，可按ID、用户名、邮箱查询")
+  void saveDistributesAcrossShards() {
+    List<User> saved =
+        IntStream.range(0, 300).mapToObj(i -> repository.save(user("user" + i))).toList();
+
+    for (int i = 0; i < SHARD_COUNT; i++) {
+      assertThat(rowCount(i)).isGreaterThan(60);
+    }
+    User sample = saved.get(42);
+    assertThat(repository.findById(sample.getId()))
+        .get()
+        .extracting(User::getUsername)
+        .isEqualTo("user42");
+    assertThat(repository.findByUsername("user42"))
+        .get()
+        .extracting(User::getId)
+        .isEqualTo(sample.getId());
+    assertThat(repository.findByEmail("user42@example.com")).isPresent();
+    assertThat(repository.existsByUsername("user42")).isTrue();
+    assertThat(repository.existsByEmail("missing@example.com")).isFalse();
+    assertThat(repository.findByUsername("missing")).isEmpty();
+  }
+
+  @Test
+  @DisplayName("用户名或邮箱跨分片重复时抛出DuplicateKeyException，不写入分片")
+  void rejectsDuplicatesAcrossShards() {
+    repository.save(user("alice"));
+
+    assertThatThrownBy(() -> repository.save(user("alice")))
+        .isInstanceOf(DuplicateKeyException.class);
+    User sameEmail = user("bob");
+    sameEmail.setEmail("alice@example.com");
+    assertThatThrownBy(() -> repository.save(sameEmail)).isInstanceOf(DuplicateKeyException.class);
+
+    assertThat(repository.existsByUsername("bob")).isFalse();
+    assertThat(IntStream.range(0, SHARD_COUNT).map(this::rowCount).sum()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("批量查询按请求顺序合并各分片结果，findAll按创建时间倒序")
+  void fanOutQueriesMerge() throws InterruptedException {
+    List<Long> ids = new ArrayList<>();
+    for (String name : List.of("a", "b", "c", "d", "e")) {
+      ids.add(repository.save(user(name)).getId());
+      Thread.sleep(2);
+    }
+
+    List<Long> requested = List.of(ids.get(3), -1L, ids.get(0), ids.get(4), ids.get(0));
+    assertThat(repository.findByIds(requested))
+        .extracting(User::getUsername)
+        .containsExactly("d", "a", "e", "a");
+    assertThat(repository.findByIds(List.of())).isEmpty();
+    assertThat(repository.findAll())
+        .extracting(User::getUsername)
+        .containsExactly("e", "d", "c", "b", "a");
+  }
+
+  @Test
+  @DisplayName("分页下推到各分片后多路归并，结果与全量排序后截取一致")
+  void pagesMergeAcrossShards() {
+    for (int i = 0; i < 30; i++) {
+      repository.save(user("p" + i));
+    }
+    // 一半用户的创建时间相同，跨分片时按ID倒序决定先后
+    for (JdbcDataSource dataSource : shardDataSources) {
+      new JdbcTemplate(dataSource)
+          .update("UPDATE t_user SET create_time = '2024-01-01 00:00:00' WHERE MOD(id, 2) = 0");
+    }
+    List<User> all = repository.findAll();
+
+    assertThat(repository.count()).isEqualTo(30);
+    assertThat(repository.findPage(7, 10)).isEqualTo(all.subList(7, 17));
+    assertThat(repository.findPage(25, 10)).isEqualTo(all.subList(25, 30));
+    assertThat(repository.findPage(30, 10)).isEmpty();
+
+    List<User> scanned = new ArrayList<>();
+    List<User> batch = repository.findPageAfter(null, null, 4);
+    while (!batch.isEmpty()) {
+      scanned.addAll(batch);
+      User last = batch.get(batch.size() - 1);
+      batch = repository.findPageAfter(last.getCreateTime(), last.getId(), 4);
+    }
+    assertThat(scanned).isEqualTo(all);
+  }
+
+  @Test
+  @DisplayName("修改用户名同步更新索引，删除后索引一并删除")
+  void updateAndDeleteKeepIndexInSync() {
+    User alice = repository.save(user("alice"));
+
+    alice.setUsername("alice2");
+    repository.save(alice);
+    assertThat(repository.findByUsername("alice")).isEmpty();
+    assertThat(repository.findByUsername("alice2")).isPresent();
+
+    repository.deleteById(alice.getId());
+    assertThat(repository.findById(alice.getId())).isEmpty();
+    assertThat(repository.existsByUsername("alice2")).isFalse();
+    assertThat(repository.existsByEmail("alice@example.com")).isFalse();
+  }
+
+  @Test
+  @DisplayName("调用方事务回滚后撤销已自动提交的分片写入，与索引保持一致")
+  void rollbackCompensatesShardWrites() {
+    User bob = repository.save(user("bob"));
+
+    assertThatThrownBy(
+            () ->
+                transaction.executeWithoutResult(
+                    status -> {
+                      repository.save(user("alice"));
+                      throw new IllegalStateException("rollback");
+                    }))
+        .isInstanceOf(IllegalStateException.class);
+    assertThat(repository.existsByUsername("alice")).isFalse();
+    assertThat(repository.findAll()).extracting(User::getUsername).containsExactly("bob");
+
+    transaction.executeWithoutResult(
+        status -> {
+          User renamed = repository.findById(bob.getId()).orElseThrow();
+          renamed.setUsername("bob2");
+          repository.save(renamed);
+          status.setRollbackOnly();
+        });
+    assertThat(repository.findByUsername("bob"))
+        .get()
+        .extracting(User::getId)
+        .isEqualTo(bob.getId());
+
+    transaction.executeWithoutResult(
+        status -> {
+          repository.deleteById(bob.getId());
+          status.setRollbackOnly();
+        });
+    assertThat(repository.findByUsername("bob")).isPresent();
+    assertThat(repository.count()).isEqualTo(1);
+  }
+
+  private int rowCount(int shard) {
+    return new JdbcTemplate(shardDataSources.get(shard))
+        .queryForObject("SELECT COUNT(*) FROM t_user", Integer.class);
+  }
+
+  private static JdbcDataSource h2(String name, String schema) {
+    JdbcDataSource dataSource = new JdbcDataSource();
+    dataSource.setURL(
+        "jdbc:h2:mem:" + name + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1");
+    dataSource.setUser("sa");
+    new ResourceDatabasePopulator(new FileSystemResource(schema)).execute(dataSource);
+    return dataSource;
+  }
+
+  private static User user(String username) {
+    return User.builder()
+        .username(username)
+        .email(username + "@example.com")
+        .phone("13800138000")
+        .realName(username)
+        .build();
+  }
+}
@@ -0,0 +1,131 @@
+package com.example.dms2.infrastructure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.example.dms2.infrastructure.metrics.SqlStatsEndpoint;
+import com.example.dms2.infrastructure.mybatis.StatementMetricsInterceptor;
+import com.example.dms2.infrastructure.mybatis.StatementStats;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import org.apache.ibatis.binding.MapperMethod;
+import org.apache.ibatis.builder.StaticSqlSource;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.SqlCommandType;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.RowBounds;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+/**
+ * SQL 语句统计测试 行数、慢查询与无界查询
+ *
+ * @author DMS2 Team
+ * @since 1.0.0
+ */
+@DisplayName("SQL语句统计测试")
+class SqlStatsTest {
+
+  private static final String MAPPER = "com.example.dms2.infrastructure.mapper.UserMapper.";
+
+  private final Configuration configuration = new Configuration();
+  private SimpleMeterRegistry registry;
+  private StatementMetricsInterceptor interceptor;
+  private Executor target;
+  private Executor executor;
+
+  @BeforeEach
+  void setUp() {
+    registry = new SimpleMeterRegistry();
+    interceptor = new StatementMetricsInterceptor(registry, false, Duration.ZERO, 3);
+    target = mock(Executor.class);
+    executor = (Executor) interceptor.plugin(target);
+  }
+
+  @Test
+  @DisplayName("记录查询返回行数与更新影响行数")
+  void testRows() throws Exception {
+    when(target.query(any(), any(), any(), any())).thenReturn(List.of(1, 2));
+    when(target.update(any(), any())).thenReturn(1);
+
+    executor.query(
+        statement("selectByIds", SqlCommandType.SELECT), ids(2), RowBounds.DEFAULT, null);
+    executor.update(statement("deleteById", SqlCommandType.DELETE), 1L);
+
+    assertThat(rowsSummary("UserMapper.selectByIds").totalAmount()).isEqualTo(2);
+    assertThat(rowsSummary("UserMapper.deleteById").totalAmount()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("慢查询记录SQL与参数形态，不记录参数值")
+  void testSlowQuerySample() throws Exception {
+    when(target.query(any(), any(), any(), any())).thenReturn(List.of(1));
+
+    executor.query(
+        statement("selectByIds", SqlCommandType.SELECT), ids(120), RowBounds.DEFAULT, null);
+
+    StatementStats stats = interceptor.getStatistics().get(0);
+    assertThat(stats.getStatement()).isEqualTo("UserMapper.selectByIds");
+    assertThat(stats.getSlowCount()).isEqualTo(1);
+    assertThat(stats.getLastSlowQuery().parameters()).isEqualTo("{ids=List[120]}");
+    assertThat(stats.getLastSlowQuery().sql()).isEqualTo("SELECT * FROM t_user");
+    assertThat(registry.get("dms2.mapper.slow").counter().count()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("返回行数超过阈值时标记为无界查询并在端点中展示")
+  void testUnboundedQueryAndEndpoint() throws Exception {
+    when(target.query(any(), any(), any(), any())).thenReturn(Collections.nCopies(5, 1));
+    StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+    beanFactory.addBean("statementMetricsInterceptor", interceptor);
+
+    executor.query(statement("selectAll", SqlCommandType.SELECT), null, RowBounds.DEFAULT, null);
+    Map<String, Object> result =
+        new SqlStatsEndpoint(beanFactory.getBeanProvider(StatementMetricsInterceptor.class))
+            .sqlStats();
+
+    assertThat(registry.get("dms2.mapper.unbounded").counter().count()).isEqualTo(1);
+    assertThat(result).containsEntry("enabled", true).containsEntry("unboundedRows", 3);
+    @SuppressWarnings("unchecked")
+    List<StatementStats> statements = (List<StatementStats>) result.get("statements");
+    assertThat(statements)
+        .singleElement()
+        .satisfies(
+            s -> {
+              assertThat(s.getStatement()).isEqualTo("UserMapper.selectAll");
+              assertThat(s.getUnboundedCount()).isEqualTo(1);
+              assertThat(s.getMaxRows()).isEqualTo(5);
+            });
+  }
+
+  private MappedStatement statement(String method, SqlCommandType type) {
+    return new MappedStatement.Builder(
+            configuration,
+            MAPPER + method,
+            new StaticSqlSource(configuration, "SELECT *\n  FROM t_user"),
+            type)
+        .build();
+  }
+
+  private DistributionSummary rowsSummary(String statement) {
+    return registry.get("dms2.mapper.rows").tag("statement", statement).summary();
+  }
+
+  /** 与 MyBatis 为 @Param 参数生成的参数对象一致 */
+  private static MapperMethod.ParamMap<Object> ids(int size) {
+    MapperMethod.ParamMap<Object> params = new MapperMethod.ParamMap<>();
+    List<Long> ids = Collections.nCopies(size, 1L);
+    params.put("ids", ids);
+    params.put("param1", ids);
+    return params;
+  }
+}
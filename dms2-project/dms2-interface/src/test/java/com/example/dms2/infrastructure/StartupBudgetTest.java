@@ -0,0 +1,54 @@
+package com.example.dms2.infrastructure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.dms2.infrastructure.startup.StartupReportEndpoint;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * 精简启动耗时测试 以 memory + slim 配置启动完整应用（不依赖 MySQL、Redis 与 Nacos），校验启动耗时上限与延迟创建策略
+ *
+ * <p>耗时上限默认 60 秒（单核环境），可通过 {@code -Ddms2.startup.budget=30s} 调整。
+ *
+ * @author DMS2 Team
+ * @since 1.0.0
+ */
+@DisplayName("精简启动耗时测试")
+class StartupBudgetTest {
+
+  private static final Duration BUDGET =
+      Duration.parse("PT" + System.getProperty("dms2.startup.budget", "60s"));
+
+  @Test
+  @DisplayName("slim 配置在耗时上限内启动，Redis 与 Feign 客户端未被创建")
+  @SuppressWarnings("unchecked")
+  void slimProfileStartsWithinBudget() {
+    long start = System.nanoTime();
+    try (ConfigurableApplicationContext context =
+        new SpringApplicationBuilder(Application.class)
+            .profiles("memory", "slim")
+            .properties("server.port=0", "management.server.port=0")
+            .applicationStartup(new BufferingApplicationStartup(10_000))
+            .run()) {
+      Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+      System.out.printf("%n精简启动耗时: %d ms（上限 %s）%n", elapsed.toMillis(), BUDGET);
+
+      assertThat(elapsed).isLessThanOrEqualTo(BUDGET);
+      assertThat(context.getBeanFactory().containsSingleton("redissonClient")).isFalse();
+      assertThat(context.getBeanFactory().containsSingleton("userAsyncFeignClient")).isFalse();
+
+      Map<String, Object> report = context.getBean(StartupReportEndpoint.class).startupReport(5);
+      assertThat(report).containsEntry("enabled", true);
+      assertThat((List<Map<String, Object>>) report.get("beans"))
+          .hasSize(5)
+          .allSatisfy(bean -> assertThat(bean).containsKeys("beanName", "selfMillis"));
+    }
+  }
+}
@@ -0,0 +1,148 @@
+package com.example.dms2.infrastructure;
+
+import static com.example.dms2.api.TestUsers.user;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.dms2.api.dto.ApiResponse;
+import com.example.dms2.api.dto.PageRequest;
+import com.example.dms2.api.dto.PageResponse;
+import com.example.dms2.api.dto.response.UserDTO;
+import com.example.dms2.application.service.UserAppService;
+import com.example.dms2.domain.exception.BusinessException;
+import com.example.dms2.infrastructure.warmup.StartupWarmup;
+import com.example.dms2.infrastructure.warmup.WarmupReport;
+import com.example.dms2.infrastructure.web.UserResponseCache;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.boot.logging.LoggingSystem;
+import org.springframework.boot.web.context.WebServerGracefulShutdownLifecycle;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * 启动预热测试
+ *
+ * @author DMS2 Team
+ * @since 1.0.0
+ */
+@DisplayName("启动预热测试")
+class StartupWarmupTest {
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+
+  private UserAppService userAppService;
+  private UserResponseCache cache;
+  private StaticListableBeanFactory beans;
+
+  @BeforeEach
+  void setUp() {
+    userAppService = mock(UserAppService.class);
+    List<UserDTO> users = List.of(user(1L), user(2L), user(3L));
+    when(userAppService.queryUsers(any(PageRequest.class)))
+        .thenReturn(PageResponse.of(new PageRequest(), users, users.size()));
+    when(userAppService.getUserById(anyLong()))
+        .thenAnswer(invocation -> user(invocation.getArgument(0)));
+    when(userAppService.getUsersByIds(anyList())).thenReturn(users);
+    cache =
+        new UserResponseCache(
+            true,
+            DataSize.ofMegabytes(1),
+            Duration.ofMinutes(1),
+            new StaticListableBeanFactory().getBeanProvider(MeterRegistry.class));
+    beans = new StaticListableBeanFactory();
+  }
+
+  @Test
+  @DisplayName("启动阶段早于 Web 服务器，因而早于 Nacos 注册")
+  void runsBeforeWebServer() {
+    assertThat(warmup(true, Duration.ofSeconds(1), List.of()).getPhase())
+        .isLessThan(WebServerGracefulShutdownLifecycle.SMART_LIFECYCLE_PHASE - 1024);
+  }
+
+  @Test
+  @DisplayName("打开连接、执行只读调用混合并写入热点用户的响应缓存")
+  void warmsUpAndPreloads() throws Exception {
+    DataSource dataSource = mock(DataSource.class);
+    when(dataSource.getConnection()).thenAnswer(invocation -> mock(Connection.class));
+    beans.addBean("dataSource", dataSource);
+
+    StartupWarmup warmup = warmup(true, Duration.ofSeconds(5), List.of(2L, 404L));
+    when(userAppService.getUserById(404L)).thenThrow(new BusinessException("用户不存在"));
+    warmup.start();
+
+    WarmupReport report = warmup.getReport();
+    assertThat(report.status()).isIn(WarmupReport.Status.COMPLETED, WarmupReport.Status.TIMED_OUT);
+    assertThat(report.databaseConnections()).isEqualTo(2);
+    assertThat(report.rounds()).isGreaterThanOrEqualTo(2);
+    assertThat(report.calls()).isPositive();
+    assertThat(report.errors()).isZero();
+    assertThat(report.preloadedIds()).containsExactly(2L);
+    assertThat(cache.get(2L))
+        .isEqualTo(objectMapper.writeValueAsBytes(ApiResponse.success(user(2L))));
+    verify(dataSource, atLeastOnce()).getConnection();
+    verify(userAppService, never()).createUser(any());
+    verify(userAppService, never()).deleteUser(any());
+  }
+
+  @Test
+  @DisplayName("预热出错时记录为 FAILED，不阻止启动")
+  void failureDoesNotBlockStartup() throws Exception {
+    DataSource dataSource = mock(DataSource.class);
+    when(dataSource.getConnection()).thenThrow(new SQLException("connection refused"));
+    beans.addBean("dataSource", dataSource);
+
+    StartupWarmup warmup = warmup(true, Duration.ofSeconds(5), List.of(1L));
+    warmup.start();
+
+    assertThat(warmup.isRunning()).isTrue();
+    assertThat(warmup.getReport().status()).isEqualTo(WarmupReport.Status.FAILED);
+    assertThat(warmup.getReport().message()).contains("connection refused");
+    assertThat(cache.get(1L)).isNull();
+  }
+
+  @Test
+  @DisplayName("未启用时跳过")
+  void skippedWhenDisabled() {
+    StartupWarmup warmup = warmup(false, Duration.ofSeconds(1), List.of(1L));
+    warmup.start();
+
+    assertThat(warmup.getReport().status()).isEqualTo(WarmupReport.Status.SKIPPED);
+    verify(userAppService, never()).queryUsers(any());
+  }
+
+  private StartupWarmup warmup(boolean enabled, Duration maxDuration, List<Long> preloadIds) {
+    return new StartupWarmup(
+        userAppService,
+        cache,
+        objectMapper,
+        beans.getBeanProvider(DataSource.class),
+        beans.getBeanProvider(RedissonClient.class),
+        beans.getBeanProvider(LoggingSystem.class),
+        enabled,
+        maxDuration,
+        2,
+        2,
+        50,
+        2,
+        1.0,
+        1,
+        preloadIds);
+  }
+}
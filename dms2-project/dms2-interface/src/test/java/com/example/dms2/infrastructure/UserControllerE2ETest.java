@@ -140,7 +140,7 @@ class UserControllerE2ETest {
         .andDo(print())
         .andExpect(status().isOk())
         .andExpect(jsonPath("$.code").value(200))
-        .andExpect(jsonPath("$.data.id").value(createdUser.getId()))
+        .andExpect(jsonPath("$.data.id").value(String.valueOf(createdUser.getId())))
         .andExpect(jsonPath("$.data.username").value("testuser"));
   }
 
@@ -0,0 +1,363 @@
+package com.example.dms2.infrastructure;
+
+import static com.example.dms2.api.TestUsers.fullUser;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.dms2.api.dto.ErrorCode;
+import com.example.dms2.api.dto.PageRequest;
+import com.example.dms2.api.dto.PageResponse;
+import com.example.dms2.api.dto.grpc.BatchGetUsersRequest;
+import com.example.dms2.api.dto.grpc.CreateUserRequest;
+import com.example.dms2.api.dto.grpc.DeleteUserRequest;
+import com.example.dms2.api.dto.grpc.GetUserRequest;
+import com.example.dms2.api.dto.grpc.ListUsersRequest;
+import com.example.dms2.api.dto.grpc.LookupUserResponse;
+import com.example.dms2.api.dto.grpc.QueryUsersRequest;
+import com.example.dms2.api.dto.grpc.QueryUsersResponse;
+import com.example.dms2.api.dto.grpc.UserMessage;
+import com.example.dms2.api.dto.response.UserDTO;
+import com.example.dms2.api.grpc.UserServiceGrpc;
+import com.example.dms2.application.service.UserAppService;
+import com.example.dms2.domain.exception.BusinessException;
+import com.example.dms2.infrastructure.grpc.UserGrpcService;
+import io.grpc.ManagedChannel;
+import io.grpc.Server;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.ClientCallStreamObserver;
+import io.grpc.stub.ClientResponseObserver;
+import io.grpc.stub.StreamObserver;
+import jakarta.validation.Validation;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * UserGrpcService测试 使用进程内服务端与通道，不占用网络端口
+ *
+ * @author DMS2 Team
+ * @since 1.0.0
+ */
+@DisplayName("用户gRPC服务测试")
+class UserGrpcServiceTest {
+
+  private static final LocalDateTime CREATE_TIME = LocalDateTime.of(2024, 1, 1, 12, 30, 15);
+
+  private UserAppService userAppService;
+  private Server server;
+  private ManagedChannel channel;
+  private UserServiceGrpc.UserServiceBlockingStub blockingStub;
+  private UserServiceGrpc.UserServiceStub asyncStub;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    userAppService = mock(UserAppService.class);
+    String name = InProcessServerBuilder.generateName();
+    server =
+        InProcessServerBuilder.forName(name)
+            .directExecutor()
+            .addService(
+                new UserGrpcService(
+                    userAppService, Validation.buildDefaultValidatorFactory().getValidator()))
+            .build()
+            .start();
+    channel = InProcessChannelBuilder.forName(name).directExecutor().build();
+    blockingStub = UserServiceGrpc.newBlockingStub(channel);
+    asyncStub = UserServiceGrpc.newStub(channel);
+  }
+
+  @AfterEach
+  void tearDown() throws Exception {
+    channel.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+    server.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+  }
+
+  @Test
+  @DisplayName("根据ID查询用户 - 成功")
+  void testGetUser() {
+    UserDTO user = fullUser(1L, CREATE_TIME);
+    // 未填写手机号时不设置 optional 字段
+    user.setPhone(null);
+    when(userAppService.getUserById(1L)).thenReturn(user);
+
+    UserMessage message = blockingStub.getUser(GetUserRequest.newBuilder().setId(1L).build());
+
+    assertThat(message.getId()).isEqualTo(1L);
+    assertThat(message.getUsername()).isEqualTo("user1");
+    assertThat(message.getRealName()).isEqualTo("User 1");
+    assertThat(message.hasPhone()).isFalse();
+    assertThat(message.getCreateTime())
+        .isEqualTo(CREATE_TIME.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+  }
+
+  @Test
+  @DisplayName("根据ID查询用户 - 不存在返回NOT_FOUND")
+  void testGetUserNotFound() {
+    when(userAppService.getUserById(99L)).thenThrow(notFound(99L));
+
+    assertThatThrownBy(() -> blockingStub.getUser(GetUserRequest.newBuilder().setId(99L).build()))
+        .isInstanceOf(StatusRuntimeException.class)
+        .satisfies(
+            e -> {
+              Status status = ((StatusRuntimeException) e).getStatus();
+              assertThat(status.getCode()).isEqualTo(Status.Code.NOT_FOUND);
+              assertThat(status.getDescription()).contains("用户不存在");
+            });
+  }
+
+  @Test
+  @DisplayName("创建用户 - 成功")
+  void testCreateUser() {
+    when(userAppService.createUser(any())).thenReturn(fullUser(1L, CREATE_TIME));
+
+    UserMessage message =
+        blockingStub.createUser(
+            CreateUserRequest.newBuilder()
+                .setUsername("user1")
+                .setEmail("user1@example.com")
+                .setRealName("User 1")
+                .build());
+
+    assertThat(message.getId()).isEqualTo(1L);
+    verify(userAppService)
+        .createUser(
+            com.example.dms2.api.dto.request.CreateUserRequest.builder()
+                .username("user1")
+                .email("user1@example.com")
+                .realName("User 1")
+                .build());
+  }
+
+  @Test
+  @DisplayName("创建用户 - 参数校验失败返回INVALID_ARGUMENT")
+  void testCreateUserInvalid() {
+    assertThatThrownBy(
+            () ->
+                blockingStub.createUser(
+                    CreateUserRequest.newBuilder().setUsername("u").setEmail("bad").build()))
+        .isInstanceOf(StatusRuntimeException.class)
+        .satisfies(
+            e -> {
+              Status status = ((StatusRuntimeException) e).getStatus();
+              assertThat(status.getCode()).isEqualTo(Status.Code.INVALID_ARGUMENT);
+              assertThat(status.getDescription())
+                  .isEqualTo("email: 邮箱格式不正确, username: 用户名长度必须在2-50之间");
+            });
+
+    verify(userAppService, never()).createUser(any());
+  }
+
+  @Test
+  @DisplayName("创建用户 - 用户名已存在返回ALREADY_EXISTS")
+  void testCreateUserAlreadyExists() {
+    when(userAppService.createUser(any()))
+        .thenThrow(new BusinessException(ErrorCode.USER_ALREADY_EXISTS.getCode(), "用户名已存在: user1"));
+
+    assertThatThrownBy(
+            () ->
+                blockingStub.createUser(
+                    CreateUserRequest.newBuilder()
+                        .setUsername("user1")
+                        .setEmail("user1@example.com")
+                        .build()))
+        .isInstanceOf(StatusRuntimeException.class)
+        .extracting(e -> ((StatusRuntimeException) e).getStatus().getCode())
+        .isEqualTo(Status.Code.ALREADY_EXISTS);
+  }
+
+  @Test
+  @DisplayName("批量查询用户")
+  void testBatchGetUsers() {
+    when(userAppService.getUsersByIds(List.of(1L, 2L)))
+        .thenReturn(List.of(fullUser(1L, CREATE_TIME), fullUser(2L, CREATE_TIME)));
+
+    List<UserMessage> users =
+        blockingStub
+            .batchGetUsers(BatchGetUsersRequest.newBuilder().addIds(1L).addIds(2L).build())
+            .getUsersList();
+
+    assertThat(users).extracting(UserMessage::getId).containsExactly(1L, 2L);
+  }
+
+  @Test
+  @DisplayName("分页查询用户")
+  void testQueryUsers() {
+    PageRequest pageRequest = new PageRequest();
+    pageRequest.setPageNum(2);
+    pageRequest.setPageSize(5);
+    when(userAppService.queryUsers(any()))
+        .thenReturn(PageResponse.of(pageRequest, List.of(fullUser(6L, CREATE_TIME)), 6));
+
+    QueryUsersResponse response =
+        blockingStub.queryUsers(
+            QueryUsersRequest.newBuilder().setPageNum(2).setPageSize(5).build());
+
+    assertThat(response.getTotal()).isEqualTo(6L);
+    assertThat(response.getPageNum()).isEqualTo(2);
+    assertThat(response.getTotalPages()).isEqualTo(2);
+    assertThat(response.getRecordsList()).extracting(UserMessage::getId).containsExactly(6L);
+    verify(userAppService).queryUsers(pageRequest);
+  }
+
+  @Test
+  @DisplayName("删除用户 - 成功与不存在")
+  void testDeleteUser() {
+    doThrow(notFound(99L)).when(userAppService).deleteUser(99L);
+
+    blockingStub.deleteUser(DeleteUserRequest.newBuilder().setId(1L).build());
+
+    verify(userAppService).deleteUser(1L);
+    assertThatThrownBy(
+            () -> blockingStub.deleteUser(DeleteUserRequest.newBuilder().setId(99L).build()))
+        .isInstanceOf(StatusRuntimeException.class)
+        .extracting(e -> ((StatusRuntimeException) e).getStatus().getCode())
+        .isEqualTo(Status.Code.NOT_FOUND);
+  }
+
+  @Test
+  @DisplayName("服务端流 - 按键集逐批读取并推送全部用户")
+  void testListUsers() {
+    List<UserDTO> all =
+        LongStream.rangeClosed(1, 5).mapToObj(id -> fullUser(id, CREATE_TIME)).toList();
+    stubListUsersAfter(all);
+
+    Iterator<UserMessage> stream =
+        blockingStub.listUsers(ListUsersRequest.newBuilder().setBatchSize(2).build());
+    List<Long> ids = new ArrayList<>();
+    stream.forEachRemaining(message -> ids.add(message.getId()));
+
+    assertThat(ids).containsExactly(1L, 2L, 3L, 4L, 5L);
+    verify(userAppService).listUsersAfter(null, null, 2);
+    verify(userAppService).listUsersAfter(CREATE_TIME, 2L, 2);
+    verify(userAppService).listUsersAfter(CREATE_TIME, 4L, 2);
+    verify(userAppService, never()).queryUsers(any());
+  }
+
+  @Test
+  @DisplayName("服务端流 - 客户端未请求更多消息时暂停读取")
+  void testListUsersRespectsFlowControl() throws Exception {
+    List<UserDTO> all =
+        LongStream.rangeClosed(1, 5).mapToObj(id -> fullUser(id, CREATE_TIME)).toList();
+    stubListUsersAfter(all);
+    List<Long> ids = new CopyOnWriteArrayList<>();
+    CountDownLatch completed = new CountDownLatch(1);
+    AtomicReference<ClientCallStreamObserver<ListUsersRequest>> call = new AtomicReference<>();
+
+    asyncStub.listUsers(
+        ListUsersRequest.newBuilder().setBatchSize(2).build(),
+        new ClientResponseObserver<ListUsersRequest, UserMessage>() {
+          @Override
+          public void beforeStart(ClientCallStreamObserver<ListUsersRequest> requestStream) {
+            requestStream.disableAutoRequestWithInitial(1);
+            call.set(requestStream);
+          }
+
+          @Override
+          public void onNext(UserMessage value) {
+            ids.add(value.getId());
+          }
+
+          @Override
+          public void onError(Throwable t) {
+            completed.countDown();
+          }
+
+          @Override
+          public void onCompleted() {
+            completed.countDown();
+          }
+        });
+
+    // 只请求了一条：服务端读取第一批后暂停，不继续读取后面的批次
+    assertThat(ids).containsExactly(1L);
+    verify(userAppService, times(1)).listUsersAfter(any(), any(), anyInt());
+
+    call.get().request(10);
+    assertThat(completed.await(5, TimeUnit.SECONDS)).isTrue();
+    assertThat(ids).containsExactly(1L, 2L, 3L, 4L, 5L);
+    verify(userAppService, times(3)).listUsersAfter(any(), any(), anyInt());
+  }
+
+  /** 按 ID 在 all 中定位游标，返回其后的 limit 个用户 */
+  private void stubListUsersAfter(List<UserDTO> all) {
+    when(userAppService.listUsersAfter(any(), any(), anyInt()))
+        .thenAnswer(
+            invocation -> {
+              Long afterId = invocation.getArgument(1);
+              int limit = invocation.getArgument(2);
+              int from = afterId == null ? 0 : afterId.intValue();
+              return all.subList(Math.min(from, all.size()), Math.min(from + limit, all.size()));
+            });
+  }
+
+  @Test
+  @DisplayName("双向流 - 逐条返回查询结果，不存在的用户标记为未找到")
+  void testLookupUsers() throws Exception {
+    when(userAppService.getUserById(anyLong()))
+        .thenAnswer(
+            invocation -> {
+              long id = invocation.getArgument(0);
+              if (id == 2L) {
+                throw notFound(id);
+              }
+              return fullUser(id, CREATE_TIME);
+            });
+    List<LookupUserResponse> results = new CopyOnWriteArrayList<>();
+    CountDownLatch completed = new CountDownLatch(1);
+
+    StreamObserver<GetUserRequest> requests =
+        asyncStub.lookupUsers(
+            new StreamObserver<>() {
+              @Override
+              public void onNext(LookupUserResponse value) {
+                results.add(value);
+              }
+
+              @Override
+              public void onError(Throwable t) {
+                completed.countDown();
+              }
+
+              @Override
+              public void onCompleted() {
+                completed.countDown();
+              }
+            });
+    for (long id = 1; id <= 3; id++) {
+      requests.onNext(GetUserRequest.newBuilder().setId(id).build());
+    }
+    requests.onCompleted();
+
+    assertThat(completed.await(5, TimeUnit.SECONDS)).isTrue();
+    assertThat(results).extracting(LookupUserResponse::getId).containsExactly(1L, 2L, 3L);
+    assertThat(results).extracting(LookupUserResponse::getFound).containsExactly(true, false, true);
+    assertThat(results.get(0).getUser().getUsername()).isEqualTo("user1");
+  }
+
+  private static BusinessException notFound(long id) {
+    return new BusinessException(ErrorCode.USER_NOT_FOUND.getCode(), "用户不存在: id=" + id);
+  }
+}
@@ -0,0 +1,93 @@
+package com.example.dms2.infrastructure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.dms2.domain.event.UserChangedEvent;
+import com.example.dms2.domain.model.entity.User;
+import com.example.dms2.infrastructure.web.UserKeyCache;
+import com.example.dms2.infrastructure.web.UserKeyCache.KeyType;
+import com.example.dms2.infrastructure.web.UserResponseCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * UserKeyCache单元测试
+ *
+ * @author DMS2 Team
+ * @since 1.0.0
+ */
+@DisplayName("用户二级键缓存测试")
+class UserKeyCacheTest {
+
+  private static final byte[] BODY = "{\"code\":200}".getBytes(StandardCharsets.UTF_8);
+
+  private UserResponseCache responseCache;
+  private UserKeyCache keyCache;
+
+  @BeforeEach
+  void setUp() {
+    StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+    responseCache =
+        new UserResponseCache(
+            true,
+            DataSize.ofMegabytes(1),
+            Duration.ofMinutes(1),
+            beanFactory.getBeanProvider(MeterRegistry.class));
+    keyCache =
+        new UserKeyCache(
+            true,
+            1000,
+            Duration.ofMinutes(1),
+            responseCache,
+            beanFactory.getBeanProvider(MeterRegistry.class));
+  }
+
+  @Test
+  @DisplayName("用户名、邮箱映射到ID，响应字节按ID只缓存一份")
+  void testKeyResolvesThroughIdCache() {
+    keyCache.put(KeyType.USERNAME, "alice", keyCache.version(KeyType.USERNAME, "alice"), 1L);
+    keyCache.put(
+        KeyType.EMAIL,
+        "alice@example.com",
+        keyCache.version(KeyType.EMAIL, "alice@example.com"),
+        1L);
+    responseCache.put(1L, responseCache.version(1L), BODY);
+
+    assertThat(keyCache.get(KeyType.USERNAME, "alice")).isEqualTo(1L);
+    assertThat(responseCache.get(keyCache.get(KeyType.EMAIL, "alice@example.com"))).isSameAs(BODY);
+    assertThat(keyCache.get(KeyType.EMAIL, "alice")).isNull();
+  }
+
+  @Test
+  @DisplayName("ID条目失效后映射随之失效（改名事件不携带旧用户名）")
+  void testIdEvictionInvalidatesMapping() {
+    keyCache.put(KeyType.USERNAME, "alice", keyCache.version(KeyType.USERNAME, "alice"), 1L);
+
+    responseCache.evict(1L);
+
+    assertThat(keyCache.get(KeyType.USERNAME, "alice")).isNull();
+  }
+
+  @Test
+  @DisplayName("用户删除事件失效映射，回源期间发生变更时放弃写入")
+  void testUserChangedEventEvictsKeys() {
+    long versionBeforeLoad = keyCache.version(KeyType.USERNAME, "bob");
+    keyCache.put(
+        KeyType.EMAIL, "bob@example.com", keyCache.version(KeyType.EMAIL, "bob@example.com"), 2L);
+
+    UserChangedEvent event =
+        UserChangedEvent.deleted(
+            User.builder().id(2L).username("bob").email("bob@example.com").build());
+    keyCache.onUserChanged(event);
+    keyCache.put(KeyType.USERNAME, "bob", versionBeforeLoad, 2L);
+
+    assertThat(keyCache.get(KeyType.USERNAME, "bob")).isNull();
+    assertThat(keyCache.get(KeyType.EMAIL, "bob@example.com")).isNull();
+  }
+}
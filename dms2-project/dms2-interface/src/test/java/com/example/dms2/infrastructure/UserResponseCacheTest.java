@@ -0,0 +1,81 @@
+package com.example.dms2.infrastructure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.dms2.domain.event.UserChangedEvent;
+import com.example.dms2.domain.model.entity.User;
+import com.example.dms2.infrastructure.web.UserResponseCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * UserResponseCache单元测试
+ *
+ * @author DMS2 Team
+ * @since 1.0.0
+ */
+@DisplayName("用户响应字节缓存测试")
+class UserResponseCacheTest {
+
+  private static final byte[] BODY = "{\"code\":200}".getBytes(StandardCharsets.UTF_8);
+
+  private UserResponseCache cache;
+
+  @BeforeEach
+  void setUp() {
+    cache =
+        new UserResponseCache(
+            true,
+            DataSize.ofMegabytes(1),
+            Duration.ofMinutes(1),
+            new StaticListableBeanFactory().getBeanProvider(MeterRegistry.class));
+  }
+
+  @Test
+  @DisplayName("写入后按相同版本命中")
+  void testPutAndGet() {
+    long version = cache.version(1L);
+
+    cache.put(1L, version, BODY);
+
+    assertThat(cache.get(1L)).isSameAs(BODY);
+    assertThat(cache.get(2L)).isNull();
+  }
+
+  @Test
+  @DisplayName("失效后不再命中")
+  void testEvict() {
+    cache.put(1L, cache.version(1L), BODY);
+
+    cache.evict(1L);
+
+    assertThat(cache.get(1L)).isNull();
+  }
+
+  @Test
+  @DisplayName("回源期间发生变更时放弃写入")
+  void testPutWithStaleVersionIsIgnored() {
+    long versionBeforeLoad = cache.version(1L);
+
+    cache.evict(1L);
+    cache.put(1L, versionBeforeLoad, BODY);
+
+    assertThat(cache.get(1L)).isNull();
+  }
+
+  @Test
+  @DisplayName("用户删除事件使缓存失效")
+  void testUserChangedEventEvicts() {
+    cache.put(7L, cache.version(7L), BODY);
+
+    cache.onUserChanged(UserChangedEvent.deleted(User.builder().id(7L).build()));
+
+    assertThat(cache.get(7L)).isNull();
+  }
+}
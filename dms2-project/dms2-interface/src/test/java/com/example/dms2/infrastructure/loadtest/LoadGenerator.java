@@ -0,0 +1,321 @@
+package com.example.dms2.infrastructure.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Queue;
+import java.util.StringJoiner;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 压测负载生成器 按固定到达速率（开放模型）向 /api/users 发送混合请求，并用 HdrHistogram 统计耗时
+ *
+ * <p>每个请求的耗时从计划发送时间开始计算：服务变慢导致请求排队时，排队时间同样计入，避免协调遗漏（coordinated omission）低估尾部耗时。
+ *
+ * <p>可单独运行以压测已启动的实例，例如：
+ *
+ * <pre>
+ * LoadGenerator --url=http://localhost:8080 --rate=200 --warmup=10s --duration=60s \
+ *     --users=10003 --mix=get=70,batch=10,page=10,create=5,delete=5
+ * </pre>
+ *
+ * @author DMS2 Team
+ * @since 1.0.0
+ */
+@Slf4j
+public class LoadGenerator {
+
+  /** 压测的用户操作 */
+  public enum Operation {
+    /** GET /api/users/{id} */
+    GET,
+    /** POST /api/users/batch（{@link #BATCH_SIZE} 个 ID） */
+    BATCH,
+    /** POST /api/users/page */
+    PAGE,
+    /** POST /api/users */
+    CREATE,
+    /** DELETE /api/users/{id}，删除本次压测创建的用户 */
+    DELETE
+  }
+
+  /** 批量查询的 ID 数 */
+  static final int BATCH_SIZE = 100;
+
+  /** 分页查询的每页条数 */
+  static final int PAGE_SIZE = 20;
+
+  private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+  private final String baseUrl;
+  private final long[] userIds;
+  private final int maxConcurrency;
+  private final Operation[] schedule;
+  private final HttpClient httpClient;
+  private final ObjectMapper objectMapper = new ObjectMapper();
+
+  /** 本次创建、尚未删除的用户 ID，供删除操作使用 */
+  private final Queue<Long> createdIds = new ConcurrentLinkedQueue<>();
+
+  private final AtomicLong createSeq = new AtomicLong();
+  private final String runId = Long.toString(System.currentTimeMillis(), 36);
+
+  /**
+   * @param baseUrl 服务地址，如 http://localhost:8080
+   * @param userCount 已有用户数，查询的 ID 在 [1, userCount] 中随机选取（数据库自增主键）
+   * @param maxConcurrency 同时发送请求的最大线程数
+   * @param mix 各操作的权重
+   */
+  public LoadGenerator(
+      String baseUrl, long userCount, int maxConcurrency, Map<Operation, Integer> mix) {
+    this(baseUrl, LongStream.rangeClosed(1, userCount).toArray(), maxConcurrency, mix);
+  }
+
+  /**
+   * @param baseUrl 服务地址，如 http://localhost:8080
+   * @param userIds 已有用户的 ID，查询的 ID 从中随机选取（主键由应用分配时不连续）
+   * @param maxConcurrency 同时发送请求的最大线程数
+   * @param mix 各操作的权重
+   */
+  public LoadGenerator(
+      String baseUrl, long[] userIds, int maxConcurrency, Map<Operation, Integer> mix) {
+    this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+    this.userIds = userIds;
+    this.maxConcurrency = maxConcurrency;
+    this.schedule = toSchedule(mix);
+    this.httpClient =
+        HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+  }
+
+  /**
+   * 执行压测：预热阶段的请求不计入结果
+   *
+   * @param rate 每秒请求数
+   * @param warmup 预热时长
+   * @param duration 统计时长
+   * @return 压测结果
+   */
+  public LoadReport run(int rate, Duration warmup, Duration duration) throws InterruptedException {
+    if (rate <= 0) {
+      throw new IllegalArgumentException("rate 必须大于 0");
+    }
+    LoadReport report = new LoadReport(duration);
+    long intervalNanos = TimeUnit.SECONDS.toNanos(1) / rate;
+    long total = (warmup.toNanos() + duration.toNanos()) / intervalNanos;
+    ExecutorService workers = Executors.newFixedThreadPool(maxConcurrency, this::newWorker);
+    long start = System.nanoTime();
+    long measureFrom = start + warmup.toNanos();
+    try {
+      for (long i = 0; i < total; i++) {
+        long intended = start + i * intervalNanos;
+        long wait = intended - System.nanoTime();
+        if (wait > 0) {
+          LockSupport.parkNanos(wait);
+        }
+        Operation operation = schedule[ThreadLocalRandom.current().nextInt(schedule.length)];
+        LoadReport target = intended >= measureFrom ? report : null;
+        workers.execute(() -> execute(operation, intended, target));
+      }
+    } finally {
+      workers.shutdown();
+    }
+    if (!workers.awaitTermination(REQUEST_TIMEOUT.toSeconds() * 2, TimeUnit.SECONDS)) {
+      workers.shutdownNow();
+      log.warn("压测结束时仍有请求未完成");
+    }
+    return report;
+  }
+
+  private void execute(Operation operation, long intended, LoadReport report) {
+    Operation actual = operation;
+    int status;
+    try {
+      if (operation == Operation.DELETE) {
+        Long id = createdIds.poll();
+        if (id == null) {
+          // 尚无可删除的用户时改为单查，保持到达速率不变
+          actual = Operation.GET;
+        }
+        status = id == null ? send(get()) : send(delete(id));
+      } else if (operation == Operation.CREATE) {
+        status = create();
+      } else {
+        status = send(request(operation));
+      }
+    } catch (IOException e) {
+      status = 0;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return;
+    }
+    if (report != null) {
+      report.record(actual, status, TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - intended));
+    }
+  }
+
+  private HttpRequest request(Operation operation) {
+    return switch (operation) {
+      case GET -> get();
+      case BATCH -> post("/api/users/batch", batchIds());
+      case PAGE -> post("/api/users/page", pageBody());
+      default -> throw new IllegalArgumentException("不支持的操作: " + operation);
+    };
+  }
+
+  private int create() throws IOException, InterruptedException {
+    long seq = createSeq.incrementAndGet();
+    String username = "lt" + runId + "_" + seq;
+    String body =
+        "{\"username\":\""
+            + username
+            + "\",\"email\":\""
+            + username
+            + "@loadtest.example.com\",\"phone\":\"13800000000\",\"realName\":\"LoadTest\"}";
+    HttpResponse<byte[]> response =
+        httpClient.send(post("/api/users", body), HttpResponse.BodyHandlers.ofByteArray());
+    if (response.statusCode() == 200) {
+      JsonNode id = objectMapper.readTree(response.body()).path("data").path("id");
+      // ID 以字符串表示（见 UserDTO）
+      if (id.isTextual() || id.canConvertToLong()) {
+        createdIds.add(id.asLong());
+      }
+    }
+    return response.statusCode();
+  }
+
+  private int send(HttpRequest request) throws IOException, InterruptedException {
+    return httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+  }
+
+  private HttpRequest get() {
+    return newRequest("/api/users/" + randomId()).GET().build();
+  }
+
+  private HttpRequest delete(long id) {
+    return newRequest("/api/users/" + id).DELETE().build();
+  }
+
+  private HttpRequest post(String path, String json) {
+    return newRequest(path)
+        .header("Content-Type", "application/json")
+        .POST(HttpRequest.BodyPublishers.ofString(json))
+        .build();
+  }
+
+  private HttpRequest.Builder newRequest(String path) {
+    return HttpRequest.newBuilder(URI.create(baseUrl + path))
+        .timeout(REQUEST_TIMEOUT)
+        .header("Accept", "application/json");
+  }
+
+  private String batchIds() {
+    StringJoiner joiner = new StringJoiner(",", "[", "]");
+    for (int i = 0; i < BATCH_SIZE; i++) {
+      joiner.add(Long.toString(randomId()));
+    }
+    return joiner.toString();
+  }
+
+  private String pageBody() {
+    long pages = Math.max(1, userIds.length / PAGE_SIZE);
+    long pageNum = ThreadLocalRandom.current().nextLong(pages) + 1;
+    return "{\"pageNum\":" + pageNum + ",\"pageSize\":" + PAGE_SIZE + "}";
+  }
+
+  private long randomId() {
+    return userIds[ThreadLocalRandom.current().nextInt(userIds.length)];
+  }
+
+  private Thread newWorker(Runnable runnable) {
+    Thread thread = new Thread(runnable, "load-generator");
+    thread.setDaemon(true);
+    return thread;
+  }
+
+  /** 按权重展开为调度表，随机取下标即按权重选择操作 */
+  private static Operation[] toSchedule(Map<Operation, Integer> mix) {
+    int sum = mix.values().stream().mapToInt(Integer::intValue).sum();
+    if (sum <= 0) {
+      throw new IllegalArgumentException("负载权重之和必须大于 0: " + mix);
+    }
+    return mix.entrySet().stream()
+        .flatMap(e -> Stream.generate(e::getKey).limit(Math.max(0, e.getValue())))
+        .toArray(Operation[]::new);
+  }
+
+  /**
+   * 解析负载权重，格式 get=70,batch=10,page=10,create=5,delete=5
+   *
+   * @param mix 权重字符串
+   * @return 各操作的权重
+   */
+  public static Map<Operation, Integer> parseMix(String mix) {
+    Map<Operation, Integer> weights = new EnumMap<>(Operation.class);
+    for (String part : mix.split(",")) {
+      String[] kv = part.trim().split("=");
+      if (kv.length != 2) {
+        throw new IllegalArgumentException("负载权重格式错误: " + part);
+      }
+      weights.put(
+          Operation.valueOf(kv[0].trim().toUpperCase(Locale.ROOT)), Integer.parseInt(kv[1].trim()));
+    }
+    return weights;
+  }
+
+  /** 压测已启动的实例 */
+  public static void main(String[] args) throws InterruptedException {
+    Map<String, String> options = new HashMap<>();
+    for (String arg : args) {
+      if (arg.startsWith("--") && arg.contains("=")) {
+        options.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+      }
+    }
+    LoadGenerator generator =
+        new LoadGenerator(
+            options.getOrDefault("url", "http://localhost:8080"),
+            Long.parseLong(options.getOrDefault("users", "3")),
+            Integer.parseInt(options.getOrDefault("concurrency", "64")),
+            parseMix(options.getOrDefault("mix", "get=70,batch=10,page=10,create=5,delete=5")));
+    LoadReport report =
+        generator.run(
+            Integer.parseInt(options.getOrDefault("rate", "100")),
+            parseDuration(options.getOrDefault("warmup", "10s")),
+            parseDuration(options.getOrDefault("duration", "60s")));
+    report.print(System.out);
+  }
+
+  /** 解析 10s、500ms、2m 形式的时长 */
+  static Duration parseDuration(String value) {
+    String v = value.trim().toLowerCase(Locale.ROOT);
+    if (v.endsWith("ms")) {
+      return Duration.ofMillis(Long.parseLong(v.substring(0, v.length() - 2)));
+    }
+    long amount = Long.parseLong(v.substring(0, v.length() - 1));
+    return switch (v.charAt(v.length() - 1)) {
+      case 's' -> Duration.ofSeconds(amount);
+      case 'm' -> Duration.ofMinutes(amount);
+      default -> throw new IllegalArgumentException("时长格式错误: " + value);
+    };
+  }
+}
@@ -0,0 +1,126 @@
+package com.example.dms2.infrastructure.loadtest;
+
+import com.example.dms2.infrastructure.loadtest.LoadGenerator.Operation;
+import java.io.PrintStream;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+/**
+ * 压测结果 按操作统计耗时分布（微秒）、吞吐量与状态码
+ *
+ * <p>非 2xx 响应与连接异常计为错误，其中 503（并发限制或熔断时快速拒绝）单独统计。
+ *
+ * @author DMS2 Team
+ * @since 1.0.0
+ */
+public class LoadReport {
+
+  /** 可记录的最大耗时：1 分钟 */
+  private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+
+  private final Duration duration;
+  private final Map<Operation, Recorder> recorders = new EnumMap<>(Operation.class);
+  private final Map<Operation, LongAdder> errors = new EnumMap<>(Operation.class);
+  private final Map<Operation, LongAdder> rejected = new EnumMap<>(Operation.class);
+  private final Map<Operation, Histogram> histograms = new EnumMap<>(Operation.class);
+
+  LoadReport(Duration duration) {
+    this.duration = duration;
+    for (Operation operation : Operation.values()) {
+      recorders.put(operation, new Recorder(HIGHEST_TRACKABLE_MICROS, 3));
+      errors.put(operation, new LongAdder());
+      rejected.put(operation, new LongAdder());
+    }
+  }
+
+  void record(Operation operation, int status, long micros) {
+    recorders.get(operation).recordValue(Math.min(micros, HIGHEST_TRACKABLE_MICROS));
+    if (status == 503) {
+      rejected.get(operation).increment();
+    } else if (status < 200 || status >= 300) {
+      errors.get(operation).increment();
+    }
+  }
+
+  /**
+   * 某个操作的耗时分布（微秒）
+   *
+   * @param operation 操作
+   * @return 直方图
+   */
+  public synchronized Histogram histogram(Operation operation) {
+    return histograms.computeIfAbsent(
+        operation, op -> recorders.get(op).getIntervalHistogram().copy());
+  }
+
+  /**
+   * 全部操作合并后的耗时分布（微秒）
+   *
+   * @return 直方图
+   */
+  public Histogram total() {
+    Histogram total = new Histogram(HIGHEST_TRACKABLE_MICROS, 3);
+    for (Operation operation : Operation.values()) {
+      total.add(histogram(operation));
+    }
+    return total;
+  }
+
+  /** 错误数（不含 503） */
+  public long errors() {
+    return errors.values().stream().mapToLong(LongAdder::sum).sum();
+  }
+
+  /** 503 拒绝数 */
+  public long rejected() {
+    return rejected.values().stream().mapToLong(LongAdder::sum).sum();
+  }
+
+  /** 实际吞吐量（请求/秒） */
+  public double throughput() {
+    return total().getTotalCount() / (duration.toMillis() / 1000.0);
+  }
+
+  /** 输出结果表格，耗时单位毫秒 */
+  public void print(PrintStream out) {
+    out.printf(
+        "%-8s %9s %9s %7s %7s %9s %9s %9s %9s %9s%n",
+        "op", "count", "req/s", "errors", "503", "p50", "p90", "p99", "p99.9", "max");
+    for (Operation operation : Operation.values()) {
+      Histogram histogram = histogram(operation);
+      if (histogram.getTotalCount() > 0) {
+        printRow(
+            out,
+            operation.name().toLowerCase(),
+            histogram,
+            errors.get(operation).sum(),
+            rejected.get(operation).sum());
+      }
+    }
+    printRow(out, "total", total(), errors(), rejected());
+  }
+
+  private void printRow(PrintStream out, String name, Histogram h, long errorCount, long rejects) {
+    out.printf(
+        "%-8s %9d %9.1f %7d %7d %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+        name,
+        h.getTotalCount(),
+        h.getTotalCount() / (duration.toMillis() / 1000.0),
+        errorCount,
+        rejects,
+        millis(h.getValueAtPercentile(50)),
+        millis(h.getValueAtPercentile(90)),
+        millis(h.getValueAtPercentile(99)),
+        millis(h.getValueAtPercentile(99.9)),
+        millis(h.getMaxValue()));
+  }
+
+  private static double millis(long micros) {
+    return micros / 1000.0;
+  }
+}
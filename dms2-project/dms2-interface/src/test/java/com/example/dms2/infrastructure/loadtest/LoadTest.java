@@ -0,0 +1,137 @@
+package com.example.dms2.infrastructure.loadtest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.dms2.domain.model.entity.User;
+import com.example.dms2.domain.repository.UserRepository;
+import com.example.dms2.infrastructure.Application;
+import com.github.fppt.jedismock.RedisServer;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ActiveProfilesResolver;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.util.ClassUtils;
+
+/**
+ * 离线端到端压测 以 loadtest 配置启动完整应用（H2 + Redis 协议替身，见 application-loadtest.yml），预置用户后按固定速率发送混合请求
+ *
+ * <p>默认不执行，运行方式：
+ *
+ * <pre>
+ * mvn -B install -DskipTests
+ * cd dms2-interface
+ * mvn -B test -Dtest=LoadTest -Ddms2.loadtest=true -Ddms2.loadtest.rate=500 -Ddms2.loadtest.duration=60s
+ * </pre>
+ *
+ * <p>追加 {@code -Ddms2.loadtest.profiles=memory} 时使用内存仓储，可与 MyBatis 实现的结果对照。
+ *
+ * @author DMS2 Team
+ * @since 1.0.0
+ */
+@SpringBootTest(
+    classes = Application.class,
+    webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles(resolver = LoadTest.ProfileResolver.class)
+@EnabledIfSystemProperty(named = "dms2.loadtest", matches = "true")
+@DisplayName("离线压测")
+class LoadTest {
+
+  private static RedisServer redisServer;
+
+  @LocalServerPort private int port;
+
+  @Autowired private UserRepository userRepository;
+
+  @Value("${dms2.loadtest.users}")
+  private int users;
+
+  @Value("${dms2.loadtest.rate}")
+  private int rate;
+
+  @Value("${dms2.loadtest.warmup}")
+  private Duration warmup;
+
+  @Value("${dms2.loadtest.duration}")
+  private Duration duration;
+
+  @Value("${dms2.loadtest.max-concurrency}")
+  private int maxConcurrency;
+
+  @Value("${dms2.loadtest.mix}")
+  private String mix;
+
+  @DynamicPropertySource
+  static void redisProperties(DynamicPropertyRegistry registry) throws IOException {
+    redisServer = RedisServer.newRedisServer().start();
+    registry.add("spring.data.redis.port", redisServer::getBindPort);
+  }
+
+  @AfterAll
+  static void stopRedis() throws IOException {
+    if (redisServer != null) {
+      redisServer.stop();
+    }
+  }
+
+  /**
+   * 在 loadtest 之外追加 dms2.loadtest.profiles 中的 profile（逗号分隔） loadtest 最后激活，其中的离线配置（如 sharding 的 H2
+   * 分片）优先于追加 profile 的同名配置
+   */
+  static class ProfileResolver implements ActiveProfilesResolver {
+
+    @Override
+    public String[] resolve(Class<?> testClass) {
+      List<String> profiles = new ArrayList<>();
+      String extra = System.getProperty("dms2.loadtest.profiles", "");
+      Arrays.stream(extra.split(","))
+          .map(String::trim)
+          .filter(p -> !p.isEmpty())
+          .forEach(profiles::add);
+      profiles.add("loadtest");
+      return profiles.toArray(String[]::new);
+    }
+  }
+
+  @Test
+  @DisplayName("混合负载：固定到达速率下的耗时分布与吞吐量")
+  void mixedWorkload() throws InterruptedException {
+    for (int i = 1; i <= users; i++) {
+      userRepository.save(
+          User.builder()
+              .username("seed" + i)
+              .email("seed" + i + "@example.com")
+              .phone("13800000000")
+              .realName("Seed " + i)
+              .build());
+    }
+
+    // MyBatis 实现另有 init.sql 中的初始用户；主键由应用分配时不连续，按实际 ID 选取
+    long[] userIds = userRepository.findAll().stream().mapToLong(User::getId).toArray();
+    int userCount = userIds.length;
+    LoadGenerator generator =
+        new LoadGenerator(
+            "http://localhost:" + port, userIds, maxConcurrency, LoadGenerator.parseMix(mix));
+    LoadReport report = generator.run(rate, warmup, duration);
+
+    System.out.printf(
+        "%n压测结果：repository=%s, rate=%d/s, duration=%s, users=%d, mix=%s%n",
+        ClassUtils.getUserClass(userRepository).getSimpleName(), rate, duration, userCount, mix);
+    report.print(System.out);
+
+    assertThat(report.total().getTotalCount()).isPositive();
+    assertThat(report.errors()).isZero();
+  }
+}
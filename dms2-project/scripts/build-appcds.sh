@@ -0,0 +1,55 @@
+#!/usr/bin/env bash
+#
+# 为 dms2-interface 生成 AppCDS 归档（JVM 部署时的启动加速方案，无需 GraalVM）
+#
+# 步骤：
+#   1. 解压 fat jar；CDS 要求类路径上只有 jar 文件，故把 BOOT-INF/classes 重新打成 app.jar
+#   2. 以 -Dspring.context.exit=onRefresh 训练运行：容器刷新完成即退出，退出时写出加载过的类
+#   3. 输出使用归档的启动命令
+#
+# 用法：scripts/build-appcds.sh [fat-jar] [输出目录] [-- 训练运行的应用参数]
+#   训练运行会完整初始化 Spring 容器，需要能连上 Redis；数据库可用 memory profile 代替，例如：
+#   scripts/build-appcds.sh -- --spring.profiles.active=memory --spring.cloud.nacos.config.enabled=false
+#   JAVA_OPTS 中的 JVM 参数同时用于训练运行，例如 AOT 处理过的 jar（-Pnative -DskipNativeBuild=true）传 -Dspring.aot.enabled=true
+#
+# 注意：启动时的类路径（顺序）与 JDK 必须与生成归档时完全一致，否则 JVM 会忽略归档并打印警告。
+#
+set -euo pipefail
+
+SCRIPT_DIR="$(cd "$(dirname "$0")" && pwd)"
+JAR="${SCRIPT_DIR}/../dms2-interface/target/dms2-interface-1.0.0-SNAPSHOT.jar"
+OUT="${SCRIPT_DIR}/../dms2-interface/target/cds"
+if [[ $# -gt 0 && "$1" != "--" ]]; then JAR="$1"; shift; fi
+if [[ $# -gt 0 && "$1" != "--" ]]; then OUT="$1"; shift; fi
+if [[ $# -gt 0 && "$1" == "--" ]]; then shift; fi
+
+if [[ ! -f "${JAR}" ]]; then
+  echo "找不到 ${JAR}，请先执行 mvn -B package -DskipTests" >&2
+  exit 1
+fi
+
+JAR="$(cd "$(dirname "${JAR}")" && pwd)/$(basename "${JAR}")"
+rm -rf "${OUT}"
+mkdir -p "${OUT}/exploded"
+OUT="$(cd "${OUT}" && pwd)"
+
+echo ">> 解压 ${JAR}"
+(cd "${OUT}/exploded" && jar -xf "${JAR}")
+MAIN_CLASS="$(grep '^Start-Class:' "${OUT}/exploded/META-INF/MANIFEST.MF" | cut -d' ' -f2 | tr -d '\r')"
+jar -cf "${OUT}/app.jar" -C "${OUT}/exploded/BOOT-INF/classes" .
+
+# 依赖按 classpath.idx 的顺序排列，与 fat jar 的加载顺序一致
+CLASSPATH="app.jar"
+while IFS= read -r entry; do
+  lib="${entry#- \"}"
+  lib="${lib%\"}"
+  CLASSPATH="${CLASSPATH}:exploded/${lib}"
+done < "${OUT}/exploded/BOOT-INF/classpath.idx"
+echo "${CLASSPATH}" > "${OUT}/classpath"
+
+echo ">> 训练运行 ${MAIN_CLASS}"
+(cd "${OUT}" && java ${JAVA_OPTS:-} -XX:ArchiveClassesAtExit=app.jsa -Xlog:cds=error -Dspring.context.exit=onRefresh \
+  -cp "${CLASSPATH}" "${MAIN_CLASS}" "$@")
+
+echo ">> 已生成 ${OUT}/app.jsa，在 ${OUT} 目录下启动："
+echo "java ${JAVA_OPTS:-} -XX:SharedArchiveFile=app.jsa -cp \"\$(cat classpath)\" ${MAIN_CLASS}"
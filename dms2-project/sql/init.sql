@@ -7,7 +7,7 @@ USE `dms2`;
 DROP TABLE IF EXISTS `t_user`;
 CREATE TABLE `t_user`
 (
-    `id`          BIGINT       NOT NULL AUTO_INCREMENT COMMENT '主键ID',
+    `id`          BIGINT       NOT NULL AUTO_INCREMENT COMMENT '主键ID（默认由应用分配，dms2.id.strategy=database 时自增）',
     `username`    VARCHAR(50)  NOT NULL COMMENT '用户名',
     `email`       VARCHAR(100) NOT NULL COMMENT '邮箱',
     `phone`       VARCHAR(20)           DEFAULT NULL COMMENT '手机号',
@@ -16,7 +16,8 @@ CREATE TABLE `t_user`
     `update_time` DATETIME     NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT '更新时间',
     PRIMARY KEY (`id`),
     UNIQUE KEY `uk_username` (`username`),
-    UNIQUE KEY `uk_email` (`email`)
+    UNIQUE KEY `uk_email` (`email`),
+    KEY `idx_create_time` (`create_time`)
 ) ENGINE = InnoDB
   AUTO_INCREMENT = 1
   DEFAULT CHARSET = utf8mb4
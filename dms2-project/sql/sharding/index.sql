@@ -0,0 +1,13 @@
+-- 用户全局二级索引表（sharding profile），在主库（spring.datasource）执行
+-- 按用户名、邮箱查询时先查本表得到主键再路由到分片；唯一索引保证用户名、邮箱跨分片唯一
+CREATE TABLE IF NOT EXISTS `t_user_index`
+(
+    `id`       BIGINT       NOT NULL COMMENT '用户主键ID',
+    `username` VARCHAR(50)  NOT NULL COMMENT '用户名',
+    `email`    VARCHAR(100) NOT NULL COMMENT '邮箱',
+    PRIMARY KEY (`id`),
+    UNIQUE KEY `uk_index_username` (`username`),
+    UNIQUE KEY `uk_index_email` (`email`)
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4
+  COLLATE = utf8mb4_unicode_ci COMMENT ='用户全局二级索引表';
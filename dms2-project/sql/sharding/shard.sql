@@ -0,0 +1,16 @@
+-- 分片库用户表（sharding profile），每个分片库各执行一次
+-- 主键由应用分配（dms2.id.strategy 为 snowflake 或 segment），按主键哈希路由到分片；用户名、邮箱的全局唯一由主库 t_user_index 保证
+CREATE TABLE IF NOT EXISTS `t_user`
+(
+    `id`          BIGINT       NOT NULL COMMENT '主键ID（应用分配）',
+    `username`    VARCHAR(50)  NOT NULL COMMENT '用户名',
+    `email`       VARCHAR(100) NOT NULL COMMENT '邮箱',
+    `phone`       VARCHAR(20)           DEFAULT NULL COMMENT '手机号',
+    `real_name`   VARCHAR(50)           DEFAULT NULL COMMENT '真实姓名',
+    `create_time` DATETIME     NOT NULL DEFAULT CURRENT_TIMESTAMP COMMENT '创建时间',
+    `update_time` DATETIME     NOT NULL DEFAULT CURRENT_TIMESTAMP COMMENT '更新时间',
+    PRIMARY KEY (`id`),
+    KEY `idx_create_time` (`create_time`)
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4
+  COLLATE = utf8mb4_unicode_ci COMMENT ='用户表（分片）';